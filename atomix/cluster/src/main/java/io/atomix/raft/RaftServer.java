@@ -572,6 +572,8 @@ public interface RaftServer {
     protected EntryValidator entryValidator = new NoopEntryValidator();
     protected int maxAppendsPerFollower = 2;
     protected int maxAppendBatchSize = 32 * 1024;
+    protected int appendWindowSize = 0;
+    protected boolean framedEntryReplication = false;
 
     protected Builder(final MemberId localMemberId) {
       this.localMemberId = checkNotNull(localMemberId, "localMemberId cannot be null");
@@ -713,6 +715,33 @@ public interface RaftServer {
       return this;
     }
 
+    /**
+     * Sets the number of bytes which can be sent to a follower without being acknowledged. If
+     * greater than zero, append requests are pipelined to each follower as long as the
+     * unacknowledged bytes fit into this window. Default is 0, which disables pipelining.
+     *
+     * @param appendWindowSize the append window size in bytes
+     * @return The server builder.
+     */
+    public Builder withAppendWindowSize(final int appendWindowSize) {
+      checkArgument(appendWindowSize >= 0, "appendWindowSize must be positive or zero");
+      this.appendWindowSize = appendWindowSize;
+      return this;
+    }
+
+    /**
+     * Sets whether entries are sent to followers as the frames read from the leader's log, which
+     * followers append verbatim, instead of being serialized field by field. Servers of previous
+     * versions can't read such requests. Default is false.
+     *
+     * @param framedEntryReplication true to replicate the entry frames of the log
+     * @return The server builder.
+     */
+    public Builder withFramedEntryReplication(final boolean framedEntryReplication) {
+      this.framedEntryReplication = framedEntryReplication;
+      return this;
+    }
+
     public Builder withJournalIndexFactory(final Supplier<JournalIndex> journalIndexFactory) {
       this.journalIndexFactory = journalIndexFactory;
       return this;
@@ -44,6 +44,7 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
@@ -70,6 +71,7 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
     timeStats.clear();
     configuring = false;
     installing = false;
@@ -105,6 +107,19 @@ public final class RaftMemberContext {
                 >= appendTime);
   }
 
+  /**
+   * Returns a boolean indicating whether an append request can be pipelined to the member, i.e.
+   * sent before the in-flight requests are acknowledged. This is the case as long as the last
+   * append succeeded and the bytes which were sent but not yet acknowledged fit into the given
+   * window.
+   *
+   * @param windowSize the maximum number of unacknowledged bytes
+   * @return Indicates whether an append request can be sent to the member.
+   */
+  public boolean canAppendWithinWindow(final long windowSize) {
+    return inFlightAppendCount == 0 || (appendSucceeded && inFlightAppendBytes < windowSize);
+  }
+
   /**
    * Returns whether a heartbeat can be sent to the member.
    *
@@ -139,6 +154,16 @@ public final class RaftMemberContext {
     appendTime = System.currentTimeMillis();
   }
 
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes The size in bytes of the entries sent with the request.
+   */
+  public void startAppend(final int bytes) {
+    startAppend();
+    inFlightAppendBytes += bytes;
+  }
+
   /** Completes an append request to the member. */
   public void completeAppend() {
     inFlightAppendCount--;
@@ -154,6 +179,27 @@ public final class RaftMemberContext {
     timeStats.addValue(time);
   }
 
+  /**
+   * Completes an append request to the member.
+   *
+   * @param time The time in milliseconds for the append.
+   * @param bytes The size in bytes of the entries sent with the request.
+   */
+  public void completeAppend(final long time, final int bytes) {
+    completeAppend(time);
+    inFlightAppendBytes -= bytes;
+  }
+
+  /**
+   * Returns the size in bytes of the entries which were sent to the member but not yet
+   * acknowledged.
+   *
+   * @return The number of in-flight bytes.
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -224,6 +270,7 @@ public final class RaftMemberContext {
         .add("nextIndex", reader != null ? reader.getNextIndex() : matchIndex + 1)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
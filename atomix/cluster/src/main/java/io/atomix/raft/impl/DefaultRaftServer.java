@@ -329,10 +329,12 @@ public class DefaultRaftServer implements RaftServer {
               singleThreadFactory,
               maxAppendBatchSize,
               maxAppendsPerFollower,
+              appendWindowSize,
               randomSupplier);
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
       raft.setEntryValidator(entryValidator);
+      raft.setFramedEntryReplication(framedEntryReplication);
 
       return new DefaultRaftServer(raft);
     }
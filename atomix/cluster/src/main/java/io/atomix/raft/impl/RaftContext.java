@@ -109,8 +109,10 @@ public class RaftContext implements AutoCloseable {
   private volatile long firstCommitIndex;
   private volatile boolean started;
   private EntryValidator entryValidator;
+  private boolean framedEntryReplication;
   private final int maxAppendBatchSize;
   private final int maxAppendsPerFollower;
+  private final int appendWindowSize;
   // Used for randomizing election timeout
   private final Random random;
 
@@ -123,6 +125,7 @@ public class RaftContext implements AutoCloseable {
       final RaftThreadContextFactory threadContextFactory,
       final int maxAppendBatchSize,
       final int maxAppendsPerFollower,
+      final int appendWindowSize,
       final Supplier<Random> randomFactory) {
     this.name = checkNotNull(name, "name cannot be null");
     this.membershipService = checkNotNull(membershipService, "membershipService cannot be null");
@@ -163,6 +166,7 @@ public class RaftContext implements AutoCloseable {
 
     this.maxAppendBatchSize = maxAppendBatchSize;
     this.maxAppendsPerFollower = maxAppendsPerFollower;
+    this.appendWindowSize = appendWindowSize;
     cluster = new RaftClusterContext(localMemberId, this);
 
     // Register protocol listeners.
@@ -241,6 +245,10 @@ public class RaftContext implements AutoCloseable {
     return maxAppendsPerFollower;
   }
 
+  public int getAppendWindowSize() {
+    return appendWindowSize;
+  }
+
   /**
    * Adds a role change listener.
    *
@@ -730,6 +738,24 @@ public class RaftContext implements AutoCloseable {
     entryValidator = validator;
   }
 
+  /**
+   * Returns whether entries are sent to followers as the frames read from the log.
+   *
+   * @return True if the entry frames of the log are replicated.
+   */
+  public boolean isFramedEntryReplication() {
+    return framedEntryReplication;
+  }
+
+  /**
+   * Sets whether entries are sent to followers as the frames read from the log.
+   *
+   * @param framedEntryReplication True to replicate the entry frames of the log.
+   */
+  public void setFramedEntryReplication(final boolean framedEntryReplication) {
+    this.framedEntryReplication = framedEntryReplication;
+  }
+
   /**
    * Returns the state last voted for candidate.
    *
@@ -16,6 +16,8 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LeaderMetrics extends RaftMetrics {
@@ -28,6 +30,30 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames("follower", "partitionGroupName", "partition")
           .register();
 
+  private static final Gauge IN_FLIGHT_APPEND_BYTES =
+      Gauge.build()
+          .namespace("atomix")
+          .name("append_entries_in_flight_bytes")
+          .help("Size of the entries sent to a follower which are not yet acknowledged")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Counter APPEND_WINDOW_STALLS =
+      Counter.build()
+          .namespace("atomix")
+          .name("append_entries_window_stalls")
+          .help("Number of times entries could not be sent to a follower as its window was full")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Gauge REPLICATION_LAG =
+      Gauge.build()
+          .namespace("atomix")
+          .name("follower_replication_lag")
+          .help("Number of entries in the leader's log which are not acknowledged by a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
   public LeaderMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -35,4 +61,16 @@ public class LeaderMetrics extends RaftMetrics {
   public void appendComplete(final long latencyms, final String memberId) {
     APPEND_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
   }
+
+  public void setInFlightAppendBytes(final long bytes, final String memberId) {
+    IN_FLIGHT_APPEND_BYTES.labels(memberId, partitionGroupName, partition).set(bytes);
+  }
+
+  public void appendWindowStalled(final String memberId) {
+    APPEND_WINDOW_STALLS.labels(memberId, partitionGroupName, partition).inc();
+  }
+
+  public void setReplicationLag(final long entries, final String memberId) {
+    REPLICATION_LAG.labels(memberId, partitionGroupName, partition).set(entries);
+  }
 }
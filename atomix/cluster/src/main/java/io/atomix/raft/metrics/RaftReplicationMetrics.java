@@ -15,7 +15,9 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class RaftReplicationMetrics extends RaftMetrics {
 
@@ -39,6 +41,23 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Counter FOLLOWER_FLUSH_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of flushes of replicated entries on a follower")
+          .name("partition_raft_follower_flush_count")
+          .register();
+
+  private static final Histogram FOLLOWER_FLUSH_ENTRIES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of replicated entries which are flushed at once on a follower")
+          .name("partition_raft_follower_flush_entries")
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000)
+          .register();
+
   public RaftReplicationMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -50,4 +69,9 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     APPEND_INDEX.labels(partitionGroupName, partition).set(value);
   }
+
+  public void observeFollowerFlush(final int flushedEntries) {
+    FOLLOWER_FLUSH_COUNT.labels(partitionGroupName, partition).inc();
+    FOLLOWER_FLUSH_ENTRIES.labels(partitionGroupName, partition).observe(flushedEntries);
+  }
 }
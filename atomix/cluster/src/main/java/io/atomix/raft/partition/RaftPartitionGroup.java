@@ -389,6 +389,35 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the number of bytes which can be sent to a follower without being acknowledged. If
+     * greater than zero, append requests are pipelined to each follower as long as the
+     * unacknowledged bytes fit into this window; otherwise the number of requests is limited by
+     * {@link #withMaxAppendsPerFollower(int)}. Default is 0.
+     *
+     * @param appendWindowSize the append window size in bytes
+     * @return the Raft partition group builder
+     */
+    public Builder withAppendWindowSize(final int appendWindowSize) {
+      checkArgument(appendWindowSize >= 0, "appendWindowSize must be positive or zero");
+      config.setAppendWindowSize(appendWindowSize);
+      return this;
+    }
+
+    /**
+     * Sets whether entries are replicated as the frames read from the leader's log, which are sent
+     * as one buffer and appended verbatim by the followers, instead of field by field. Nodes of
+     * previous versions can't read such requests, so this must only be enabled once all members
+     * support it. Default is false.
+     *
+     * @param framedEntryReplication true to replicate the entry frames of the log
+     * @return the Raft partition group builder
+     */
+    public Builder withFramedEntryReplication(final boolean framedEntryReplication) {
+      config.setFramedEntryReplication(framedEntryReplication);
+      return this;
+    }
+
     /**
      * Sets the storage level.
      *
@@ -477,6 +506,33 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets how long a follower may delay flushing appended entries, in order to flush the entries
+     * of several append requests at once. Default is zero, which flushes on every append.
+     *
+     * @param followerFlushDelay the maximum delay of a flush on followers
+     * @return the Raft partition group builder
+     */
+    public Builder withFollowerFlushDelay(final Duration followerFlushDelay) {
+      checkNotNull(followerFlushDelay, "followerFlushDelay cannot be null");
+      checkArgument(!followerFlushDelay.isNegative(), "followerFlushDelay must be positive");
+      config.getStorageConfig().setFollowerFlushDelay(followerFlushDelay);
+      return this;
+    }
+
+    /**
+     * Sets the size of unflushed entries after which a follower flushes without waiting for the
+     * flush delay to expire. Default is 1 MB.
+     *
+     * @param followerFlushBatchSize the maximum size of unflushed entries on followers
+     * @return the Raft partition group builder
+     */
+    public Builder withFollowerFlushBatchSize(final int followerFlushBatchSize) {
+      checkArgument(followerFlushBatchSize > 0, "followerFlushBatchSize must be positive");
+      config.getStorageConfig().setFollowerFlushBatchSize(followerFlushBatchSize);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
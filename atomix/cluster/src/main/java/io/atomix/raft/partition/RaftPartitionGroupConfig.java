@@ -39,6 +39,8 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   private RaftStorageConfig storageConfig = new RaftStorageConfig();
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private int appendWindowSize = 0;
+  private boolean framedEntryReplication = false;
 
   @Optional("EntryValidator")
   private EntryValidator entryValidator = new NoopEntryValidator();
@@ -184,6 +186,22 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public int getAppendWindowSize() {
+    return appendWindowSize;
+  }
+
+  public void setAppendWindowSize(final int appendWindowSize) {
+    this.appendWindowSize = appendWindowSize;
+  }
+
+  public boolean isFramedEntryReplication() {
+    return framedEntryReplication;
+  }
+
+  public void setFramedEntryReplication(final boolean framedEntryReplication) {
+    this.framedEntryReplication = framedEntryReplication;
+  }
+
   @Override
   public PartitionGroup.Type getType() {
     return RaftPartitionGroup.TYPE;
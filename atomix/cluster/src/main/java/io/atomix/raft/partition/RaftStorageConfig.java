@@ -23,6 +23,7 @@ import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStoreFactory;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -32,6 +33,8 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
+  private static final Duration DEFAULT_FOLLOWER_FLUSH_DELAY = Duration.ZERO;
+  private static final int DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE = 1024 * 1024;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024 * 1; // 1GB
   private static final ReceivableSnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new FileBasedSnapshotStoreFactory();
@@ -41,6 +44,8 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
+  private Duration followerFlushDelay = DEFAULT_FOLLOWER_FLUSH_DELAY;
+  private int followerFlushBatchSize = DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
 
   @Optional("SnapshotStoreFactory")
@@ -141,6 +146,48 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns how long a follower may delay flushing appended entries.
+   *
+   * @return the maximum delay of a flush on followers
+   */
+  public Duration getFollowerFlushDelay() {
+    return followerFlushDelay;
+  }
+
+  /**
+   * Sets how long a follower may delay flushing appended entries, in order to flush the entries of
+   * several append requests at once. A zero delay flushes on every append.
+   *
+   * @param followerFlushDelay the maximum delay of a flush on followers
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setFollowerFlushDelay(final Duration followerFlushDelay) {
+    this.followerFlushDelay = followerFlushDelay;
+    return this;
+  }
+
+  /**
+   * Returns the size of unflushed entries after which a follower flushes immediately.
+   *
+   * @return the maximum size of unflushed entries on followers
+   */
+  public int getFollowerFlushBatchSize() {
+    return followerFlushBatchSize;
+  }
+
+  /**
+   * Sets the size of unflushed entries after which a follower flushes without waiting for the flush
+   * delay to expire.
+   *
+   * @param followerFlushBatchSize the maximum size of unflushed entries on followers
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setFollowerFlushBatchSize(final int followerFlushBatchSize) {
+    this.followerFlushBatchSize = followerFlushBatchSize;
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
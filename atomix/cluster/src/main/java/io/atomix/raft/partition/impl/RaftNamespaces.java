@@ -24,6 +24,8 @@ import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.FramedAppendRequest;
+import io.atomix.raft.protocol.FramedAppendRequestSerializer;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.JoinRequest;
@@ -53,6 +55,32 @@ import java.util.LinkedList;
 /** Storage serializer namespaces. */
 public final class RaftNamespaces {
 
+  /**
+   * Raft storage namespace.
+   *
+   * <p>*Be aware* we use the Void type for replaced/removed types to keep the id's of used types,
+   * otherwise we break compatibility.
+   *
+   * <p>It is declared first, since the protocol namespace decodes the entry frames of a {@link
+   * FramedAppendRequest} with it.
+   */
+  public static final Namespace RAFT_STORAGE =
+      new Builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID + 100)
+          .register(ConfigurationEntry.class)
+          .register(InitializeEntry.class)
+          .register(ArrayList.class)
+          .register(HashSet.class)
+          .register(DefaultRaftMember.class)
+          .register(MemberId.class)
+          .register(RaftMember.Type.class)
+          .register(Instant.class)
+          .register(Configuration.class)
+          .register(ZeebeEntry.class)
+          .name("RaftStorage")
+          .build();
+
   /** Raft protocol namespace. */
   public static final Namespace RAFT_PROTOCOL =
       new Builder()
@@ -89,31 +117,10 @@ public final class RaftNamespaces {
           .register(Instant.class)
           .register(Configuration.class)
           .register(ZeebeEntry.class)
+          // only sent with framed entry replication, as previous versions don't know it
+          .register(new FramedAppendRequestSerializer(RAFT_STORAGE), FramedAppendRequest.class)
           .name("RaftProtocol")
           .build();
 
-  /**
-   * Raft storage namespace.
-   *
-   * <p>*Be aware* we use the Void type for replaced/removed types to keep the id's of used types,
-   * otherwise we break compatibility.
-   */
-  public static final Namespace RAFT_STORAGE =
-      new Builder()
-          .register(Namespaces.BASIC)
-          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID + 100)
-          .register(ConfigurationEntry.class)
-          .register(InitializeEntry.class)
-          .register(ArrayList.class)
-          .register(HashSet.class)
-          .register(DefaultRaftMember.class)
-          .register(MemberId.class)
-          .register(RaftMember.Type.class)
-          .register(Instant.class)
-          .register(Configuration.class)
-          .register(ZeebeEntry.class)
-          .name("RaftStorage")
-          .build();
-
   private RaftNamespaces() {}
 }
@@ -175,6 +175,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withElectionTimeout(config.getElectionTimeout())
         .withMaxAppendBatchSize(config.getMaxAppendBatchSize())
         .withMaxAppendsPerFollower(config.getMaxAppendsPerFollower())
+        .withAppendWindowSize(config.getAppendWindowSize())
+        .withFramedEntryReplication(config.isFramedEntryReplication())
         .withStorage(createRaftStorage())
         .withJournalIndexFactory(journalIndexFactory)
         .withEntryValidator(config.getEntryValidator())
@@ -317,6 +319,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
         .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
         .withFlushExplicitly(storageConfig.shouldFlushExplicitly())
+        .withFollowerFlushDelay(storageConfig.getFollowerFlushDelay())
+        .withFollowerFlushBatchSize(storageConfig.getFollowerFlushBatchSize())
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withNamespace(RaftNamespaces.RAFT_STORAGE)
         .withSnapshotStore(persistedSnapshotStore)
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.storage.journal.JournalFrame;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * An {@link AppendRequest} which carries the entries as the leader stores them in its log. The
+ * frames of the entries (see {@link JournalFrame}) are sent as one contiguous buffer, and the
+ * follower appends each frame as it is, without encoding the entry again.
+ *
+ * <p>It is sent with the {@link FramedAppendRequestSerializer}, which only writes the frames; the
+ * receiver decodes the entries and their checksums from them. It is registered in the Raft protocol
+ * namespace with its own id, which nodes of previous versions don't know, so it must only be sent
+ * once all members support it.
+ */
+public final class FramedAppendRequest extends AppendRequest {
+
+  private final DirectBuffer frames;
+  private final int[] frameOffsets;
+
+  public FramedAppendRequest(
+      final AppendRequest request, final DirectBuffer frames, final int[] frameOffsets) {
+    this(
+        request.term(),
+        request.leader().id(),
+        request.prevLogIndex(),
+        request.prevLogTerm(),
+        request.entries(),
+        request.checksums(),
+        request.commitIndex(),
+        frames,
+        frameOffsets);
+  }
+
+  FramedAppendRequest(
+      final long term,
+      final String leader,
+      final long prevLogIndex,
+      final long prevLogTerm,
+      final List<RaftLogEntry> entries,
+      final List<Long> checksums,
+      final long commitIndex,
+      final DirectBuffer frames,
+      final int[] frameOffsets) {
+    super(term, leader, prevLogIndex, prevLogTerm, entries, checksums, commitIndex);
+    this.frames = frames;
+    this.frameOffsets = frameOffsets;
+  }
+
+  /**
+   * Returns the frames of the entries, one after another.
+   *
+   * @return The frames of the entries.
+   */
+  public DirectBuffer frames() {
+    return frames;
+  }
+
+  /**
+   * Returns the offset of the frame of the given entry in the frames.
+   *
+   * @param entryIndex The position of the entry in the entries of the request.
+   * @return The offset of the frame of the entry.
+   */
+  public int frameOffset(final int entryIndex) {
+    return frameOffsets[entryIndex];
+  }
+}
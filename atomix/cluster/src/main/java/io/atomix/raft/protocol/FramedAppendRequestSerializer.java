@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.atomix.raft.storage.log.RaftLogEntryCodec;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.storage.journal.JournalFrame;
+import io.atomix.utils.serializer.Namespace;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes a {@link FramedAppendRequest} as its header fields followed by the frames of its
+ * entries, which are copied in bulk. The receiver reads the frames into a single array; the entries
+ * are decoded from it with the codec of the Raft log and refer to it instead of copying their data.
+ */
+public final class FramedAppendRequestSerializer extends Serializer<FramedAppendRequest> {
+
+  static final byte VERSION = 1;
+
+  private final RaftLogEntryCodec codec;
+
+  /**
+   * @param storageNamespace the namespace of the Raft log, which the frames are encoded with
+   */
+  public FramedAppendRequestSerializer(final Namespace storageNamespace) {
+    codec = new RaftLogEntryCodec(storageNamespace);
+  }
+
+  @Override
+  public void write(final Kryo kryo, final Output output, final FramedAppendRequest request) {
+    output.writeByte(VERSION);
+    output.writeLong(request.term());
+    output.writeString(request.leader().id());
+    output.writeLong(request.prevLogIndex());
+    output.writeLong(request.prevLogTerm());
+    output.writeLong(request.commitIndex());
+    output.writeInt(request.entries().size());
+
+    final DirectBuffer frames = request.frames();
+    final int length = frames.capacity();
+    output.writeInt(length);
+
+    if (frames.byteArray() != null) {
+      output.writeBytes(frames.byteArray(), frames.wrapAdjustment(), length);
+    } else {
+      final byte[] bytes = new byte[length];
+      frames.getBytes(0, bytes);
+      output.writeBytes(bytes);
+    }
+  }
+
+  @Override
+  public FramedAppendRequest read(
+      final Kryo kryo, final Input input, final Class<? extends FramedAppendRequest> type) {
+    final byte version = input.readByte();
+    if (version != VERSION) {
+      throw new KryoException(
+          "Expected to read an append request with version "
+              + VERSION
+              + ", but found unknown version "
+              + version);
+    }
+
+    final long term = input.readLong();
+    final String leader = input.readString();
+    final long prevLogIndex = input.readLong();
+    final long prevLogTerm = input.readLong();
+    final long commitIndex = input.readLong();
+    final int entryCount = input.readInt();
+    final int length = input.readInt();
+
+    final byte[] bytes = input.readBytes(length);
+    final UnsafeBuffer frames = new UnsafeBuffer(bytes);
+
+    final List<RaftLogEntry> entries = new ArrayList<>(entryCount);
+    final List<Long> checksums = new ArrayList<>(entryCount);
+    final int[] frameOffsets = new int[entryCount];
+
+    int offset = 0;
+    for (int i = 0; i < entryCount; i++) {
+      final int entryOffset = offset + JournalFrame.HEADER_LENGTH;
+      final int entryLength =
+          entryOffset <= length ? JournalFrame.getEntryLength(frames, offset) : -1;
+      if (entryLength <= 0 || entryLength > length - entryOffset) {
+        throw new KryoException(
+            "Expected to read the frame of entry "
+                + i
+                + " at offset "
+                + offset
+                + ", but the frames of the append request are malformed");
+      }
+
+      frameOffsets[i] = offset;
+      checksums.add(JournalFrame.getChecksum(frames, offset));
+      entries.add(codec.decode(ByteBuffer.wrap(bytes, entryOffset, entryLength).slice()));
+      offset = entryOffset + entryLength;
+    }
+
+    if (offset != length) {
+      throw new KryoException(
+          "Expected the frames of "
+              + entryCount
+              + " entries to end at "
+              + length
+              + ", but they end at "
+              + offset);
+    }
+
+    return new FramedAppendRequest(
+        term,
+        leader,
+        prevLogIndex,
+        prevLogTerm,
+        entries,
+        checksums,
+        commitIndex,
+        frames,
+        frameOffsets);
+  }
+}
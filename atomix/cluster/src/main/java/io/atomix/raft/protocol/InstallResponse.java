@@ -17,18 +17,24 @@
 package io.atomix.raft.protocol;
 
 import io.atomix.raft.RaftError;
+import java.nio.ByteBuffer;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * initial request may describe the snapshot chunks the receiver already has, which the leader then
+ * does not need to transfer again.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  private final ByteBuffer reusableChunks;
+
+  public InstallResponse(
+      final Status status, final RaftError error, final ByteBuffer reusableChunks) {
     super(status, error);
+    this.reusableChunks = reusableChunks;
   }
 
   /**
@@ -40,13 +46,35 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the manifest of the snapshot chunks which the receiver already has.
+   *
+   * @return the manifest of reusable chunks, or null if the receiver can't reuse any chunks
+   */
+  public ByteBuffer reusableChunks() {
+    return reusableChunks;
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private ByteBuffer reusableChunks;
+
+    /**
+     * Sets the manifest of the snapshot chunks which the receiver already has.
+     *
+     * @param reusableChunks the manifest of reusable chunks; may be null
+     * @return The install response builder.
+     */
+    public Builder withReusableChunks(final ByteBuffer reusableChunks) {
+      this.reusableChunks = reusableChunks;
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, reusableChunks);
     }
   }
 }
@@ -27,6 +27,7 @@ import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.FramedAppendRequest;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.RaftRequest;
@@ -46,17 +47,25 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /** Abstract appender. */
 abstract class AbstractAppender implements AutoCloseable {
 
   protected final int maxBatchSizePerAppend;
+  protected final int appendWindowSize;
+  protected final boolean framedEntryReplication;
   protected final Logger log;
   protected final RaftContext raft;
+  protected final LeaderMetrics metrics;
   protected boolean open = true;
 
-  private final LeaderMetrics metrics;
+  // size in bytes of the entries of the last built append request, which is always sent right
+  // after it was built
+  private int lastAppendBatchSize;
 
   AbstractAppender(final RaftContext raft) {
     this.raft = checkNotNull(raft, "context cannot be null");
@@ -65,6 +74,8 @@ abstract class AbstractAppender implements AutoCloseable {
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    appendWindowSize = raft.getAppendWindowSize();
+    framedEntryReplication = raft.isFramedEntryReplication();
   }
 
   /**
@@ -157,6 +168,12 @@ abstract class AbstractAppender implements AutoCloseable {
     // entry will be sent in a batch of size one
     int size = 0;
 
+    // With framed entry replication, the entries are also copied as they are stored in the log,
+    // such that the follower can append them without encoding them again.
+    ExpandableArrayBuffer frames = null;
+    final IntArrayList frameOffsets = new IntArrayList();
+    int framesLength = 0;
+
     // Iterate through the log until the last index or the end of the log is reached.
     while (reader.hasNext()) {
       // Otherwise, read the next entry and add it to the batch.
@@ -164,13 +181,30 @@ abstract class AbstractAppender implements AutoCloseable {
       entries.add(entry.entry());
       checksums.add(entry.checksum());
       size += entry.size();
+
+      if (framedEntryReplication) {
+        if (frames == null) {
+          frames = new ExpandableArrayBuffer(maxBatchSizePerAppend);
+        }
+        frameOffsets.addInt(framesLength);
+        framesLength += reader.copyCurrentFrame(frames, framesLength);
+      }
+
       if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
         break;
       }
     }
 
+    lastAppendBatchSize = size;
+
     // Add the entries to the request builder and build the request.
-    return builder.withEntries(entries).withChecksums(checksums).build();
+    final AppendRequest request = builder.withEntries(entries).withChecksums(checksums).build();
+    if (frames == null) {
+      return request;
+    }
+
+    return new FramedAppendRequest(
+        request, new UnsafeBuffer(frames, 0, framesLength), frameOffsets.toIntArray());
   }
 
   /** Connects to the member and sends a commit message. */
@@ -181,7 +215,10 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final String memberId = member.getMember().memberId().id();
+    final int batchSize = request.entries().isEmpty() ? 0 : lastAppendBatchSize;
+    member.startAppend(batchSize);
+    metrics.setInFlightAppendBytes(member.getInFlightAppendBytes(), memberId);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -192,9 +229,10 @@ abstract class AbstractAppender implements AutoCloseable {
             (response, error) -> {
               // Complete the append to the member.
               final long appendLatency = System.currentTimeMillis() - timestamp;
-              metrics.appendComplete(appendLatency, member.getMember().memberId().id());
+              metrics.appendComplete(appendLatency, memberId);
               if (!request.entries().isEmpty()) {
-                member.completeAppend(appendLatency);
+                member.completeAppend(appendLatency, batchSize);
+                metrics.setInFlightAppendBytes(member.getInFlightAppendBytes(), memberId);
               } else {
                 member.completeAppend();
               }
@@ -327,7 +365,8 @@ abstract class AbstractAppender implements AutoCloseable {
     resetNextIndex(member, nextIndex);
   }
 
-  private void resetNextIndex(final RaftMemberContext member, final long nextIndex) {
+  /** Resets the next index of the member, i.e. the next entry to send, to the given index. */
+  protected void resetNextIndex(final RaftMemberContext member, final long nextIndex) {
     if (member.getLogReader().getNextIndex() != nextIndex) {
       member.getLogReader().reset(nextIndex);
       log.trace("Reset next index for {} to {}", member, nextIndex);
@@ -586,6 +625,13 @@ abstract class AbstractAppender implements AutoCloseable {
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunk(request.nextChunkId());
+
+      // the member already has some of the remaining chunks, which need not be sent again
+      if (response.reusableChunks() != null
+          && member.getNextSnapshotIndex() == request.index()
+          && member.getSnapshotChunkReader() != null) {
+        member.getSnapshotChunkReader().reuseChunks(response.reusableChunks());
+      }
     }
 
     // Recursively append entries to the member.
@@ -147,6 +147,12 @@ final class LeaderAppender extends AbstractAppender {
       final RaftMemberContext member, final AppendRequest request, final Throwable error) {
     failHeartbeat();
     super.handleAppendResponseFailure(member, request, error);
+
+    // When pipelining, the entries sent after the failed request are lost as well, so continue
+    // with the first entry which was not acknowledged yet
+    if (isPipelining() && !request.entries().isEmpty() && member.getMatchIndex() > 0) {
+      resetNextIndex(member, member.getMatchIndex() + 1);
+    }
   }
 
   @Override
@@ -198,6 +204,9 @@ final class LeaderAppender extends AbstractAppender {
     if (response.succeeded()) {
       member.appendSucceeded();
       updateMatchIndex(member, response);
+      metrics.setReplicationLag(
+          raft.getLogWriter().getLastIndex() - member.getMatchIndex(),
+          member.getMember().memberId().id());
 
       // If entries were committed to the replica then check commit indexes.
       if (!request.entries().isEmpty()) {
@@ -279,11 +288,22 @@ final class LeaderAppender extends AbstractAppender {
       tryToReplicateSnapshot(member);
     }
     // If no AppendRequest is already being sent, send an AppendRequest.
-    else if (member.canAppend()) {
+    else if (canAppend(member)) {
       sendAppendRequest(member, buildAppendRequest(member, -1));
     }
   }
 
+  @Override
+  protected void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
+    if (isPipelining()) {
+      // followers acknowledge cumulatively, and the responses to pipelined requests may overtake
+      // each other, so an older response must not move the match index back
+      member.setMatchIndex(Math.max(member.getMatchIndex(), response.lastLogIndex()));
+    } else {
+      super.updateMatchIndex(member, response);
+    }
+  }
+
   @Override
   protected boolean hasMoreEntries(final RaftMemberContext member) {
     // If the member's nextIndex is an entry in the local log then more entries can be sent.
@@ -359,11 +379,30 @@ final class LeaderAppender extends AbstractAppender {
           member.getMember().memberId());
       buildInstallRequest(member, persistedSnapshot)
           .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
-    } else if (member.canAppend()) {
+    } else if (canAppend(member)) {
       sendAppendRequest(member, buildAppendRequest(member, -1));
     }
   }
 
+  private boolean isPipelining() {
+    return appendWindowSize > 0;
+  }
+
+  private boolean canAppend(final RaftMemberContext member) {
+    if (!isPipelining()) {
+      return member.canAppend();
+    }
+
+    if (member.canAppendWithinWindow(appendWindowSize)) {
+      return true;
+    }
+
+    if (member.getInFlightAppendBytes() >= appendWindowSize) {
+      metrics.appendWindowStalled(member.getMember().memberId().id());
+    }
+    return false;
+  }
+
   /** Records a failed heartbeat. */
   private void failHeartbeat() {
     raft.checkThread();
@@ -22,6 +22,7 @@ import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.FramedAppendRequest;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.JoinRequest;
@@ -41,11 +42,15 @@ import io.atomix.raft.storage.log.RaftLogWriter;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
 import io.zeebe.snapshots.raft.ReceivedSnapshot;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -53,16 +58,25 @@ import org.slf4j.Logger;
 /** Passive state. */
 public class PassiveRole extends InactiveRole {
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
+  private final Duration flushDelay;
+  private final int flushBatchSize;
+  private final Deque<PendingAppendResponse> pendingAppendResponses = new ArrayDeque<>();
 
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private PersistedSnapshotListener snapshotListener;
+  private long flushedIndex;
+  private int unflushedEntries;
+  private long unflushedBytes;
+  private Scheduled flushTimer;
 
   public PassiveRole(final RaftContext context) {
     super(context);
 
     snapshotReplicationMetrics = new SnapshotReplicationMetrics(context.getName());
     snapshotReplicationMetrics.setCount(0);
+    flushDelay = context.getStorage().getFollowerFlushDelay();
+    flushBatchSize = context.getStorage().getFollowerFlushBatchSize();
   }
 
   @Override
@@ -77,6 +91,7 @@ public class PassiveRole extends InactiveRole {
 
   @Override
   public CompletableFuture<Void> stop() {
+    flushPendingAppends();
     abortPendingSnapshots();
     if (snapshotListener != null) {
       raft.getPersistedSnapshotStore().removeSnapshotListener(snapshotListener);
@@ -202,7 +217,8 @@ public class PassiveRole extends InactiveRole {
     }
 
     // If there is no pending snapshot, create a new snapshot.
-    if (pendingSnapshot == null) {
+    final boolean isNewSnapshot = pendingSnapshot == null;
+    if (isNewSnapshot) {
       // if we have no pending snapshot then the request must be the first chunk, otherwise we could
       // receive an old request and end up in a strange state
       if (!request.isInitial()) {
@@ -285,6 +301,16 @@ public class PassiveRole extends InactiveRole {
       snapshotReplicationMetrics.observeDuration(elapsed);
     } else {
       pendingSnapshot.setNextExpected(request.nextChunkId());
+
+      // let the leader know which of the remaining chunks we already have, so it can skip them
+      if (isNewSnapshot) {
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.OK)
+                    .withReusableChunks(pendingSnapshot.getReusableChunks())
+                    .build()));
+      }
     }
 
     return CompletableFuture.completedFuture(
@@ -590,20 +616,20 @@ public class PassiveRole extends InactiveRole {
       // Reset the log to the previous index plus one.
       if (request.prevLogTerm() == 0) {
         log.debug("Reset first index to {}", request.prevLogIndex() + 1);
+        flushPendingAppends();
         writer.reset(request.prevLogIndex() + 1);
+        flushedIndex = Math.min(flushedIndex, request.prevLogIndex());
       }
 
       // Iterate through entries and append them.
       for (int i = 0; i < request.entries().size(); ++i) {
         final long index = ++lastLogIndex;
-        final RaftLogEntry entry = request.entries().get(i);
-        final Long checksum = request.checksums() == null ? null : request.checksums().get(i);
 
         // Get the last entry written to the log by the writer.
         final Indexed<RaftLogEntry> lastEntry = writer.getLastEntry();
 
         final boolean failedToAppend =
-            tryToAppend(future, writer, reader, entry, checksum, index, lastEntry);
+            tryToAppend(future, writer, reader, request, i, index, lastEntry);
         if (failedToAppend) {
           return;
         }
@@ -626,9 +652,10 @@ public class PassiveRole extends InactiveRole {
       raft.notifyCommitListeners(commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    if (raft.getLog().shouldFlushExplicitly()) {
-      raft.getLogWriter().flush();
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge;
+    // with a flush delay the response is held back until the next group flush instead
+    if (raft.getLog().shouldFlushExplicitly() && !isGroupFlushEnabled()) {
+      flush();
     }
 
     // Return a successful append response.
@@ -639,16 +666,18 @@ public class PassiveRole extends InactiveRole {
       final CompletableFuture<AppendResponse> future,
       final RaftLogWriter writer,
       final RaftLogReader reader,
-      final RaftLogEntry entry,
-      final Long checksum,
+      final AppendRequest request,
+      final int entryIndex,
       final long index,
       final Indexed<RaftLogEntry> lastEntry) {
+    final RaftLogEntry entry = request.entries().get(entryIndex);
     boolean failedToAppend = false;
     if (lastEntry != null) {
       // If the last written entry index is greater than the next append entry index,
       // we need to validate that the entry that's already in the log matches this entry.
       if (lastEntry.index() > index) {
-        failedToAppend = !replaceExistingEntry(future, writer, reader, entry, checksum, index);
+        failedToAppend =
+            !replaceExistingEntry(future, writer, reader, request, entryIndex, index);
       } else if (lastEntry.index() == index) {
         // If the last written entry is equal to the append entry index, we don't need
         // to read the entry from disk and can just compare the last entry in the writer.
@@ -656,14 +685,14 @@ public class PassiveRole extends InactiveRole {
         // If the last entry term doesn't match the leader's term for the same entry, truncate
         // the log and append the leader's entry.
         if (lastEntry.entry().term() != entry.term()) {
-          writer.truncate(index - 1);
-          failedToAppend = !appendEntry(index, entry, checksum, writer, future);
+          truncate(writer, index - 1);
+          failedToAppend = !appendEntry(index, request, entryIndex, writer, future);
         }
       } else { // Otherwise, this entry is being appended at the end of the log.
-        failedToAppend = !appendEntry(future, writer, entry, checksum, index, lastEntry);
+        failedToAppend = !appendEntry(future, writer, request, entryIndex, index, lastEntry);
       }
     } else { // Otherwise, if the last entry is null just append the entry and log a message.
-      failedToAppend = !appendEntry(index, entry, checksum, writer, future);
+      failedToAppend = !appendEntry(index, request, entryIndex, writer, future);
     }
     return failedToAppend;
   }
@@ -671,8 +700,8 @@ public class PassiveRole extends InactiveRole {
   private boolean appendEntry(
       final CompletableFuture<AppendResponse> future,
       final RaftLogWriter writer,
-      final RaftLogEntry entry,
-      final Long checksum,
+      final AppendRequest request,
+      final int entryIndex,
       final long index,
       final Indexed<RaftLogEntry> lastEntry) {
     // If the last entry index isn't the previous index, throw an exception because
@@ -683,15 +712,15 @@ public class PassiveRole extends InactiveRole {
     }
 
     // Append the entry and log a message.
-    return appendEntry(index, entry, checksum, writer, future);
+    return appendEntry(index, request, entryIndex, writer, future);
   }
 
   private boolean replaceExistingEntry(
       final CompletableFuture<AppendResponse> future,
       final RaftLogWriter writer,
       final RaftLogReader reader,
-      final RaftLogEntry entry,
-      final Long checksum,
+      final AppendRequest request,
+      final int entryIndex,
       final long index) {
     // Reset the reader to the current entry index.
     if (reader.getNextIndex() != index) {
@@ -710,9 +739,9 @@ public class PassiveRole extends InactiveRole {
     // If the existing entry term doesn't match the leader's term for the same entry,
     // truncate
     // the log and append the leader's entry.
-    if (existingEntry.entry().term() != entry.term()) {
-      writer.truncate(index - 1);
-      if (!appendEntry(index, entry, checksum, writer, future)) {
+    if (existingEntry.entry().term() != request.entries().get(entryIndex).term()) {
+      truncate(writer, index - 1);
+      if (!appendEntry(index, request, entryIndex, writer, future)) {
         return false;
       }
     }
@@ -725,20 +754,17 @@ public class PassiveRole extends InactiveRole {
    */
   private boolean appendEntry(
       final long index,
-      final RaftLogEntry entry,
-      final Long checksum,
+      final AppendRequest request,
+      final int entryIndex,
       final RaftLogWriter writer,
       final CompletableFuture<AppendResponse> future) {
     try {
-      final Indexed<RaftLogEntry> indexed;
-      if (checksum != null) {
-        indexed = writer.append(entry, checksum);
-      } else {
-        indexed = writer.append(entry);
-      }
+      final Indexed<RaftLogEntry> indexed = append(writer, request, entryIndex);
 
       log.trace("Appended {}", indexed);
       raft.getReplicationMetrics().setAppendIndex(indexed.index());
+      unflushedEntries++;
+      unflushedBytes += indexed.size();
     } catch (final StorageException.TooLarge e) {
       log.warn(
           "Entry size exceeds maximum allowed bytes. Ensure Raft storage configuration is consistent on all nodes!");
@@ -756,6 +782,24 @@ public class PassiveRole extends InactiveRole {
     return true;
   }
 
+  private Indexed<RaftLogEntry> append(
+      final RaftLogWriter writer, final AppendRequest request, final int entryIndex) {
+    final RaftLogEntry entry = request.entries().get(entryIndex);
+    if (request instanceof FramedAppendRequest) {
+      // the frame is appended as the leader read it from its log, including the checksum
+      final FramedAppendRequest framedRequest = (FramedAppendRequest) request;
+      return writer.appendFrame(
+          entry, framedRequest.frames(), framedRequest.frameOffset(entryIndex));
+    }
+
+    final Long checksum = request.checksums() == null ? null : request.checksums().get(entryIndex);
+    if (checksum != null) {
+      return writer.append(entry, checksum);
+    } else {
+      return writer.append(entry);
+    }
+  }
+
   /**
    * Returns a failed append response.
    *
@@ -792,7 +836,7 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
-    future.complete(
+    final AppendResponse response =
         logResponse(
             AppendResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
@@ -804,10 +848,77 @@ public class PassiveRole extends InactiveRole {
                         .getLatestSnapshot()
                         .map(PersistedSnapshot::getIndex)
                         .orElse(0L))
-                .build()));
+                .build());
+
+    // a successful response acknowledges all entries up to the last log index, so it must not be
+    // sent before these are flushed
+    if (succeeded && lastLogIndex > flushedIndex && isGroupFlushEnabled()) {
+      pendingAppendResponses.add(new PendingAppendResponse(response, future));
+      scheduleFlush();
+    } else {
+      future.complete(response);
+    }
     return succeeded;
   }
 
+  private boolean isGroupFlushEnabled() {
+    return !flushDelay.isZero() && raft.getLog().shouldFlushExplicitly();
+  }
+
+  private void scheduleFlush() {
+    if (unflushedBytes >= flushBatchSize) {
+      flushPendingAppends();
+    } else if (flushTimer == null) {
+      flushTimer = raft.getThreadContext().schedule(flushDelay, this::flushPendingAppends);
+    }
+  }
+
+  /** Flushes the log and sends the responses which were held back until the entries are flushed. */
+  private void flushPendingAppends() {
+    if (flushTimer != null) {
+      flushTimer.cancel();
+      flushTimer = null;
+    }
+
+    if (pendingAppendResponses.isEmpty()) {
+      return;
+    }
+
+    flush();
+    while (!pendingAppendResponses.isEmpty()) {
+      final PendingAppendResponse pending = pendingAppendResponses.poll();
+      pending.future.complete(pending.response);
+    }
+  }
+
+  private void flush() {
+    final RaftLogWriter writer = raft.getLogWriter();
+    writer.flush();
+    flushedIndex = writer.getLastIndex();
+
+    raft.getReplicationMetrics().observeFollowerFlush(unflushedEntries);
+    unflushedEntries = 0;
+    unflushedBytes = 0;
+  }
+
+  private void truncate(final RaftLogWriter writer, final long index) {
+    // held back responses must be sent before the entries they acknowledge are removed
+    flushPendingAppends();
+    writer.truncate(index);
+    flushedIndex = Math.min(flushedIndex, index);
+  }
+
+  private static final class PendingAppendResponse {
+    private final AppendResponse response;
+    private final CompletableFuture<AppendResponse> future;
+
+    private PendingAppendResponse(
+        final AppendResponse response, final CompletableFuture<AppendResponse> future) {
+      this.response = response;
+      this.future = future;
+    }
+  }
+
   private static final class ResetWriterSnapshotListener implements PersistedSnapshotListener {
     private final ThreadContext threadContext;
     private final RaftLogWriter logWriter;
@@ -37,6 +37,7 @@ import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -69,6 +70,8 @@ public final class RaftStorage {
   private final int maxEntriesPerSegment;
   private final long freeDiskSpace;
   private final boolean flushExplicitly;
+  private final Duration followerFlushDelay;
+  private final int followerFlushBatchSize;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final ReceivableSnapshotStore persistedSnapshotStore;
@@ -84,6 +87,8 @@ public final class RaftStorage {
       final int maxEntriesPerSegment,
       final long freeDiskSpace,
       final boolean flushExplicitly,
+      final Duration followerFlushDelay,
+      final int followerFlushBatchSize,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final ReceivableSnapshotStore persistedSnapshotStore,
@@ -97,6 +102,8 @@ public final class RaftStorage {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.freeDiskSpace = freeDiskSpace;
     this.flushExplicitly = flushExplicitly;
+    this.followerFlushDelay = followerFlushDelay;
+    this.followerFlushBatchSize = followerFlushBatchSize;
     this.retainStaleSnapshots = retainStaleSnapshots;
     statistics = storageStatistics;
     this.persistedSnapshotStore = persistedSnapshotStore;
@@ -308,7 +315,10 @@ public final class RaftStorage {
    * memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isSegmentIndexFile(prefix, f));
   }
 
   @Override
@@ -338,6 +348,26 @@ public final class RaftStorage {
     return flushExplicitly;
   }
 
+  /**
+   * Returns how long a follower may delay flushing appended entries, in order to flush the entries
+   * of several append requests at once. A zero delay means entries are flushed on every append.
+   *
+   * @return The maximum delay of a flush on followers.
+   */
+  public Duration getFollowerFlushDelay() {
+    return followerFlushDelay;
+  }
+
+  /**
+   * Returns the size of appended but not yet flushed entries after which a follower flushes
+   * immediately, regardless of the {@link #getFollowerFlushDelay() flush delay}.
+   *
+   * @return The maximum size of unflushed entries on followers.
+   */
+  public int getFollowerFlushBatchSize() {
+    return followerFlushBatchSize;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    *
@@ -377,6 +407,8 @@ public final class RaftStorage {
     private static final int DEFAULT_MAX_ENTRIES_PER_SEGMENT = 1024 * 1024;
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024; // 1GB
     private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
+    private static final Duration DEFAULT_FOLLOWER_FLUSH_DELAY = Duration.ZERO;
+    private static final int DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE = 1024 * 1024; // 1MB
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -388,6 +420,8 @@ public final class RaftStorage {
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
+    private Duration followerFlushDelay = DEFAULT_FOLLOWER_FLUSH_DELAY;
+    private int followerFlushBatchSize = DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private ReceivableSnapshotStore persistedSnapshotStore;
@@ -550,6 +584,36 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how long a follower may delay flushing appended entries. If greater than zero, the
+     * entries of all append requests received within the delay are flushed at once, and the
+     * requests are acknowledged after this flush. Only applies if logs are flushed explicitly.
+     * Default is zero, which flushes on every append.
+     *
+     * @param followerFlushDelay the maximum delay of a flush on followers
+     * @return the storage builder.
+     */
+    public Builder withFollowerFlushDelay(final Duration followerFlushDelay) {
+      checkNotNull(followerFlushDelay, "followerFlushDelay cannot be null");
+      checkArgument(!followerFlushDelay.isNegative(), "followerFlushDelay must be positive");
+      this.followerFlushDelay = followerFlushDelay;
+      return this;
+    }
+
+    /**
+     * Sets the size of appended but not yet flushed entries after which a follower flushes without
+     * waiting for the {@link #withFollowerFlushDelay(Duration) flush delay} to expire. Default is 1
+     * MB.
+     *
+     * @param followerFlushBatchSize the maximum size of unflushed entries on followers
+     * @return the storage builder.
+     */
+    public Builder withFollowerFlushBatchSize(final int followerFlushBatchSize) {
+      checkArgument(followerFlushBatchSize > 0, "followerFlushBatchSize must be positive");
+      this.followerFlushBatchSize = followerFlushBatchSize;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -622,6 +686,8 @@ public final class RaftStorage {
           maxEntriesPerSegment,
           freeDiskSpace,
           flushExplicitly,
+          followerFlushDelay,
+          followerFlushBatchSize,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           persistedSnapshotStore,
@@ -184,11 +184,14 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
     /**
      * Sets the log serialization namespace, returning the builder for method chaining.
      *
+     * <p>Zeebe entries are written with a dedicated binary layout, see {@link RaftLogEntryCodec};
+     * the namespace is used for all other entries.
+     *
      * @param namespace The journal namespace.
      * @return The journal builder.
      */
     public Builder withNamespace(final Namespace namespace) {
-      journalBuilder.withNamespace(namespace);
+      journalBuilder.withNamespace(namespace).withCodec(new RaftLogEntryCodec(namespace));
       return this;
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.journal.JournalCodec;
+import io.atomix.storage.journal.NamespaceJournalCodec;
+import io.atomix.utils.serializer.Namespace;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec for the entries of the Raft log. {@link ZeebeEntry} instances, which make up the vast
+ * majority of the log, are written with a fixed binary layout, bypassing Kryo entirely:
+ *
+ * <pre>
+ * | magic (1 byte) | version (1 byte) | term (8 bytes) | timestamp (8 bytes) |
+ * | lowestPosition (8 bytes) | highestPosition (8 bytes) | length (4 bytes) | data (length bytes) |
+ * </pre>
+ *
+ * <p>All other entries are still serialized with the given namespace. Kryo always starts with the
+ * registration id of the class as a positive var int; as every Raft log entry is registered with an
+ * id above 127, the first byte of a Kryo serialized entry has its most significant bit set, which
+ * makes it impossible to confuse with {@link #MAGIC}. This means segments written before this
+ * layout was introduced can still be read, entry by entry, without any migration.
+ *
+ * <p>The data of a decoded {@link ZeebeEntry} is not copied; it is a view of the given buffer. For
+ * mapped segments, the data points directly into the mapped file and stays valid as long as the
+ * entry is referenced, since the view keeps the mapping alive. Callers which reuse the buffer must
+ * decode from a copy, see {@link JournalCodec#decodeCopy(ByteBuffer)}.
+ */
+public final class RaftLogEntryCodec implements JournalCodec<RaftLogEntry> {
+
+  static final byte MAGIC = 0x5A;
+  static final byte VERSION = 1;
+  static final int HEADER_LENGTH = 2 + 4 * Long.BYTES + Integer.BYTES;
+
+  private final NamespaceJournalCodec<RaftLogEntry> fallback;
+
+  public RaftLogEntryCodec(final Namespace namespace) {
+    fallback = new NamespaceJournalCodec<>(namespace);
+  }
+
+  @Override
+  public void encode(final RaftLogEntry entry, final ByteBuffer buffer) {
+    if (entry instanceof ZeebeEntry) {
+      encodeZeebeEntry((ZeebeEntry) entry, buffer);
+    } else {
+      fallback.encode(entry, buffer);
+    }
+  }
+
+  @Override
+  public RaftLogEntry decode(final ByteBuffer buffer) {
+    if (buffer.remaining() > 0 && buffer.get(buffer.position()) == MAGIC) {
+      return decodeZeebeEntry(buffer);
+    }
+
+    return fallback.decode(buffer);
+  }
+
+  private void encodeZeebeEntry(final ZeebeEntry entry, final ByteBuffer buffer) {
+    final ByteBuffer data = entry.data();
+    final int length = data.remaining();
+    if (buffer.remaining() < HEADER_LENGTH + length) {
+      throw new BufferOverflowException();
+    }
+
+    buffer
+        .put(MAGIC)
+        .put(VERSION)
+        .putLong(entry.term())
+        .putLong(entry.timestamp())
+        .putLong(entry.lowestPosition())
+        .putLong(entry.highestPosition())
+        .putInt(length)
+        .put(data.duplicate());
+  }
+
+  private ZeebeEntry decodeZeebeEntry(final ByteBuffer buffer) {
+    buffer.get(); // magic
+    final byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalStateException(
+          "Expected to read a Zeebe entry with version "
+              + VERSION
+              + ", but found unknown version "
+              + version);
+    }
+
+    final long term = buffer.getLong();
+    final long timestamp = buffer.getLong();
+    final long lowestPosition = buffer.getLong();
+    final long highestPosition = buffer.getLong();
+    final int length = buffer.getInt();
+
+    final ByteBuffer data = buffer.slice().limit(length);
+    buffer.position(buffer.position() + length);
+
+    return new ZeebeEntry(term, timestamp, lowestPosition, highestPosition, data);
+  }
+}
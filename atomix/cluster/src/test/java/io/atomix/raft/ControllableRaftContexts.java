@@ -161,6 +161,7 @@ public final class ControllableRaftContexts {
             getRaftThreadContextFactory(memberId),
             32 * 1024, // Copied from defaults
             2, // Copied from defaults
+            0, // Copied from defaults
             () -> random);
     raft.setEntryValidator(new NoopEntryValidator());
     return raft;
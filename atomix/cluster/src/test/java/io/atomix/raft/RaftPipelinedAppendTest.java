@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.storage.journal.Indexed;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftPipelinedAppendTest {
+
+  // entries are 1 KB large, such that a few requests fit into the window of each follower
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(3).setPipelinedAppends(2 * 1024, 8 * 1024);
+
+  @Test
+  public void shouldAppendEntriesOnAllNodes() throws Throwable {
+    // given
+    final var entryCount = 128;
+
+    // when
+    final var lastIndex = raftRule.appendEntries(entryCount);
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+    assertThat(lastIndex).isEqualTo(entryCount + 1);
+    assertMemberLogs(raftRule.getMemberLogs());
+  }
+
+  @Test
+  public void shouldReplicateMissedEntriesToRestartedFollower() throws Throwable {
+    // given
+    final var follower = raftRule.shutdownFollower();
+    raftRule.appendEntries(64);
+
+    // when
+    raftRule.joinCluster(follower);
+    final var lastIndex = raftRule.appendEntry();
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+    assertMemberLogs(raftRule.getMemberLogs());
+  }
+
+  private void assertMemberLogs(final Map<String, List<Indexed<?>>> memberLog) {
+    final var firstMemberEntries = memberLog.get("1");
+    final var members = memberLog.keySet();
+    for (final var member : members) {
+      if (!member.equals("1")) {
+        final var otherEntries = memberLog.get(member);
+
+        assertThat(otherEntries)
+            .describedAs("Entry comparison 1 vs " + member)
+            .containsExactly(firstMemberEntries.toArray(new Indexed[0]));
+      }
+    }
+  }
+}
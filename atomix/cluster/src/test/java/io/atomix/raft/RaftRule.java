@@ -52,6 +52,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -92,6 +93,9 @@ public final class RaftRule extends ExternalResource {
   private final Map<String, AtomicReference<CountDownLatch>> compactAwaiters = new HashMap<>();
   private long position;
   private EntryValidator entryValidator = new NoopEntryValidator();
+  private int maxAppendBatchSize = 32 * 1024;
+  private int appendWindowSize = 0;
+  private Duration followerFlushDelay = Duration.ZERO;
   // Keep a reference to the snapshots to ensure they are persisted across the restarts.
   private Map<String, AtomicReference<InMemorySnapshot>> snapshots;
   private Map<String, TestSnapshotStore> snapshotStores;
@@ -116,6 +120,17 @@ public final class RaftRule extends ExternalResource {
     return this;
   }
 
+  public RaftRule setPipelinedAppends(final int maxAppendBatchSize, final int appendWindowSize) {
+    this.maxAppendBatchSize = maxAppendBatchSize;
+    this.appendWindowSize = appendWindowSize;
+    return this;
+  }
+
+  public RaftRule setFollowerFlushDelay(final Duration followerFlushDelay) {
+    this.followerFlushDelay = followerFlushDelay;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     final var statement = super.apply(base, description);
@@ -448,7 +463,9 @@ public final class RaftRule extends ExternalResource {
         RaftServer.builder(memberId)
             .withMembershipService(mock(ClusterMembershipService.class))
             .withProtocol(protocol)
-            .withEntryValidator(entryValidator);
+            .withEntryValidator(entryValidator)
+            .withMaxAppendBatchSize(maxAppendBatchSize)
+            .withAppendWindowSize(appendWindowSize);
     final RaftServer server = configurator.apply(defaults).build();
 
     servers.put(memberId.id(), server);
@@ -482,6 +499,7 @@ public final class RaftRule extends ExternalResource {
             .withMaxEntriesPerSegment(10)
             .withMaxSegmentSize(1024 * 10)
             .withFreeDiskSpace(100)
+            .withFollowerFlushDelay(followerFlushDelay)
             .withSnapshotStore(
                 snapshotStores.compute(
                     memberId.id(),
@@ -558,7 +576,10 @@ public final class RaftRule extends ExternalResource {
 
   @Override
   public String toString() {
-    return "RaftRule with " + nodeCount + " nodes.";
+    return "RaftRule with "
+        + nodeCount
+        + " nodes"
+        + (appendWindowSize > 0 ? " and an append window of " + appendWindowSize + " bytes." : ".");
   }
 
   public void triggerDataLossOnNode(final String node) throws IOException {
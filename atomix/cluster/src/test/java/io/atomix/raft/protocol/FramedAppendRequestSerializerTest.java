@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.esotericsoftware.kryo.KryoException;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.RaftLogEntryCodec;
+import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.journal.JournalFrame;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class FramedAppendRequestSerializerTest {
+
+  private final RaftLogEntryCodec codec = new RaftLogEntryCodec(RaftNamespaces.RAFT_STORAGE);
+
+  @Test
+  public void shouldSerializeEntriesAsFrames() {
+    // given
+    final ZeebeEntry first = newZeebeEntry("foo");
+    final InitializeEntry second = new InitializeEntry(1, 2);
+    final ZeebeEntry last = newZeebeEntry("bar");
+    final FramedAppendRequest request = newRequest(List.of(first, second, last));
+
+    // when
+    final AppendRequest deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertTrue(deserialized instanceof FramedAppendRequest);
+    assertEquals(request.term(), deserialized.term());
+    assertEquals(request.leader(), deserialized.leader());
+    assertEquals(request.prevLogIndex(), deserialized.prevLogIndex());
+    assertEquals(request.prevLogTerm(), deserialized.prevLogTerm());
+    assertEquals(request.commitIndex(), deserialized.commitIndex());
+    assertEquals(request.checksums(), deserialized.checksums());
+    assertEquals(3, deserialized.entries().size());
+    assertEquals(first, deserialized.entries().get(0));
+    assertEquals(second.term(), deserialized.entries().get(1).term());
+    assertEquals(last, deserialized.entries().get(2));
+  }
+
+  @Test
+  public void shouldKeepFramesAsTheyWereSent() {
+    // given
+    final FramedAppendRequest request =
+        newRequest(List.of(newZeebeEntry("foo"), newZeebeEntry("foobar")));
+
+    // when
+    final FramedAppendRequest deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertArrayEquals(toBytes(request.frames()), toBytes(deserialized.frames()));
+    assertEquals(request.frameOffset(0), deserialized.frameOffset(0));
+    assertEquals(request.frameOffset(1), deserialized.frameOffset(1));
+  }
+
+  @Test
+  public void shouldNotDeserializeMalformedFrames() {
+    // given
+    final FramedAppendRequest request = newRequest(List.of(newZeebeEntry("foo")));
+    final DirectBuffer truncatedFrames =
+        new UnsafeBuffer(request.frames(), 0, request.frames().capacity() - 1);
+    final FramedAppendRequest malformedRequest =
+        new FramedAppendRequest(request, truncatedFrames, new int[] {0});
+    final byte[] serialized = RaftNamespaces.RAFT_PROTOCOL.serialize(malformedRequest);
+
+    // when
+    try {
+      RaftNamespaces.RAFT_PROTOCOL.deserialize(serialized);
+      fail("Expected to fail on the truncated frame");
+    } catch (final KryoException e) {
+      // then
+      assertTrue(e.getMessage().contains("malformed"));
+    }
+  }
+
+  private FramedAppendRequest newRequest(final List<RaftLogEntry> entries) {
+    final ExpandableArrayBuffer frames = new ExpandableArrayBuffer();
+    final int[] frameOffsets = new int[entries.size()];
+    final List<Long> checksums = new ArrayList<>();
+
+    int offset = 0;
+    for (int i = 0; i < entries.size(); i++) {
+      final ByteBuffer buffer = ByteBuffer.allocate(1024);
+      codec.encode(entries.get(i), buffer);
+      buffer.flip();
+
+      final CRC32 crc32 = new CRC32();
+      crc32.update(buffer.duplicate());
+      final long checksum = crc32.getValue();
+
+      frameOffsets[i] = offset;
+      checksums.add(checksum);
+      frames.putInt(offset, buffer.remaining(), ByteOrder.BIG_ENDIAN);
+      frames.putInt(offset + Integer.BYTES, (int) checksum, ByteOrder.BIG_ENDIAN);
+      frames.putBytes(offset + JournalFrame.HEADER_LENGTH, buffer, 0, buffer.remaining());
+      offset += JournalFrame.HEADER_LENGTH + buffer.remaining();
+    }
+
+    final AppendRequest request = new AppendRequest(1, "0", 2, 1, entries, checksums, 2);
+    return new FramedAppendRequest(request, new UnsafeBuffer(frames, 0, offset), frameOffsets);
+  }
+
+  private static byte[] toBytes(final DirectBuffer buffer) {
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  private static ZeebeEntry newZeebeEntry(final String data) {
+    return new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+  }
+}
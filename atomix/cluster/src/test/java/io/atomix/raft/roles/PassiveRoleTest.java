@@ -36,15 +36,19 @@ import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.StorageException.InvalidChecksum;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespace.Builder;
 import io.atomix.utils.serializer.Namespaces;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
@@ -52,6 +56,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
+import org.mockito.ArgumentCaptor;
 
 public class PassiveRoleTest {
 
@@ -59,13 +64,17 @@ public class PassiveRoleTest {
       new Builder().register(Namespaces.BASIC).register(ZeebeEntry.class).build();
   @Rule public Timeout timeout = new Timeout(30, TimeUnit.SECONDS);
   private final ZeebeEntry entry = new ZeebeEntry(1, 1, 0, 1, ByteBuffer.allocate(0));
+  private RaftStorage storage;
+  private RaftContext ctx;
   private RaftLogWriter writer;
   private PassiveRole role;
 
   @Before
   public void setup() {
-    final RaftStorage storage = mock(RaftStorage.class);
+    storage = mock(RaftStorage.class);
     when(storage.namespace()).thenReturn(NAMESPACE);
+    when(storage.getFollowerFlushDelay()).thenReturn(Duration.ZERO);
+    when(storage.getFollowerFlushBatchSize()).thenReturn(1024 * 1024);
 
     writer = mock(RaftLogWriter.class);
     when(writer.getLastIndex()).thenReturn(1L);
@@ -77,7 +86,7 @@ public class PassiveRoleTest {
     final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
-    final RaftContext ctx = mock(RaftContext.class);
+    ctx = mock(RaftContext.class);
     when(ctx.getStorage()).thenReturn(storage);
     when(ctx.getLogWriter()).thenReturn(writer);
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
@@ -154,6 +163,141 @@ public class PassiveRoleTest {
     verify(writer, times(2)).append(any(ZeebeEntry.class), anyLong());
   }
 
+  @Test
+  public void shouldFlushBeforeAcknowledgingAppend() {
+    // given
+    final RaftLog log = mock(RaftLog.class);
+    when(log.shouldFlushExplicitly()).thenReturn(true);
+    when(ctx.getLog()).thenReturn(log);
+    when(writer.append(any(), anyLong())).thenReturn(new Indexed<>(1, entry, 1, 1));
+    final List<RaftLogEntry> entries = generateEntries(1);
+    final AppendRequest request = new AppendRequest(2, "", 0, 0, entries, getChecksums(entries), 1);
+
+    // when
+    final AppendResponse response = role.handleAppend(request).join();
+
+    // then
+    assertThat(response.succeeded()).isTrue();
+    verify(writer).flush();
+  }
+
+  @Test
+  public void shouldNotAcknowledgeAppendBeforeGroupFlush() {
+    // given
+    final Runnable flush = enableGroupFlush(Duration.ofMillis(10), 1024 * 1024);
+    when(writer.append(any(), anyLong())).thenReturn(new Indexed<>(1, entry, 1, 1));
+    final List<RaftLogEntry> entries = generateEntries(1);
+    final AppendRequest request = new AppendRequest(2, "", 0, 0, entries, getChecksums(entries), 1);
+
+    // when
+    final CompletableFuture<AppendResponse> response = role.handleAppend(request);
+
+    // then
+    assertThat(response).isNotDone();
+    verify(writer, never()).flush();
+
+    // when
+    flush.run();
+
+    // then
+    assertThat(response.join().succeeded()).isTrue();
+    verify(writer).flush();
+  }
+
+  @Test
+  public void shouldAcknowledgeSeveralAppendsWithOneFlush() {
+    // given
+    final Runnable flush = enableGroupFlush(Duration.ofMillis(10), 1024 * 1024);
+    when(writer.append(any(), anyLong()))
+        .thenReturn(new Indexed<>(1, entry, 1, 1), new Indexed<>(2, entry, 1, 1));
+    final List<RaftLogEntry> firstEntries = generateEntries(1);
+    final List<RaftLogEntry> secondEntries = generateEntries(1);
+    final CompletableFuture<AppendResponse> firstResponse =
+        role.handleAppend(
+            new AppendRequest(2, "", 0, 0, firstEntries, getChecksums(firstEntries), 1));
+    when(writer.getLastEntry()).thenReturn(new Indexed<>(1, entry, 1, 1));
+    when(writer.getLastIndex()).thenReturn(1L);
+
+    // when
+    final CompletableFuture<AppendResponse> secondResponse =
+        role.handleAppend(
+            new AppendRequest(2, "", 1, 1, secondEntries, getChecksums(secondEntries), 1));
+    when(writer.getLastIndex()).thenReturn(2L);
+    flush.run();
+
+    // then
+    assertThat(firstResponse.join().lastLogIndex()).isEqualTo(1);
+    assertThat(secondResponse.join().lastLogIndex()).isEqualTo(2);
+    verify(writer, times(1)).flush();
+    verify(ctx.getThreadContext(), times(1)).schedule(any(Duration.class), any(Runnable.class));
+  }
+
+  @Test
+  public void shouldFlushImmediatelyIfBatchSizeIsReached() {
+    // given
+    enableGroupFlush(Duration.ofMillis(10), 1);
+    when(writer.append(any(), anyLong())).thenReturn(new Indexed<>(1, entry, 1, 1));
+    final List<RaftLogEntry> entries = generateEntries(1);
+    final AppendRequest request = new AppendRequest(2, "", 0, 0, entries, getChecksums(entries), 1);
+
+    // when
+    final CompletableFuture<AppendResponse> response = role.handleAppend(request);
+
+    // then
+    assertThat(response.join().succeeded()).isTrue();
+    verify(writer).flush();
+  }
+
+  @Test
+  public void shouldNotDelayFailedAppend() {
+    // given
+    enableGroupFlush(Duration.ofMillis(10), 1024 * 1024);
+    final List<RaftLogEntry> entries = generateEntries(1);
+    final AppendRequest request = new AppendRequest(2, "", 1, 1, entries, List.of(1L, 2L), 1);
+
+    // when
+    final CompletableFuture<AppendResponse> response = role.handleAppend(request);
+
+    // then
+    assertThat(response.join().succeeded()).isFalse();
+    verify(writer, never()).flush();
+  }
+
+  @Test
+  public void shouldFlushPendingAppendsOnStop() {
+    // given
+    enableGroupFlush(Duration.ofMillis(10), 1024 * 1024);
+    when(writer.append(any(), anyLong())).thenReturn(new Indexed<>(1, entry, 1, 1));
+    final List<RaftLogEntry> entries = generateEntries(1);
+    final CompletableFuture<AppendResponse> response =
+        role.handleAppend(new AppendRequest(2, "", 0, 0, entries, getChecksums(entries), 1));
+
+    // when
+    role.stop();
+
+    // then
+    assertThat(response.join().succeeded()).isTrue();
+    verify(writer).flush();
+  }
+
+  private Runnable enableGroupFlush(final Duration flushDelay, final int flushBatchSize) {
+    when(storage.getFollowerFlushDelay()).thenReturn(flushDelay);
+    when(storage.getFollowerFlushBatchSize()).thenReturn(flushBatchSize);
+
+    final RaftLog log = mock(RaftLog.class);
+    when(log.shouldFlushExplicitly()).thenReturn(true);
+    when(ctx.getLog()).thenReturn(log);
+
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    when(threadContext.schedule(any(Duration.class), flushCaptor.capture()))
+        .thenReturn(mock(Scheduled.class));
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+
+    role = new PassiveRole(ctx);
+    return () -> flushCaptor.getValue().run();
+  }
+
   private List<RaftLogEntry> generateEntries(final int numEntries) {
     final List<RaftLogEntry> entries = new ArrayList<>();
     for (int i = 0; i < numEntries; i++) {
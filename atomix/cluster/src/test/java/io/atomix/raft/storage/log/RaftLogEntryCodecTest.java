@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class RaftLogEntryCodecTest {
+
+  private final RaftLogEntryCodec codec = new RaftLogEntryCodec(RaftNamespaces.RAFT_STORAGE);
+
+  @Test
+  public void shouldEncodeAndDecodeZeebeEntry() {
+    // given
+    final ZeebeEntry entry = newZeebeEntry("foo");
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+
+    // when
+    codec.encode(entry, buffer);
+    buffer.flip();
+    final ZeebeEntry decoded = (ZeebeEntry) codec.decode(buffer);
+
+    // then
+    assertEquals(RaftLogEntryCodec.MAGIC, buffer.get(0));
+    assertEquals(RaftLogEntryCodec.HEADER_LENGTH + 3, buffer.limit());
+    assertEquals(entry, decoded);
+    assertEquals(entry.term(), decoded.term());
+    assertEquals(entry.timestamp(), decoded.timestamp());
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void shouldDecodeDataAsViewOfSourceBuffer() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+    codec.encode(newZeebeEntry("foo"), buffer);
+    buffer.flip();
+
+    // when
+    final ZeebeEntry decoded = (ZeebeEntry) codec.decode(buffer);
+    buffer.put(RaftLogEntryCodec.HEADER_LENGTH, (byte) 'b');
+
+    // then
+    assertEquals(ByteBuffer.wrap("boo".getBytes(StandardCharsets.UTF_8)), decoded.data());
+  }
+
+  @Test
+  public void shouldNotShareDataWithSourceBufferIfDecodedFromCopy() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+    codec.encode(newZeebeEntry("foo"), buffer);
+    buffer.flip();
+
+    // when
+    final ZeebeEntry decoded = (ZeebeEntry) codec.decodeCopy(buffer);
+    buffer.clear();
+    while (buffer.hasRemaining()) {
+      buffer.put((byte) 0);
+    }
+
+    // then
+    assertEquals(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8)), decoded.data());
+  }
+
+  @Test
+  public void shouldEncodeOnlyRemainingData() {
+    // given
+    final ByteBuffer data = ByteBuffer.wrap("foobar".getBytes(StandardCharsets.UTF_8));
+    data.position(3);
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, data);
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+
+    // when
+    codec.encode(entry, buffer);
+    buffer.flip();
+    final ZeebeEntry decoded = (ZeebeEntry) codec.decode(buffer);
+
+    // then
+    assertEquals(3, data.position());
+    assertEquals(ByteBuffer.wrap("bar".getBytes(StandardCharsets.UTF_8)), decoded.data());
+  }
+
+  @Test
+  public void shouldDecodeZeebeEntrySerializedWithKryo() {
+    // given - an entry written before the binary layout was introduced
+    final ZeebeEntry entry = newZeebeEntry("foo");
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+    RaftNamespaces.RAFT_STORAGE.serialize(entry, buffer);
+    buffer.flip();
+
+    // when
+    final ZeebeEntry decoded = (ZeebeEntry) codec.decode(buffer);
+
+    // then
+    assertNotEquals(RaftLogEntryCodec.MAGIC, buffer.get(0));
+    assertEquals(entry, decoded);
+    assertEquals(entry.timestamp(), decoded.timestamp());
+  }
+
+  @Test
+  public void shouldEncodeOtherEntriesWithKryo() {
+    // given
+    final InitializeEntry entry = new InitializeEntry(1, 2);
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+
+    // when
+    codec.encode(entry, buffer);
+    buffer.flip();
+    final RaftLogEntry decoded = codec.decode(buffer);
+
+    // then
+    assertTrue((buffer.get(0) & 0x80) != 0);
+    assertTrue(decoded instanceof InitializeEntry);
+    assertEquals(entry.term(), decoded.term());
+  }
+
+  @Test(expected = BufferOverflowException.class)
+  public void shouldFailIfZeebeEntryDoesNotFit() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocate(RaftLogEntryCodec.HEADER_LENGTH + 2);
+
+    // when
+    codec.encode(newZeebeEntry("foo"), buffer);
+  }
+
+  private ZeebeEntry newZeebeEntry(final String data) {
+    return new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+  }
+}
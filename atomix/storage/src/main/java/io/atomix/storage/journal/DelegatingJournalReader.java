@@ -18,6 +18,8 @@ package io.atomix.storage.journal;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
+import org.agrona.MutableDirectBuffer;
+
 /** Journal reader delegate. */
 public class DelegatingJournalReader<E> implements JournalReader<E> {
   private final JournalReader<E> delegate;
@@ -66,6 +68,11 @@ public class DelegatingJournalReader<E> implements JournalReader<E> {
     return delegate.next();
   }
 
+  @Override
+  public int copyCurrentFrame(final MutableDirectBuffer buffer, final int offset) {
+    return delegate.copyCurrentFrame(buffer, offset);
+  }
+
   @Override
   public void reset() {
     delegate.reset();
@@ -18,6 +18,8 @@ package io.atomix.storage.journal;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
+import org.agrona.DirectBuffer;
+
 /** Journal writer delegate. */
 public class DelegatingJournalWriter<E> implements JournalWriter<E> {
   private final JournalWriter<E> delegate;
@@ -56,6 +58,12 @@ public class DelegatingJournalWriter<E> implements JournalWriter<E> {
     return delegate.append(entry, checksum);
   }
 
+  @Override
+  public <T extends E> Indexed<T> appendFrame(
+      final T entry, final DirectBuffer buffer, final int offset) {
+    return delegate.appendFrame(entry, buffer, offset);
+  }
+
   @Override
   public void commit(final long index) {
     delegate.commit(index);
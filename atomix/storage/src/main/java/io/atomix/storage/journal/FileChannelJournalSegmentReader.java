@@ -19,7 +19,6 @@ package io.atomix.storage.journal;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
-import io.atomix.utils.serializer.Namespace;
 import java.io.IOException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
@@ -28,6 +27,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.NoSuchElementException;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
+import org.agrona.MutableDirectBuffer;
 
 /**
  * Log segment reader.
@@ -38,22 +38,24 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
   private final FileChannel channel;
   private final int maxEntrySize;
   private final JournalIndex index;
-  private final Namespace namespace;
+  private final JournalCodec<E> codec;
   private final ByteBuffer memory;
   private final JournalSegment<E> segment;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
+  private long currentFramePosition = -1;
+  private long nextFramePosition;
 
   FileChannelJournalSegmentReader(
       final JournalSegmentFile file,
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
-      final Namespace namespace) {
+      final JournalCodec<E> codec) {
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
-    this.namespace = namespace;
+    this.codec = codec;
     channel = file.openChannel(StandardOpenOption.READ);
     memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     reset();
@@ -110,6 +112,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
 
     // Set the current entry to the next entry.
     currentEntry = nextEntry;
+    currentFramePosition = nextFramePosition;
 
     // Reset the next entry to null.
     nextEntry = null;
@@ -121,6 +124,31 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     return currentEntry;
   }
 
+  @Override
+  public int copyCurrentFrame(final MutableDirectBuffer buffer, final int offset) {
+    if (currentFramePosition < 0) {
+      throw new IllegalStateException(
+          "Expected to copy the frame of the current entry, but no entry was read");
+    }
+
+    // the memory may already contain the next entries, so the frame is read from the file again
+    final int frameLength = JournalFrame.HEADER_LENGTH + currentEntry.size();
+    final ByteBuffer frame = ByteBuffer.allocate(frameLength);
+    try {
+      while (frame.hasRemaining()) {
+        if (channel.read(frame, currentFramePosition + frame.position()) < 0) {
+          throw new StorageException(
+              "Expected to read the frame of the current entry, but the segment ended");
+        }
+      }
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
+    buffer.putBytes(offset, frame.array(), 0, frameLength);
+    return frameLength;
+  }
+
   @Override
   public void reset() {
     try {
@@ -130,6 +158,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     }
     memory.clear().limit(0);
     currentEntry = null;
+    currentFramePosition = -1;
     nextEntry = null;
     readNext();
   }
@@ -144,6 +173,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     final Position position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
       currentEntry = new Indexed<>(position.index() - 1, null, 0, -1);
+      currentFramePosition = -1;
       try {
         channel.position(position.position());
         memory.clear().flip();
@@ -208,8 +238,10 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     }
   }
 
-  private void readNextEntry(final long index, final int length) {
+  private void readNextEntry(final long index, final int length) throws IOException {
     final long checksum = memory.getInt() & 0xFFFFFFFFL;
+    // the memory starts at the position of the channel
+    final long framePosition = channel.position() + memory.position() - JournalFrame.HEADER_LENGTH;
 
     if (isChecksumInvalid(checksum, length)) {
       resetReading();
@@ -219,9 +251,11 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     // If the stored checksum equals the computed checksum, set the next entry.
     final int limit = memory.limit();
     memory.limit(memory.position() + length);
-    final E entry = namespace.deserialize(memory);
+    // the memory is reused for the next entries
+    final E entry = codec.decodeCopy(memory);
     memory.limit(limit);
     nextEntry = new Indexed<>(index, entry, length, checksum);
+    nextFramePosition = framePosition;
   }
 
   private void resetReading() {
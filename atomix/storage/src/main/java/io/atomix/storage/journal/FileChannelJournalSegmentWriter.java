@@ -16,10 +16,10 @@
  */
 package io.atomix.storage.journal;
 
-import com.esotericsoftware.kryo.KryoException;
 import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.JournalSegmentIndexFile.PersistedIndex;
 import io.atomix.storage.journal.index.JournalIndex;
-import io.atomix.utils.serializer.Namespace;
+import io.atomix.storage.journal.index.RestorableJournalIndex;
 import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
@@ -28,6 +28,7 @@ import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
+import org.agrona.DirectBuffer;
 
 /**
  * Segment writer.
@@ -51,7 +52,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalSegment<E> segment;
   private final int maxEntrySize;
   private final JournalIndex index;
-  private final Namespace namespace;
+  private final JournalCodec<E> codec;
   private final ByteBuffer memory;
   private final long firstIndex;
   private final Checksum crc32 = new CRC32();
@@ -62,18 +63,26 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
-      final Namespace namespace) {
+      final JournalCodec<E> codec,
+      final PersistedIndex persistedIndex) {
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
-    this.namespace = namespace;
+    this.codec = codec;
     firstIndex = segment.index();
     channel =
         file.openChannel(
             StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
     memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     memory.limit(0);
-    reset(0);
+
+    if (persistedIndex != null) {
+      // only the entries after the last persisted entry have to be read
+      persistedIndex.restoreInto((RestorableJournalIndex) index);
+      reset(0, persistedIndex.getCheckpointIndex(), persistedIndex.getCheckpointPosition());
+    } else {
+      reset(0);
+    }
   }
 
   @Override
@@ -115,8 +124,8 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       memory.clear();
       memory.position(Integer.BYTES + Integer.BYTES);
       try {
-        namespace.serialize(entry, memory);
-      } catch (final KryoException e) {
+        codec.encode(entry, memory);
+      } catch (final BufferOverflowException e) {
         throw new StorageException.TooLarge(
             "Entry size exceeds maximum allowed bytes (" + maxEntrySize + ")");
       }
@@ -159,6 +168,47 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     }
   }
 
+  @Override
+  public <T extends E> Indexed<T> appendFrame(
+      final T entry, final DirectBuffer frame, final int offset) {
+    final long index = getNextIndex();
+    final int length = JournalFrame.getEntryLength(frame, offset);
+
+    if (length > maxEntrySize) {
+      throw new StorageException.TooLarge(
+          "Entry size " + length + " exceeds maximum allowed bytes (" + maxEntrySize + ")");
+    } else if (length <= 0) {
+      throw new StorageException.InvalidChecksum("Entry frame has an invalid length " + length);
+    }
+
+    try {
+      // Ensure there's enough space left in the buffer to store the entry.
+      final long position = channel.position();
+      final int frameLength = JournalFrame.HEADER_LENGTH + length;
+      if (segment.descriptor().maxSegmentSize() - position < frameLength) {
+        throw new BufferOverflowException();
+      }
+
+      memory.clear();
+      frame.getBytes(offset, memory.array(), 0, frameLength);
+      memory.limit(frameLength);
+
+      final long checksum = computeChecksum(memory.array(), JournalFrame.HEADER_LENGTH, length);
+      if (checksum != JournalFrame.getChecksum(frame, offset)) {
+        throw new StorageException.InvalidChecksum("Entry has an invalid checksum");
+      }
+
+      channel.write(memory);
+
+      final Indexed<E> indexedEntry = new Indexed<>(index, entry, length, checksum);
+      lastEntry = indexedEntry;
+      this.index.index(lastEntry, (int) position);
+      return (Indexed<T>) indexedEntry;
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
   private long computeChecksum(final byte[] array, final int position, final int length) {
     crc32.reset();
     crc32.update(array, position, length);
@@ -186,11 +236,22 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void reset(final long index) {
-    long nextIndex = firstIndex;
+    reset(index, firstIndex, JournalSegmentDescriptor.BYTES);
+  }
+
+  /**
+   * Reads the entries of the segment, starting with the entry at the given position.
+   *
+   * @param index the index up to which the entries are read, or 0 to read all entries
+   * @param startIndex the index of the entry at the start position
+   * @param startPosition the position of the first entry to read
+   */
+  private void reset(final long index, final long startIndex, final long startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
     try {
-      channel.position(JournalSegmentDescriptor.BYTES);
+      channel.position(startPosition);
       memory.clear().flip();
 
       // Record the current buffer position.
@@ -218,7 +279,8 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
         if (checksum == computeChecksum(memory.array(), memory.position(), length)) {
           final int limit = memory.limit();
           memory.limit(memory.position() + length);
-          final E entry = namespace.deserialize(memory);
+          // the memory is reused for the next entries
+          final E entry = codec.decodeCopy(memory);
           memory.limit(limit);
           lastEntry = new Indexed<>(nextIndex, entry, length, checksum);
           this.index.index(lastEntry, (int) position);
@@ -263,6 +325,9 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       return;
     }
 
+    // The persisted index refers to the entries which are truncated now.
+    segment.invalidateIndex();
+
     // Reset the last entry.
     lastEntry = null;
 
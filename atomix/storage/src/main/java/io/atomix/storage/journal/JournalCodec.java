@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes journal entries to and from the segment buffers.
+ *
+ * <p>Implementations must write the entry at the current position of the given buffer and advance
+ * the position past the written bytes; if the entry does not fit into the remaining bytes of the
+ * buffer a {@link java.nio.BufferOverflowException} must be thrown. When decoding, the buffer
+ * contains exactly the bytes of a single entry, from its position to its limit.
+ *
+ * <p>A decoded entry may refer to the bytes of the given buffer instead of copying them. Readers
+ * which reuse their buffer for the next entries must therefore decode from a copy, see {@link
+ * #decodeCopy(ByteBuffer)}.
+ *
+ * @param <E> the journal entry type
+ */
+public interface JournalCodec<E> {
+
+  /**
+   * Encodes the given entry into the buffer.
+   *
+   * @param entry the entry to encode
+   * @param buffer the buffer to write to
+   */
+  void encode(E entry, ByteBuffer buffer);
+
+  /**
+   * Decodes a single entry from the buffer.
+   *
+   * @param buffer the buffer containing the serialized entry
+   * @return the decoded entry
+   */
+  E decode(ByteBuffer buffer);
+
+  /**
+   * Decodes a single entry from a copy of the buffer, such that the entry doesn't refer to the
+   * given buffer. The position of the buffer is advanced to its limit.
+   *
+   * @param buffer the buffer containing the serialized entry
+   * @return the decoded entry
+   */
+  default E decodeCopy(final ByteBuffer buffer) {
+    final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+    copy.put(buffer).flip();
+    return decode(copy);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.nio.ByteOrder;
+import org.agrona.DirectBuffer;
+
+/**
+ * The frame of an entry as it is stored in a segment: the length of the serialized entry, its
+ * checksum and the serialized entry itself.
+ *
+ * <pre>
+ * | length (4 bytes) | checksum (4 bytes) | entry (length bytes) |
+ * </pre>
+ *
+ * <p>Frames can be copied from one journal to another without decoding and encoding the entries,
+ * see {@link JournalReader#copyCurrentFrame(org.agrona.MutableDirectBuffer, int)} and {@link
+ * JournalWriter#appendFrame(Object, DirectBuffer, int)}.
+ */
+public final class JournalFrame {
+
+  public static final int HEADER_LENGTH = Integer.BYTES + Integer.BYTES;
+
+  // the segments are written with the default byte order of a ByteBuffer
+  private static final ByteOrder BYTE_ORDER = ByteOrder.BIG_ENDIAN;
+
+  private JournalFrame() {}
+
+  /**
+   * @param buffer the buffer containing the frame
+   * @param offset the offset of the frame in the buffer
+   * @return the length of the serialized entry, without the header
+   */
+  public static int getEntryLength(final DirectBuffer buffer, final int offset) {
+    return buffer.getInt(offset, BYTE_ORDER);
+  }
+
+  /**
+   * @param buffer the buffer containing the frame
+   * @param offset the offset of the frame in the buffer
+   * @return the checksum of the serialized entry
+   */
+  public static long getChecksum(final DirectBuffer buffer, final int offset) {
+    return buffer.getInt(offset + Integer.BYTES, BYTE_ORDER) & 0xFFFFFFFFL;
+  }
+}
@@ -17,6 +17,7 @@
 package io.atomix.storage.journal;
 
 import java.util.Iterator;
+import org.agrona.MutableDirectBuffer;
 
 /**
  * Log reader.
@@ -85,6 +86,18 @@ public interface JournalReader<E> extends Iterator<Indexed<E>>, AutoCloseable {
   @Override
   Indexed<E> next();
 
+  /**
+   * Copies the frame of the entry which was returned by the last call of {@link #next()} into the
+   * given buffer, as it is stored in the segment. See {@link JournalFrame} for the layout. It must
+   * be called before {@link #hasNext()}, which may move the reader on to the next segment.
+   *
+   * @param buffer the buffer to copy the frame into
+   * @param offset the offset in the buffer to copy the frame to
+   * @return the length of the copied frame
+   * @throws IllegalStateException if no entry was read from the current segment
+   */
+  int copyCurrentFrame(MutableDirectBuffer buffer, int offset);
+
   /** Resets the reader to the start. */
   void reset();
 
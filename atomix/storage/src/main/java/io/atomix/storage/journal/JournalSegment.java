@@ -22,11 +22,14 @@ import static com.google.common.base.Preconditions.checkState;
 import com.google.common.collect.Sets;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.JournalSegmentIndexFile.PersistedIndex;
 import io.atomix.storage.journal.index.JournalIndex;
-import io.atomix.utils.serializer.Namespace;
+import io.atomix.storage.journal.index.RestorableJournalIndex;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Log segment.
@@ -35,14 +38,19 @@ import java.util.Set;
  */
 public class JournalSegment<E> implements AutoCloseable {
 
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegment.class);
+
   private final JournalSegmentFile file;
   private final JournalSegmentDescriptor descriptor;
   private final StorageLevel storageLevel;
   private final int maxEntrySize;
   private final JournalIndex index;
-  private final Namespace namespace;
+  private final JournalCodec<E> codec;
   private final JournalWriter<E> writer;
   private final Set<JournalReader<E>> readers = Sets.newConcurrentHashSet();
+  private final JournalSegmentIndexFile indexFile;
+  private final boolean indexRestored;
+  private long persistedCheckpointIndex;
   private boolean open = true;
 
   public JournalSegment(
@@ -50,15 +58,22 @@ public class JournalSegment<E> implements AutoCloseable {
       final JournalSegmentDescriptor descriptor,
       final StorageLevel storageLevel,
       final int maxEntrySize,
-      final Namespace namespace,
+      final JournalCodec<E> codec,
       final JournalIndex journalIndex) {
     this.file = file;
     this.descriptor = descriptor;
     this.storageLevel = storageLevel;
     this.maxEntrySize = maxEntrySize;
     index = journalIndex;
-    this.namespace = namespace;
-    writer = createWriter(file, storageLevel, maxEntrySize, namespace);
+    this.codec = codec;
+    indexFile = new JournalSegmentIndexFile(file, descriptor, maxEntrySize);
+
+    final PersistedIndex persistedIndex =
+        index instanceof RestorableJournalIndex ? indexFile.load() : null;
+    indexRestored = persistedIndex != null;
+    persistedCheckpointIndex =
+        indexRestored ? persistedIndex.getCheckpointIndex() : descriptor.index() - 1;
+    writer = createWriter(file, storageLevel, maxEntrySize, codec, persistedIndex);
   }
 
   /**
@@ -152,9 +167,9 @@ public class JournalSegment<E> implements AutoCloseable {
     checkOpen();
     final JournalReader<E> reader;
     if (storageLevel == StorageLevel.MAPPED) {
-      reader = new MappedJournalSegmentReader<>(file, this, maxEntrySize, index, namespace);
+      reader = new MappedJournalSegmentReader<>(file, this, maxEntrySize, index, codec);
     } else {
-      reader = new FileChannelJournalSegmentReader<>(file, this, maxEntrySize, index, namespace);
+      reader = new FileChannelJournalSegmentReader<>(file, this, maxEntrySize, index, codec);
     }
     readers.add(reader);
     return reader;
@@ -164,11 +179,14 @@ public class JournalSegment<E> implements AutoCloseable {
       final JournalSegmentFile file,
       final StorageLevel storageLevel,
       final int maxEntrySize,
-      final Namespace namespace) {
+      final JournalCodec<E> codec,
+      final PersistedIndex persistedIndex) {
     if (storageLevel == StorageLevel.MAPPED) {
-      return new MappedJournalSegmentWriter<>(file, this, maxEntrySize, index, namespace);
+      return new MappedJournalSegmentWriter<>(
+          file, this, maxEntrySize, index, codec, persistedIndex);
     } else {
-      return new FileChannelJournalSegmentWriter<>(file, this, maxEntrySize, index, namespace);
+      return new FileChannelJournalSegmentWriter<>(
+          file, this, maxEntrySize, index, codec, persistedIndex);
     }
   }
 
@@ -207,8 +225,57 @@ public class JournalSegment<E> implements AutoCloseable {
     this.index.compact(index);
   }
 
+  /**
+   * Returns a boolean indicating whether the index of the segment was restored from the index file,
+   * instead of reading all entries of the segment.
+   *
+   * @return indicates whether the index was restored
+   */
+  public boolean isIndexRestored() {
+    return indexRestored;
+  }
+
+  /**
+   * Persists the index of the segment, if it changed since it was persisted last time. Afterwards,
+   * only the entries after the last indexed entry have to be read when the segment is loaded.
+   */
+  void persistIndex() {
+    if (!open || !(index instanceof RestorableJournalIndex)) {
+      return;
+    }
+
+    final RestorableJournalIndex restorableIndex = (RestorableJournalIndex) index;
+    final long lastIndex = lastIndex();
+    final long[] checkpointIndex = {persistedCheckpointIndex};
+    restorableIndex.forEach(
+        persistedCheckpointIndex + 1,
+        lastIndex,
+        (indexedIndex, position, value) -> checkpointIndex[0] = indexedIndex);
+    if (checkpointIndex[0] == persistedCheckpointIndex) {
+      return;
+    }
+
+    try {
+      // the index file must not refer to entries which are not on disk yet
+      writer.flush();
+      if (indexFile.write(restorableIndex, lastIndex)) {
+        persistedCheckpointIndex = checkpointIndex[0];
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to persist the index of segment {}", this, e);
+      indexFile.delete();
+    }
+  }
+
+  /** Deletes the persisted index, which must be done before the entries are truncated. */
+  void invalidateIndex() {
+    indexFile.delete();
+    persistedCheckpointIndex = index() - 1;
+  }
+
   /** Deletes the segment. */
   public void delete() {
+    indexFile.delete();
     try {
       Files.deleteIfExists(file.file().toPath());
     } catch (final IOException e) {
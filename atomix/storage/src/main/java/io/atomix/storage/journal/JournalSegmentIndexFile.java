@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.journal.index.RestorableJournalIndex;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the index of a journal segment next to the segment file, such that the index doesn't
+ * have to be rebuilt by reading all entries of the segment on startup.
+ *
+ * <p>The format of the index file is as follows:
+ *
+ * <ul>
+ *   <li>32-bit version
+ *   <li>64-bit segment ID
+ *   <li>64-bit first index of the segment
+ *   <li>32-bit length of the checkpoint entry
+ *   <li>32-bit checksum of the checkpoint entry
+ *   <li>32-bit count of indexed entries
+ *   <li>for each indexed entry: 64-bit index, 32-bit position and 64-bit value
+ *   <li>64-bit CRC32 checksum of all preceding bytes
+ * </ul>
+ *
+ * <p>The checkpoint entry is the last indexed entry. On load, it is compared with the entry at the
+ * same position in the segment, to verify that the index belongs to the entries of the segment. The
+ * entries after the checkpoint are not part of the index file and have to be read from the segment.
+ *
+ * <p>The index file is only valid as long as the entries up to the checkpoint are not changed.
+ * Therefore, it has to be deleted before the segment is truncated.
+ */
+final class JournalSegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentIndexFile.class);
+
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES =
+      Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+  private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_BYTES = Long.BYTES;
+  private static final int ENTRY_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private final JournalSegmentFile segmentFile;
+  private final JournalSegmentDescriptor descriptor;
+  private final int maxEntrySize;
+  private final File file;
+
+  JournalSegmentIndexFile(
+      final JournalSegmentFile segmentFile,
+      final JournalSegmentDescriptor descriptor,
+      final int maxEntrySize) {
+    this.segmentFile = segmentFile;
+    this.descriptor = descriptor;
+    this.maxEntrySize = maxEntrySize;
+    file = segmentFile.indexFile();
+  }
+
+  /**
+   * Writes the indexed entries of the segment to the index file. The entries of the segment have to
+   * be flushed before.
+   *
+   * @param index the index which contains the entries of the segment
+   * @param lastIndex the last index of the segment
+   * @return true if the index file was written, false if the segment has no indexed entries
+   */
+  boolean write(final RestorableJournalIndex index, final long lastIndex) throws IOException {
+    final int[] count = new int[1];
+    index.forEach(descriptor.index(), lastIndex, (i, position, value) -> count[0]++);
+    if (count[0] == 0) {
+      delete();
+      return false;
+    }
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_BYTES + count[0] * ENTRY_BYTES + CHECKSUM_BYTES);
+    buffer.position(HEADER_BYTES);
+    final long[] checkpoint = new long[2];
+    index.forEach(
+        descriptor.index(),
+        lastIndex,
+        (i, position, value) -> {
+          buffer.putLong(i).putInt(position).putLong(value);
+          checkpoint[0] = i;
+          checkpoint[1] = position;
+        });
+
+    final ByteBuffer checkpointHeader = readEntryHeader((int) checkpoint[1]);
+    if (checkpointHeader == null) {
+      delete();
+      return false;
+    }
+
+    buffer.putInt(0, VERSION);
+    buffer.putLong(Integer.BYTES, descriptor.id());
+    buffer.putLong(Integer.BYTES + Long.BYTES, descriptor.index());
+    buffer.putInt(Integer.BYTES + 2 * Long.BYTES, checkpointHeader.getInt(0));
+    buffer.putInt(2 * Integer.BYTES + 2 * Long.BYTES, checkpointHeader.getInt(Integer.BYTES));
+    buffer.putInt(3 * Integer.BYTES + 2 * Long.BYTES, count[0]);
+    buffer.putLong(computeChecksum(buffer.array(), buffer.position()));
+    buffer.flip();
+
+    // write the index to a temporary file first, such that a valid index file is never replaced
+    // by a partially written one
+    final File temporaryFile = new File(file.getParentFile(), file.getName() + TEMPORARY_SUFFIX);
+    try (final FileChannel channel =
+        FileChannel.open(
+            temporaryFile.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+
+    Files.move(
+        temporaryFile.toPath(),
+        file.toPath(),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+    return true;
+  }
+
+  /**
+   * Loads the index file of the segment, if it exists and is valid. An invalid index file is
+   * deleted.
+   *
+   * @return the persisted index, or null if there is no valid index file
+   */
+  PersistedIndex load() {
+    if (!file.exists()) {
+      return null;
+    }
+
+    try {
+      final PersistedIndex persistedIndex =
+          read(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+      if (persistedIndex == null) {
+        LOG.warn("Ignoring invalid index file {} of segment {}", file, descriptor.id());
+        delete();
+      }
+      return persistedIndex;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {} of segment {}", file, descriptor.id(), e);
+      return null;
+    }
+  }
+
+  /** Deletes the index file, if it exists. */
+  void delete() {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {} of segment {}", file, descriptor.id(), e);
+    }
+  }
+
+  private PersistedIndex read(final ByteBuffer buffer) throws IOException {
+    if (buffer.capacity() < HEADER_BYTES + ENTRY_BYTES + CHECKSUM_BYTES) {
+      return null;
+    }
+
+    final int checksumOffset = buffer.capacity() - CHECKSUM_BYTES;
+    if (buffer.getLong(checksumOffset) != computeChecksum(buffer.array(), checksumOffset)) {
+      return null;
+    }
+
+    final int version = buffer.getInt();
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final int checkpointLength = buffer.getInt();
+    final int checkpointChecksum = buffer.getInt();
+    final int count = buffer.getInt();
+    if (version != VERSION
+        || segmentId != descriptor.id()
+        || firstIndex != descriptor.index()
+        || count < 1
+        || HEADER_BYTES + (long) count * ENTRY_BYTES != checksumOffset) {
+      return null;
+    }
+
+    final long[] indexes = new long[count];
+    final int[] positions = new int[count];
+    final long[] values = new long[count];
+    for (int i = 0; i < count; i++) {
+      indexes[i] = buffer.getLong();
+      positions[i] = buffer.getInt();
+      values[i] = buffer.getLong();
+    }
+
+    if (!isEntryAt(positions[count - 1], checkpointLength, checkpointChecksum)) {
+      return null;
+    }
+
+    return new PersistedIndex(indexes, positions, values);
+  }
+
+  private boolean isEntryAt(final int position, final int length, final int checksum)
+      throws IOException {
+    if (length <= 0 || length > maxEntrySize) {
+      return false;
+    }
+
+    final ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_BYTES + length);
+    try (final FileChannel channel = segmentFile.openChannel(StandardOpenOption.READ)) {
+      if (channel.read(entry, position) < entry.capacity()) {
+        return false;
+      }
+    }
+
+    return entry.getInt(0) == length
+        && entry.getInt(Integer.BYTES) == checksum
+        && (int) computeChecksum(entry.array(), ENTRY_HEADER_BYTES, length) == checksum;
+  }
+
+  private ByteBuffer readEntryHeader(final int position) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_BYTES);
+    try (final FileChannel channel = segmentFile.openChannel(StandardOpenOption.READ)) {
+      if (channel.read(header, position) < ENTRY_HEADER_BYTES) {
+        return null;
+      }
+    }
+
+    final int length = header.getInt(0);
+    return length > 0 && length <= maxEntrySize ? header : null;
+  }
+
+  private static long computeChecksum(final byte[] bytes, final int length) {
+    return computeChecksum(bytes, 0, length);
+  }
+
+  private static long computeChecksum(final byte[] bytes, final int offset, final int length) {
+    final CRC32 crc32 = new CRC32();
+    crc32.update(bytes, offset, length);
+    return crc32.getValue();
+  }
+
+  /** The indexed entries of a segment, which were loaded from the index file. */
+  static final class PersistedIndex {
+
+    private final long[] indexes;
+    private final int[] positions;
+    private final long[] values;
+
+    private PersistedIndex(final long[] indexes, final int[] positions, final long[] values) {
+      this.indexes = indexes;
+      this.positions = positions;
+      this.values = values;
+    }
+
+    /** Adds the persisted entries to the given index. */
+    void restoreInto(final RestorableJournalIndex index) {
+      for (int i = 0; i < indexes.length; i++) {
+        index.restore(indexes[i], positions[i], values[i]);
+      }
+    }
+
+    /** @return the index of the last persisted entry, from which the segment has to be read */
+    long getCheckpointIndex() {
+      return indexes[indexes.length - 1];
+    }
+
+    /** @return the position of the last persisted entry in the segment */
+    int getCheckpointPosition() {
+      return positions[positions.length - 1];
+    }
+
+    int size() {
+      return indexes.length;
+    }
+  }
+}
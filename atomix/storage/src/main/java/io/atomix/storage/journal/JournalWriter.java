@@ -16,6 +16,8 @@
  */
 package io.atomix.storage.journal;
 
+import org.agrona.DirectBuffer;
+
 /**
  * Log writer.
  *
@@ -61,6 +63,17 @@ public interface JournalWriter<E> extends AutoCloseable {
    */
   <T extends E> Indexed<T> append(T entry, long checksum);
 
+  /**
+   * Validates the checksum of the given frame and, if successful, appends the frame to the journal
+   * as it is, without encoding the entry again. See {@link JournalFrame} for the layout.
+   *
+   * @param entry The decoded entry of the frame, which is kept as last entry.
+   * @param buffer The buffer containing the frame.
+   * @param offset The offset of the frame in the buffer.
+   * @return The appended indexed entry.
+   */
+  <T extends E> Indexed<T> appendFrame(T entry, DirectBuffer buffer, int offset);
+
   /**
    * Appends an indexed entry to the log.
    *
@@ -18,7 +18,6 @@ package io.atomix.storage.journal;
 
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
-import io.atomix.utils.serializer.Namespace;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
@@ -26,6 +25,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.util.NoSuchElementException;
 import java.util.zip.CRC32;
 import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
 
 /**
  * Log segment reader.
@@ -36,20 +36,22 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
   private final MappedByteBuffer buffer;
   private final int maxEntrySize;
   private final JournalIndex index;
-  private final Namespace namespace;
+  private final JournalCodec<E> codec;
   private final JournalSegment<E> segment;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
+  private int currentFramePosition = -1;
+  private int nextFramePosition;
 
   MappedJournalSegmentReader(
       final JournalSegmentFile file,
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
-      final Namespace namespace) {
+      final JournalCodec<E> codec) {
     this.maxEntrySize = maxEntrySize;
     this.index = index;
-    this.namespace = namespace;
+    this.codec = codec;
     this.segment = segment;
     buffer =
         IoUtil.mapExistingFile(
@@ -104,6 +106,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
 
     // Set the current entry to the next entry.
     currentEntry = nextEntry;
+    currentFramePosition = nextFramePosition;
 
     // Reset the next entry to null.
     nextEntry = null;
@@ -115,10 +118,23 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
     return currentEntry;
   }
 
+  @Override
+  public int copyCurrentFrame(final MutableDirectBuffer target, final int offset) {
+    if (currentFramePosition < 0) {
+      throw new IllegalStateException(
+          "Expected to copy the frame of the current entry, but no entry was read");
+    }
+
+    final int frameLength = JournalFrame.HEADER_LENGTH + currentEntry.size();
+    target.putBytes(offset, buffer, currentFramePosition, frameLength);
+    return frameLength;
+  }
+
   @Override
   public void reset() {
     buffer.position(JournalSegmentDescriptor.BYTES);
     currentEntry = null;
+    currentFramePosition = -1;
     nextEntry = null;
     readNext();
   }
@@ -133,6 +149,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
     final Position position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
       currentEntry = new Indexed<>(position.index() - 1, null, 0, -1);
+      currentFramePosition = -1;
       buffer.position(position.position());
 
       nextEntry = null;
@@ -146,7 +163,8 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
 
   @Override
   public void close() {
-    IoUtil.unmap(buffer);
+    // the decoded entries may still refer to the mapped segment, the mapping is released once
+    // neither the reader nor any of these entries is referenced anymore
     segment.onReaderClosed(this);
   }
 
@@ -157,6 +175,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
 
     // Mark the buffer so it can be reset if necessary.
     buffer.mark();
+    final int framePosition = buffer.position();
 
     try {
       // Read the length of the entry.
@@ -181,8 +200,9 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
       // If the stored checksum equals the computed checksum, return the entry.
       if (checksum == crc32.getValue()) {
         slice.rewind();
-        final E entry = namespace.deserialize(slice);
+        final E entry = codec.decode(slice);
         nextEntry = new Indexed<>(index, entry, length, checksum);
+        nextFramePosition = framePosition;
         buffer.position(buffer.position() + length);
       } else {
         buffer.reset();
@@ -16,15 +16,16 @@
  */
 package io.atomix.storage.journal;
 
-import com.esotericsoftware.kryo.KryoException;
 import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.JournalSegmentIndexFile.PersistedIndex;
 import io.atomix.storage.journal.index.JournalIndex;
-import io.atomix.utils.serializer.Namespace;
+import io.atomix.storage.journal.index.RestorableJournalIndex;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.util.zip.CRC32;
+import org.agrona.DirectBuffer;
 import org.agrona.IoUtil;
 
 /**
@@ -49,7 +50,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalSegment<E> segment;
   private final int maxEntrySize;
   private final JournalIndex index;
-  private final Namespace namespace;
+  private final JournalCodec<E> codec;
   private final long firstIndex;
   private final CRC32 crc32 = new CRC32();
   private Indexed<E> lastEntry;
@@ -60,14 +61,22 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
-      final Namespace namespace) {
+      final JournalCodec<E> codec,
+      final PersistedIndex persistedIndex) {
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
-    this.namespace = namespace;
+    this.codec = codec;
     firstIndex = segment.index();
     buffer = mapFile(file, segment);
-    reset(0);
+
+    if (persistedIndex != null) {
+      // only the entries after the last persisted entry have to be read
+      persistedIndex.restoreInto((RestorableJournalIndex) index);
+      reset(0, persistedIndex.getCheckpointIndex(), persistedIndex.getCheckpointPosition());
+    } else {
+      reset(0);
+    }
   }
 
   private static MappedByteBuffer mapFile(
@@ -120,9 +129,10 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     buffer.position(position + Integer.BYTES + Integer.BYTES);
 
     try {
-      namespace.serialize(entry, buffer);
-    } catch (final KryoException e) {
-      throw new BufferOverflowException();
+      codec.encode(entry, buffer);
+    } catch (final BufferOverflowException e) {
+      buffer.position(position);
+      throw e;
     }
 
     final int length = buffer.position() - (position + Integer.BYTES + Integer.BYTES);
@@ -158,6 +168,48 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     return (Indexed<T>) indexedEntry;
   }
 
+  @Override
+  public <T extends E> Indexed<T> appendFrame(
+      final T entry, final DirectBuffer frame, final int offset) {
+    final long index = getNextIndex();
+    final int length = JournalFrame.getEntryLength(frame, offset);
+    final long expectedChecksum = JournalFrame.getChecksum(frame, offset);
+
+    if (length > maxEntrySize) {
+      throw new StorageException.TooLarge(
+          "Entry size " + length + " exceeds maximum allowed bytes (" + maxEntrySize + ")");
+    } else if (length <= 0) {
+      throw new StorageException.InvalidChecksum("Entry frame has an invalid length " + length);
+    }
+
+    final int position = buffer.position();
+    final int entryPosition = position + JournalFrame.HEADER_LENGTH;
+    if (entryPosition + length > buffer.limit()) {
+      throw new BufferOverflowException();
+    }
+
+    // Copy the entry as it is and validate the checksum of the copied bytes, before writing the
+    // length and checksum which make the entry readable.
+    frame.getBytes(offset + JournalFrame.HEADER_LENGTH, buffer, entryPosition, length);
+    buffer.position(entryPosition);
+    final long checksum = computeChecksum(length);
+
+    if (checksum != expectedChecksum) {
+      buffer.position(position);
+      throw new StorageException.InvalidChecksum("Entry has an invalid checksum");
+    }
+
+    buffer.position(position);
+    buffer.putInt(length);
+    buffer.putInt((int) checksum);
+    buffer.position(entryPosition + length);
+
+    final Indexed<E> indexedEntry = new Indexed<>(index, entry, length, checksum);
+    lastEntry = indexedEntry;
+    this.index.index(lastEntry, position);
+    return (Indexed<T>) indexedEntry;
+  }
+
   private long computeChecksum(final int length) {
     final ByteBuffer slice = buffer.slice();
     slice.limit(length);
@@ -187,10 +239,21 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void reset(final long index) {
-    long nextIndex = firstIndex;
+    reset(index, firstIndex, JournalSegmentDescriptor.BYTES);
+  }
+
+  /**
+   * Reads the entries of the segment, starting with the entry at the given position.
+   *
+   * @param index the index up to which the entries are read, or 0 to read all entries
+   * @param startIndex the index of the entry at the start position
+   * @param startPosition the position of the first entry to read
+   */
+  private void reset(final long index, final long startIndex, final int startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
-    buffer.position(JournalSegmentDescriptor.BYTES);
+    buffer.position(startPosition);
 
     // Record the current buffer position.
     int position = buffer.position();
@@ -216,7 +279,8 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
         // If the stored checksum equals the computed checksum, return the entry.
         if (checksum == crc32.getValue()) {
           slice.rewind();
-          final E entry = namespace.deserialize(slice);
+          // the last entry is kept after the writer unmaps the segment on close
+          final E entry = codec.decodeCopy(slice);
           lastEntry = new Indexed<>(nextIndex, entry, length, checksum);
           this.index.index(lastEntry, position);
           nextIndex++;
@@ -246,6 +310,9 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
       return;
     }
 
+    // The persisted index refers to the entries which are truncated now.
+    segment.invalidateIndex();
+
     // Reset the last entry.
     lastEntry = null;
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.esotericsoftware.kryo.KryoException;
+import io.atomix.utils.serializer.Namespace;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/** Journal codec which serializes entries with Kryo through the given {@link Namespace}. */
+public final class NamespaceJournalCodec<E> implements JournalCodec<E> {
+
+  private final Namespace namespace;
+
+  public NamespaceJournalCodec(final Namespace namespace) {
+    this.namespace = checkNotNull(namespace, "namespace cannot be null");
+  }
+
+  @Override
+  public void encode(final E entry, final ByteBuffer buffer) {
+    try {
+      namespace.serialize(entry, buffer);
+    } catch (final KryoException e) {
+      // the Kryo output fails with an exception if the buffer is exhausted
+      final BufferOverflowException overflow = new BufferOverflowException();
+      overflow.initCause(e);
+      throw overflow;
+    }
+  }
+
+  @Override
+  public E decode(final ByteBuffer buffer) {
+    return namespace.deserialize(buffer);
+  }
+
+  public Namespace getNamespace() {
+    return namespace;
+  }
+}
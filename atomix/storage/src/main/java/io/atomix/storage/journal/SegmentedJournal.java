@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Iterator;
@@ -54,7 +55,7 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final String name;
   private final StorageLevel storageLevel;
   private final File directory;
-  private final Namespace namespace;
+  private final JournalCodec<E> codec;
   private final int maxSegmentSize;
   private final int maxEntrySize;
   private final int maxEntriesPerSegment;
@@ -70,7 +71,7 @@ public class SegmentedJournal<E> implements Journal<E> {
       final String name,
       final StorageLevel storageLevel,
       final File directory,
-      final Namespace namespace,
+      final JournalCodec<E> codec,
       final int maxSegmentSize,
       final int maxEntrySize,
       final int maxEntriesPerSegment,
@@ -79,7 +80,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
-    this.namespace = checkNotNull(namespace, "namespace cannot be null");
+    this.codec = checkNotNull(codec, "codec cannot be null");
     this.maxSegmentSize = maxSegmentSize;
     this.maxEntrySize = maxEntrySize;
     this.maxEntriesPerSegment = maxEntriesPerSegment;
@@ -233,6 +234,7 @@ public class SegmentedJournal<E> implements Journal<E> {
         .forEach(
             segment -> {
               log.debug("Closing segment: {}", segment);
+              segment.persistIndex();
               segment.close();
             });
     currentSegment = null;
@@ -256,6 +258,7 @@ public class SegmentedJournal<E> implements Journal<E> {
       segments.put(segment.descriptor().index(), segment);
       journalMetrics.incSegmentCount();
     }
+    final long loadDuration = System.currentTimeMillis() - startTime;
 
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
@@ -275,7 +278,18 @@ public class SegmentedJournal<E> implements Journal<E> {
       segments.put(1L, currentSegment);
       journalMetrics.incSegmentCount();
     }
-    journalMetrics.observeJournalOpenDuration(System.currentTimeMillis() - startTime);
+    final long openDuration = System.currentTimeMillis() - startTime;
+    journalMetrics.observeJournalOpenDuration(openDuration);
+    journalMetrics.observeSegmentsLoadDuration(loadDuration);
+    log.info(
+        "Opened journal {} in {} ms. Loaded {} segments in {} ms, of which {} segments were read"
+            + " completely and {} segments had a persisted index.",
+        name,
+        openDuration,
+        segments.size(),
+        loadDuration,
+        segments.values().stream().filter(segment -> !segment.isIndexRestored()).count(),
+        segments.values().stream().filter(JournalSegment::isIndexRestored).count());
   }
 
   /**
@@ -450,6 +464,13 @@ public class SegmentedJournal<E> implements Journal<E> {
   JournalSegment<E> createSegment(final JournalSegmentDescriptor descriptor) {
     final File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
 
+    // an index file of a previous segment with the same ID doesn't belong to the new segment
+    try {
+      Files.deleteIfExists(new JournalSegmentFile(segmentFile).indexFile().toPath());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
     final RandomAccessFile raf;
     final FileChannel channel;
     try {
@@ -490,7 +511,7 @@ public class SegmentedJournal<E> implements Journal<E> {
   protected JournalSegment<E> newSegment(
       final JournalSegmentFile segmentFile, final JournalSegmentDescriptor descriptor) {
     return new JournalSegment<>(
-        segmentFile, descriptor, storageLevel, maxEntrySize, namespace, journalIndexFactory.get());
+        segmentFile, descriptor, storageLevel, maxEntrySize, codec, journalIndexFactory.get());
   }
 
   /** Loads a segment. */
@@ -697,6 +718,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     protected StorageLevel storageLevel = StorageLevel.DISK;
     protected File directory = new File(DEFAULT_DIRECTORY);
     protected Namespace namespace;
+    protected JournalCodec<E> codec;
     protected int maxSegmentSize = DEFAULT_MAX_SEGMENT_SIZE;
     protected int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
     protected int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
@@ -768,6 +790,18 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets the codec used to encode and decode journal entries, returning the builder for method
+     * chaining. If no codec is set, entries are serialized with the configured namespace.
+     *
+     * @param codec The journal entry codec.
+     * @return The journal builder.
+     */
+    public Builder<E> withCodec(final JournalCodec<E> codec) {
+      this.codec = checkNotNull(codec, "codec cannot be null");
+      return this;
+    }
+
     /**
      * Sets the maximum segment size in bytes, returning the builder for method chaining.
      *
@@ -854,7 +888,7 @@ public class SegmentedJournal<E> implements Journal<E> {
           name,
           storageLevel,
           directory,
-          namespace,
+          codec != null ? codec : new NamespaceJournalCodec<>(namespace),
           maxSegmentSize,
           maxEntrySize,
           maxEntriesPerSegment,
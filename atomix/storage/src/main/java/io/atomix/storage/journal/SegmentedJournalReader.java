@@ -18,6 +18,7 @@
 package io.atomix.storage.journal;
 
 import java.util.NoSuchElementException;
+import org.agrona.MutableDirectBuffer;
 
 /** Raft log reader. */
 public class SegmentedJournalReader<E> implements JournalReader<E> {
@@ -119,6 +120,12 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
     }
   }
 
+  @Override
+  public int copyCurrentFrame(final MutableDirectBuffer buffer, final int offset) {
+    // next() reads the entry with the current reader; only hasNext() moves on to the next segment
+    return currentReader.copyCurrentFrame(buffer, offset);
+  }
+
   @Override
   public void reset() {
     replaceCurrentSegment(journal.getFirstSegment());
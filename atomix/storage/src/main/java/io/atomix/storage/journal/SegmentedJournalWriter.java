@@ -18,6 +18,7 @@ package io.atomix.storage.journal;
 
 import io.atomix.storage.statistics.JournalMetrics;
 import java.nio.BufferOverflowException;
+import org.agrona.DirectBuffer;
 
 /** Raft log writer. */
 public class SegmentedJournalWriter<E> implements JournalWriter<E> {
@@ -78,6 +79,22 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
     }
   }
 
+  @Override
+  public <T extends E> Indexed<T> appendFrame(
+      final T entry, final DirectBuffer buffer, final int offset) {
+    try {
+      return currentWriter.appendFrame(entry, buffer, offset);
+    } catch (final BufferOverflowException e) {
+      if (currentSegment.index() == currentWriter.getNextIndex()) {
+        throw e;
+      }
+
+      journalMetrics.observeSegmentCreation(this::createNewSegment);
+
+      return currentWriter.appendFrame(entry, buffer, offset);
+    }
+  }
+
   @Override
   public void append(final Indexed<E> entry) {
     try {
@@ -145,6 +162,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   private void createNewSegment() {
     currentWriter.flush();
+    currentSegment.persistIndex();
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+/**
+ * A journal index whose entries can be persisted and restored, such that the index doesn't have to
+ * be rebuilt by reading all entries of the journal on startup.
+ *
+ * <p>Each indexed entry consists of the journal index, the position of the entry in the segment and
+ * an optional value, which the index derives from the entry itself.
+ */
+public interface RestorableJournalIndex extends JournalIndex {
+
+  /** The value of an indexed entry which has no additional value. */
+  long NO_VALUE = -1L;
+
+  /**
+   * Visits all indexed entries between the given indexes (both inclusive), in increasing order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer the consumer of the indexed entries
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
+  /**
+   * Adds an indexed entry which was previously visited by {@link #forEach(long, long,
+   * IndexEntryConsumer)}.
+   *
+   * @param index the index of the entry
+   * @param position the position of the entry in the segment
+   * @param value the value of the entry, or {@link #NO_VALUE}
+   */
+  void restore(long index, int position, long value);
+
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+
+    void accept(long index, int position, long value);
+  }
+}
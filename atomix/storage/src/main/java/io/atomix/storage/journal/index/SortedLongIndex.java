@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.util.Arrays;
+
+/**
+ * A sorted mapping of primitive long keys to long values, which is optimized for the access pattern
+ * of a journal index: entries are appended with increasing keys, removed from the tail on
+ * truncation and removed from the head on compaction.
+ *
+ * <p>The entries are stored in parallel arrays, which avoids boxing and node allocations. Lookups
+ * are done by binary search. Appending, truncating and compacting are O(1) amortized.
+ *
+ * <p>The entries are addressed by their slot, which is the offset of the entry from the first
+ * entry. The slots change on compaction.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class SortedLongIndex {
+
+  public static final int MISSING_SLOT = -1;
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private long[] keys;
+  private long[] values;
+  private int head;
+  private int tail;
+
+  public SortedLongIndex() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public SortedLongIndex(final int initialCapacity) {
+    final int capacity = Math.max(1, initialCapacity);
+    keys = new long[capacity];
+    values = new long[capacity];
+  }
+
+  /**
+   * Adds the given entry to the index, or replaces the value if the key is already indexed. The
+   * index is optimized for appending keys in increasing order; inserting a smaller key has to move
+   * all entries with a greater key.
+   */
+  public void put(final long key, final long value) {
+    int slot = size();
+    if (tail > head && key <= keys[tail - 1]) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index >= 0) {
+        values[index] = value;
+        return;
+      }
+      slot = -index - 1 - head;
+    }
+
+    ensureCapacity();
+    final int index = head + slot;
+    if (index < tail) {
+      System.arraycopy(keys, index, keys, index + 1, tail - index);
+      System.arraycopy(values, index, values, index + 1, tail - index);
+    }
+    keys[index] = key;
+    values[index] = value;
+    tail += 1;
+  }
+
+  /**
+   * @return the slot of the entry with the greatest key less than or equal to the given key, or
+   *     {@link #MISSING_SLOT}
+   */
+  public int floor(final long key) {
+    return floorSlot(keys, key);
+  }
+
+  /**
+   * Same as {@link #floor(long)} but searches by value. This is only valid if the values increase
+   * with the keys.
+   *
+   * @return the slot of the entry with the greatest value less than or equal to the given value, or
+   *     {@link #MISSING_SLOT}
+   */
+  public int floorByValue(final long value) {
+    return floorSlot(values, value);
+  }
+
+  /**
+   * @return the slot of the entry with the greatest key strictly less than the given key, or {@link
+   *     #MISSING_SLOT}
+   */
+  public int lower(final long key) {
+    final int index = ceilingIndex(keys, key);
+    return index > head ? index - 1 - head : MISSING_SLOT;
+  }
+
+  /**
+   * @return the slot of the entry with the least key strictly greater than the given key, or {@link
+   *     #MISSING_SLOT}
+   */
+  public int higher(final long key) {
+    final int index = floorSlot(keys, key) + 1 + head;
+    return index < tail ? index - head : MISSING_SLOT;
+  }
+
+  public long keyAt(final int slot) {
+    return keys[toIndex(slot)];
+  }
+
+  public long valueAt(final int slot) {
+    return values[toIndex(slot)];
+  }
+
+  /** Removes the entry of the given slot and all entries after it. */
+  public void truncate(final int slot) {
+    tail = toIndex(slot);
+    if (tail == head) {
+      clear();
+    }
+  }
+
+  /** Removes all entries before the given slot. */
+  public void compact(final int slot) {
+    head = toIndex(slot);
+    if (tail == head) {
+      clear();
+    }
+  }
+
+  public void clear() {
+    head = 0;
+    tail = 0;
+  }
+
+  public int size() {
+    return tail - head;
+  }
+
+  public boolean isEmpty() {
+    return tail == head;
+  }
+
+  private int toIndex(final int slot) {
+    final int index = head + slot;
+    if (slot < 0 || index >= tail) {
+      throw new IndexOutOfBoundsException(
+          String.format("Expected slot to be in [0, %d), but was %d", size(), slot));
+    }
+    return index;
+  }
+
+  private int floorSlot(final long[] array, final long target) {
+    final int index = Arrays.binarySearch(array, head, tail, target);
+    final int floorIndex = index >= 0 ? index : -index - 2;
+    return floorIndex >= head ? floorIndex - head : MISSING_SLOT;
+  }
+
+  /** @return the array index of the first entry with a key greater than or equal to the key */
+  private int ceilingIndex(final long[] array, final long target) {
+    final int index = Arrays.binarySearch(array, head, tail, target);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private void ensureCapacity() {
+    if (tail < keys.length) {
+      return;
+    }
+
+    final int size = size();
+    if (size <= keys.length / 2) {
+      // the compacted head is large enough, reuse it instead of growing
+      System.arraycopy(keys, head, keys, 0, size);
+      System.arraycopy(values, head, values, 0, size);
+    } else {
+      final int capacity = keys.length * 2;
+      keys = Arrays.copyOfRange(keys, head, head + capacity);
+      values = Arrays.copyOfRange(values, head, head + capacity);
+    }
+
+    head = 0;
+    tail = size;
+  }
+}
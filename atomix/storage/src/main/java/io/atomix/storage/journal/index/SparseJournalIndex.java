@@ -17,15 +17,12 @@
 package io.atomix.storage.journal.index;
 
 import io.atomix.storage.journal.Indexed;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 
 /** Sparse index. */
-public class SparseJournalIndex implements JournalIndex {
+public class SparseJournalIndex implements RestorableJournalIndex {
 
   private final int density;
-  private final TreeMap<Long, Integer> positions = new TreeMap<>();
+  private final SortedLongIndex positions = new SortedLongIndex();
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -41,21 +38,46 @@ public class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Position lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = positions.floorEntry(index);
-    return entry != null ? new Position(entry.getKey(), entry.getValue()) : null;
+    final int slot = positions.floor(index);
+    return slot != SortedLongIndex.MISSING_SLOT
+        ? new Position(positions.keyAt(slot), (int) positions.valueAt(slot))
+        : null;
   }
 
   @Override
   public void truncate(final long index) {
-    positions.tailMap(index, false).clear();
+    final int slot = positions.higher(index);
+    if (slot != SortedLongIndex.MISSING_SLOT) {
+      positions.truncate(slot);
+    }
   }
 
   @Override
   public void compact(final long index) {
-    final Entry<Long, Integer> floorEntry = positions.floorEntry(index);
+    final int slot = positions.floor(index);
+    if (slot != SortedLongIndex.MISSING_SLOT) {
+      positions.compact(slot);
+    }
+  }
 
-    if (floorEntry != null) {
-      positions.headMap(floorEntry.getKey(), false).clear();
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    final int fromSlot = positions.higher(fromIndex - 1);
+    if (fromSlot == SortedLongIndex.MISSING_SLOT) {
+      return;
     }
+
+    for (int slot = fromSlot; slot < positions.size(); slot++) {
+      final long index = positions.keyAt(slot);
+      if (index > toIndex) {
+        break;
+      }
+      consumer.accept(index, (int) positions.valueAt(slot), NO_VALUE);
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long value) {
+    positions.put(index, position);
   }
 }
@@ -62,6 +62,15 @@ public class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge SEGMENTS_LOAD_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_segments_load_time")
+          .help(
+              "Time taken to load the existing segments and their indexes when opening the journal")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final String logName;
 
   public JournalMetrics(final String logName) {
@@ -84,6 +93,10 @@ public class JournalMetrics {
     JOURNAL_OPEN_DURATION.labels(logName).set(durationMillis);
   }
 
+  public void observeSegmentsLoadDuration(final long durationMillis) {
+    SEGMENTS_LOAD_DURATION.labels(logName).set(durationMillis);
+  }
+
   public void incSegmentCount() {
     SEGMENT_COUNT.labels(logName).inc();
   }
@@ -21,7 +21,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import io.atomix.storage.StorageException;
 import io.atomix.storage.StorageLevel;
 import io.atomix.storage.journal.JournalReader.Mode;
 import io.atomix.storage.journal.index.SparseJournalIndex;
@@ -34,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.ExpandableArrayBuffer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -82,10 +85,14 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() {
+    return createJournal(folder);
+  }
+
+  private SegmentedJournal<TestEntry> createJournal(final File directory) {
     final SparseJournalIndex index = new SparseJournalIndex(5);
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
-        .withDirectory(folder)
+        .withDirectory(directory)
         .withNamespace(NAMESPACE)
         .withStorageLevel(storageLevel())
         .withMaxSegmentSize(maxSegmentSize)
@@ -462,6 +469,76 @@ public abstract class AbstractJournalTest {
     }
   }
 
+  @Test
+  public void shouldAppendCopiedFrames() throws IOException {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final List<Indexed<TestEntry>> written = new ArrayList<>();
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      written.add(writer.append(getTestEntry(16)));
+    }
+
+    final ExpandableArrayBuffer frames = new ExpandableArrayBuffer();
+    final List<Integer> frameOffsets = new ArrayList<>();
+    int offset = 0;
+    try (final JournalReader<TestEntry> reader = journal.openReader(1, Mode.ALL)) {
+      while (reader.hasNext()) {
+        reader.next();
+        frameOffsets.add(offset);
+        offset += reader.copyCurrentFrame(frames, offset);
+      }
+    }
+
+    // when
+    try (final Journal<TestEntry> copy = createJournal(temporaryFolder.newFolder())) {
+      final JournalWriter<TestEntry> copyWriter = copy.writer();
+      for (int i = 0; i < written.size(); i++) {
+        copyWriter.appendFrame(written.get(i).entry(), frames, frameOffsets.get(i));
+      }
+
+      // then
+      try (final JournalReader<TestEntry> reader = copy.openReader(1, Mode.ALL)) {
+        for (final Indexed<TestEntry> entry : written) {
+          assertTrue(reader.hasNext());
+          final Indexed<TestEntry> copiedEntry = reader.next();
+          assertEquals(entry.index(), copiedEntry.index());
+          assertEquals(entry.checksum(), copiedEntry.checksum());
+          assertEquals(entry.entry(), copiedEntry.entry());
+        }
+        assertFalse(reader.hasNext());
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotAppendFrameWithInvalidChecksum() {
+    // given
+    final TestEntry entry = getTestEntry(16);
+    journal.writer().append(entry);
+
+    final ExpandableArrayBuffer frame = new ExpandableArrayBuffer();
+    try (final JournalReader<TestEntry> reader = journal.openReader(1, Mode.ALL)) {
+      reader.next();
+      reader.copyCurrentFrame(frame, 0);
+    }
+    frame.putByte(JournalFrame.HEADER_LENGTH, (byte) ~frame.getByte(JournalFrame.HEADER_LENGTH));
+
+    // when
+    try {
+      journal.writer().appendFrame(entry, frame, 0);
+      fail("Expected to reject the frame with an invalid checksum");
+    } catch (final StorageException.InvalidChecksum e) {
+      // expected
+    }
+
+    // then
+    assertEquals(1, journal.writer().getLastIndex());
+    try (final JournalReader<TestEntry> reader = journal.openReader(1, Mode.ALL)) {
+      reader.next();
+      assertFalse(reader.hasNext());
+    }
+  }
+
   private TestEntry getTestEntry(final int size) {
     final byte[] bytes = new byte[size];
     ThreadLocalRandom.current().nextBytes(bytes);
@@ -65,9 +65,13 @@ public class JournalSegmentWriterTest {
 
     final JournalIndex index = mock(JournalIndex.class);
     if ("FileChannelJournal".equals(journalType)) {
-      writer = new FileChannelJournalSegmentWriter<>(journalFile, segment, 1024, index, NAMESPACE);
+      writer =
+          new FileChannelJournalSegmentWriter<>(
+              journalFile, segment, 1024, index, new NamespaceJournalCodec<>(NAMESPACE), null);
     } else if ("MappedJournal".equals(journalType)) {
-      writer = new MappedJournalSegmentWriter<>(journalFile, segment, 1024, index, NAMESPACE);
+      writer =
+          new MappedJournalSegmentWriter<>(
+              journalFile, segment, 1024, index, new NamespaceJournalCodec<>(NAMESPACE), null);
     } else {
       throw new IllegalArgumentException(
           String.format("Failed to setup due to unknown journal type '%s'", journalType));
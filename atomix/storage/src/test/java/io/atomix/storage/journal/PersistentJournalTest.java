@@ -17,6 +17,7 @@
 package io.atomix.storage.journal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -59,4 +60,89 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  @Test
+  public void shouldRestorePersistedIndexOnReopen() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    journal = createJournal();
+
+    // then - every segment with an indexed entry (density 5) has restored its index
+    JournalSegment<TestEntry> segment = journal.getFirstSegment();
+    while (segment != null) {
+      final boolean hasIndexedEntry = segment.lastIndex() / 5 >= (segment.index() + 4) / 5;
+      assertEquals(hasIndexedEntry, segment.isIndexRestored());
+      segment = journal.getNextSegment(segment.index());
+    }
+    assertEquals(entriesPerSegment * 3, journal.writer().getLastIndex());
+    assertEntriesReadable(entriesPerSegment * 3);
+  }
+
+  @Test
+  public void shouldReadEntriesAppendedAfterIndexWasPersisted() {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+    journal = createJournal();
+    writer = journal.writer();
+
+    // when - the journal is not closed after appending, so the index is not persisted again
+    for (int i = 0; i < entriesPerSegment; i++) {
+      writer.append(ENTRY);
+    }
+    writer.flush();
+    journal = createJournal();
+
+    // then
+    assertEquals(entriesPerSegment * 3, journal.writer().getLastIndex());
+    assertEntriesReadable(entriesPerSegment * 3);
+  }
+
+  @Test
+  public void shouldDeletePersistedIndexOnTruncate() {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+    journal = createJournal();
+    writer = journal.writer();
+
+    // when
+    writer.truncate(1);
+
+    // then
+    assertFalse(journal.getFirstSegment().file().indexFile().exists());
+
+    for (int i = 1; i < entriesPerSegment * 2; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+    journal = createJournal();
+    assertEquals(entriesPerSegment * 2, journal.writer().getLastIndex());
+    assertEntriesReadable(entriesPerSegment * 2);
+  }
+
+  private void assertEntriesReadable(final long lastIndex) {
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (long index = 1; index <= lastIndex; index++) {
+      assertTrue(reader.hasNext());
+      assertEquals(index, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+
+    // seeking uses the restored index
+    reader.reset(lastIndex);
+    assertEquals(lastIndex, reader.next().index());
+  }
 }
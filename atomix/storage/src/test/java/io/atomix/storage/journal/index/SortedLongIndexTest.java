@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SortedLongIndexTest {
+
+  @Test
+  public void shouldFindFloorEntry() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex();
+    index.put(5, 50);
+    index.put(10, 100);
+
+    // then
+    assertEquals(SortedLongIndex.MISSING_SLOT, index.floor(4));
+    assertEquals(5, index.keyAt(index.floor(5)));
+    assertEquals(50, index.valueAt(index.floor(9)));
+    assertEquals(100, index.valueAt(index.floor(11)));
+  }
+
+  @Test
+  public void shouldFindFloorEntryByValue() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex();
+    index.put(5, 50);
+    index.put(10, 100);
+
+    // then
+    assertEquals(SortedLongIndex.MISSING_SLOT, index.floorByValue(49));
+    assertEquals(5, index.keyAt(index.floorByValue(99)));
+    assertEquals(10, index.keyAt(index.floorByValue(100)));
+  }
+
+  @Test
+  public void shouldFindLowerAndHigherEntry() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex();
+    index.put(5, 50);
+    index.put(10, 100);
+
+    // then
+    assertEquals(SortedLongIndex.MISSING_SLOT, index.lower(5));
+    assertEquals(5, index.keyAt(index.lower(10)));
+    assertEquals(10, index.keyAt(index.higher(5)));
+    assertEquals(SortedLongIndex.MISSING_SLOT, index.higher(10));
+  }
+
+  @Test
+  public void shouldReplaceValueOfExistingKey() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex();
+    index.put(5, 50);
+    index.put(10, 100);
+    index.put(15, 150);
+
+    // when
+    index.put(10, 101);
+
+    // then
+    assertEquals(3, index.size());
+    assertEquals(101, index.valueAt(index.floor(14)));
+    assertEquals(150, index.valueAt(index.floor(15)));
+  }
+
+  @Test
+  public void shouldInsertSmallerKey() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex(2);
+    index.put(20, 200);
+    index.put(30, 300);
+
+    // when
+    index.put(10, 100);
+    index.put(25, 250);
+
+    // then
+    assertEquals(4, index.size());
+    assertEquals(10, index.keyAt(0));
+    assertEquals(20, index.keyAt(1));
+    assertEquals(25, index.keyAt(2));
+    assertEquals(30, index.keyAt(3));
+    assertEquals(250, index.valueAt(index.floor(29)));
+  }
+
+  @Test
+  public void shouldTruncateAndCompact() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex();
+    for (int i = 1; i <= 10; i++) {
+      index.put(i * 5, i);
+    }
+
+    // when
+    index.truncate(index.higher(40));
+    index.compact(index.floor(12));
+
+    // then
+    assertEquals(7, index.size());
+    assertEquals(10, index.keyAt(0));
+    assertEquals(40, index.keyAt(6));
+    assertEquals(SortedLongIndex.MISSING_SLOT, index.floor(9));
+  }
+
+  @Test
+  public void shouldBeEmptyAfterTruncatingAllEntries() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex();
+    index.put(5, 50);
+    index.put(10, 100);
+
+    // when
+    index.truncate(0);
+
+    // then
+    assertTrue(index.isEmpty());
+    assertEquals(SortedLongIndex.MISSING_SLOT, index.floor(10));
+  }
+
+  @Test
+  public void shouldKeepEntriesWhenGrowingAfterCompaction() {
+    // given
+    final SortedLongIndex index = new SortedLongIndex(4);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      index.put(i, i * 10);
+      if (i % 3 == 0) {
+        index.compact(index.floor(i - 2 < 0 ? 0 : i - 2));
+      }
+    }
+
+    // then
+    assertEquals(97, index.keyAt(0));
+    assertEquals(3, index.size());
+    assertEquals(990, index.valueAt(index.floor(99)));
+  }
+}
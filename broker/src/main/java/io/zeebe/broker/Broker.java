@@ -121,6 +121,7 @@ public final class Broker implements AutoCloseable {
   private TopologyManagerImpl topologyManager;
   private LeaderManagementRequestHandler managementRequestHandler;
   private CommandApiService commandHandler;
+  private SubscriptionApiCommandMessageHandlerService subscriptionApiService;
   private ActorScheduler scheduler;
   private CloseProcess closeProcess;
   private EmbeddedGatewayService embeddedGatewayService;
@@ -311,12 +312,11 @@ public final class Broker implements AutoCloseable {
   }
 
   private AutoCloseable subscriptionAPIStep(final BrokerInfo localBroker) {
-    final SubscriptionApiCommandMessageHandlerService messageHandlerService =
-        new SubscriptionApiCommandMessageHandlerService(localBroker, atomix);
-    partitionListeners.add(messageHandlerService);
-    scheduleActor(messageHandlerService);
-    diskSpaceUsageListeners.add(messageHandlerService);
-    return messageHandlerService;
+    subscriptionApiService = new SubscriptionApiCommandMessageHandlerService(localBroker, atomix);
+    partitionListeners.add(subscriptionApiService);
+    scheduleActor(subscriptionApiService);
+    diskSpaceUsageListeners.add(subscriptionApiService);
+    return subscriptionApiService;
   }
 
   private void addDiskSpaceUsageListeners() {
@@ -459,7 +459,13 @@ public final class Broker implements AutoCloseable {
               clusterCfg, atomix, partitionListener, zeebeState.getDeploymentState(), actor);
 
       final PartitionCommandSenderImpl partitionCommandSender =
-          new PartitionCommandSenderImpl(atomix, topologyManager, actor);
+          new PartitionCommandSenderImpl(
+              atomix,
+              topologyManager,
+              actor,
+              stream.getPartitionId(),
+              clusterCfg.getNodeId(),
+              subscriptionApiService::handleLocalCommandBatch);
       final SubscriptionCommandSender subscriptionCommandSender =
           new SubscriptionCommandSender(stream.getPartitionId(), partitionCommandSender);
 
@@ -467,7 +473,8 @@ public final class Broker implements AutoCloseable {
           requestHandler.getPushDeploymentRequestHandler();
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(
+              atomix.getEventService(), stream.getPartitionId(), actor);
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
@@ -109,9 +109,13 @@ public final class AtomixFactory {
             .withSnapshotStoreFactory(snapshotStoreFactory)
             .withMaxAppendBatchSize((int) experimentalCfg.getMaxAppendBatchSizeInBytes())
             .withMaxAppendsPerFollower(experimentalCfg.getMaxAppendsPerFollower())
+            .withAppendWindowSize((int) experimentalCfg.getAppendWindowSizeInBytes())
+            .withFramedEntryReplication(experimentalCfg.isFramedEntryReplication())
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
+            .withFollowerFlushDelay(experimentalCfg.getFollowerFlushDelay())
+            .withFollowerFlushBatchSize((int) experimentalCfg.getFollowerFlushBatchSizeInBytes())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark());
 
     // by default, the Atomix max entry size is 1 MB
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.prometheus.client.Counter;
+
+public final class JobNotificationMetrics {
+
+  private static final Counter NOTIFICATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("job_available_notifications_total")
+          .help("Number of jobs available notifications, either sent to the gateways or coalesced")
+          .labelNames("partition", "action")
+          .register();
+
+  private static final String SENT = "sent";
+  private static final String COALESCED = "coalesced";
+
+  private final String partitionIdLabel;
+
+  public JobNotificationMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void notificationSent() {
+    NOTIFICATIONS.labels(partitionIdLabel, SENT).inc();
+  }
+
+  public void notificationCoalesced() {
+    NOTIFICATIONS.labels(partitionIdLabel, COALESCED).inc();
+  }
+}
@@ -8,16 +8,71 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.protocol.impl.JobsAvailableNotification;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import org.agrona.collections.Object2IntHashMap;
 
+/**
+ * Notifies the gateways that jobs of a type became available on this partition. The notification
+ * is published on the topic of the job type, so it only reaches gateways which wait for jobs of
+ * that type.
+ *
+ * <p>At most one notification per job type is sent within {@link #NOTIFICATION_INTERVAL}. Further
+ * notifications within the interval are coalesced and sent as one when the interval elapses.
+ *
+ * <p>Each notification is also published on the {@link JobsAvailableNotification#LEGACY_TOPIC},
+ * which gateways of the previous version subscribe to, so they keep working during a rolling
+ * update.
+ *
+ * <p>Must only be used from the actor of the partition's stream processor.
+ */
 public final class LongPollingJobNotification {
-  private static final String TOPIC = "jobsAvailable";
+
+  static final Duration NOTIFICATION_INTERVAL = Duration.ofMillis(50);
+  private static final int NO_INTERVAL = -1;
+
   private final ClusterEventService eventService;
+  private final int partitionId;
+  private final ActorControl actor;
+  private final JobNotificationMetrics metrics;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  // job type -> number of coalesced notifications within the current interval
+  private final Object2IntHashMap<String> coalescedNotifications =
+      new Object2IntHashMap<>(NO_INTERVAL);
+
+  public LongPollingJobNotification(
+      final ClusterEventService eventService, final int partitionId, final ActorControl actor) {
     this.eventService = eventService;
+    this.partitionId = partitionId;
+    this.actor = actor;
+    metrics = new JobNotificationMetrics(partitionId);
   }
 
   public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+    final int coalesced = coalescedNotifications.getValue(jobType);
+    if (coalesced == NO_INTERVAL) {
+      sendNotification(jobType, 1);
+    } else {
+      coalescedNotifications.put(jobType, coalesced + 1);
+      metrics.notificationCoalesced();
+    }
+  }
+
+  private void sendNotification(final String jobType, final int count) {
+    final var notification = new JobsAvailableNotification(jobType, partitionId, count);
+    eventService.broadcast(JobsAvailableNotification.topicOf(jobType), notification.encode());
+    eventService.broadcast(JobsAvailableNotification.LEGACY_TOPIC, jobType);
+    metrics.notificationSent();
+
+    coalescedNotifications.put(jobType, 0);
+    actor.runDelayed(NOTIFICATION_INTERVAL, () -> onIntervalElapsed(jobType));
+  }
+
+  private void onIntervalElapsed(final String jobType) {
+    final int coalesced = coalescedNotifications.removeKey(jobType);
+    if (coalesced > 0) {
+      sendNotification(jobType, coalesced);
+    }
   }
 }
@@ -8,44 +8,198 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.clustering.topology.TopologyManager;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.engine.processing.message.command.PartitionCommandSender;
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatch;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
-import org.agrona.MutableDirectBuffer;
+import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Sends subscription commands to the leaders of other partitions. The commands for a partition are
+ * collected and sent as one batch, either after a short delay or once the batch grows too large.
+ * Batches for partitions which are led by this broker are handed over to the local subscription API
+ * directly, instead of being sent through the messaging service.
+ *
+ * <p>Brokers of older versions don't handle batches. If a broker has no handler for batches, the
+ * commands are sent to it one by one for a while, before trying to send batches again.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
-  private final Atomix atomix;
+  private static final Duration FLUSH_DELAY = Duration.ofMillis(1);
+  private static final Duration UNBATCHED_PERIOD = Duration.ofMinutes(1);
+  private static final int MAX_BATCH_SIZE = 32 * 1024;
+  private static final long NO_DEADLINE = -1L;
 
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> pendingBatches =
+      new Int2ObjectHashMap<>();
+  private final Deque<SubscriptionCommandBatch> spareBatches = new ArrayDeque<>();
+  private final Long2LongHashMap unbatchedDeadlines = new Long2LongHashMap(NO_DEADLINE);
+  private final Atomix atomix;
+  private final ActorControl actor;
+  private final int localNodeId;
+  private final Function<DirectBuffer, CompletableFuture<Void>> localReceiver;
+  private final PartitionCommandSenderMetrics metrics;
   private final TopologyPartitionListenerImpl partitionListener;
+  private ScheduledTimer flushTimer;
 
   public PartitionCommandSenderImpl(
-      final Atomix atomix, final TopologyManager topologyManager, final ActorControl actor) {
+      final Atomix atomix,
+      final TopologyManager topologyManager,
+      final ActorControl actor,
+      final int partitionId,
+      final int localNodeId,
+      final Function<DirectBuffer, CompletableFuture<Void>> localReceiver) {
     this.atomix = atomix;
+    this.actor = actor;
+    this.localNodeId = localNodeId;
+    this.localReceiver = localReceiver;
+    metrics = new PartitionCommandSenderMetrics(partitionId);
     partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
   }
 
+  @Override
   public boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
 
     final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
     if (!partitionLeaders.containsKey(receiverPartitionId)) {
       return true;
     }
+
+    final SubscriptionCommandBatch batch =
+        pendingBatches.computeIfAbsent(receiverPartitionId, p -> newBatch());
+    batch.add(command);
+    metrics.commandSent();
+
+    if (batch.getLength() >= MAX_BATCH_SIZE) {
+      sendBatch(receiverPartitionId, batch);
+    } else if (flushTimer == null) {
+      flushTimer = actor.runDelayed(FLUSH_DELAY, this::sendPendingBatches);
+    }
+    return true;
+  }
+
+  private void sendPendingBatches() {
+    flushTimer = null;
+    pendingBatches.forEach(
+        (partitionId, batch) -> {
+          if (!batch.isEmpty()) {
+            sendBatch(partitionId, batch);
+          }
+        });
+  }
+
+  private void sendBatch(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
+    // the leader may have changed since the commands were added, the commands are resent by the
+    // engine if they get lost
+    final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
+    if (!partitionLeaders.containsKey(receiverPartitionId)) {
+      batch.reset();
+      return;
+    }
+
     final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+    if (partitionLeader == localNodeId) {
+      deliverLocally(receiverPartitionId, batch);
+    } else if (shouldSendUnbatched(partitionLeader)) {
+      sendCommands(partitionLeader, batch.getBuffer());
+      batch.reset();
+    } else {
+      sendBatchRemotely(partitionLeader, batch.toByteArray());
+      batch.reset();
+    }
+  }
 
-    final byte bytes[] = new byte[command.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    command.write(buffer, 0);
+  private void deliverLocally(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
+    // the subscription API reads the commands from the batch's buffer, so the batch is replaced
+    // until the commands are applied; replacing the value of an existing key is safe while
+    // iterating over the pending batches
+    pendingBatches.put(receiverPartitionId, newBatch());
 
+    localReceiver
+        .apply(batch.getBuffer())
+        .whenComplete((nothing, error) -> actor.run(() -> recycleBatch(batch)));
+    metrics.batchDeliveredLocally();
+  }
+
+  private void sendBatchRemotely(final int partitionLeader, final byte[] batch) {
     atomix
         .getCommunicationService()
-        .send("subscription", bytes, MemberId.from("" + partitionLeader));
-    return true;
+        .send(
+            SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_BATCH_TOPIC,
+            batch,
+            MemberId.from("" + partitionLeader))
+        .whenComplete(
+            (nothing, error) -> {
+              if (error != null && isMissingHandler(error)) {
+                actor.run(() -> onBatchesNotSupported(partitionLeader, batch));
+              }
+            });
+    metrics.batchSentRemotely();
+  }
+
+  private void onBatchesNotSupported(final int partitionLeader, final byte[] batch) {
+    unbatchedDeadlines.put(
+        partitionLeader, ActorClock.currentTimeMillis() + UNBATCHED_PERIOD.toMillis());
+    sendCommands(partitionLeader, new UnsafeBuffer(batch));
+  }
+
+  private boolean shouldSendUnbatched(final int partitionLeader) {
+    final long deadline = unbatchedDeadlines.get(partitionLeader);
+    if (deadline == NO_DEADLINE) {
+      return false;
+    } else if (deadline <= ActorClock.currentTimeMillis()) {
+      // the broker may have been updated in the meantime
+      unbatchedDeadlines.remove(partitionLeader);
+      return false;
+    } else {
+      return true;
+    }
+  }
+
+  private void sendCommands(final int partitionLeader, final DirectBuffer batch) {
+    final MemberId receiver = MemberId.from("" + partitionLeader);
+    SubscriptionCommandBatch.forEachCommand(
+        batch,
+        (buffer, offset, length) -> {
+          final byte[] command = new byte[length];
+          buffer.getBytes(offset, command);
+          atomix
+              .getCommunicationService()
+              .send(
+                  SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_TOPIC,
+                  command,
+                  receiver);
+        });
+    metrics.batchSentUnbatched();
+  }
+
+  private static boolean isMissingHandler(final Throwable error) {
+    return error instanceof NoRemoteHandler || error.getCause() instanceof NoRemoteHandler;
+  }
+
+  private SubscriptionCommandBatch newBatch() {
+    final SubscriptionCommandBatch batch = spareBatches.poll();
+    return batch != null ? batch : new SubscriptionCommandBatch();
+  }
+
+  private void recycleBatch(final SubscriptionCommandBatch batch) {
+    batch.reset();
+    spareBatches.push(batch);
   }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.prometheus.client.Counter;
+
+public final class PartitionCommandSenderMetrics {
+
+  private static final Counter SENT_COMMANDS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("subscription_commands_sent_total")
+          .help("Number of subscription commands sent to other partitions")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter SENT_BATCHES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("subscription_command_batches_sent_total")
+          .help("Number of batches of subscription commands sent to other partitions")
+          .labelNames("partition", "delivery")
+          .register();
+
+  private static final String LOCAL_DELIVERY = "local";
+  private static final String REMOTE_DELIVERY = "remote";
+  private static final String UNBATCHED_DELIVERY = "unbatched";
+
+  private final String partitionIdLabel;
+
+  public PartitionCommandSenderMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void commandSent() {
+    SENT_COMMANDS.labels(partitionIdLabel).inc();
+  }
+
+  public void batchDeliveredLocally() {
+    SENT_BATCHES.labels(partitionIdLabel, LOCAL_DELIVERY).inc();
+  }
+
+  public void batchSentRemotely() {
+    SENT_BATCHES.labels(partitionIdLabel, REMOTE_DELIVERY).inc();
+  }
+
+  public void batchSentUnbatched() {
+    SENT_BATCHES.labels(partitionIdLabel, UNBATCHED_DELIVERY).inc();
+  }
+}
@@ -19,24 +19,28 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
 public final class SubscriptionApiCommandMessageHandlerService extends Actor
     implements PartitionListener, DiskSpaceUsageListener {
 
-  private static final String SUBSCRIPTION_TOPIC = "subscription";
+  static final String SUBSCRIPTION_BATCH_TOPIC = "subscription-batch";
+  static final String SUBSCRIPTION_TOPIC = "subscription";
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
       new Int2ObjectHashMap<>();
   private final Atomix atomix;
   private final String actorName;
-  private SubscriptionCommandMessageHandler messageHandler;
+  private final SubscriptionCommandMessageHandler messageHandler;
+  private volatile boolean diskSpaceAvailable = true;
 
   public SubscriptionApiCommandMessageHandlerService(
       final BrokerInfo localBroker, final Atomix atomix) {
     this.atomix = atomix;
     actorName = buildActorName(localBroker.getNodeId(), "SubscriptionApi");
+    messageHandler = new SubscriptionCommandMessageHandler(actor::call, leaderPartitions::get);
   }
 
   @Override
@@ -46,8 +50,20 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
 
   @Override
   protected void onActorStarting() {
-    messageHandler = new SubscriptionCommandMessageHandler(actor::call, leaderPartitions::get);
-    atomix.getCommunicationService().subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+    subscribe();
+  }
+
+  /**
+   * Handles a batch of commands which was sent by a partition of this broker, without going through
+   * the messaging service. Can be called from any thread. The batch must not be modified until the
+   * returned future is completed.
+   */
+  public CompletableFuture<Void> handleLocalCommandBatch(final DirectBuffer batch) {
+    if (diskSpaceAvailable) {
+      return messageHandler.applyBatch(batch);
+    } else {
+      return CompletableFuture.completedFuture(null);
+    }
   }
 
   @Override
@@ -99,11 +115,16 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
           LOG.debug(
               "Broker is out of disk space. All requests with topic {} will be rejected.",
               SUBSCRIPTION_TOPIC);
+          diskSpaceAvailable = false;
           atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_TOPIC);
+          atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_BATCH_TOPIC);
           atomix
               .getCommunicationService()
               // SubscriptionMessageHandler does not send any response
               .subscribe(SUBSCRIPTION_TOPIC, b -> CompletableFuture.completedFuture(null));
+          atomix
+              .getCommunicationService()
+              .subscribe(SUBSCRIPTION_BATCH_TOPIC, b -> CompletableFuture.completedFuture(null));
         });
   }
 
@@ -115,7 +136,16 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
               "Broker has disk space available again. All requests with topic {} will be accepted.",
               SUBSCRIPTION_TOPIC);
           atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_TOPIC);
-          atomix.getCommunicationService().subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+          atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_BATCH_TOPIC);
+          subscribe();
+          diskSpaceAvailable = true;
         });
   }
+
+  private void subscribe() {
+    atomix.getCommunicationService().subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+    atomix
+        .getCommunicationService()
+        .subscribe(SUBSCRIPTION_BATCH_TOPIC, (byte[] batch) -> messageHandler.applyBatch(batch));
+  }
 }
@@ -11,6 +11,7 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.broker.exporter.context.ExporterContext;
 import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.exporter.api.BatchExporter;
 import io.zeebe.exporter.api.Exporter;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
@@ -19,6 +20,8 @@ import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.record.Record;
 import io.zeebe.util.sched.ActorControl;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 
 final class ExporterContainer implements Controller {
@@ -30,7 +33,10 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final List<Record<?>> batchRecords = new ArrayList<>();
   private long position;
+  // the number of records of the current batch which were already passed to a non-batch exporter
+  private int batchProgress;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
   private ExporterMetrics metrics;
@@ -138,20 +144,77 @@ final class ExporterContainer implements Controller {
 
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
     try {
-      if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
-          export(typedEvent);
-        } else {
-          updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
+      exportOrSkip(rawMetadata, typedEvent);
+      return true;
+    } catch (final Exception ex) {
+      context.getLogger().warn("Error on exporting record with key {}", typedEvent.getKey(), ex);
+      return false;
+    }
+  }
+
+  private void exportOrSkip(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+    if (position < typedEvent.getPosition()) {
+      if (acceptRecord(rawMetadata)) {
+        export(typedEvent);
+      } else {
+        updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
+      }
+    }
+  }
+
+  /** Must be called before a new batch is passed to {@link #exportBatch(RecordBatch)}. */
+  void startBatch() {
+    batchProgress = 0;
+  }
+
+  /**
+   * Exports the records of the batch which are accepted by the exporter. A {@link BatchExporter}
+   * receives them with a single call, any other exporter one by one. If exporting fails, calling
+   * this again continues with the record which failed.
+   *
+   * @return true if all records of the batch are exported
+   */
+  boolean exportBatch(final RecordBatch batch) {
+    try {
+      if (exporter instanceof BatchExporter) {
+        exportBatch((BatchExporter) exporter, batch);
+      } else {
+        while (batchProgress < batch.size()) {
+          exportOrSkip(batch.getMetadata(batchProgress), batch.getRecord(batchProgress));
+          batchProgress += 1;
         }
       }
       return true;
     } catch (final Exception ex) {
-      context.getLogger().warn("Error on exporting record with key {}", typedEvent.getKey(), ex);
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of records up to position {}", batch.getLastPosition(), ex);
       return false;
     }
   }
 
+  private void exportBatch(final BatchExporter batchExporter, final RecordBatch batch) {
+    batchRecords.clear();
+    for (int i = 0; i < batch.size(); i++) {
+      final TypedRecord record = batch.getRecord(i);
+      if (position < record.getPosition()) {
+        if (acceptRecord(batch.getMetadata(i))) {
+          batchRecords.add(record);
+        } else if (batchRecords.isEmpty()) {
+          // no record was passed to the exporter before this one
+          updatePositionOnSkipIfUpToDate(record.getPosition());
+        }
+      }
+    }
+
+    if (!batchRecords.isEmpty()) {
+      batchExporter.exportBatch(batchRecords);
+      lastUnacknowledgedPosition = batchRecords.get(batchRecords.size() - 1).getPosition();
+      batchRecords.clear();
+    }
+  }
+
   private void export(final Record<?> record) {
     exporter.export(record);
     lastUnacknowledgedPosition = record.getPosition();
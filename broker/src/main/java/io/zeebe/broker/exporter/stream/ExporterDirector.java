@@ -30,6 +30,7 @@ import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -37,17 +38,35 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
+/**
+ * Reads the log and passes the records to the configured exporters.
+ *
+ * <p>By default, all exporters are driven by a single reader: a record is passed to all exporters
+ * before the next record is read, so an exporter which fails to export a record stops all others.
+ * With independent exporters, the director starts one director per exporter instead. Each of them
+ * reads the log on its own actor and continues from the exporter's own position, so exporters only
+ * wait for each other if the configured maximum lag is reached.
+ *
+ * <p>If the maximum export batch size is greater than one, the director reads up to that many
+ * records before passing them to the exporters. Exporters which implement {@link
+ * io.zeebe.exporter.api.BatchExporter} receive them with a single call.
+ */
 public final class ExporterDirector extends Actor {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
       "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_BATCH_EXPORTING_ABORTED =
+      "Expected to export batch of records up to position {} successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final Duration MAX_LAG_BACKOFF = Duration.ofMillis(100);
+  private static final int NO_EXPORTER_INDEX = -1;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
   private final LogStream logStream;
@@ -57,6 +76,15 @@ public final class ExporterDirector extends Actor {
   private final String name;
   private final RetryStrategy exportingRetryStrategy;
   private final RetryStrategy recordWrapStrategy;
+  // the directors of the independent exporters, empty if the exporters share this director
+  private final List<ExporterDirector> independentDirectors;
+  private final ExporterLagTracker lagTracker;
+  private final int exporterIndex;
+  // null if the records are exported one by one
+  private final RecordBatch recordBatch;
+  private final RecordMetadata skippedMetadata = new RecordMetadata();
+  private int batchExporterIndex;
+  private ActorScheduler actorScheduler;
   private LogStreamReader logStreamReader;
   private EventFilter eventFilter;
   private ExportersState state;
@@ -64,6 +92,7 @@ public final class ExporterDirector extends Actor {
   private ActorCondition onCommitPositionUpdatedCondition;
   private boolean inExportingPhase;
   private boolean isPaused;
+  private boolean isWaitingOnSlowerExporters;
   private ExporterPhase exporterPhase;
 
   public ExporterDirector(final ExporterDirectorContext context, final boolean shouldPauseOnStart) {
@@ -79,9 +108,46 @@ public final class ExporterDirector extends Actor {
     recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
     isPaused = shouldPauseOnStart;
+    exporterIndex = NO_EXPORTER_INDEX;
+    recordBatch =
+        context.getMaxExportBatchSize() > 1
+            ? new RecordBatch(
+                partitionId, context.getMaxExportBatchSize(), context.getMaxExportBatchBytes())
+            : null;
+
+    if (context.isIndependentExporters() && containers.size() > 1) {
+      lagTracker = new ExporterLagTracker(containers.size(), context.getMaxExporterLag());
+      independentDirectors =
+          IntStream.range(0, containers.size())
+              .mapToObj(index -> new ExporterDirector(this, index))
+              .collect(Collectors.toList());
+    } else {
+      lagTracker = null;
+      independentDirectors = List.of();
+    }
+  }
+
+  private ExporterDirector(final ExporterDirector parent, final int exporterIndex) {
+    final ExporterContainer container = parent.containers.get(exporterIndex);
+    name = parent.name + "-" + container.getId();
+    containers = List.of(container);
+
+    logStream = parent.logStream;
+    metrics = parent.metrics;
+    recordExporter = new RecordExporter(metrics, containers, logStream.getPartitionId());
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    zeebeDb = parent.zeebeDb;
+    isPaused = parent.isPaused;
+
+    independentDirectors = List.of();
+    lagTracker = parent.lagTracker;
+    this.exporterIndex = exporterIndex;
+    recordBatch = parent.recordBatch == null ? null : parent.recordBatch.newEmptyBatch();
   }
 
   public ActorFuture<Void> startAsync(final ActorScheduler actorScheduler) {
+    this.actorScheduler = actorScheduler;
     return actorScheduler.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -90,6 +156,10 @@ public final class ExporterDirector extends Actor {
   }
 
   public ActorFuture<Void> pauseExporting() {
+    if (!independentDirectors.isEmpty()) {
+      return forEachIndependentDirector(ExporterDirector::pauseExporting, ExporterPhase.PAUSED);
+    }
+
     return actor.call(
         () -> {
           isPaused = true;
@@ -99,6 +169,10 @@ public final class ExporterDirector extends Actor {
   }
 
   public ActorFuture<Void> resumeExporting() {
+    if (!independentDirectors.isEmpty()) {
+      return forEachIndependentDirector(ExporterDirector::resumeExporting, ExporterPhase.EXPORTING);
+    }
+
     return actor.call(
         () -> {
           isPaused = false;
@@ -108,6 +182,32 @@ public final class ExporterDirector extends Actor {
         });
   }
 
+  private ActorFuture<Void> forEachIndependentDirector(
+      final Function<ExporterDirector, ActorFuture<Void>> action, final ExporterPhase phase) {
+    final CompletableActorFuture<Void> result = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          isPaused = phase == ExporterPhase.PAUSED;
+          exporterPhase = phase;
+
+          final List<ActorFuture<Void>> futures = new ArrayList<>();
+          for (final ExporterDirector director : independentDirectors) {
+            futures.add(action.apply(director));
+          }
+
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
+        });
+    return result;
+  }
+
   public ActorFuture<ExporterPhase> getPhase() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExporterPhase.CLOSED);
@@ -122,6 +222,11 @@ public final class ExporterDirector extends Actor {
 
   @Override
   protected void onActorStarting() {
+    if (!independentDirectors.isEmpty()) {
+      startIndependentDirectors();
+      return;
+    }
+
     final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
     actor.runOnCompletionBlockingCurrentPhase(
         newReaderFuture,
@@ -141,8 +246,30 @@ public final class ExporterDirector extends Actor {
         });
   }
 
+  private void startIndependentDirectors() {
+    for (final ExporterDirector director : independentDirectors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          actorScheduler.submitActor(director, SchedulingHints.ioBound()),
+          (nothing, error) -> {
+            if (error != null) {
+              LOG.error("Failed to start exporter director '{}'", director.getName(), error);
+              actor.close();
+            }
+          });
+    }
+  }
+
   @Override
   protected void onActorStarted() {
+    if (!independentDirectors.isEmpty()) {
+      // the independent directors recover and open their exporters themselves
+      state = new ExportersState(zeebeDb, zeebeDb.createContext());
+      clearExporterState();
+      isOpened.set(true);
+      exporterPhase = isPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+      return;
+    }
+
     try {
       LOG.debug("Recovering exporter from snapshot");
       recoverFromSnapshot();
@@ -166,7 +293,19 @@ public final class ExporterDirector extends Actor {
 
   @Override
   protected void onActorClosing() {
-    logStreamReader.close();
+    for (final ExporterDirector director : independentDirectors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          director.closeAsync(),
+          (nothing, error) -> {
+            if (error != null) {
+              LOG.error("Failed to close exporter director '{}'", director.getName(), error);
+            }
+          });
+    }
+
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
     if (onCommitPositionUpdatedCondition != null) {
       logStream.removeOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
       onCommitPositionUpdatedCondition = null;
@@ -182,13 +321,22 @@ public final class ExporterDirector extends Actor {
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    if (independentDirectors.isEmpty()) {
+      containers.forEach(ExporterContainer::close);
+    }
+  }
+
+  private boolean isIndependentExporter() {
+    return exporterIndex != NO_EXPORTER_INDEX;
   }
 
   private void recoverFromSnapshot() {
     state = new ExportersState(zeebeDb, zeebeDb.createContext());
 
-    final long snapshotPosition = state.getLowestPosition();
+    final long snapshotPosition =
+        isIndependentExporter()
+            ? state.getPosition(containers.get(0).getId())
+            : state.getLowestPosition();
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
@@ -240,7 +388,11 @@ public final class ExporterDirector extends Actor {
       container.openExporter();
     }
 
-    clearExporterState();
+    if (isIndependentExporter()) {
+      lagTracker.setPosition(exporterIndex, containers.get(0).getPosition());
+    } else {
+      clearExporterState();
+    }
 
     if (state.hasExporters()) {
       if (!isPaused) {
@@ -268,11 +420,32 @@ public final class ExporterDirector extends Actor {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
 
+    onEventRead(currentEvent.getPosition(), currentEvent.getLength());
     actor.submit(this::readNextEvent);
   }
 
+  private void onEventRead(final long position, final int length) {
+    if (isIndependentExporter()) {
+      lagTracker.onRecordRead(exporterIndex, position, length);
+      metrics.setExporterLag(
+          containers.get(0).getId(),
+          lagTracker.getPositionLag(exporterIndex),
+          lagTracker.getBytesLag(exporterIndex));
+    }
+  }
+
   private void readNextEvent() {
     if (shouldExport()) {
+      if (isIndependentExporter() && lagTracker.exceedsMaxLag(exporterIndex)) {
+        waitOnSlowerExporters();
+        return;
+      }
+
+      if (recordBatch != null) {
+        readNextBatch();
+        return;
+      }
+
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         inExportingPhase = true;
@@ -283,8 +456,42 @@ public final class ExporterDirector extends Actor {
     }
   }
 
+  private void readNextBatch() {
+    while (!recordBatch.isFull() && logStreamReader.hasNext()) {
+      final LoggedEvent event = logStreamReader.next();
+      final boolean added =
+          (eventFilter == null || eventFilter.applies(event)) && recordBatch.add(event);
+      if (!added) {
+        event.readMetadata(skippedMetadata);
+        metrics.eventSkipped(skippedMetadata.getValueType());
+        recordBatch.skip(event);
+      }
+    }
+
+    if (recordBatch.isEmpty()) {
+      onBatchExported();
+    } else {
+      inExportingPhase = true;
+      exportBatch();
+    }
+  }
+
   private boolean shouldExport() {
-    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
+    return isOpened.get()
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && !isPaused
+        && !isWaitingOnSlowerExporters;
+  }
+
+  private void waitOnSlowerExporters() {
+    isWaitingOnSlowerExporters = true;
+    actor.runDelayed(
+        MAX_LAG_BACKOFF,
+        () -> {
+          isWaitingOnSlowerExporters = false;
+          readNextEvent();
+        });
   }
 
   private void exportEvent(final LoggedEvent event) {
@@ -312,6 +519,7 @@ public final class ExporterDirector extends Actor {
                   onFailure();
                 } else {
                   metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  onEventRead(event.getPosition(), event.getLength());
                   inExportingPhase = false;
                   actor.submit(this::readNextEvent);
                 }
@@ -319,6 +527,61 @@ public final class ExporterDirector extends Actor {
         });
   }
 
+  private void exportBatch() {
+    batchExporterIndex = 0;
+    containers.forEach(ExporterContainer::startBatch);
+
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(this::exportRecordBatch, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_BATCH_EXPORTING_ABORTED, recordBatch.getLastPosition(), throwable);
+            onFailure();
+          } else {
+            for (int i = 0; i < recordBatch.size(); i++) {
+              metrics.eventExported(recordBatch.getRecord(i).getValueType());
+            }
+            onBatchExported();
+          }
+        });
+  }
+
+  private boolean exportRecordBatch() {
+    // current error handling strategy is simply to repeat forever until the batch can be
+    // successfully exported; exporters which already exported the batch are not called again
+    while (batchExporterIndex < containers.size()) {
+      final ExporterContainer container = containers.get(batchExporterIndex);
+
+      if (container.exportBatch(recordBatch)) {
+        batchExporterIndex++;
+        metrics.setLastExportedPosition(container.getId(), recordBatch.getLastPosition());
+      } else {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void onBatchExported() {
+    // increase position of all up to date exporters, see skipRecord
+    final long lastSkippedPosition = recordBatch.getLastSkippedPosition();
+    if (lastSkippedPosition >= 0) {
+      for (final ExporterContainer container : containers) {
+        container.updatePositionOnSkipIfUpToDate(lastSkippedPosition);
+      }
+    }
+
+    onEventRead(recordBatch.getLastReadPosition(), recordBatch.getReadLength());
+    recordBatch.clear();
+    inExportingPhase = false;
+    actor.submit(this::readNextEvent);
+  }
+
   public ExportersState getState() {
     return state;
   }
@@ -365,12 +628,13 @@ public final class ExporterDirector extends Actor {
     void wrap(final LoggedEvent rawEvent) {
       rawEvent.readMetadata(rawMetadata);
 
+      // the value is only decoded if an exporter accepts the record and accesses its value
       final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+          recordValues.getRecordValue(rawMetadata.getValueType());
 
       shouldExport = recordValue != null;
       if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+        typedEvent.wrapLazily(rawEvent, rawMetadata, recordValue);
         exporterIndex = 0;
       }
     }
@@ -19,6 +19,10 @@ public final class ExporterDirectorContext {
   private LogStream logStream;
   private Collection<ExporterDescriptor> descriptors;
   private ZeebeDb zeebeDb;
+  private boolean independentExporters;
+  private long maxExporterLag;
+  private int maxExportBatchSize = 1;
+  private long maxExportBatchBytes = Long.MAX_VALUE;
 
   public int getId() {
     return id;
@@ -40,6 +44,22 @@ public final class ExporterDirectorContext {
     return zeebeDb;
   }
 
+  public boolean isIndependentExporters() {
+    return independentExporters;
+  }
+
+  public long getMaxExporterLag() {
+    return maxExporterLag;
+  }
+
+  public int getMaxExportBatchSize() {
+    return maxExportBatchSize;
+  }
+
+  public long getMaxExportBatchBytes() {
+    return maxExportBatchBytes;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -64,4 +84,24 @@ public final class ExporterDirectorContext {
     this.zeebeDb = zeebeDb;
     return this;
   }
+
+  public ExporterDirectorContext independentExporters(final boolean independentExporters) {
+    this.independentExporters = independentExporters;
+    return this;
+  }
+
+  public ExporterDirectorContext maxExporterLag(final long maxExporterLag) {
+    this.maxExporterLag = maxExporterLag;
+    return this;
+  }
+
+  public ExporterDirectorContext maxExportBatchSize(final int maxExportBatchSize) {
+    this.maxExportBatchSize = maxExportBatchSize;
+    return this;
+  }
+
+  public ExporterDirectorContext maxExportBatchBytes(final long maxExportBatchBytes) {
+    this.maxExportBatchBytes = maxExportBatchBytes;
+    return this;
+  }
 }
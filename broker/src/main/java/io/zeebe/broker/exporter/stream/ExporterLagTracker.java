@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks the progress of independent exporters, which read the log concurrently on their own
+ * actors. Each exporter is identified by its index and only updates its own progress, but reads
+ * the progress of all others.
+ */
+final class ExporterLagTracker {
+
+  private final AtomicLongArray positions;
+  private final AtomicLongArray bytesRead;
+  private final long maxLag;
+
+  /**
+   * @param exportersCount the number of independent exporters
+   * @param maxLag the maximum number of positions an exporter may be ahead of the slowest one, or
+   *     a value less than one if the lag is not bounded
+   */
+  ExporterLagTracker(final int exportersCount, final long maxLag) {
+    positions = new AtomicLongArray(exportersCount);
+    bytesRead = new AtomicLongArray(exportersCount);
+    this.maxLag = maxLag;
+  }
+
+  void setPosition(final int exporterIndex, final long position) {
+    positions.set(exporterIndex, position);
+  }
+
+  void onRecordRead(final int exporterIndex, final long position, final int length) {
+    positions.set(exporterIndex, position);
+    bytesRead.addAndGet(exporterIndex, length);
+  }
+
+  /**
+   * @return true if the exporter is too far ahead of the slowest exporter and should wait before
+   *     reading the next record
+   */
+  boolean exceedsMaxLag(final int exporterIndex) {
+    return maxLag > 0 && positions.get(exporterIndex) - getLowestPosition() >= maxLag;
+  }
+
+  /** @return the number of positions the exporter is behind the most advanced exporter */
+  long getPositionLag(final int exporterIndex) {
+    long highestPosition = Long.MIN_VALUE;
+    for (int i = 0; i < positions.length(); i++) {
+      highestPosition = Math.max(highestPosition, positions.get(i));
+    }
+    return highestPosition - positions.get(exporterIndex);
+  }
+
+  /**
+   * @return the number of bytes the exporter has read less than the most advanced exporter, since
+   *     the exporters were opened
+   */
+  long getBytesLag(final int exporterIndex) {
+    long highestBytesRead = 0;
+    for (int i = 0; i < bytesRead.length(); i++) {
+      highestBytesRead = Math.max(highestBytesRead, bytesRead.get(i));
+    }
+    return highestBytesRead - bytesRead.get(exporterIndex);
+  }
+
+  private long getLowestPosition() {
+    long lowestPosition = Long.MAX_VALUE;
+    for (int i = 0; i < positions.length(); i++) {
+      lowestPosition = Math.min(lowestPosition, positions.get(i));
+    }
+    return lowestPosition;
+  }
+}
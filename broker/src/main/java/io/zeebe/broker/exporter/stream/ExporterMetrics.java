@@ -37,6 +37,24 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Gauge EXPORTER_LAG_POSITIONS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag_positions")
+          .help(
+              "The number of positions an independent exporter is behind the most advanced exporter of the partition.")
+          .labelNames("exporter", "partition")
+          .register();
+
+  private static final Gauge EXPORTER_LAG_BYTES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag_bytes")
+          .help(
+              "The number of bytes an independent exporter has read less than the most advanced exporter of the partition, since the exporters were opened.")
+          .labelNames("exporter", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -62,4 +80,9 @@ public final class ExporterMetrics {
   public void setLastExportedPosition(final String exporter, final long position) {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
+
+  public void setExporterLag(final String exporter, final long positions, final long bytes) {
+    EXPORTER_LAG_POSITIONS.labels(exporter, partitionIdLabel).set(positions);
+    EXPORTER_LAG_BYTES.labels(exporter, partitionIdLabel).set(bytes);
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import io.zeebe.engine.processing.streamprocessor.RecordValues;
+import io.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A batch of records which are read from the log and exported together. The records are copied
+ * into the batch, as the reader reuses its buffer for the next record. The records, and their
+ * values, are only valid until the batch is cleared.
+ */
+final class RecordBatch {
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final List<Entry> entries = new ArrayList<>();
+  private final int partitionId;
+  private final int maxCount;
+  private final long maxBytes;
+
+  private int count;
+  private int length;
+  private int skippedLength;
+  private long lastSkippedPosition = -1;
+
+  RecordBatch(final int partitionId, final int maxCount, final long maxBytes) {
+    this.partitionId = partitionId;
+    this.maxCount = maxCount;
+    this.maxBytes = maxBytes;
+  }
+
+  /** @return a new, empty batch with the same limits as this one */
+  RecordBatch newEmptyBatch() {
+    return new RecordBatch(partitionId, maxCount, maxBytes);
+  }
+
+  /**
+   * Copies the event into the batch. Events with an unknown value type are ignored, as they can't
+   * be exported.
+   *
+   * @param event the event to add
+   * @return true if the event was added to the batch
+   */
+  boolean add(final LoggedEvent event) {
+    if (count == entries.size()) {
+      entries.add(new Entry(partitionId));
+    }
+
+    final Entry entry = entries.get(count);
+    event.write(buffer, length);
+    if (!entry.wrap(buffer, length)) {
+      return false;
+    }
+
+    length += event.getLength();
+    count += 1;
+    return true;
+  }
+
+  /**
+   * Remembers the position of an event which is not exported by any exporter, such that the
+   * exporters' positions can be updated after the batch is exported.
+   */
+  void skip(final LoggedEvent event) {
+    lastSkippedPosition = Math.max(lastSkippedPosition, event.getPosition());
+    skippedLength += event.getLength();
+  }
+
+  boolean isFull() {
+    return count >= maxCount || length >= maxBytes;
+  }
+
+  boolean isEmpty() {
+    return count == 0;
+  }
+
+  int size() {
+    return count;
+  }
+
+  TypedEventImpl getRecord(final int index) {
+    return entries.get(index).record;
+  }
+
+  RecordMetadata getMetadata(final int index) {
+    return entries.get(index).metadata;
+  }
+
+  long getLastPosition() {
+    return count == 0 ? -1 : getRecord(count - 1).getPosition();
+  }
+
+  /** @return the highest position of the skipped events, or -1 if no event was skipped */
+  long getLastSkippedPosition() {
+    return lastSkippedPosition;
+  }
+
+  /** @return the number of bytes of the events in the batch */
+  int getLength() {
+    return length;
+  }
+
+  /** @return the highest position of the added and skipped events, or -1 if there is none */
+  long getLastReadPosition() {
+    return Math.max(getLastPosition(), lastSkippedPosition);
+  }
+
+  /** @return the number of bytes of the added and skipped events */
+  int getReadLength() {
+    return length + skippedLength;
+  }
+
+  void clear() {
+    count = 0;
+    length = 0;
+    skippedLength = 0;
+    lastSkippedPosition = -1;
+  }
+
+  private static final class Entry {
+
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedEventImpl record;
+
+    private Entry(final int partitionId) {
+      record = new TypedEventImpl(partitionId);
+    }
+
+    private boolean wrap(final ExpandableArrayBuffer buffer, final int offset) {
+      event.wrap(buffer, offset);
+      event.readMetadata(metadata);
+
+      // the value is only decoded if an exporter accepts the record and accesses its value
+      final UnifiedRecordValue value = recordValues.getRecordValue(metadata.getValueType());
+      if (value == null) {
+        return false;
+      }
+
+      record.wrapLazily(event, metadata, value);
+      return true;
+    }
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.time.Duration;
 import java.util.Optional;
 import org.springframework.util.unit.DataSize;
 
@@ -19,13 +20,35 @@ public class ExperimentalCfg {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final DataSize DEFAULT_APPEND_WINDOW_SIZE = DataSize.ofBytes(0);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final Duration DEFAULT_FOLLOWER_FLUSH_DELAY = Duration.ZERO;
+  public static final DataSize DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE = DataSize.ofMegabytes(1);
+  private static final boolean DEFAULT_FRAMED_ENTRY_REPLICATION = false;
   private static final boolean DEFAULT_DETECT_REPROCESSING_INCONSISTENCY = false;
+  private static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 1;
+  private static final int DEFAULT_MAX_RECORDS_IN_REPROCESSING_BATCH = 1;
+  private static final DataSize DEFAULT_MAX_REPROCESSING_BATCH_SIZE = DataSize.ofMegabytes(4);
+  private static final boolean DEFAULT_INDEPENDENT_EXPORTERS = false;
+  private static final long DEFAULT_MAX_EXPORTER_LAG = 0;
+  private static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 1;
+  private static final DataSize DEFAULT_MAX_EXPORT_BATCH_BYTES = DataSize.ofMegabytes(4);
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private DataSize appendWindowSize = DEFAULT_APPEND_WINDOW_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private Duration followerFlushDelay = DEFAULT_FOLLOWER_FLUSH_DELAY;
+  private DataSize followerFlushBatchSize = DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE;
+  private boolean framedEntryReplication = DEFAULT_FRAMED_ENTRY_REPLICATION;
   private boolean detectReprocessingInconsistency = DEFAULT_DETECT_REPROCESSING_INCONSISTENCY;
+  private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxRecordsInReprocessingBatch = DEFAULT_MAX_RECORDS_IN_REPROCESSING_BATCH;
+  private DataSize maxReprocessingBatchSize = DEFAULT_MAX_REPROCESSING_BATCH_SIZE;
+  private boolean independentExporters = DEFAULT_INDEPENDENT_EXPORTERS;
+  private long maxExporterLag = DEFAULT_MAX_EXPORTER_LAG;
+  private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+  private DataSize maxExportBatchBytes = DEFAULT_MAX_EXPORT_BATCH_BYTES;
 
   public int getMaxAppendsPerFollower() {
     return maxAppendsPerFollower;
@@ -47,6 +70,18 @@ public class ExperimentalCfg {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public DataSize getAppendWindowSize() {
+    return appendWindowSize;
+  }
+
+  public void setAppendWindowSize(final DataSize appendWindowSize) {
+    this.appendWindowSize = appendWindowSize;
+  }
+
+  public long getAppendWindowSizeInBytes() {
+    return Optional.ofNullable(appendWindowSize).orElse(DEFAULT_APPEND_WINDOW_SIZE).toBytes();
+  }
+
   public boolean isDisableExplicitRaftFlush() {
     return disableExplicitRaftFlush;
   }
@@ -55,6 +90,36 @@ public class ExperimentalCfg {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public boolean isFramedEntryReplication() {
+    return framedEntryReplication;
+  }
+
+  public void setFramedEntryReplication(final boolean framedEntryReplication) {
+    this.framedEntryReplication = framedEntryReplication;
+  }
+
+  public Duration getFollowerFlushDelay() {
+    return Optional.ofNullable(followerFlushDelay).orElse(DEFAULT_FOLLOWER_FLUSH_DELAY);
+  }
+
+  public void setFollowerFlushDelay(final Duration followerFlushDelay) {
+    this.followerFlushDelay = followerFlushDelay;
+  }
+
+  public DataSize getFollowerFlushBatchSize() {
+    return followerFlushBatchSize;
+  }
+
+  public void setFollowerFlushBatchSize(final DataSize followerFlushBatchSize) {
+    this.followerFlushBatchSize = followerFlushBatchSize;
+  }
+
+  public long getFollowerFlushBatchSizeInBytes() {
+    return Optional.ofNullable(followerFlushBatchSize)
+        .orElse(DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE)
+        .toBytes();
+  }
+
   public boolean isDetectReprocessingInconsistency() {
     return detectReprocessingInconsistency;
   }
@@ -63,6 +128,74 @@ public class ExperimentalCfg {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
   }
 
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public void setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  public int getMaxRecordsInReprocessingBatch() {
+    return maxRecordsInReprocessingBatch;
+  }
+
+  public void setMaxRecordsInReprocessingBatch(final int maxRecordsInReprocessingBatch) {
+    this.maxRecordsInReprocessingBatch = maxRecordsInReprocessingBatch;
+  }
+
+  public DataSize getMaxReprocessingBatchSize() {
+    return maxReprocessingBatchSize;
+  }
+
+  public void setMaxReprocessingBatchSize(final DataSize maxReprocessingBatchSize) {
+    this.maxReprocessingBatchSize = maxReprocessingBatchSize;
+  }
+
+  public long getMaxReprocessingBatchSizeInBytes() {
+    return Optional.ofNullable(maxReprocessingBatchSize)
+        .orElse(DEFAULT_MAX_REPROCESSING_BATCH_SIZE)
+        .toBytes();
+  }
+
+  public boolean isIndependentExporters() {
+    return independentExporters;
+  }
+
+  public void setIndependentExporters(final boolean independentExporters) {
+    this.independentExporters = independentExporters;
+  }
+
+  public long getMaxExporterLag() {
+    return maxExporterLag;
+  }
+
+  public void setMaxExporterLag(final long maxExporterLag) {
+    this.maxExporterLag = maxExporterLag;
+  }
+
+  public int getMaxExportBatchSize() {
+    return maxExportBatchSize;
+  }
+
+  public void setMaxExportBatchSize(final int maxExportBatchSize) {
+    this.maxExportBatchSize = maxExportBatchSize;
+  }
+
+  public DataSize getMaxExportBatchBytes() {
+    return maxExportBatchBytes;
+  }
+
+  public void setMaxExportBatchBytes(final DataSize maxExportBatchBytes) {
+    this.maxExportBatchBytes = maxExportBatchBytes;
+  }
+
+  public long getMaxExportBatchSizeInBytes() {
+    return Optional.ofNullable(maxExportBatchBytes)
+        .orElse(DEFAULT_MAX_EXPORT_BATCH_BYTES)
+        .toBytes();
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
@@ -70,10 +203,32 @@ public class ExperimentalCfg {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", appendWindowSize="
+        + appendWindowSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", followerFlushDelay="
+        + followerFlushDelay
+        + ", followerFlushBatchSize="
+        + followerFlushBatchSize
+        + ", framedEntryReplication="
+        + framedEntryReplication
         + ", detectReprocessingInconsistency="
         + detectReprocessingInconsistency
+        + ", maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxRecordsInReprocessingBatch="
+        + maxRecordsInReprocessingBatch
+        + ", maxReprocessingBatchSize="
+        + maxReprocessingBatchSize
+        + ", independentExporters="
+        + independentExporters
+        + ", maxExporterLag="
+        + maxExporterLag
+        + ", maxExportBatchSize="
+        + maxExportBatchSize
+        + ", maxExportBatchBytes="
+        + maxExportBatchBytes
         + '}';
   }
 }
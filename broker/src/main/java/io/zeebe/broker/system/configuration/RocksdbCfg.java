@@ -7,6 +7,8 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -15,6 +17,7 @@ import java.util.regex.Pattern;
 public final class RocksdbCfg implements ConfigurationEntry {
 
   private Properties columnFamilyOptions;
+  private Map<String, Integer> columnFamilyCacheSizes = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -44,6 +47,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.columnFamilyOptions = columnFamilyOptions;
   }
 
+  public Map<String, Integer> getColumnFamilyCacheSizes() {
+    return columnFamilyCacheSizes;
+  }
+
+  public void setColumnFamilyCacheSizes(final Map<String, Integer> columnFamilyCacheSizes) {
+    this.columnFamilyCacheSizes = columnFamilyCacheSizes;
+  }
+
   private static final class RocksDBColumnFamilyOption {
 
     private static final Pattern DOT_CHAR_PATTERN = Pattern.compile("\\.");
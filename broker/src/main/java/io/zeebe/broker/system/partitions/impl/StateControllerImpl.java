@@ -22,6 +22,7 @@ import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.snapshots.raft.TransientSnapshot;
 import io.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
@@ -35,6 +36,10 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
 
   private static final ReplicationContext INVALID_SNAPSHOT = new ReplicationContext(null, -1, null);
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
+  // replicated snapshots only send references for files which were part of the previously
+  // replicated snapshot; as replication is not acknowledged, every n-th snapshot is sent in full
+  // so a follower which missed a snapshot can catch up again
+  private static final int FULL_REPLICATION_INTERVAL = 10;
 
   private final SnapshotReplication replication;
   private final Map<String, ReplicationContext> receivedSnapshots =
@@ -48,6 +53,8 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
   private final SnapshotReplicationMetrics metrics;
 
   private ZeebeDb db;
+  private ByteBuffer lastReplicatedChunkManifest;
+  private long replicatedSnapshotCount;
   private final ConstructableSnapshotStore constructableSnapshotStore;
   private final ReceivableSnapshotStore receivableSnapshotStore;
 
@@ -189,11 +196,19 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     LOG.debug("New snapshot {} was persisted. Start replicating.", newPersistedSnapshot.getId());
     // replicate snapshots when new snapshot was committed
     try (final var snapshotChunkReader = newPersistedSnapshot.newChunkReader()) {
+      if (lastReplicatedChunkManifest != null
+          && replicatedSnapshotCount % FULL_REPLICATION_INTERVAL != 0) {
+        snapshotChunkReader.reuseChunks(lastReplicatedChunkManifest);
+      }
+
       while (snapshotChunkReader.hasNext()) {
         final var snapshotChunk = snapshotChunkReader.next();
         replication.replicate(snapshotChunk);
       }
     }
+
+    lastReplicatedChunkManifest = newPersistedSnapshot.getChunkManifest();
+    replicatedSnapshotCount++;
   }
 
   /**
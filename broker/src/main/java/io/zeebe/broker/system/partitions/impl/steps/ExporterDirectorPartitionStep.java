@@ -21,6 +21,7 @@ public class ExporterDirectorPartitionStep implements PartitionStep {
   @Override
   public ActorFuture<Void> open(final PartitionContext context) {
     final var exporterDescriptors = context.getExporterRepository().getExporters().values();
+    final var experimentalCfg = context.getBrokerCfg().getExperimental();
 
     final ExporterDirectorContext exporterCtx =
         new ExporterDirectorContext()
@@ -30,7 +31,11 @@ public class ExporterDirectorPartitionStep implements PartitionStep {
                     context.getNodeId(), String.format(EXPORTER_NAME, context.getPartitionId())))
             .logStream(context.getLogStream())
             .zeebeDb(context.getZeebeDb())
-            .descriptors(exporterDescriptors);
+            .descriptors(exporterDescriptors)
+            .independentExporters(experimentalCfg.isIndependentExporters())
+            .maxExporterLag(experimentalCfg.getMaxExporterLag())
+            .maxExportBatchSize(experimentalCfg.getMaxExportBatchSize())
+            .maxExportBatchBytes(experimentalCfg.getMaxExportBatchSizeInBytes());
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
     context.setExporterDirector(director);
@@ -28,7 +28,8 @@ public class StateControllerPartitionStep implements PartitionStep {
     final var stateController =
         new StateControllerImpl(
             context.getPartitionId(),
-            DefaultZeebeDbFactory.defaultFactory(databaseCfg.getColumnFamilyOptions()),
+            DefaultZeebeDbFactory.defaultFactory(
+                databaseCfg.getColumnFamilyOptions(), databaseCfg.getColumnFamilyCacheSizes()),
             context
                 .getSnapshotStoreSupplier()
                 .getConstructableSnapshotStore(context.getRaftPartition().name()),
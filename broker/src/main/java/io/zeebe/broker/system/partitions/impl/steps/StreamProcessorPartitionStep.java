@@ -71,6 +71,11 @@ public class StreamProcessorPartitionStep implements PartitionStep {
         .commandResponseWriter(state.getCommandApiService().newCommandResponseWriter())
         .detectReprocessingInconsistency(
             state.getBrokerCfg().getExperimental().isDetectReprocessingInconsistency())
+        .maxCommandsInBatch(state.getBrokerCfg().getExperimental().getMaxCommandsInBatch())
+        .maxRecordsInReprocessingBatch(
+            state.getBrokerCfg().getExperimental().getMaxRecordsInReprocessingBatch())
+        .maxReprocessingBatchBytes(
+            state.getBrokerCfg().getExperimental().getMaxReprocessingBatchSizeInBytes())
         .onProcessedListener(
             state.getCommandApiService().getOnProcessedListener(state.getPartitionId()))
         .streamProcessorFactory(
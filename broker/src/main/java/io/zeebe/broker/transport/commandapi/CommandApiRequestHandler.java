@@ -10,7 +10,7 @@ package io.zeebe.broker.transport.commandapi;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.zeebe.broker.transport.backpressure.RequestLimiter;
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -35,9 +35,15 @@ import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 
+/**
+ * Validates the incoming commands and writes them to the log stream of their partition. The
+ * commands of a partition are collected in a batch and written together once the transport has
+ * handled all queued requests, such that concurrent requests claim the dispatcher only once.
+ */
 final class CommandApiRequestHandler implements RequestHandler {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
@@ -47,7 +53,8 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
-  private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LongArrayList> batchedRequests = new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final RecordMetadata eventMetadata = new RecordMetadata();
@@ -101,7 +108,7 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     final long key = executeCommandRequestDecoder.key();
 
-    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
+    final LogStreamBatchWriter logStreamWriter = leadingStreams.get(partitionId);
 
     if (logStreamWriter == null) {
       errorResponseWriter
@@ -158,58 +165,114 @@ final class CommandApiRequestHandler implements RequestHandler {
       return;
     }
 
-    boolean written = false;
+    boolean added = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      added =
+          addCommand(
+              partitionId,
+              requestId,
+              eventMetadata,
+              buffer,
+              key,
+              logStreamWriter,
+              eventOffset,
+              eventLength);
     } catch (final Exception ex) {
       LOG.error("Unexpected error on writing {} command", eventIntent, ex);
     } finally {
-      if (!written) {
+      if (!added) {
         limiter.onIgnore(partitionId, requestId);
       }
     }
   }
 
-  private boolean writeCommand(
+  private boolean addCommand(
+      final int partitionId,
+      final long requestId,
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
       final long key,
-      final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamWriter,
       final int eventOffset,
       final int eventLength) {
-    logStreamWriter.reset();
+    final LongArrayList requestIds = batchedRequests.get(partitionId);
+    final int commandLength = eventMetadata.getLength() + eventLength;
+
+    if (!logStreamWriter.canWriteAdditionalEvent(commandLength)) {
+      if (requestIds.isEmpty()) {
+        // the command is too big to be written at all
+        return false;
+      }
 
+      writeBatch(partitionId, logStreamWriter, requestIds);
+      if (!logStreamWriter.canWriteAdditionalEvent(commandLength)) {
+        return false;
+      }
+    }
+
+    final LogStreamBatchWriter.LogEntryBuilder entryBuilder = logStreamWriter.event();
     if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      logStreamWriter.key(key);
+      entryBuilder.key(key);
     } else {
-      logStreamWriter.keyNull();
+      entryBuilder.keyNull();
     }
 
-    final long eventPosition =
-        logStreamWriter
-            .metadataWriter(eventMetadata)
-            .value(buffer, eventOffset, eventLength)
-            .tryWrite();
+    entryBuilder.metadataWriter(eventMetadata).value(buffer, eventOffset, eventLength).done();
+    requestIds.addLong(requestId);
+    return true;
+  }
+
+  private void writeBatch(
+      final int partitionId,
+      final LogStreamBatchWriter logStreamWriter,
+      final LongArrayList requestIds) {
+    boolean written = false;
+    try {
+      written = logStreamWriter.tryWrite() >= 0;
+    } catch (final Exception ex) {
+      LOG.error(
+          "Unexpected error on writing {} commands to partition {}",
+          requestIds.size(),
+          partitionId,
+          ex);
+    } finally {
+      if (!written) {
+        logStreamWriter.reset();
+        ignoreRequests(partitionId, requestIds);
+      }
+      requestIds.clear();
+    }
+  }
 
-    return eventPosition >= 0;
+  private void ignoreRequests(final int partitionId, final LongArrayList requestIds) {
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    for (int i = 0; i < requestIds.size(); i++) {
+      limiter.onIgnore(partitionId, requestIds.getLong(i));
+    }
   }
 
   void addPartition(
       final int partitionId,
-      final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamWriter,
       final RequestLimiter<Intent> limiter) {
     cmdQueue.add(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
           partitionLimiters.put(partitionId, limiter);
+          batchedRequests.put(partitionId, new LongArrayList());
         });
   }
 
   void removePartition(final int partitionId) {
     cmdQueue.add(
         () -> {
-          leadingStreams.remove(partitionId);
+          final LogStreamBatchWriter logStreamWriter = leadingStreams.remove(partitionId);
+          if (logStreamWriter != null) {
+            // the batched commands are not written anymore
+            logStreamWriter.reset();
+          }
           partitionLimiters.remove(partitionId);
+          batchedRequests.remove(partitionId);
         });
   }
 
@@ -263,6 +326,18 @@ final class CommandApiRequestHandler implements RequestHandler {
         .tryWriteResponse(output, partitionId, requestId);
   }
 
+  @Override
+  public void onRequestsHandled() {
+    drainCommandQueue();
+
+    batchedRequests.forEach(
+        (partitionId, requestIds) -> {
+          if (!requestIds.isEmpty()) {
+            writeBatch(partitionId, leadingStreams.get(partitionId), requestIds);
+          }
+        });
+  }
+
   private void drainCommandQueue() {
     while (!cmdQueue.isEmpty()) {
       final Runnable runnable = cmdQueue.poll();
@@ -0,0 +1,245 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import static io.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_BATCH_TOPIC;
+import static io.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_TOPIC;
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.core.Atomix;
+import io.zeebe.broker.clustering.topology.TopologyManager;
+import io.zeebe.broker.clustering.topology.TopologyPartitionListener;
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatch;
+import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.util.buffer.DirectBufferWriter;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class PartitionCommandSenderImplTest {
+
+  private static final Duration FLUSH_DELAY = Duration.ofMillis(1);
+  private static final int LOCAL_NODE_ID = 0;
+  private static final int REMOTE_NODE_ID = 1;
+  private static final int LOCAL_PARTITION_ID = 1;
+  private static final int REMOTE_PARTITION_ID = 2;
+  private static final MemberId REMOTE_MEMBER = MemberId.from("" + REMOTE_NODE_ID);
+
+  @Rule public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final Atomix atomix = mock(Atomix.class);
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final TopologyManager topologyManager = mock(TopologyManager.class);
+  private final List<DirectBuffer> localBatches = new ArrayList<>();
+  private final List<List<String>> localBatchCommands = new ArrayList<>();
+  private final List<CompletableFuture<Void>> localBatchFutures = new ArrayList<>();
+
+  private ActorControl actorControl;
+  private PartitionCommandSenderImpl sender;
+
+  @Before
+  public void setup() {
+    schedulerRule.getClock().pinCurrentTime();
+    when(atomix.getCommunicationService()).thenReturn(communicationService);
+    when(communicationService.send(any(), any(), any(MemberId.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    schedulerRule.submitActor(
+        Actor.wrap(
+            actor -> {
+              actorControl = actor;
+              sender =
+                  new PartitionCommandSenderImpl(
+                      atomix,
+                      topologyManager,
+                      actor,
+                      LOCAL_PARTITION_ID,
+                      LOCAL_NODE_ID,
+                      this::receiveLocalBatch);
+            }));
+    schedulerRule.workUntilDone();
+
+    final ArgumentCaptor<TopologyPartitionListener> listenerCaptor =
+        ArgumentCaptor.forClass(TopologyPartitionListener.class);
+    verify(topologyManager).addTopologyPartitionListener(listenerCaptor.capture());
+    final TopologyPartitionListener listener = listenerCaptor.getValue();
+    actorControl.run(
+        () -> {
+          listener.onPartitionLeaderUpdated(
+              LOCAL_PARTITION_ID,
+              new BrokerInfo(LOCAL_NODE_ID, "localhost")
+                  .setLeaderForPartition(LOCAL_PARTITION_ID, 1));
+          listener.onPartitionLeaderUpdated(
+              REMOTE_PARTITION_ID,
+              new BrokerInfo(REMOTE_NODE_ID, "remote")
+                  .setLeaderForPartition(REMOTE_PARTITION_ID, 1));
+        });
+    schedulerRule.workUntilDone();
+  }
+
+  @Test
+  public void shouldSendCommandsForPartitionAsOneBatch() {
+    // when
+    sendCommands(REMOTE_PARTITION_ID, "foo", "bar", "baz");
+    flush();
+
+    // then
+    final ArgumentCaptor<byte[]> batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .send(eq(SUBSCRIPTION_BATCH_TOPIC), batchCaptor.capture(), eq(REMOTE_MEMBER));
+    verify(communicationService, never()).send(eq(SUBSCRIPTION_TOPIC), any(), any(MemberId.class));
+    assertThat(commandsOf(new UnsafeBuffer(batchCaptor.getValue())))
+        .containsExactly("foo", "bar", "baz");
+    assertThat(localBatches).isEmpty();
+  }
+
+  @Test
+  public void shouldHandOverLocalBatchWithoutCopy() {
+    // given
+    sendCommands(LOCAL_PARTITION_ID, "foo", "bar");
+    flush();
+    localBatchFutures.get(0).complete(null);
+    schedulerRule.workUntilDone();
+
+    // when
+    sendCommands(LOCAL_PARTITION_ID, "baz");
+    flush();
+    sendCommands(LOCAL_PARTITION_ID, "qux");
+    flush();
+
+    // then
+    verify(communicationService, never()).send(any(), any(), any(MemberId.class));
+    assertThat(localBatchCommands)
+        .containsExactly(List.of("foo", "bar"), List.of("baz"), List.of("qux"));
+    // the batch is reused once its commands were applied
+    assertThat(localBatches.get(1)).isNotSameAs(localBatches.get(0));
+    assertThat(localBatches.get(2)).isSameAs(localBatches.get(0));
+  }
+
+  @Test
+  public void shouldNotModifyLocalBatchUntilItIsApplied() {
+    // given
+    sendCommands(LOCAL_PARTITION_ID, "foo", "bar");
+    flush();
+
+    // when
+    sendCommands(LOCAL_PARTITION_ID, "baz");
+    flush();
+
+    // then
+    assertThat(commandsOf(localBatches.get(0))).containsExactly("foo", "bar");
+    assertThat(commandsOf(localBatches.get(1))).containsExactly("baz");
+  }
+
+  @Test
+  public void shouldSendCommandsOneByOneIfReceiverDoesNotHandleBatches() {
+    // given
+    when(communicationService.send(eq(SUBSCRIPTION_BATCH_TOPIC), any(), any(MemberId.class)))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler()));
+
+    // when
+    sendCommands(REMOTE_PARTITION_ID, "foo", "bar");
+    flush();
+
+    // then
+    verify(communicationService, times(1))
+        .send(eq(SUBSCRIPTION_BATCH_TOPIC), any(), any(MemberId.class));
+    assertThat(sentCommands()).containsExactly("foo", "bar");
+  }
+
+  @Test
+  public void shouldNotSendBatchesToOldBrokerForAWhile() {
+    // given
+    when(communicationService.send(eq(SUBSCRIPTION_BATCH_TOPIC), any(), any(MemberId.class)))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler()));
+    sendCommands(REMOTE_PARTITION_ID, "foo");
+    flush();
+
+    // when
+    sendCommands(REMOTE_PARTITION_ID, "bar");
+    flush();
+
+    // then
+    verify(communicationService, times(1))
+        .send(eq(SUBSCRIPTION_BATCH_TOPIC), any(), any(MemberId.class));
+    assertThat(sentCommands()).containsExactly("foo", "bar");
+
+    // when - the broker may have been updated
+    schedulerRule.getClock().addTime(Duration.ofMinutes(1));
+    sendCommands(REMOTE_PARTITION_ID, "baz");
+    flush();
+
+    // then
+    verify(communicationService, times(2))
+        .send(eq(SUBSCRIPTION_BATCH_TOPIC), any(), any(MemberId.class));
+  }
+
+  private void sendCommands(final int partitionId, final String... commands) {
+    actorControl.run(
+        () -> {
+          for (final String command : commands) {
+            sender.sendCommand(partitionId, new DirectBufferWriter().wrap(wrapString(command)));
+          }
+        });
+    schedulerRule.workUntilDone();
+  }
+
+  private void flush() {
+    schedulerRule.getClock().addTime(FLUSH_DELAY);
+    schedulerRule.workUntilDone();
+  }
+
+  private CompletableFuture<Void> receiveLocalBatch(final DirectBuffer batch) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    localBatches.add(batch);
+    localBatchCommands.add(commandsOf(batch));
+    localBatchFutures.add(future);
+    return future;
+  }
+
+  private List<String> sentCommands() {
+    final ArgumentCaptor<byte[]> commandCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService, atLeastOnce())
+        .send(eq(SUBSCRIPTION_TOPIC), commandCaptor.capture(), eq(REMOTE_MEMBER));
+
+    final List<String> commands = new ArrayList<>();
+    commandCaptor.getAllValues().forEach(command -> commands.add(new String(command)));
+    return commands;
+  }
+
+  private static List<String> commandsOf(final DirectBuffer batch) {
+    final List<String> commands = new ArrayList<>();
+    SubscriptionCommandBatch.forEachCommand(
+        batch, (buffer, offset, length) -> commands.add(bufferAsString(buffer, offset, length)));
+    return commands;
+  }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import io.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.zeebe.broker.exporter.util.ControlledTestBatchExporter;
 import io.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
@@ -40,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.awaitility.Awaitility;
@@ -70,7 +72,14 @@ public final class ExporterDirectorTest {
   }
 
   private void createExporter(final String exporterId, final Map<String, Object> arguments) {
-    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    createExporter(exporterId, arguments, new ControlledTestExporter());
+  }
+
+  private void createExporter(
+      final String exporterId,
+      final Map<String, Object> arguments,
+      final ControlledTestExporter exporterInstance) {
+    final ControlledTestExporter exporter = spy(exporterInstance);
 
     final ExporterDescriptor descriptor =
         spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments));
@@ -358,6 +367,178 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldNotStopOtherIndependentExportersOnException() {
+    // given
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+
+    rule.startExporterDirector(exporterDescriptors, true, 0);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("independent exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+  }
+
+  @Test
+  public void shouldWaitOnSlowestIndependentExporterIfMaxLagIsReached() {
+    // given
+    final AtomicBoolean shouldFail = new AtomicBoolean(true);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (shouldFail.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    rule.startExporterDirector(exporterDescriptors, true, 2);
+
+    // when
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      positions.add(writeEvent());
+    }
+
+    // then
+    Awaitility.await("independent exporter has exported the first record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(exporters.get(1).getExportedRecords()).isNotEmpty());
+    for (int i = 0; i < 3; i++) {
+      rule.getClock().addTime(Duration.ofSeconds(1));
+    }
+    assertThat(exporters.get(1).getExportedRecords()).hasSizeLessThan(positions.size());
+
+    // when
+    shouldFail.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(
+            r ->
+                exporters.get(0).getExportedRecords().size() == positions.size()
+                    && exporters.get(1).getExportedRecords().size() == positions.size());
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+  }
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    exporters.clear();
+    exporterDescriptors.clear();
+    final ControlledTestBatchExporter batchExporter = new ControlledTestBatchExporter();
+    createExporter(EXPORTER_ID_1, Collections.emptyMap(), batchExporter);
+    createExporter(EXPORTER_ID_2, Collections.emptyMap());
+
+    rule.startExporterDirector(exporterDescriptors, false, 0, 3);
+
+    // when
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      positions.add(writeEvent());
+    }
+
+    // then
+    Awaitility.await("all records are exported")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(exporters.get(1).getExportedRecords()).hasSize(positions.size()));
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+    assertThat(((ControlledTestBatchExporter) exporters.get(0)).getBatchSizes())
+        .allSatisfy(size -> assertThat(size).isBetween(1, 3));
+  }
+
+  @Test
+  public void shouldUpdatePositionWhenBatchIsSkipped() {
+    // given
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    exporters.forEach(
+        e ->
+            e.onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)))
+                .shouldAutoUpdatePosition(false));
+
+    // when
+    rule.startExporterDirector(exporterDescriptors, false, 0, 10);
+    final ExportersState state = rule.getExportersState();
+    final long skippedRecordPosition =
+        rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("director has updated the positions of the skipped record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(skippedRecordPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(skippedRecordPosition);
+            });
+    assertThat(tailingExporter.getExportedRecords()).isEmpty();
+  }
+
+  @Test
+  public void shouldRetryExportingBatchOnException() {
+    // given
+    final AtomicLong failCount = new AtomicLong(3);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (failCount.getAndDecrement() > 0) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    rule.startExporterDirector(exporterDescriptors, false, 0, 10);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  @Test
+  public void shouldCloseAllIndependentExportersOnClose() throws Exception {
+    // given
+    rule.startExporterDirector(exporterDescriptors, true, 0);
+
+    // when
+    rule.closeExporterDirector();
+
+    // then
+    verify(exporters.get(0), TIMEOUT).close();
+    verify(exporters.get(1), TIMEOUT).close();
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public final class ExporterLagTrackerTest {
+
+  @Test
+  public void shouldTrackLagBehindMostAdvancedExporter() {
+    // given
+    final ExporterLagTracker tracker = new ExporterLagTracker(2, 0);
+
+    // when
+    tracker.onRecordRead(0, 10, 100);
+    tracker.onRecordRead(0, 11, 50);
+    tracker.onRecordRead(1, 10, 100);
+
+    // then
+    assertThat(tracker.getPositionLag(0)).isZero();
+    assertThat(tracker.getBytesLag(0)).isZero();
+    assertThat(tracker.getPositionLag(1)).isEqualTo(1);
+    assertThat(tracker.getBytesLag(1)).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldNotBoundLagByDefault() {
+    // given
+    final ExporterLagTracker tracker = new ExporterLagTracker(2, 0);
+
+    // when
+    tracker.setPosition(1, -1);
+    tracker.onRecordRead(0, 1_000, 100);
+
+    // then
+    assertThat(tracker.exceedsMaxLag(0)).isFalse();
+  }
+
+  @Test
+  public void shouldExceedMaxLagIfTooFarAheadOfSlowestExporter() {
+    // given
+    final ExporterLagTracker tracker = new ExporterLagTracker(3, 5);
+    tracker.setPosition(0, 10);
+    tracker.setPosition(1, 12);
+    tracker.setPosition(2, 14);
+
+    // when
+    tracker.onRecordRead(2, 15, 100);
+
+    // then
+    assertThat(tracker.exceedsMaxLag(0)).isFalse();
+    assertThat(tracker.exceedsMaxLag(1)).isFalse();
+    assertThat(tracker.exceedsMaxLag(2)).isTrue();
+  }
+}
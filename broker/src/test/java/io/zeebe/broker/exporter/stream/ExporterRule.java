@@ -65,8 +65,23 @@ public final class ExporterRule implements TestRule {
     return chain.apply(base, description);
   }
 
-  @SuppressWarnings("unchecked")
   public void startExporterDirector(final List<ExporterDescriptor> exporterDescriptors) {
+    startExporterDirector(exporterDescriptors, false, 0);
+  }
+
+  public void startExporterDirector(
+      final List<ExporterDescriptor> exporterDescriptors,
+      final boolean independentExporters,
+      final long maxExporterLag) {
+    startExporterDirector(exporterDescriptors, independentExporters, maxExporterLag, 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  public void startExporterDirector(
+      final List<ExporterDescriptor> exporterDescriptors,
+      final boolean independentExporters,
+      final long maxExporterLag,
+      final int maxExportBatchSize) {
     final var stream = streams.getLogStream(STREAM_NAME);
     final var runtimeFolder = streams.createRuntimeFolder(stream);
     capturedZeebeDb = spy(zeebeDbFactory.createDb(runtimeFolder.toFile()));
@@ -77,7 +92,10 @@ public final class ExporterRule implements TestRule {
             .name(PROCESSOR_NAME)
             .logStream(stream.getAsyncLogStream())
             .zeebeDb(capturedZeebeDb)
-            .descriptors(exporterDescriptors);
+            .descriptors(exporterDescriptors)
+            .independentExporters(independentExporters)
+            .maxExporterLag(maxExporterLag)
+            .maxExportBatchSize(maxExportBatchSize);
 
     director = new ExporterDirector(context, false);
     director.startAsync(actorSchedulerRule.get()).join();
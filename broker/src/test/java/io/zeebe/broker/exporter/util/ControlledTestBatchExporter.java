@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.util;
+
+import io.zeebe.exporter.api.BatchExporter;
+import io.zeebe.protocol.record.Record;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControlledTestBatchExporter extends ControlledTestExporter implements BatchExporter {
+  private final List<Integer> batchSizes = new ArrayList<>();
+
+  public List<Integer> getBatchSizes() {
+    return batchSizes;
+  }
+
+  @Override
+  public void exportBatch(final List<Record<?>> records) {
+    batchSizes.add(records.size());
+    records.forEach(this::export);
+  }
+}
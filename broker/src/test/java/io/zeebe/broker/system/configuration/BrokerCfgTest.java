@@ -42,6 +42,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.util.unit.DataSize;
 
 public final class BrokerCfgTest {
 
@@ -62,10 +63,30 @@ public final class BrokerCfgTest {
       "zeebe.broker.experimental.maxAppendsPerFollower";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_APPEND_BATCH_SIZE =
       "zeebe.broker.experimental.maxAppendBatchSize";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_APPEND_WINDOW_SIZE =
+      "zeebe.broker.experimental.appendWindowSize";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_FOLLOWER_FLUSH_DELAY =
+      "zeebe.broker.experimental.followerFlushDelay";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_FOLLOWER_FLUSH_BATCH_SIZE =
+      "zeebe.broker.experimental.followerFlushBatchSize";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DETECT_REPROCESSING_INCONSISTENCY =
       "zeebe.broker.experimental.detectReprocessingInconsistency";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_COMMANDS_IN_BATCH =
+      "zeebe.broker.experimental.maxCommandsInBatch";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_RECORDS_IN_REPROCESSING_BATCH =
+      "zeebe.broker.experimental.maxRecordsInReprocessingBatch";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_REPROCESSING_BATCH_SIZE =
+      "zeebe.broker.experimental.maxReprocessingBatchSize";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DISABLEEXPLICITRAFTFLUSH =
       "zeebe.broker.experimental.disableExplicitRaftFlush";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_INDEPENDENT_EXPORTERS =
+      "zeebe.broker.experimental.independentExporters";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORTER_LAG =
+      "zeebe.broker.experimental.maxExporterLag";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_SIZE =
+      "zeebe.broker.experimental.maxExportBatchSize";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_BYTES =
+      "zeebe.broker.experimental.maxExportBatchBytes";
   private static final String ZEEBE_BROKER_DATA_DIRECTORY = "zeebe.broker.data.directory";
 
   @Deprecated(since = "0.26.0")
@@ -494,6 +515,66 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.getMaxAppendBatchSizeInBytes()).isEqualTo(256 * 1024);
   }
 
+  @Test
+  public void shouldDisableAppendWindowPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getAppendWindowSizeInBytes()).isZero();
+  }
+
+  @Test
+  public void shouldOverrideAppendWindowSizeViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_APPEND_WINDOW_SIZE, "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getAppendWindowSizeInBytes()).isEqualTo(1024 * 1024);
+  }
+
+  @Test
+  public void shouldFlushEveryAppendOnFollowersPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getFollowerFlushDelay()).isZero();
+    assertThat(experimentalCfg.getFollowerFlushBatchSizeInBytes()).isEqualTo(1024 * 1024);
+  }
+
+  @Test
+  public void shouldOverrideFollowerFlushDelayViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_FOLLOWER_FLUSH_DELAY, "2ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getFollowerFlushDelay()).isEqualTo(Duration.ofMillis(2));
+  }
+
+  @Test
+  public void shouldOverrideFollowerFlushBatchSizeViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_FOLLOWER_FLUSH_BATCH_SIZE, "256KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getFollowerFlushBatchSizeInBytes()).isEqualTo(256 * 1024);
+  }
+
   @Test
   public void shouldDisableDetectReprocessingInconsistencyPerDefault() {
     // given
@@ -531,6 +612,116 @@ public final class BrokerCfgTest {
             "Failed to bind properties under 'zeebe.broker.experimental.detect-reprocessing-inconsistency' to boolean");
   }
 
+  @Test
+  public void shouldProcessSingleCommandPerBatchByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxCommandsInBatch()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldOverrideMaxCommandsInBatchViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_COMMANDS_IN_BATCH, "100");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxCommandsInBatch()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldReprocessSingleRecordPerBatchByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxRecordsInReprocessingBatch()).isEqualTo(1);
+    assertThat(experimentalCfg.getMaxReprocessingBatchSizeInBytes()).isEqualTo(4 * 1024 * 1024);
+  }
+
+  @Test
+  public void shouldOverrideReprocessingBatchViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_RECORDS_IN_REPROCESSING_BATCH, "1000");
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_REPROCESSING_BATCH_SIZE, "16MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxRecordsInReprocessingBatch()).isEqualTo(1000);
+    assertThat(experimentalCfg.getMaxReprocessingBatchSizeInBytes()).isEqualTo(16 * 1024 * 1024);
+  }
+
+  @Test
+  public void shouldNotUseIndependentExportersByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isIndependentExporters()).isFalse();
+    assertThat(experimentalCfg.getMaxExporterLag()).isZero();
+  }
+
+  @Test
+  public void shouldOverrideIndependentExportersViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_INDEPENDENT_EXPORTERS, "true");
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORTER_LAG, "10000");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isIndependentExporters()).isTrue();
+    assertThat(experimentalCfg.getMaxExporterLag()).isEqualTo(10000);
+  }
+
+  @Test
+  public void shouldExportRecordsOneByOneByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxExportBatchSize()).isEqualTo(1);
+    assertThat(experimentalCfg.getMaxExportBatchBytes()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  public void shouldOverrideMaxExportBatchSizeViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_SIZE, "100");
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_BYTES, "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxExportBatchSize()).isEqualTo(100);
+    assertThat(experimentalCfg.getMaxExportBatchSizeInBytes())
+        .isEqualTo(DataSize.ofMegabytes(1).toBytes());
+  }
+
   @Test
   public void shouldOverrideDisableExplicitRaftFlushViaEnvironment() {
     // given
@@ -42,4 +42,27 @@ public final class RocksdbCfgTest {
     final var columnFamilyOptions = rocksdb.getColumnFamilyOptions();
     assertThat(columnFamilyOptions).containsEntry("arena_block_size", "16777216");
   }
+
+  @Test
+  public void shouldNotCacheColumnFamiliesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getColumnFamilyCacheSizes()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheSizesFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.data.rocksdb.columnFamilyCacheSizes.variables", "1000");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getColumnFamilyCacheSizes()).containsEntry("variables", 1000);
+  }
 }
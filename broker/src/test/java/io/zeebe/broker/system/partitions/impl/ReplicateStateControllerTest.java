@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import org.junit.Before;
 import org.junit.Rule;
@@ -183,6 +184,40 @@ public final class ReplicateStateControllerTest {
     assertThat(valueFromSnapshot).isEqualTo(VALUE);
   }
 
+  @Test
+  public void shouldOnlyReplicateReferenceToUnchangedFilesOfNextSnapshot() throws Exception {
+    // given
+    receiverSnapshotController.consumeReplicatedSnapshots();
+    replicatorSnapshotController.takeTransientSnapshot(1).orElseThrow().persist();
+    final var firstSnapshotChunks = List.copyOf(replicator.replicatedChunks);
+    replicator.replicatedChunks.clear();
+
+    final RocksDBWrapper senderWrapper = new RocksDBWrapper();
+    senderWrapper.wrap(replicatorSnapshotController.openDb());
+    senderWrapper.putInt("other", VALUE + 1);
+
+    // when
+    replicatorSnapshotController.takeTransientSnapshot(2).orElseThrow().persist();
+
+    // then
+    final var unchangedSstFiles =
+        firstSnapshotChunks.stream()
+            .map(SnapshotChunk::getChunkName)
+            .filter(name -> name.endsWith(".sst"))
+            .collect(Collectors.toList());
+    assertThat(unchangedSstFiles).isNotEmpty();
+    assertThat(replicator.replicatedChunks)
+        .filteredOn(chunk -> unchangedSstFiles.contains(chunk.getChunkName()))
+        .extracting(chunk -> chunk.getContent().length)
+        .containsOnly(0);
+
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    receiverSnapshotController.recover();
+    wrapper.wrap(receiverSnapshotController.openDb());
+    assertThat(wrapper.getInt(KEY)).isEqualTo(VALUE);
+    assertThat(wrapper.getInt("other")).isEqualTo(VALUE + 1);
+  }
+
   protected static final class Replicator implements SnapshotReplication {
 
     final List<SnapshotChunk> replicatedChunks = new ArrayList<>();
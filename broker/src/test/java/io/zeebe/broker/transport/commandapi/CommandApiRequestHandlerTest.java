@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.test.broker.protocol.MsgPackHelper;
+import io.zeebe.test.broker.protocol.commandapi.ExecuteCommandRequest;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class CommandApiRequestHandlerTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private final ServerOutput output = mock(ServerOutput.class);
+  private RequestLimiter<Intent> limiter;
+  private CommandApiRequestHandler handler;
+
+  @Before
+  public void setup() {
+    limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(true);
+
+    handler = new CommandApiRequestHandler();
+  }
+
+  @Test
+  public void shouldWriteConcurrentRequestsAsOneBatch() {
+    // given
+    final RecordingBatchWriter writer = new RecordingBatchWriter(Integer.MAX_VALUE);
+    handler.addPartition(PARTITION_ID, writer, limiter);
+
+    // when
+    sendRequest(1, newJob("foo"));
+    sendRequest(2, newJob("bar"));
+    sendRequest(3, newJob("baz"));
+    handler.onRequestsHandled();
+
+    // then
+    assertThat(writer.writtenBatches).containsExactly(List.of(1L, 2L, 3L));
+    verify(limiter, never()).onIgnore(anyInt(), anyLong());
+  }
+
+  @Test
+  public void shouldReleaseAllRequestsIfBatchCannotBeWritten() {
+    // given
+    final RecordingBatchWriter writer = new RecordingBatchWriter(Integer.MAX_VALUE);
+    writer.failWrites = true;
+    handler.addPartition(PARTITION_ID, writer, limiter);
+
+    // when
+    sendRequest(1, newJob("foo"));
+    sendRequest(2, newJob("bar"));
+    handler.onRequestsHandled();
+
+    // then
+    assertThat(writer.writtenBatches).isEmpty();
+    assertThat(writer.batchedRequests).isEmpty();
+    verify(limiter).onIgnore(PARTITION_ID, 1);
+    verify(limiter).onIgnore(PARTITION_ID, 2);
+  }
+
+  @Test
+  public void shouldWriteBatchBeforeRequestWhichDoesNotFit() {
+    // given
+    final JobRecord smallJob = newJob("foo");
+    final JobRecord bigJob = newJob("x".repeat(1024));
+    final RecordingBatchWriter writer = new RecordingBatchWriter(commandLength(bigJob));
+    handler.addPartition(PARTITION_ID, writer, limiter);
+
+    // when
+    sendRequest(1, smallJob);
+    sendRequest(2, bigJob);
+    handler.onRequestsHandled();
+
+    // then
+    assertThat(writer.writtenBatches).containsExactly(List.of(1L), List.of(2L));
+    verify(limiter, never()).onIgnore(anyInt(), anyLong());
+  }
+
+  @Test
+  public void shouldReleaseRequestWhichIsTooBigForAnyBatch() {
+    // given
+    final JobRecord smallJob = newJob("foo");
+    final JobRecord hugeJob = newJob("x".repeat(1024));
+    final RecordingBatchWriter writer = new RecordingBatchWriter(commandLength(hugeJob) - 1);
+    handler.addPartition(PARTITION_ID, writer, limiter);
+
+    // when
+    sendRequest(1, smallJob);
+    sendRequest(2, hugeJob);
+    handler.onRequestsHandled();
+
+    // then
+    assertThat(writer.writtenBatches).containsExactly(List.of(1L));
+    verify(limiter).onIgnore(PARTITION_ID, 2);
+    verify(limiter, never()).onIgnore(PARTITION_ID, 1);
+  }
+
+  private void sendRequest(final long requestId, final JobRecord job) {
+    final ExecuteCommandRequest request =
+        new ExecuteCommandRequest(null, null, new MsgPackHelper())
+            .partitionId(PARTITION_ID)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.COMPLETE)
+            .command(job);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(buffer, 0);
+
+    handler.onRequest(output, PARTITION_ID, requestId, buffer, 0, buffer.capacity());
+  }
+
+  private static JobRecord newJob(final String type) {
+    return new JobRecord().setType(type);
+  }
+
+  private static int commandLength(final JobRecord job) {
+    return new RecordMetadata().getLength() + job.getLength();
+  }
+
+  /**
+   * Records the request ids of the written batches. A batch accepts entries as long as their
+   * summed length doesn't exceed the given maximum.
+   */
+  private static final class RecordingBatchWriter
+      implements LogStreamBatchWriter, LogStreamBatchWriter.LogEntryBuilder {
+
+    private final int maxBatchLength;
+    private final List<List<Long>> writtenBatches = new ArrayList<>();
+    private final List<Long> batchedRequests = new ArrayList<>();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private boolean failWrites;
+    private int batchLength;
+    private int entryLength;
+    private long position;
+
+    private RecordingBatchWriter(final int maxBatchLength) {
+      this.maxBatchLength = maxBatchLength;
+    }
+
+    @Override
+    public LogStreamBatchWriter sourceRecordPosition(final long position) {
+      return this;
+    }
+
+    @Override
+    public LogEntryBuilder event() {
+      entryLength = 0;
+      return this;
+    }
+
+    @Override
+    public int getMaxFragmentLength() {
+      return maxBatchLength;
+    }
+
+    @Override
+    public boolean canWriteAdditionalEvent(final int length) {
+      return batchLength + length <= maxBatchLength;
+    }
+
+    @Override
+    public void reset() {
+      batchedRequests.clear();
+      batchLength = 0;
+    }
+
+    @Override
+    public long tryWrite() {
+      if (failWrites) {
+        return -1;
+      }
+
+      writtenBatches.add(new ArrayList<>(batchedRequests));
+      reset();
+      return position++;
+    }
+
+    @Override
+    public LogEntryBuilder keyNull() {
+      return this;
+    }
+
+    @Override
+    public LogEntryBuilder key(final long key) {
+      return this;
+    }
+
+    @Override
+    public LogEntryBuilder sourceIndex(final int index) {
+      return this;
+    }
+
+    @Override
+    public LogEntryBuilder metadata(final DirectBuffer buffer, final int offset, final int length) {
+      metadata.wrap(buffer, offset, length);
+      entryLength += length;
+      return this;
+    }
+
+    @Override
+    public LogEntryBuilder metadata(final DirectBuffer buffer) {
+      return metadata(buffer, 0, buffer.capacity());
+    }
+
+    @Override
+    public LogEntryBuilder metadataWriter(final BufferWriter writer) {
+      final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+      writer.write(buffer, 0);
+      return metadata(buffer);
+    }
+
+    @Override
+    public LogEntryBuilder value(
+        final DirectBuffer value, final int valueOffset, final int valueLength) {
+      entryLength += valueLength;
+      return this;
+    }
+
+    @Override
+    public LogEntryBuilder value(final DirectBuffer value) {
+      return value(value, 0, value.capacity());
+    }
+
+    @Override
+    public LogEntryBuilder valueWriter(final BufferWriter writer) {
+      entryLength += writer.getLength();
+      return this;
+    }
+
+    @Override
+    public LogStreamBatchWriter done() {
+      batchedRequests.add(metadata.getRequestId());
+      batchLength += entryLength;
+      return this;
+    }
+  }
+}
@@ -16,6 +16,7 @@
 package io.zeebe.client.api.command;
 
 import io.zeebe.client.api.response.ActivateJobsResponse;
+import io.zeebe.client.api.response.ActivatedJob;
 import java.time.Duration;
 import java.util.List;
 
@@ -98,5 +99,18 @@ public interface ActivateJobsCommandStep1 {
      *     it to the broker.
      */
     ActivateJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Set whether the variables and custom headers of the activated jobs are returned as
+     * MessagePack documents instead of JSON documents.
+     *
+     * <p>If set, the jobs provide them by {@link ActivatedJob#getMsgPackVariables()} and {@link
+     * ActivatedJob#getMsgPackCustomHeaders()} only; the JSON based accessors are empty.
+     *
+     * @param msgPackVariables true to receive MessagePack documents
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 msgPackVariables(boolean msgPackVariables);
   }
 }
@@ -56,4 +56,14 @@ public interface CompleteJobCommandStep1 extends FinalCommandStep<CompleteJobRes
    *     to the broker.
    */
   CompleteJobCommandStep1 variables(Object variables);
+
+  /**
+   * Set the variables to complete the job with.
+   *
+   * @param variables the variables as a MessagePack document; it is passed to the broker without
+   *     conversion
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobCommandStep1 msgPackVariables(byte[] variables);
 }
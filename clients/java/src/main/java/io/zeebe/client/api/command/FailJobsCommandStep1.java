@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.FailJobsResponse;
+
+public interface FailJobsCommandStep1 extends FinalCommandStep<FailJobsResponse> {
+
+  /**
+   * Add a job to mark as failed.
+   *
+   * <p>If the retries are greater than zero then this job will be picked up again by a job
+   * subscription. Otherwise, an incident is created for this job.
+   *
+   * @param jobKey the key which identifies the job
+   * @param remainingRetries the remaining retries of this job (e.g. "jobEvent.getRetries() - 1")
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  FailJobsCommandStep1 addJob(long jobKey, int remainingRetries);
+
+  /**
+   * Add a job to mark as failed, with an error message describing the reason for the failure. If
+   * failing the job creates an incident, this error message will be used as incident message.
+   *
+   * @param jobKey the key which identifies the job
+   * @param remainingRetries the remaining retries of this job (e.g. "jobEvent.getRetries() - 1")
+   * @param errorMsg error message to be attached to the failed job
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  FailJobsCommandStep1 addJob(long jobKey, int remainingRetries, String errorMsg);
+}
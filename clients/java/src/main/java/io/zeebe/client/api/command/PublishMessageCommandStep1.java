@@ -104,5 +104,15 @@ public interface PublishMessageCommandStep1 {
      *     it to the broker.
      */
     PublishMessageCommandStep3 variables(Object variables);
+
+    /**
+     * Set the variables of the message.
+     *
+     * @param variables the variables as a MessagePack document; it is passed to the broker
+     *     without conversion
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessageCommandStep3 msgPackVariables(byte[] variables);
   }
 }
@@ -56,6 +56,16 @@ public interface SetVariablesCommandStep1 {
    */
   SetVariablesCommandStep2 variables(Object variables);
 
+  /**
+   * Sets the variables document from a MessagePack document, which is passed to the broker without
+   * conversion.
+   *
+   * @param variables the variables document as MessagePack
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  SetVariablesCommandStep2 msgPackVariables(byte[] variables);
+
   interface SetVariablesCommandStep2 extends FinalCommandStep<SetVariablesResponse> {
     // the place for new optional parameters
 
@@ -68,6 +68,18 @@ public interface ActivatedJob {
   /** @return de-serialized variables as the given type */
   <T> T getVariablesAsType(Class<T> variableType);
 
+  /**
+   * @return MessagePack-formatted variables, if the jobs were activated with MessagePack
+   *     variables; otherwise empty
+   */
+  byte[] getMsgPackVariables();
+
+  /**
+   * @return MessagePack-formatted custom headers, if the jobs were activated with MessagePack
+   *     variables; otherwise empty
+   */
+  byte[] getMsgPackCustomHeaders();
+
   /** @return the record encoded as JSON */
   String toJson();
 }
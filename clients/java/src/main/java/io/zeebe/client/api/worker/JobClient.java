@@ -16,7 +16,9 @@
 package io.zeebe.client.api.worker;
 
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
+import io.zeebe.client.api.command.FailJobsCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 
 /**
@@ -47,6 +49,26 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(long jobKey);
 
+  /**
+   * Command to complete several jobs at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey, json)
+   *  .addJob(otherJobKey, otherJson)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are sent to the gateway in one request, which saves a call per job. The gateway
+   * completes the jobs of each partition with one command, but the jobs are not completed
+   * atomically. The command does not fail if a single job can't be completed; instead, the
+   * response contains a result for each job.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
@@ -67,6 +89,25 @@ public interface JobClient {
    */
   FailJobCommandStep1 newFailCommand(long jobKey);
 
+  /**
+   * Command to mark several jobs as failed at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newFailJobsCommand()
+   *  .addJob(jobKey, 3)
+   *  .addJob(otherJobKey, 0, "failed")
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are sent to the gateway in one request. The gateway marks the jobs of each
+   * partition as failed with one command, but not atomically. The command does not fail if a
+   * single job can't be marked as failed; instead, the response contains a result for each job.
+   *
+   * @return a builder for the command
+   */
+  FailJobsCommandStep1 newFailJobsCommand();
+
   /**
    * Command to report a business error (i.e. non-technical) that occurs while processing a job.
    *
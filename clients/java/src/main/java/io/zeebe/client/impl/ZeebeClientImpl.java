@@ -29,9 +29,11 @@ import io.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
+import io.zeebe.client.api.command.FailJobsCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
@@ -315,11 +317,21 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return jobClient.newCompleteCommand(jobKey);
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
   }
 
+  @Override
+  public FailJobsCommandStep1 newFailJobsCommand() {
+    return jobClient.newFailJobsCommand();
+  }
+
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(long jobKey) {
     return jobClient.newThrowErrorCommand(jobKey);
@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import java.io.InputStream;
 import java.util.Map;
@@ -47,5 +48,12 @@ public abstract class CommandWithVariables<T> {
     return setVariablesInternal(objectMapper.toJson(variables));
   }
 
+  public T msgPackVariables(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return setMsgPackVariablesInternal(ByteString.copyFrom(variables));
+  }
+
   protected abstract T setVariablesInternal(String variables);
+
+  protected abstract T setMsgPackVariablesInternal(ByteString variables);
 }
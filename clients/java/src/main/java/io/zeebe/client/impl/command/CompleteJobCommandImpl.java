@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
@@ -84,4 +85,10 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
     builder.setVariables(variables);
     return this;
   }
+
+  @Override
+  protected CompleteJobCommandStep1 setMsgPackVariablesInternal(final ByteString variables) {
+    builder.setMsgPackVariables(variables);
+    return this;
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.CompleteJobsResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.response.CompleteJobsResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest.Builder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class CompleteJobsCommandImpl implements CompleteJobsCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final ZeebeObjectMapper objectMapper;
+  private final Builder builder;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeObjectMapper objectMapper,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.objectMapper = objectMapper;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = CompleteJobsRequest.newBuilder();
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey) {
+    builder.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final String variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return addJobWithVariables(jobKey, objectMapper.validateJson("variables", variables));
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(
+      final long jobKey, final Map<String, Object> variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return addJob(jobKey, (Object) variables);
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final Object variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return addJobWithVariables(jobKey, objectMapper.toJson(variables));
+  }
+
+  private CompleteJobsCommandStep1 addJobWithVariables(final long jobKey, final String variables) {
+    builder.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(variables));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<CompleteJobsResponse> send() {
+    final CompleteJobsRequest request = builder.build();
+
+    final RetriableClientFutureImpl<CompleteJobsResponse, GatewayOuterClass.CompleteJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CompleteJobsResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CompleteJobsRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
@@ -82,6 +83,13 @@ public final class CreateWorkflowInstanceCommandImpl
     return setVariables(objectMapper.toJson(variables));
   }
 
+  @Override
+  public CreateWorkflowInstanceCommandStep3 msgPackVariables(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.setMsgPackVariables(ByteString.copyFrom(variables));
+    return this;
+  }
+
   @Override
   public CreateWorkflowInstanceWithResultCommandStep1 withResult() {
     return new CreateWorkflowInstanceWithResultCommandImpl(
@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.ZeebeFuture;
@@ -60,6 +61,12 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
     return this;
   }
 
+  @Override
+  protected PublishMessageCommandImpl setMsgPackVariablesInternal(final ByteString variables) {
+    builder.setMsgPackVariables(variables);
+    return this;
+  }
+
   @Override
   public PublishMessageCommandStep3 messageId(final String messageId) {
     builder.setMessageId(messageId);
@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.command.FinalCommandStep;
@@ -115,6 +116,13 @@ public final class SetVariablesCommandImpl
     return setVariables(objectMapper.toJson(variables));
   }
 
+  @Override
+  public SetVariablesCommandStep2 msgPackVariables(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.setMsgPackVariables(ByteString.copyFrom(variables));
+    return this;
+  }
+
   private SetVariablesCommandStep2 setVariables(final String jsonDocument) {
     builder.setVariables(jsonDocument);
     return this;
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.Collections;
 import java.util.Map;
 
 public final class ActivatedJobImpl implements ActivatedJob {
@@ -38,6 +39,8 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final int retries;
   private final long deadline;
   private final String variables;
+  @JsonIgnore private final byte[] msgPackVariables;
+  @JsonIgnore private final byte[] msgPackCustomHeaders;
 
   public ActivatedJobImpl(
       final ZeebeObjectMapper objectMapper, final GatewayOuterClass.ActivatedJob job) {
@@ -45,11 +48,17 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
     key = job.getKey();
     type = job.getType();
-    customHeaders = objectMapper.fromJsonAsStringMap(job.getCustomHeaders());
+    // jobs activated with MessagePack variables have no JSON custom headers
+    customHeaders =
+        job.getCustomHeaders().isEmpty()
+            ? Collections.emptyMap()
+            : objectMapper.fromJsonAsStringMap(job.getCustomHeaders());
     worker = job.getWorker();
     retries = job.getRetries();
     deadline = job.getDeadline();
     variables = job.getVariables();
+    msgPackVariables = job.getMsgPackVariables().toByteArray();
+    msgPackCustomHeaders = job.getMsgPackCustomHeaders().toByteArray();
     workflowInstanceKey = job.getWorkflowInstanceKey();
     bpmnProcessId = job.getBpmnProcessId();
     workflowDefinitionVersion = job.getWorkflowDefinitionVersion();
@@ -133,6 +142,18 @@ public final class ActivatedJobImpl implements ActivatedJob {
     return objectMapper.fromJson(variables, variableType);
   }
 
+  @JsonIgnore
+  @Override
+  public byte[] getMsgPackVariables() {
+    return msgPackVariables;
+  }
+
+  @JsonIgnore
+  @Override
+  public byte[] getMsgPackCustomHeaders() {
+    return msgPackCustomHeaders;
+  }
+
   @Override
   public String toJson() {
     return objectMapper.toJson(this);
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.zeebe.client.api.response.FailJobsResponse;
+import io.zeebe.client.api.response.JobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class FailJobsResponseImpl implements FailJobsResponse {
+
+  private final List<JobResult> results;
+
+  public FailJobsResponseImpl(final GatewayOuterClass.FailJobsResponse response) {
+    results =
+        response.getResultsList().stream().map(JobResultImpl::new).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<JobResult> getResults() {
+    return results;
+  }
+}
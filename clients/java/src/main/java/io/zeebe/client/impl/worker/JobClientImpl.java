@@ -17,12 +17,16 @@ package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
+import io.zeebe.client.api.command.FailJobsCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.client.impl.command.CompleteJobCommandImpl;
+import io.zeebe.client.impl.command.CompleteJobsCommandImpl;
 import io.zeebe.client.impl.command.FailJobCommandImpl;
+import io.zeebe.client.impl.command.FailJobsCommandImpl;
 import io.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import java.util.function.Predicate;
@@ -51,12 +55,23 @@ public final class JobClientImpl implements JobClient {
         asyncStub, objectMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(
+        asyncStub, objectMapper, config.getDefaultRequestTimeout(), retryPredicate);
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
         asyncStub, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
   }
 
+  @Override
+  public FailJobsCommandStep1 newFailJobsCommand() {
+    return new FailJobsCommandImpl(asyncStub, config.getDefaultRequestTimeout(), retryPredicate);
+  }
+
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(long jobKey) {
     return new ThrowErrorCommandImpl(
@@ -19,6 +19,7 @@ import static io.zeebe.client.util.JsonUtil.fromJsonAsMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.response.ActivateJobsResponse;
 import io.zeebe.client.impl.ZeebeObjectMapper;
@@ -228,6 +229,44 @@ public final class ActivateJobsTest extends ClientTest {
     assertThat(request.getRequestTimeout()).isEqualTo(requestTimeout.toMillis());
   }
 
+  @Test
+  public void shouldRequestMsgPackVariables() {
+    // when
+    client
+        .newActivateJobsCommand()
+        .jobType("foo")
+        .maxJobsToActivate(3)
+        .msgPackVariables(true)
+        .send()
+        .join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMsgPackVariables()).isTrue();
+  }
+
+  @Test
+  public void shouldProvideMsgPackVariablesOfActivatedJob() {
+    // given
+    final byte[] msgPackVariables = {(byte) 0x81, (byte) 0xa1, 'a', 1};
+    final byte[] msgPackCustomHeaders = {(byte) 0x80};
+
+    // when
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder()
+                .setMsgPackVariables(ByteString.copyFrom(msgPackVariables))
+                .setMsgPackCustomHeaders(ByteString.copyFrom(msgPackCustomHeaders))
+                .build());
+
+    // then
+    assertThat(activatedJob.getMsgPackVariables()).isEqualTo(msgPackVariables);
+    assertThat(activatedJob.getMsgPackCustomHeaders()).isEqualTo(msgPackCustomHeaders);
+    assertThat(activatedJob.getVariables()).isEmpty();
+    assertThat(activatedJob.getCustomHeaders()).isEmpty();
+  }
+
   @Test
   public void shouldDeserializePartiallyToPojo() {
     // given
@@ -79,6 +79,23 @@ public final class CompleteJobTest extends ClientTest {
     JsonUtil.assertEquality(request.getVariables(), json);
   }
 
+  @Test
+  public void shouldCompleteWithMsgPackVariables() {
+    // given
+    final long jobKey = 12;
+    // {"key":"val"}
+    final byte[] msgPack = {(byte) 0x81, (byte) 0xa3, 'k', 'e', 'y', (byte) 0xa3, 'v', 'a', 'l'};
+
+    // when
+    client.newCompleteCommand(jobKey).msgPackVariables(msgPack).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobKey()).isEqualTo(jobKey);
+    assertThat(request.getMsgPackVariables().toByteArray()).isEqualTo(msgPack);
+    assertThat(request.getVariables()).isEmpty();
+  }
+
   @Test
   public void shouldCompleteWithJsonMapVariables() {
     // given
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.CompleteJobsResponse;
+import io.zeebe.client.api.response.JobResult;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).addJob(13, json).send().join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey, CompleteJobRequest::getVariables)
+        .containsExactly(tuple(12L, ""), tuple(13L, json));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldCompleteJobWithMapVariables() {
+    // when
+    client
+        .newCompleteJobsCommand()
+        .addJob(12, Collections.singletonMap("key", "val"))
+        .send()
+        .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    JsonUtil.assertEquality(
+        request.getJobs(0).getVariables(), JsonUtil.toJson(Collections.singletonMap("key", "val")));
+  }
+
+  @Test
+  public void shouldReturnResultPerJob() {
+    // given
+    gatewayService.addRequestHandler(
+        CompleteJobsRequest.class,
+        request ->
+            GatewayOuterClass.CompleteJobsResponse.newBuilder()
+                .addResults(GatewayOuterClass.JobResult.newBuilder().setJobKey(12))
+                .addResults(
+                    GatewayOuterClass.JobResult.newBuilder()
+                        .setJobKey(13)
+                        .setCode(Code.NOT_FOUND.value())
+                        .setMessage("not found"))
+                .build());
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(JobResult::getJobKey, JobResult::isSuccessful, JobResult::getStatusCode)
+        .containsExactly(tuple(12L, true, Code.OK), tuple(13L, false, Code.NOT_FOUND));
+    assertThat(response.getResults().get(1).getMessage()).isEqualTo("not found");
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().addJob(123).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.client.api.response.FailJobsResponse;
+import io.zeebe.client.api.response.JobResult;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import org.junit.Test;
+
+public final class FailJobsTest extends ClientTest {
+
+  @Test
+  public void shouldFailJobs() {
+    // when
+    final FailJobsResponse response =
+        client.newFailJobsCommand().addJob(12, 3).addJob(13, 0, "failed").send().join();
+
+    // then
+    final FailJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(
+            FailJobRequest::getJobKey, FailJobRequest::getRetries, FailJobRequest::getErrorMessage)
+        .containsExactly(tuple(12L, 3, ""), tuple(13L, 0, "failed"));
+    assertThat(response.getResults())
+        .extracting(JobResult::getJobKey, JobResult::isSuccessful)
+        .containsExactly(tuple(12L, true), tuple(13L, true));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+}
@@ -28,6 +28,8 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -36,6 +38,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
@@ -59,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
@@ -88,11 +94,35 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addAllResults(
+                    ((CompleteJobsRequest) r)
+                        .getJobsList().stream()
+                            .map(job -> jobResult(job.getJobKey()))
+                            .collect(Collectors.toList()))
+                .build());
+    addRequestHandler(
+        FailJobsRequest.class,
+        r ->
+            FailJobsResponse.newBuilder()
+                .addAllResults(
+                    ((FailJobsRequest) r)
+                        .getJobsList().stream()
+                            .map(job -> jobResult(job.getJobKey()))
+                            .collect(Collectors.toList()))
+                .build());
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
   }
 
+  public static JobResult jobResult(final long jobKey) {
+    return JobResult.newBuilder().setJobKey(jobKey).build();
+  }
+
   public static Partition partition(
       final int partitionId, final PartitionBrokerRole role, final PartitionBrokerHealth health) {
     return Partition.newBuilder()
@@ -163,6 +193,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -190,6 +227,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void throwError(
       ThrowErrorRequest request, StreamObserver<ThrowErrorResponse> responseObserver) {
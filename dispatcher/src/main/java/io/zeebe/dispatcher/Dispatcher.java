@@ -11,6 +11,8 @@ import static io.zeebe.dispatcher.impl.PositionUtil.partitionId;
 import static io.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_TAIL_MOVED;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailOffset;
 
 import io.zeebe.dispatcher.impl.log.LogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBufferAppender;
@@ -20,7 +22,6 @@ import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.FutureUtil;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
-import java.util.function.BiFunction;
 import org.slf4j.Logger;
 
 /** Component for sending and receiving messages between different threads. */
@@ -35,7 +36,6 @@ public class Dispatcher extends Actor {
 
   private final AtomicPosition publisherLimit;
   private final AtomicPosition publisherPosition;
-  private long recordPosition;
   private final String[] defaultSubscriptionNames;
   private final int maxFragmentLength;
   private final String name;
@@ -44,14 +44,13 @@ public class Dispatcher extends Actor {
   private final Runnable onClaimComplete = this::signalSubscriptions;
   private volatile boolean isClosed = false;
   private final Runnable backgroundTask = this::runBackgroundTask;
-  private ActorCondition dataConsumed;
+  private volatile ActorCondition dataConsumed;
 
   Dispatcher(
       final LogBuffer logBuffer,
       final LogBufferAppender logAppender,
       final AtomicPosition publisherLimit,
       final AtomicPosition publisherPosition,
-      final long initialPosition,
       final int logWindowLength,
       final int maxFragmentLength,
       final String[] subscriptionNames,
@@ -60,7 +59,6 @@ public class Dispatcher extends Actor {
     this.logAppender = logAppender;
     this.publisherLimit = publisherLimit;
     this.publisherPosition = publisherPosition;
-    recordPosition = initialPosition;
     this.name = name;
 
     this.logWindowLength = logWindowLength;
@@ -98,8 +96,8 @@ public class Dispatcher extends Actor {
   }
 
   private void runBackgroundTask() {
-    updatePublisherLimit();
     logBuffer.cleanPartitions();
+    updatePublisherLimit();
   }
 
   private void openDefaultSubscriptions() {
@@ -141,10 +139,9 @@ public class Dispatcher extends Actor {
   public long claimSingleFragment(
       final ClaimedFragment claim, final int length, final int streamId) {
     return offer(
-        (partition, activePartitionId) ->
+        (partition, activePartitionId, rawTail) ->
             logAppender.claim(
-                partition, activePartitionId, claim, length, streamId, onClaimComplete),
-        1,
+                partition, activePartitionId, rawTail, claim, length, streamId, onClaimComplete),
         LogBufferAppender.claimedFragmentLength(length));
   }
 
@@ -162,60 +159,87 @@ public class Dispatcher extends Actor {
   public long claimFragmentBatch(
       final ClaimedFragmentBatch batch, final int fragmentCount, final int batchLength) {
     return offer(
-        (partition, activePartitionId) ->
+        (partition, activePartitionId, rawTail) ->
             logAppender.claim(
-                partition, activePartitionId, batch, fragmentCount, batchLength, onClaimComplete),
-        fragmentCount,
+                partition,
+                activePartitionId,
+                rawTail,
+                batch,
+                fragmentCount,
+                batchLength,
+                onClaimComplete),
         LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
   }
 
-  private synchronized long offer(
-      final BiFunction<LogBufferPartition, Integer, Integer> claimer,
-      final int fragmentCount,
-      final int length) {
+  /**
+   * Claims the fragments without locking, so that it can be called concurrently by multiple
+   * publishers. The claim is retried as long as other publishers move the tail of the partition in
+   * between.
+   */
+  private long offer(final FragmentClaimer claimer, final int length) {
     long newPosition = -1;
 
-    if (!isClosed) {
+    while (!isClosed) {
       final long limit = publisherLimit.get();
 
       final int activePartitionId = logBuffer.getActivePartitionIdVolatile();
       final LogBufferPartition partition = logBuffer.getPartition(activePartitionId);
 
-      final int partitionOffset = partition.getTailCounterVolatile();
-      final long position = position(activePartitionId, partitionOffset);
+      final long rawTail = partition.getRawTailVolatile();
+      if (activePartitionId != logBuffer.getActivePartitionIdVolatile()) {
+        // the partition was rotated concurrently, the tail may belong to the next round already
+        continue;
+      }
+
+      final long position = position(activePartitionId, tailOffset(rawTail));
 
       if (position < limit) {
         final int newOffset;
 
         if (length < maxFragmentLength) {
-          newOffset = claimer.apply(partition, activePartitionId);
+          newOffset = claimer.claim(partition, activePartitionId, rawTail);
         } else {
           throw new IllegalArgumentException(
               String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
         }
 
-        newPosition = updatePublisherPosition(activePartitionId, newOffset);
+        if (newOffset == RESULT_TAIL_MOVED) {
+          continue;
+        }
 
-        // if successful, replace internal publisher position with simple counter and return it
+        newPosition = updatePublisherPosition(partition, activePartitionId, rawTail, newOffset);
+
+        // if successful, replace internal publisher position with the record position
         if (newPosition > 0) {
-          newPosition = recordPosition;
-          recordPosition += fragmentCount;
+          newPosition = partition.getRecordPosition(rawTail);
         }
         signalSubscriptions();
       }
+
+      break;
     }
 
     return newPosition;
   }
 
-  private long updatePublisherPosition(final int activePartitionId, final int newOffset) {
+  private long updatePublisherPosition(
+      final LogBufferPartition partition,
+      final int activePartitionId,
+      final long rawTail,
+      final int newOffset) {
     long newPosition = -1;
 
     if (newOffset > 0) {
       newPosition = position(activePartitionId, newOffset);
     } else if (newOffset == RESULT_PADDING_AT_END_OF_PARTITION) {
-      logBuffer.onActivePartitionFilled(activePartitionId);
+      logBuffer.onActivePartitionFilled(activePartitionId, partition.getRecordPosition(rawTail));
       newPosition = -2;
+
+      // the publisher limit is only moved into the next partition after it is cleaned
+      final ActorCondition dataConsumed = this.dataConsumed;
+      if (dataConsumed != null) {
+        dataConsumed.signal();
+      }
     }
 
     if (publisherPosition.proposeMaxOrdered(newPosition)) {
@@ -250,6 +274,11 @@ public class Dispatcher extends Actor {
         ++partitionId;
         partitionOffset = logWindowLength;
       }
+      if (logBuffer.getPartition(partitionId).needsCleaning()) {
+        // the partition may already be active, but publishers must not write into it before it is
+        // cleaned
+        partitionOffset = 0;
+      }
       final long proposedPublisherLimit = position(partitionId, partitionOffset);
 
       if (publisherLimit.proposeMaxOrdered(proposedPublisherLimit)) {
@@ -401,4 +430,9 @@ public class Dispatcher extends Actor {
   public String toString() {
     return "Dispatcher [" + name + "]";
   }
+
+  @FunctionalInterface
+  private interface FragmentClaimer {
+    int claim(LogBufferPartition partition, int activePartitionId, long rawTail);
+  }
 }
@@ -96,7 +96,7 @@ public final class DispatcherBuilder {
     final AtomicPosition publisherPosition = new AtomicPosition();
 
     // create dispatcher
-    final LogBuffer logBuffer = new LogBuffer(allocatedBuffer, partitionSize);
+    final LogBuffer logBuffer = new LogBuffer(allocatedBuffer, partitionSize, initialPosition);
     final LogBufferAppender logAppender = new LogBufferAppender();
 
     final Dispatcher dispatcher =
@@ -105,7 +105,6 @@ public final class DispatcherBuilder {
             logAppender,
             publisherLimit,
             publisherPosition,
-            initialPosition,
             logWindowLength,
             maxFragmentLength,
             subscriptionNames,
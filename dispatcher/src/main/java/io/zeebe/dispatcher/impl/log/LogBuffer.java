@@ -30,7 +30,8 @@ public class LogBuffer {
 
   protected final int partitionSize;
 
-  public LogBuffer(final AllocatedBuffer allocatedBuffer, final int partitionSize) {
+  public LogBuffer(
+      final AllocatedBuffer allocatedBuffer, final int partitionSize, final long initialPosition) {
     this.partitionSize = partitionSize;
     rawBuffer = allocatedBuffer;
 
@@ -40,6 +41,7 @@ public class LogBuffer {
         new UnsafeBuffer(
             rawBuffer.getRawBuffer(), logMetadataOffset(partitionSize), LOG_META_DATA_LENGTH);
 
+    partitions[0].resetTail(initialPosition);
     metadataBuffer.putIntVolatile(LOG_ACTIVE_PARTITION_ID_OFFSET, 0);
   }
 
@@ -59,12 +61,20 @@ public class LogBuffer {
     return metadataBuffer.getInt(LOG_MAX_FRAME_LENGTH_OFFSET);
   }
 
-  public void onActivePartitionFilled(final int activePartitionId) {
+  /**
+   * Rotates the active partition. Must only be called by the publisher which tripped the end of the
+   * active partition.
+   *
+   * @param nextPosition the record position of the first fragment in the next partition
+   */
+  public void onActivePartitionFilled(final int activePartitionId, final long nextPosition) {
     final int nextPartitionId = 1 + activePartitionId;
     final int nextNextPartitionId = 1 + nextPartitionId;
+    final LogBufferPartition nextPartition = partitions[nextPartitionId % getPartitionCount()];
     final LogBufferPartition nextNextPartition =
         partitions[(nextNextPartitionId) % getPartitionCount()];
 
+    nextPartition.resetTail(nextPosition);
     nextNextPartition.setStatusOrdered(PARTITION_NEEDS_CLEANING);
     metadataBuffer.putIntOrdered(LOG_ACTIVE_PARTITION_ID_OFFSET, nextPartitionId);
 
@@ -17,6 +17,8 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.nextRawTail;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailOffset;
 import static org.agrona.BitUtil.align;
 import static org.agrona.UnsafeAccess.UNSAFE;
 
@@ -27,7 +29,18 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Appends fragments to the active partition of the log buffer. The appender is lock-free: a
+ * fragment is claimed by moving the raw tail of the partition with a compare-and-set, which
+ * reserves its offset and its record position at once. If another publisher moved the tail in
+ * between, the claim returns {@link #RESULT_TAIL_MOVED} and the publisher has to retry with the new
+ * tail.
+ *
+ * <p>The publisher which trips the end of the partition fills the remaining space with padding and
+ * is responsible for rotating the partition, all others get {@link #RESULT_END_OF_PARTITION}.
+ */
 public class LogBufferAppender {
+  public static final int RESULT_TAIL_MOVED = -3;
   public static final int RESULT_PADDING_AT_END_OF_PARTITION = -2;
   public static final int RESULT_END_OF_PARTITION = -1;
 
@@ -36,6 +49,7 @@ public class LogBufferAppender {
   public int appendFrame(
       final LogBufferPartition partition,
       final int activePartitionId,
+      final long rawTail,
       final DirectBuffer msg,
       final int start,
       final int length,
@@ -44,12 +58,15 @@ public class LogBufferAppender {
     final int framedLength = framedLength(length);
     final int alignedFrameLength = alignedLength(framedLength);
 
-    // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
-
+    final int frameOffset = tailOffset(rawTail);
     int newTail = frameOffset + alignedFrameLength;
 
     if (newTail <= (partitionSize - HEADER_LENGTH)) {
+      // move the tail of the partition
+      if (!partition.compareAndSetRawTail(rawTail, nextRawTail(rawTail, 1, alignedFrameLength))) {
+        return RESULT_TAIL_MOVED;
+      }
+
       final UnsafeBuffer buffer = partition.getDataBuffer();
 
       // write negative length field
@@ -62,7 +79,7 @@ public class LogBufferAppender {
       // commit the message
       buffer.putIntOrdered(lengthOffset(frameOffset), framedLength);
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      newTail = onEndOfPartition(partition, rawTail, activePartitionId);
     }
 
     return newTail;
@@ -71,6 +88,7 @@ public class LogBufferAppender {
   public int claim(
       final LogBufferPartition partition,
       final int activePartitionId,
+      final long rawTail,
       final ClaimedFragment claim,
       final int length,
       final int streamId,
@@ -79,12 +97,15 @@ public class LogBufferAppender {
     final int framedMessageLength = claimedFragmentLength(length);
     final int alignedFrameLength = alignedLength(framedMessageLength);
 
-    // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
-
+    final int frameOffset = tailOffset(rawTail);
     int newTail = frameOffset + alignedFrameLength;
 
     if (newTail <= (partitionSize - HEADER_LENGTH)) {
+      // move the tail of the partition
+      if (!partition.compareAndSetRawTail(rawTail, nextRawTail(rawTail, 1, alignedFrameLength))) {
+        return RESULT_TAIL_MOVED;
+      }
+
       final UnsafeBuffer buffer = partition.getDataBuffer();
 
       // write negative length field
@@ -96,7 +117,7 @@ public class LogBufferAppender {
       claim.wrap(buffer, frameOffset, framedMessageLength, onComplete);
       // Do not commit the message
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      newTail = onEndOfPartition(partition, rawTail, activePartitionId);
     }
 
     return newTail;
@@ -109,6 +130,7 @@ public class LogBufferAppender {
   public int claim(
       final LogBufferPartition partition,
       final int activePartitionId,
+      final long rawTail,
       final ClaimedFragmentBatch batch,
       final int fragmentCount,
       final int batchLength,
@@ -116,18 +138,22 @@ public class LogBufferAppender {
     final int partitionSize = partition.getPartitionSize();
     final int alignedFrameLength = claimedBatchLength(fragmentCount, batchLength);
 
-    // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
-
+    final int frameOffset = tailOffset(rawTail);
     int newTail = frameOffset + alignedFrameLength;
 
     if (newTail <= (partitionSize - HEADER_LENGTH)) {
+      // move the tail of the partition
+      if (!partition.compareAndSetRawTail(
+          rawTail, nextRawTail(rawTail, fragmentCount, alignedFrameLength))) {
+        return RESULT_TAIL_MOVED;
+      }
+
       final UnsafeBuffer buffer = partition.getDataBuffer();
       // all fragment data are written using the claimed batch
       batch.wrap(buffer, activePartitionId, frameOffset, alignedFrameLength, onComplete);
 
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      newTail = onEndOfPartition(partition, rawTail, activePartitionId);
     }
 
     return newTail;
@@ -141,12 +167,18 @@ public class LogBufferAppender {
   }
 
   protected int onEndOfPartition(
-      final LogBufferPartition partition, final int partitionOffset, final int activePartitionId) {
+      final LogBufferPartition partition, final long rawTail, final int activePartitionId) {
     int newTail = RESULT_END_OF_PARTITION;
 
+    final int partitionOffset = tailOffset(rawTail);
     final int padLength = partition.getPartitionSize() - partitionOffset;
 
     if (padLength >= HEADER_LENGTH) {
+      // only one publisher can trip the end of the partition, all others see the moved tail
+      if (!partition.compareAndSetRawTail(rawTail, nextRawTail(rawTail, 0, padLength))) {
+        return RESULT_TAIL_MOVED;
+      }
+
       LOG.trace(
           "The claimed size doesn't fit into the partition {}, fill the rest with padding",
           activePartitionId);
@@ -9,6 +9,7 @@ package io.zeebe.dispatcher.impl.log;
 
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 /**
  * Describes data layout in the log buffer
@@ -48,9 +49,19 @@ public final class LogBufferDescriptor {
   /** A Partition is dirty and requires cleaning. */
   public static final int PARTITION_NEEDS_CLEANING = 1;
 
-  /** Offset within the Partition meta data where the tail value is stored. */
+  /**
+   * Offset within the Partition meta data where the raw tail value is stored. The upper 32 bits
+   * contain the lower bits of the record position of the next fragment, the lower 32 bits the
+   * offset of the next fragment in the Partition.
+   */
   public static final int PARTITION_TAIL_COUNTER_OFFSET;
 
+  /**
+   * Offset within the Partition meta data where the record position of its first fragment is
+   * stored.
+   */
+  public static final int PARTITION_BASE_POSITION_OFFSET;
+
   /** Offset within the Partition meta data where current status is stored */
   public static final int PARTITION_STATUS_OFFSET;
 
@@ -92,6 +103,7 @@ public final class LogBufferDescriptor {
   static {
     int offset = (CACHE_LINE_LENGTH * 2);
     PARTITION_TAIL_COUNTER_OFFSET = offset;
+    PARTITION_BASE_POSITION_OFFSET = offset + SIZE_OF_LONG;
 
     offset += (CACHE_LINE_LENGTH * 2);
     PARTITION_STATUS_OFFSET = offset;
@@ -7,6 +7,7 @@
  */
 package io.zeebe.dispatcher.impl.log;
 
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_BASE_POSITION_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_CLEAN;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_NEEDS_CLEANING;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_STATUS_OFFSET;
@@ -16,6 +17,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class LogBufferPartition {
 
+  private static final long OFFSET_MASK = 0xFFFF_FFFFL;
+
   /** The size of the partition */
   protected final int partitionSize;
 
@@ -43,8 +46,8 @@ public class LogBufferPartition {
   }
 
   public void clean() {
+    // the tail is not reset here, but when the partition becomes active again (see #resetTail)
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
-    metadataBuffer.putInt(PARTITION_TAIL_COUNTER_OFFSET, 0);
     setStatusOrdered(PARTITION_CLEAN);
   }
 
@@ -53,11 +56,39 @@ public class LogBufferPartition {
   }
 
   public int getTailCounterVolatile() {
-    return metadataBuffer.getIntVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    return tailOffset(getRawTailVolatile());
+  }
+
+  public long getRawTailVolatile() {
+    return metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
   }
 
-  public int getAndAddTail(final int frameLength) {
-    return metadataBuffer.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, frameLength);
+  /**
+   * Moves the tail of the partition, if no other publisher moved it since it was read.
+   *
+   * @return true, if the tail was moved
+   */
+  public boolean compareAndSetRawTail(final long expectedRawTail, final long newRawTail) {
+    return metadataBuffer.compareAndSetLong(
+        PARTITION_TAIL_COUNTER_OFFSET, expectedRawTail, newRawTail);
+  }
+
+  /**
+   * Resets the tail to the beginning of the partition, before the partition becomes active.
+   *
+   * @param basePosition the record position of the first fragment in the partition
+   */
+  public void resetTail(final long basePosition) {
+    metadataBuffer.putLongVolatile(PARTITION_BASE_POSITION_OFFSET, basePosition);
+    metadataBuffer.putLongOrdered(PARTITION_TAIL_COUNTER_OFFSET, rawTail(basePosition, 0));
+  }
+
+  /** @return the record position of the next fragment which is claimed at the given raw tail */
+  public long getRecordPosition(final long rawTail) {
+    final long basePosition = metadataBuffer.getLongVolatile(PARTITION_BASE_POSITION_OFFSET);
+    // the raw tail contains only the lower bits of the position, the difference is the number of
+    // fragments which are claimed in this partition so far
+    return basePosition + (int) ((rawTail >>> 32) - basePosition);
   }
 
   public int getPartitionSize() {
@@ -79,4 +110,18 @@ public class LogBufferPartition {
   public int getUnderlyingBufferOffset() {
     return rawBufferOffset;
   }
+
+  public static int tailOffset(final long rawTail) {
+    return (int) (rawTail & OFFSET_MASK);
+  }
+
+  public static long rawTail(final long recordPosition, final int offset) {
+    return (recordPosition << 32) | (offset & OFFSET_MASK);
+  }
+
+  /** @return the raw tail after claiming the given number of fragments with the given length */
+  public static long nextRawTail(
+      final long rawTail, final int fragmentCount, final int alignedLength) {
+    return rawTail((rawTail >>> 32) + fragmentCount, tailOffset(rawTail) + alignedLength);
+  }
 }
@@ -10,6 +10,8 @@ package io.zeebe.dispatcher;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.FRAME_ALIGNMENT;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.HEADER_LENGTH;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_MIN_LENGTH;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.requiredCapacity;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -17,6 +19,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -24,6 +27,7 @@ import static org.mockito.Mockito.when;
 import io.zeebe.dispatcher.impl.log.LogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.zeebe.dispatcher.impl.log.LogBufferPartition;
+import io.zeebe.util.allocation.BufferAllocators;
 import io.zeebe.util.sched.ActorCondition;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -42,6 +46,7 @@ public final class DispatcherTest {
   static final int A_PARTITION_SIZE = 1024;
   static final int A_STREAM_ID = 20;
   private static final long INITIAL_POSITION = 123L;
+  private static final long A_RAW_TAIL = LogBufferPartition.rawTail(INITIAL_POSITION, 0);
 
   Dispatcher dispatcher;
   LogBuffer logBuffer;
@@ -69,7 +74,10 @@ public final class DispatcherTest {
     when(logBuffer.getPartition(0)).thenReturn(logBufferPartition0);
     when(logBuffer.getPartition(1)).thenReturn(logBufferPartition1);
     when(logBuffer.getPartition(2)).thenReturn(logBufferPartition2);
+    when(logBuffer.getPartition(10)).thenReturn(logBufferPartition1);
+    when(logBuffer.getPartition(11)).thenReturn(logBufferPartition2);
     when(logBuffer.createRawBufferView()).thenReturn(ByteBuffer.allocate(32));
+    when(logBufferPartition0.getRecordPosition(A_RAW_TAIL)).thenReturn(INITIAL_POSITION);
 
     logAppender = mock(LogBufferAppender.class);
     publisherLimit = mock(AtomicPosition.class);
@@ -85,7 +93,6 @@ public final class DispatcherTest {
             logAppender,
             publisherLimit,
             publisherPosition,
-            INITIAL_POSITION,
             A_LOG_WINDOW_LENGTH,
             A_LOG_WINDOW_LENGTH,
             new String[0],
@@ -114,7 +121,7 @@ public final class DispatcherTest {
     // given
     // position of 0,0
     when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0);
-    when(logBufferPartition0.getTailCounterVolatile()).thenReturn(0);
+    when(logBufferPartition0.getRawTailVolatile()).thenReturn(A_RAW_TAIL);
     // publisher limit of 0
     when(publisherLimit.get()).thenReturn(position(0, 0));
 
@@ -128,9 +135,9 @@ public final class DispatcherTest {
     verifyNoMoreInteractions(publisherLimit);
     verifyNoMoreInteractions(logAppender);
     verifyNoMoreInteractions(claimedFragment);
-    verify(logBuffer).getActivePartitionIdVolatile();
+    verify(logBuffer, times(2)).getActivePartitionIdVolatile();
     verify(logBuffer).getPartition(0);
-    verify(logBufferPartition0).getTailCounterVolatile();
+    verify(logBufferPartition0).getRawTailVolatile();
   }
 
   @Test
@@ -138,12 +145,13 @@ public final class DispatcherTest {
     // given
     // position is 0,0
     when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0);
-    when(logBufferPartition0.getTailCounterVolatile()).thenReturn(0);
+    when(logBufferPartition0.getRawTailVolatile()).thenReturn(A_RAW_TAIL);
     when(publisherLimit.get()).thenReturn(position(0, A_FRAGMENT_LENGTH));
 
     when(logAppender.claim(
             eq(logBufferPartition0),
             eq(0),
+            eq(A_RAW_TAIL),
             eq(claimedFragment),
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
@@ -161,6 +169,7 @@ public final class DispatcherTest {
         .claim(
             eq(logBufferPartition0),
             eq(0),
+            eq(A_RAW_TAIL),
             eq(claimedFragment),
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
@@ -169,9 +178,9 @@ public final class DispatcherTest {
     verify(publisherLimit).get();
     verify(publisherPosition).proposeMaxOrdered(position(0, A_FRAGMENT_LENGTH));
 
-    verify(logBuffer).getActivePartitionIdVolatile();
+    verify(logBuffer, times(2)).getActivePartitionIdVolatile();
     verify(logBuffer).getPartition(0);
-    verify(logBufferPartition0).getTailCounterVolatile();
+    verify(logBufferPartition0).getRawTailVolatile();
   }
 
   @Test
@@ -231,6 +240,17 @@ public final class DispatcherTest {
     verify(publisherLimit).proposeMaxOrdered(position(11, A_LOG_WINDOW_LENGTH));
   }
 
+  @Test
+  public void shouldNotUpdatePublisherLimitBeyondPartitionWhichNeedsCleaning() {
+    when(subscriberPosition.get()).thenReturn(position(10, A_PARTITION_SIZE - A_LOG_WINDOW_LENGTH));
+    when(logBufferPartition2.needsCleaning()).thenReturn(true);
+
+    dispatcher.doOpenSubscription("test", mock(ActorCondition.class));
+    dispatcher.updatePublisherLimit();
+
+    verify(publisherLimit).proposeMaxOrdered(position(11, 0));
+  }
+
   @Test
   public void shouldReadFragmentsFromPartitionOnPeekAndConsume() {
     // given
@@ -264,17 +284,45 @@ public final class DispatcherTest {
   }
 
   @Test
-  public void shouldIncrementRecordPositionAfterClaimingFragment() {
+  public void shouldRetryClaimIfTailWasMovedConcurrently() {
     // given
-    when(publisherLimit.get()).thenReturn(position(0, A_FRAGMENT_LENGTH));
+    final long movedRawTail = LogBufferPartition.rawTail(INITIAL_POSITION + 1, A_FRAGMENT_LENGTH);
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0);
+    when(logBufferPartition0.getRawTailVolatile()).thenReturn(A_RAW_TAIL, movedRawTail);
+    when(logBufferPartition0.getRecordPosition(movedRawTail)).thenReturn(INITIAL_POSITION + 1);
+    when(publisherLimit.get()).thenReturn(position(0, A_LOG_WINDOW_LENGTH));
     when(logAppender.claim(
             eq(logBufferPartition0),
             eq(0),
+            eq(A_RAW_TAIL),
             eq(claimedFragment),
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(LogBufferAppender.RESULT_TAIL_MOVED);
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(movedRawTail),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn(2 * A_FRAGMENT_LENGTH);
+
+    // when
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(newPosition).isEqualTo(INITIAL_POSITION + 1);
+    verify(publisherPosition).proposeMaxOrdered(position(0, 2 * A_FRAGMENT_LENGTH));
+  }
+
+  @Test
+  public void shouldIncrementRecordPositionAfterClaimingFragment() {
+    // given
+    final Dispatcher dispatcher = newDispatcherWithLogBuffer();
 
     // when
     long newPosition =
@@ -291,17 +339,7 @@ public final class DispatcherTest {
   public void shouldIncreasePositionByFragmentCountAfterClaimingBatch() {
     // given
     final int fragmentCount = 3;
-    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0);
-    when(logBufferPartition0.getTailCounterVolatile()).thenReturn(0);
-    when(publisherLimit.get()).thenReturn(position(0, A_FRAGMENT_LENGTH));
-    when(logAppender.claim(
-            eq(logBufferPartition0),
-            eq(0),
-            eq(claimedFragmentBatch),
-            eq(fragmentCount),
-            eq(A_MSG_PAYLOAD_LENGTH),
-            any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+    final Dispatcher dispatcher = newDispatcherWithLogBuffer();
 
     // when
     long newPosition =
@@ -313,4 +351,47 @@ public final class DispatcherTest {
         dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
     assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
   }
+
+  @Test
+  public void shouldContinuePositionsInNextPartition() {
+    // given
+    final Dispatcher dispatcher = newDispatcherWithLogBuffer();
+    final int fragmentsPerPartition =
+        (PARTITION_MIN_LENGTH - HEADER_LENGTH) / align(A_FRAGMENT_LENGTH, FRAME_ALIGNMENT);
+
+    for (int i = 0; i < fragmentsPerPartition; i++) {
+      assertThat(dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID))
+          .isEqualTo(INITIAL_POSITION + i);
+    }
+
+    // when
+    final long rejectedPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(rejectedPosition).isEqualTo(-2);
+    assertThat(dispatcher.getLogBuffer().getActivePartitionIdVolatile()).isEqualTo(1);
+    assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentsPerPartition);
+  }
+
+  private Dispatcher newDispatcherWithLogBuffer() {
+    final LogBuffer logBuffer =
+        new LogBuffer(
+            BufferAllocators.allocateDirect(requiredCapacity(PARTITION_MIN_LENGTH)),
+            PARTITION_MIN_LENGTH,
+            INITIAL_POSITION);
+    when(publisherLimit.get()).thenReturn(position(2, 0));
+
+    return new Dispatcher(
+        logBuffer,
+        new LogBufferAppender(),
+        publisherLimit,
+        publisherPosition,
+        PARTITION_MIN_LENGTH,
+        PARTITION_MIN_LENGTH,
+        new String[0],
+        "test");
+  }
 }
@@ -14,6 +14,7 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.nextRawTail;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -77,15 +78,18 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(
-            PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, SINGLE_BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // when
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
+            currentTail,
             claimedBatchMock,
             1,
             BATCH_MESSAGE_LENGTH,
@@ -98,7 +102,10 @@ public final class LogBufferAppenderClaimBatchTest {
         .wrap(dataBufferMock, PARTITION_ID, currentTail, SINGLE_BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
     verify(metadataBufferMock)
-        .getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH);
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, SINGLE_BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -107,14 +114,18 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // when
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
+            currentTail,
             claimedBatchMock,
             BATCH_FRAGMENT_COUNT,
             BATCH_MESSAGE_LENGTH,
@@ -126,7 +137,11 @@ public final class LogBufferAppenderClaimBatchTest {
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -135,14 +150,18 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // when
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
+            currentTail,
             claimedBatchMock,
             BATCH_FRAGMENT_COUNT,
             BATCH_MESSAGE_LENGTH,
@@ -154,7 +173,11 @@ public final class LogBufferAppenderClaimBatchTest {
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -164,13 +187,15 @@ public final class LogBufferAppenderClaimBatchTest {
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH + 1;
 
     // when
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET, currentTail, PARTITION_LENGTH))
+        .thenReturn(true);
 
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
+            currentTail,
             claimedBatchMock,
             BATCH_FRAGMENT_COUNT,
             BATCH_MESSAGE_LENGTH,
@@ -179,8 +204,9 @@ public final class LogBufferAppenderClaimBatchTest {
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, currentTail, PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -200,14 +226,16 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET, currentTail, PARTITION_LENGTH))
+        .thenReturn(true);
 
     // when
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
+            currentTail,
             claimedBatchMock,
             BATCH_FRAGMENT_COUNT,
             BATCH_MESSAGE_LENGTH,
@@ -216,8 +244,9 @@ public final class LogBufferAppenderClaimBatchTest {
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, currentTail, PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -237,14 +266,12 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
-
     // when
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
+            currentTail,
             claimedBatchMock,
             BATCH_FRAGMENT_COUNT,
             BATCH_MESSAGE_LENGTH,
@@ -253,8 +280,7 @@ public final class LogBufferAppenderClaimBatchTest {
     // then
     assertThat(newTail).isEqualTo(-1);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    // the tail is not moved
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
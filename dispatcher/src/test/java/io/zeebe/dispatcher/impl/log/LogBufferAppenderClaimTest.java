@@ -16,6 +16,7 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.nextRawTail;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -68,14 +69,18 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
+            currentTail,
             claimedFragmentMock,
             A_MSG_PAYLOAD_LENGTH,
             A_STREAM_ID,
@@ -85,7 +90,11 @@ public final class LogBufferAppenderClaimTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // the negative header was written and the claimed fragment now wraps the buffer section
@@ -106,14 +115,18 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
+            currentTail,
             claimedFragmentMock,
             A_MSG_PAYLOAD_LENGTH,
             A_STREAM_ID,
@@ -123,7 +136,11 @@ public final class LogBufferAppenderClaimTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // the negative header was written and the claimed fragment now wraps the buffer section
@@ -144,8 +161,9 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH))
+        .thenReturn(true);
 
     // if        throw new RuntimeException("File " + bufferFileName + " does not exist");
 
@@ -153,6 +171,7 @@ public final class LogBufferAppenderClaimTest {
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
+            currentTail,
             claimedFragmentMock,
             A_MSG_PAYLOAD_LENGTH,
             A_STREAM_ID,
@@ -161,8 +180,9 @@ public final class LogBufferAppenderClaimTest {
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -184,14 +204,16 @@ public final class LogBufferAppenderClaimTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
+            currentTail,
             claimedFragmentMock,
             A_MSG_PAYLOAD_LENGTH,
             A_STREAM_ID,
@@ -200,8 +222,9 @@ public final class LogBufferAppenderClaimTest {
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -222,14 +245,12 @@ public final class LogBufferAppenderClaimTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
-
     // if
     final int newTail =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
+            currentTail,
             claimedFragmentMock,
             A_MSG_PAYLOAD_LENGTH,
             A_STREAM_ID,
@@ -238,11 +259,41 @@ public final class LogBufferAppenderClaimTest {
     // then
     assertThat(newTail).isEqualTo(-1);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is not moved
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
     verify(dataBufferMock, times(0)).putIntOrdered(anyInt(), anyInt());
   }
+
+  @Test
+  public void shouldNotClaimIfTailWasMovedConcurrently() {
+    // given
+    // that another publisher moved the tail in between
+    final int currentTail = 0;
+
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH)))
+        .thenReturn(false);
+
+    // if
+    final int newTail =
+        logBufferAppender.claim(
+            logBufferPartition,
+            A_PARTITION_ID,
+            currentTail,
+            claimedFragmentMock,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID,
+            DO_NOTHING);
+
+    // then
+    assertThat(newTail).isEqualTo(LogBufferAppender.RESULT_TAIL_MOVED);
+
+    // and no message is written
+    verify(dataBufferMock, times(0)).putIntOrdered(anyInt(), anyInt());
+    verifyNoMoreInteractions(claimedFragmentMock);
+  }
 }
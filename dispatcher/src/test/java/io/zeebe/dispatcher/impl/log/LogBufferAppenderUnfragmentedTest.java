@@ -17,6 +17,7 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.nextRawTail;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.anyInt;
@@ -66,19 +67,32 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.appendFrame(
-            logBufferPartition, A_PARTITION_ID, A_MSG, 0, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+            logBufferPartition,
+            A_PARTITION_ID,
+            currentTail,
+            A_MSG,
+            0,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID);
 
     // then
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -102,19 +116,32 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH)))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.appendFrame(
-            logBufferPartition, A_PARTITION_ID, A_MSG, 0, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+            logBufferPartition,
+            A_PARTITION_ID,
+            currentTail,
+            A_MSG,
+            0,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID);
 
     // then
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            currentTail,
+            nextRawTail(currentTail, 1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -135,19 +162,27 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.appendFrame(
-            logBufferPartition, A_PARTITION_ID, A_MSG, 0, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+            logBufferPartition,
+            A_PARTITION_ID,
+            currentTail,
+            A_MSG,
+            0,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID);
 
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -169,19 +204,27 @@ public final class LogBufferAppenderUnfragmentedTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH))
+        .thenReturn(true);
 
     // if
     final int newTail =
         logBufferAppender.appendFrame(
-            logBufferPartition, A_PARTITION_ID, A_MSG, 0, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+            logBufferPartition,
+            A_PARTITION_ID,
+            currentTail,
+            A_MSG,
+            0,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID);
 
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, currentTail, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -202,19 +245,21 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
-
     // if
     final int newTail =
         logBufferAppender.appendFrame(
-            logBufferPartition, A_PARTITION_ID, A_MSG, 0, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+            logBufferPartition,
+            A_PARTITION_ID,
+            currentTail,
+            A_MSG,
+            0,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID);
 
     // then
     assertThat(newTail).isEqualTo(-1);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is not moved
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
@@ -22,7 +22,10 @@ import io.zeebe.dispatcher.Subscription;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.junit.Rule;
@@ -99,6 +102,67 @@ public final class DispatcherIntegrationTest {
     assertThat(consumer.counters).contains(1, 2);
   }
 
+  @Test
+  public void shouldReadFragmentsInPositionOrderWithConcurrentPublishers() throws Exception {
+    // given
+    final int publisherCount = 4;
+    final int fragmentsPerPublisher = 25_000;
+    final int totalWork = publisherCount * fragmentsPerPublisher;
+
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofMegabytes(1))
+            .build();
+    final Subscription subscription = dispatcher.openSubscription("test");
+
+    final List<Long> positions = new ArrayList<>();
+    final FragmentHandler positionCollector =
+        (buffer, offset, length, streamId, isMarkedFailed) -> {
+          positions.add(buffer.getLong(offset));
+          return FragmentHandler.CONSUME_FRAGMENT_RESULT;
+        };
+    final Thread consumerThread =
+        new Thread(
+            () -> {
+              while (positions.size() < totalWork) {
+                subscription.poll(positionCollector, Integer.MAX_VALUE);
+              }
+            });
+    consumerThread.start();
+
+    // when
+    final List<Thread> publishers = new ArrayList<>();
+    for (int i = 0; i < publisherCount; i++) {
+      final Thread publisher =
+          new Thread(
+              () -> {
+                final ClaimedFragment claimedFragment = new ClaimedFragment();
+                for (int j = 0; j < fragmentsPerPublisher; j++) {
+                  long position;
+                  while ((position = dispatcher.claimSingleFragment(claimedFragment, 64)) <= 0) {
+                    // spin
+                  }
+                  claimedFragment.getBuffer().putLong(claimedFragment.getOffset(), position);
+                  claimedFragment.commit();
+                }
+              });
+      publishers.add(publisher);
+      publisher.start();
+    }
+
+    for (final Thread publisher : publishers) {
+      publisher.join();
+    }
+    consumerThread.join();
+    dispatcher.close();
+
+    // then
+    assertThat(positions)
+        .containsExactlyElementsOf(
+            LongStream.rangeClosed(1, totalWork).boxed().collect(Collectors.toList()));
+  }
+
   @Test
   public void testPeekBlock() throws Exception {
     final int totalWork = 10000000;
@@ -47,6 +47,23 @@ public final class StreamProcessorMetrics {
           .labelNames("recordType", "partition")
           .register();
 
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_size")
+          .help("Number of records which are processed in one transaction")
+          .labelNames("partition")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
+  private static final Counter BATCH_FALLBACKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_fallbacks_total")
+          .help("Number of batches which were rolled back and processed again record by record")
+          .labelNames("partition")
+          .register();
+
   private static final Gauge STARTUP_RECOVERY_TIME =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -55,6 +72,23 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram REPROCESSING_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_reprocessing_duration")
+          .help("Time taken for reprocessing the log on recovery of stream processor (in seconds)")
+          .labelNames("partition")
+          .buckets(0.1, 0.5, 1, 5, 10, 30, 60, 120, 300, 600)
+          .register();
+
+  private static final Counter REPROCESSED_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_reprocessed_records_total")
+          .help("Number of records which were reprocessed on recovery of stream processor")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -83,6 +117,18 @@ public final class StreamProcessorMetrics {
     event("processed");
   }
 
+  public void eventsProcessed(final int count) {
+    STREAM_PROCESSOR_EVENTS.labels("processed", partitionIdLabel).inc(count);
+  }
+
+  public void batchProcessed(final int batchSize) {
+    BATCH_SIZE.labels(partitionIdLabel).observe(batchSize);
+  }
+
+  public void batchFallback() {
+    BATCH_FALLBACKS.labels(partitionIdLabel).inc();
+  }
+
   public void eventWritten() {
     event("written");
   }
@@ -91,10 +137,22 @@ public final class StreamProcessorMetrics {
     event("skipped");
   }
 
+  public void eventsSkipped(final int count) {
+    STREAM_PROCESSOR_EVENTS.labels("skipped", partitionIdLabel).inc(count);
+  }
+
   public void recoveryTime(final long durationMillis) {
     STARTUP_RECOVERY_TIME.labels(partitionIdLabel).set(durationMillis);
   }
 
+  public void recordsReprocessed(final int count) {
+    REPROCESSED_RECORDS.labels(partitionIdLabel).inc(count);
+  }
+
+  public void reprocessingDuration(final long durationMillis) {
+    REPROCESSING_DURATION.labels(partitionIdLabel).observe(durationMillis / 1000f);
+  }
+
   public void setLastProcessedPosition(final long position) {
     LAST_PROCESSED_POSITION.labels(partitionIdLabel).set(position);
   }
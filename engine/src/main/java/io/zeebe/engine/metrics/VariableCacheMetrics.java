@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableCacheMetrics {
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_cache_lookups_total")
+          .help("Number of variable and scope lookups in the variable cache of a transaction")
+          .labelNames("partition", "lookup", "result")
+          .register();
+
+  private final Counter.Child variableHits;
+  private final Counter.Child variableMisses;
+  private final Counter.Child scopeHits;
+  private final Counter.Child scopeMisses;
+
+  public VariableCacheMetrics(final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    variableHits = CACHE_LOOKUPS.labels(partitionIdLabel, "variable", "hit");
+    variableMisses = CACHE_LOOKUPS.labels(partitionIdLabel, "variable", "miss");
+    scopeHits = CACHE_LOOKUPS.labels(partitionIdLabel, "scope", "hit");
+    scopeMisses = CACHE_LOOKUPS.labels(partitionIdLabel, "scope", "miss");
+  }
+
+  public void variableHit() {
+    variableHits.inc();
+  }
+
+  public void variableMiss() {
+    variableMisses.inc();
+  }
+
+  public void scopeHit() {
+    scopeHits.inc();
+  }
+
+  public void scopeMiss() {
+    scopeMisses.inc();
+  }
+}
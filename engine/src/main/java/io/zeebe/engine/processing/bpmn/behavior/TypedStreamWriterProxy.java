@@ -64,6 +64,11 @@ public final class TypedStreamWriterProxy implements TypedStreamWriter {
     writer.configureSourceContext(sourceRecordPosition);
   }
 
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return writer.canWriteEventOfLength(eventLength);
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
     writer.appendNewCommand(intent, value);
@@ -32,10 +32,14 @@ public final class CompleteProcessor implements CommandProcessor<JobRecord> {
 
   private void acceptCommand(
       final TypedRecord<JobRecord> command, final CommandControl<JobRecord> commandControl) {
-    final long jobKey = command.getKey();
+    final JobRecord job = complete(command.getKey(), command.getValue());
+    commandControl.accept(JobIntent.COMPLETED, job);
+  }
+
+  JobRecord complete(final long jobKey, final JobRecord command) {
     final JobRecord job = state.getJob(jobKey);
-    job.setVariables(command.getValue().getVariablesBuffer());
+    job.setVariables(command.getVariablesBuffer());
     state.complete(jobKey, job);
-    commandControl.accept(JobIntent.COMPLETED, job);
+    return job;
   }
 }
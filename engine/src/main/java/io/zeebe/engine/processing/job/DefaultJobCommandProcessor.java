@@ -41,21 +41,38 @@ final class DefaultJobCommandProcessor<J extends JobRecord> implements CommandPr
 
   @Override
   public boolean onCommand(final TypedRecord<J> command, final CommandControl<J> commandControl) {
-    final long jobKey = command.getKey();
+    if (canHandleJob(intent, state, command.getKey(), commandControl::reject)) {
+      acceptCommand.accept(command, commandControl);
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether the job exists and is in a state which allows to handle the given intent.
+   * Otherwise, the rejection is passed to the given consumer.
+   *
+   * @return {@code true} if the job can be handled
+   */
+  static boolean canHandleJob(
+      final String intent,
+      final JobState state,
+      final long jobKey,
+      final BiConsumer<RejectionType, String> onRejection) {
     final State jobState = state.getState(jobKey);
 
     if (jobState == State.ACTIVATABLE || jobState == State.ACTIVATED) {
-      acceptCommand.accept(command, commandControl);
+      return true;
 
     } else if (jobState == State.NOT_FOUND) {
       final String message = String.format(NO_JOB_FOUND_MESSAGE, intent, jobKey);
-      commandControl.reject(RejectionType.NOT_FOUND, message);
+      onRejection.accept(RejectionType.NOT_FOUND, message);
 
     } else {
       final String message = String.format(INVALID_JOB_STATE_MESSAGE, intent, jobKey, jobState);
-      commandControl.reject(RejectionType.INVALID_STATE, message);
+      onRejection.accept(RejectionType.INVALID_STATE, message);
     }
 
-    return true;
+    return false;
   }
 }
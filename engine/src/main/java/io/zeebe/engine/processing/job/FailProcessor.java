@@ -31,11 +31,15 @@ public final class FailProcessor implements CommandProcessor<JobRecord> {
 
   private void acceptCommand(
       final TypedRecord<JobRecord> command, final CommandControl<JobRecord> commandControl) {
-    final long key = command.getKey();
+    final JobRecord failedJob = fail(command.getKey(), command.getValue());
+    commandControl.accept(JobIntent.FAILED, failedJob);
+  }
+
+  JobRecord fail(final long key, final JobRecord command) {
     final JobRecord failedJob = state.getJob(key);
-    failedJob.setRetries(command.getValue().getRetries());
-    failedJob.setErrorMessage(command.getValue().getErrorMessageBuffer());
+    failedJob.setRetries(command.getRetries());
+    failedJob.setErrorMessage(command.getErrorMessageBuffer());
     state.fail(key, failedJob);
-    commandControl.accept(JobIntent.FAILED, failedJob);
+    return failedJob;
   }
 }
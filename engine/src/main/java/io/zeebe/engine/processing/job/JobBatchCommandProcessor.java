@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.job;
+
+import io.zeebe.engine.processing.streamprocessor.CommandProcessor;
+import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.msgpack.value.LongValue;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.Iterator;
+
+/**
+ * Completes or fails all jobs of a job batch command in one processing step. For every job, the
+ * same event is written as for a single job command. The jobs which can't be handled are rejected
+ * one by one, without rejecting the whole batch; the rejections are returned in the batch event.
+ */
+public final class JobBatchCommandProcessor implements CommandProcessor<JobBatchRecord> {
+
+  // an upper bound for the length of a job rejection in the batch event
+  private static final int MAX_REJECTION_LENGTH = 256;
+  private static final String INVALID_BATCH_MESSAGE =
+      "Expected to %s a job batch with the same number of job keys and jobs, "
+          + "but got %d job keys and %d jobs";
+  private static final String BATCH_TOO_LARGE_MESSAGE =
+      "Expected to %s job with key '%d', but the job batch exceeds the maximum record size";
+
+  private final JobBatchRecord batchEvent = new JobBatchRecord();
+  private final String intent;
+  private final JobState state;
+  private final JobIntent jobIntent;
+  private final JobBatchIntent batchIntent;
+  private final JobCommand jobCommand;
+
+  public JobBatchCommandProcessor(
+      final String intent,
+      final JobState state,
+      final JobIntent jobIntent,
+      final JobBatchIntent batchIntent,
+      final JobCommand jobCommand) {
+    this.intent = intent;
+    this.state = state;
+    this.jobIntent = jobIntent;
+    this.batchIntent = batchIntent;
+    this.jobCommand = jobCommand;
+  }
+
+  @Override
+  public boolean onCommand(
+      final TypedRecord<JobBatchRecord> command,
+      final CommandControl<JobBatchRecord> commandControl,
+      final TypedStreamWriter streamWriter) {
+    final JobBatchRecord value = command.getValue();
+    final int jobKeyCount = count(value.jobKeys().iterator());
+    final int jobCount = count(value.jobs().iterator());
+
+    if (jobKeyCount != jobCount) {
+      final String message = String.format(INVALID_BATCH_MESSAGE, intent, jobKeyCount, jobCount);
+      commandControl.reject(RejectionType.INVALID_ARGUMENT, message);
+      return true;
+    }
+
+    // the batch event contains either the key or the rejection of every job
+    final int batchEventLength = value.getLength() + jobCount * MAX_REJECTION_LENGTH;
+
+    batchEvent.reset();
+    final Iterator<LongValue> jobKeys = value.jobKeys().iterator();
+    boolean batchFull = false;
+    for (final JobRecord job : value.jobs()) {
+      final long jobKey = jobKeys.next().getValue();
+
+      if (batchFull) {
+        rejectAsTooLarge(jobKey);
+
+      } else if (DefaultJobCommandProcessor.canHandleJob(
+          intent, state, jobKey, (type, reason) -> reject(jobKey, type, reason))) {
+        // the event contains the stored job with the data of the command, e.g. the variables
+        final int jobEventLength = state.getJob(jobKey).getLength() + job.getLength();
+
+        if (streamWriter.canWriteEventOfLength(jobEventLength + batchEventLength)) {
+          final JobRecord updatedJob = jobCommand.apply(jobKey, job);
+          streamWriter.appendFollowUpEvent(jobKey, jobIntent, updatedJob);
+          batchEvent.jobKeys().add().setValue(jobKey);
+
+        } else {
+          batchFull = true;
+          rejectAsTooLarge(jobKey);
+        }
+      }
+    }
+
+    commandControl.accept(batchIntent, batchEvent);
+    return true;
+  }
+
+  private void reject(final long jobKey, final RejectionType type, final String reason) {
+    batchEvent
+        .rejections()
+        .add()
+        .setJobKey(jobKey)
+        .setRejectionType(type)
+        .setRejectionReason(reason);
+  }
+
+  private void rejectAsTooLarge(final long jobKey) {
+    final String message = String.format(BATCH_TOO_LARGE_MESSAGE, intent, jobKey);
+    reject(jobKey, RejectionType.INVALID_ARGUMENT, message);
+  }
+
+  private static int count(final Iterator<?> iterator) {
+    int count = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      count++;
+    }
+    return count;
+  }
+
+  /** Applies the command of a single job of the batch, e.g. completes the job. */
+  @FunctionalInterface
+  public interface JobCommand {
+
+    /**
+     * @param jobKey the key of the job
+     * @param command the job of the batch command, e.g. with the variables to complete the job
+     * @return the updated job which is written as event
+     */
+    JobRecord apply(long jobKey, JobRecord command);
+  }
+}
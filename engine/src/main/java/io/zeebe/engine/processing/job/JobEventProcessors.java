@@ -30,13 +30,15 @@ public final class JobEventProcessors {
 
     final var jobErrorThrownProcessor =
         new JobErrorThrownProcessor(workflowState, keyGenerator, jobState);
+    final var completeProcessor = new CompleteProcessor(jobState);
+    final var failProcessor = new FailProcessor(jobState);
 
     typedRecordProcessors
         .onEvent(ValueType.JOB, JobIntent.CREATED, new JobCreatedProcessor(workflowState))
         .onEvent(ValueType.JOB, JobIntent.COMPLETED, new JobCompletedEventProcessor(workflowState))
         .onCommand(ValueType.JOB, JobIntent.CREATE, new CreateProcessor(jobState))
-        .onCommand(ValueType.JOB, JobIntent.COMPLETE, new CompleteProcessor(jobState))
-        .onCommand(ValueType.JOB, JobIntent.FAIL, new FailProcessor(jobState))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, completeProcessor)
+        .onCommand(ValueType.JOB, JobIntent.FAIL, failProcessor)
         .onEvent(ValueType.JOB, JobIntent.FAILED, new JobFailedProcessor())
         .onCommand(ValueType.JOB, JobIntent.THROW_ERROR, new JobThrowErrorProcessor(jobState))
         .onEvent(ValueType.JOB, JobIntent.ERROR_THROWN, jobErrorThrownProcessor)
@@ -51,6 +53,20 @@ public final class JobEventProcessors {
                 workflowState.getElementInstanceState().getVariablesState(),
                 keyGenerator,
                 maxRecordSize))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCommandProcessor(
+                "complete",
+                jobState,
+                JobIntent.COMPLETED,
+                JobBatchIntent.COMPLETED,
+                completeProcessor::complete))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.FAIL,
+            new JobBatchCommandProcessor(
+                "fail", jobState, JobIntent.FAILED, JobBatchIntent.FAILED, failProcessor::fail))
         .withListener(new JobTimeoutTrigger(jobState))
         .withListener(
             new StreamProcessorLifecycleAware() {
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import io.zeebe.protocol.Protocol;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects subscription commands which are sent to the same partition, such that they can be sent
+ * as a single message. Each command is prefixed by its length.
+ */
+public final class SubscriptionCommandBatch {
+
+  private static final int LENGTH_PREFIX = Integer.BYTES;
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer view = new UnsafeBuffer();
+  private int length;
+
+  public void add(final BufferWriter command) {
+    final int commandLength = command.getLength();
+    buffer.checkLimit(length + LENGTH_PREFIX + commandLength);
+
+    buffer.putInt(length, commandLength, Protocol.ENDIANNESS);
+    command.write(buffer, length + LENGTH_PREFIX);
+    length += LENGTH_PREFIX + commandLength;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  /** Returns a view of the added commands, which is valid until the batch is modified. */
+  public DirectBuffer getBuffer() {
+    view.wrap(buffer, 0, length);
+    return view;
+  }
+
+  public byte[] toByteArray() {
+    final byte[] bytes = new byte[length];
+    buffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  public void reset() {
+    length = 0;
+  }
+
+  /** Calls the given consumer for each command of the batch in the given buffer. */
+  public static void forEachCommand(final DirectBuffer batch, final CommandConsumer consumer) {
+    int offset = 0;
+    while (offset + LENGTH_PREFIX <= batch.capacity()) {
+      final int commandLength = batch.getInt(offset, Protocol.ENDIANNESS);
+      offset += LENGTH_PREFIX;
+
+      consumer.accept(batch, offset, commandLength);
+      offset += commandLength;
+    }
+  }
+
+  @FunctionalInterface
+  public interface CommandConsumer {
+    void accept(DirectBuffer buffer, int offset, int length);
+  }
+}
@@ -36,6 +36,9 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
   private boolean detectReprocessingInconsistency;
+  private int maxCommandsInBatch = 1;
+  private int maxRecordsInReprocessingBatch = 1;
+  private long maxReprocessingBatchBytes = 4 * 1024 * 1024;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -109,6 +112,21 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public ProcessingContext maxRecordsInReprocessingBatch(final int maxRecordsInReprocessingBatch) {
+    this.maxRecordsInReprocessingBatch = maxRecordsInReprocessingBatch;
+    return this;
+  }
+
+  public ProcessingContext maxReprocessingBatchBytes(final long maxReprocessingBatchBytes) {
+    this.maxReprocessingBatchBytes = maxReprocessingBatchBytes;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -176,4 +194,16 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public boolean isDetectReprocessingInconsistency() {
     return detectReprocessingInconsistency;
   }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public int getMaxRecordsInReprocessingBatch() {
+    return maxRecordsInReprocessingBatch;
+  }
+
+  public long getMaxReprocessingBatchBytes() {
+    return maxReprocessingBatchBytes;
+  }
 }
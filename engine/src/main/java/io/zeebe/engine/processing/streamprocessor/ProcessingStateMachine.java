@@ -15,6 +15,7 @@ import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImp
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -23,6 +24,7 @@ import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.ErrorIntent;
 import io.zeebe.util.exception.RecoverableException;
 import io.zeebe.util.retry.AbortableRetryStrategy;
@@ -32,8 +34,11 @@ import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
 import org.slf4j.Logger;
 
 /**
@@ -74,6 +79,17 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If more than one command per batch is allowed (see {@link
+ * ProcessingContext#getMaxCommandsInBatch()}), then {@code processEvent()} continues to process the
+ * next available records in the same transaction, until the batch is full, no further record is
+ * available or a processor registers side effects other than the response. The follow-up records of
+ * the whole batch are written at once and the transaction is committed once, afterwards the
+ * responses of all records are sent and the processed listener is notified for each record. If one
+ * of the additional records can't be processed or the batch can't be written, the transaction is
+ * rolled back and the records of the batch are processed again one by one, which handles the
+ * failure as before. Records of a batch are only counted as processed or skipped and passed to the
+ * listener after the batch is committed, such that a rolled back batch is not reported twice.
  */
 public final class ProcessingStateMachine {
 
@@ -94,6 +110,8 @@ public final class ProcessingStateMachine {
       "Expected to process event '{}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String PROCESSING_ERROR_MESSAGE =
       "Expected to process event '%s' without errors, but exception occurred with message '%s' .";
+  private static final String LOG_BATCH_FALLBACK =
+      "Expected to process and write a batch of records starting at position {} successfully, but caught an exception. Fall back to processing the records one by one.";
   private static final String NOTIFY_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for event {} successfully, but exception was thrown.";
 
@@ -103,6 +121,7 @@ public final class ProcessingStateMachine {
       "Error record was written at {}, we will continue with processing if event was committed. Current commit position is {}.";
 
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final RecordType[] RECORD_TYPES = RecordType.values();
   protected final ZeebeState zeebeState;
   protected final RecordMetadata metadata = new RecordMetadata();
   protected final TypedResponseWriterImpl responseWriter;
@@ -123,6 +142,8 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final int maxCommandsInBatch;
+  private final int batchReserveLength;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -139,6 +160,27 @@ public final class ProcessingStateMachine {
   // Used for processing duration metrics
   private long processingStartTime;
 
+  // current batch
+  private int batchSize;
+  private long batchStartPosition = StreamProcessor.UNSET_POSITION;
+  private long lastProcessedPositionInBatch = StreamProcessor.UNSET_POSITION;
+  private long batchFallbackPosition = StreamProcessor.UNSET_POSITION;
+  private boolean isProcessingBatch;
+  private boolean hasUnnotifiedRecord;
+  private int skippedRecordsInBatch;
+  // the shared metadata belongs to the last read record, which may have been skipped, so the types
+  // of the processed records are captured for the metrics and the processed listener
+  private final int[] processedRecordTypes = new int[RECORD_TYPES.length];
+  private ValueType processedValueType;
+  // copies of the records of the batch which were processed before the current one, they are passed
+  // to the processed listener after the batch is committed
+  private final ExpandableArrayBuffer batchRecords = new ExpandableArrayBuffer();
+  private final IntArrayList batchRecordOffsets = new IntArrayList();
+  private int batchRecordsLength;
+  private final LoggedEventImpl batchRecord = new LoggedEventImpl();
+  private final RecordMetadata batchRecordMetadata = new RecordMetadata();
+  private final TypedEventImpl batchTypedRecord;
+
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
 
@@ -160,10 +202,15 @@ public final class ProcessingStateMachine {
 
     final int partitionId = logStream.getPartitionId();
     typedEvent = new TypedEventImpl(partitionId);
+    batchTypedRecord = new TypedEventImpl(partitionId);
     responseWriter = new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId);
 
     metrics = new StreamProcessorMetrics(partitionId);
     onProcessed = context.getOnProcessedListener();
+
+    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    // keep enough space in a batch for the follow-up records of the next command
+    batchReserveLength = context.getMaxFragmentSize() / 2;
   }
 
   private void skipRecord() {
@@ -223,12 +270,17 @@ public final class ProcessingStateMachine {
     metrics.processingLatency(metadata.getRecordType(), event.getTimestamp(), processingStartTime);
 
     try {
-      final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
-      typedEvent.wrap(event, metadata, value);
+      final UnifiedRecordValue value = recordValues.getRecordValue(metadata.getValueType());
+      typedEvent.wrapLazily(event, metadata, value);
 
+      startBatch(event.getPosition());
       processInTransaction(typedEvent);
+      captureProcessedRecord();
 
-      metrics.eventProcessed();
+      if (!tryToExtendBatch()) {
+        fallBackToSingleRecordProcessing();
+        return;
+      }
 
       writeEvent();
     } catch (final RecoverableException recoverableException) {
@@ -237,6 +289,7 @@ public final class ProcessingStateMachine {
       actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
     } catch (final Exception e) {
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, e);
+      captureProcessedRecord();
       onError(e, this::writeEvent);
     }
   }
@@ -261,20 +314,138 @@ public final class ProcessingStateMachine {
         () -> {
           final long position = typedRecord.getPosition();
           resetOutput(position);
+          processRecord(position, typedRecord);
+        });
+  }
+
+  private void processRecord(final long position, final TypedEventImpl typedRecord) {
+    // default side effect is responses; can be changed by processor
+    sideEffectProducer = responseWriter;
+    final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
+    if (isNotOnBlacklist) {
+      currentProcessor.processRecord(
+          position, typedRecord, responseWriter, logStreamWriter, this::setSideEffectProducer);
+    }
+
+    zeebeState.markAsProcessed(position);
+  }
+
+  private void startBatch(final long position) {
+    batchSize = 1;
+    batchStartPosition = position;
+    lastProcessedPositionInBatch = position;
+    isProcessingBatch = false;
+    hasUnnotifiedRecord = true;
+    skippedRecordsInBatch = 0;
+    batchRecordOffsets.clear();
+    batchRecordsLength = 0;
+    Arrays.fill(processedRecordTypes, 0);
+    processedValueType = metadata.getValueType();
+  }
+
+  private void captureProcessedRecord() {
+    processedRecordTypes[metadata.getRecordType().ordinal()] += 1;
+    processedValueType = metadata.getValueType();
+  }
+
+  private void retainProcessedRecord() {
+    final int length = currentEvent.getLength();
+    batchRecords.checkLimit(batchRecordsLength + length);
+    currentEvent.write(batchRecords, batchRecordsLength);
+    batchRecordOffsets.addInt(batchRecordsLength);
+    batchRecordsLength += length;
+  }
+
+  /**
+   * Processes the next records in the current transaction, as long as the batch is not full and the
+   * processed records have no side effects other than their responses.
+   *
+   * @return <code>false</code> if one of the records failed on processing, which means the batch
+   *     has to be rolled back
+   */
+  private boolean tryToExtendBatch() {
+    while (canExtendBatch()) {
+      // the current record is done, retain its response before the reader moves on
+      responseWriter.retainStagedResponse();
+      if (hasUnnotifiedRecord) {
+        retainProcessedRecord();
+        hasUnnotifiedRecord = false;
+      }
+      isProcessingBatch = true;
+
+      currentEvent = logStreamReader.next();
+      if (eventFilter != null && !eventFilter.applies(currentEvent)) {
+        skippedRecordsInBatch += 1;
+        continue;
+      }
+
+      metadata.reset();
+      currentEvent.readMetadata(metadata);
+      final TypedRecordProcessor<?> processor = chooseNextProcessor(currentEvent);
+      if (processor == null) {
+        skippedRecordsInBatch += 1;
+        continue;
+      }
+      currentProcessor = processor;
+
+      try {
+        final UnifiedRecordValue value = recordValues.getRecordValue(metadata.getValueType());
+        typedEvent.wrapLazily(currentEvent, metadata, value);
+
+        final long position = currentEvent.getPosition();
+        zeebeDbTransaction.run(
+            () -> {
+              logStreamWriter.configureSourceContext(position);
+              processRecord(position, typedEvent);
+            });
+      } catch (final Exception e) {
+        LOG.debug(LOG_BATCH_FALLBACK, batchStartPosition, e);
+        return false;
+      }
+
+      batchSize += 1;
+      lastProcessedPositionInBatch = currentEvent.getPosition();
+      hasUnnotifiedRecord = true;
+      captureProcessedRecord();
+    }
+
+    return true;
+  }
+
+  private boolean canExtendBatch() {
+    return batchSize < maxCommandsInBatch
+        && batchStartPosition > batchFallbackPosition
+        && sideEffectProducer == responseWriter
+        && logStreamWriter.canWriteEventOfLength(batchReserveLength)
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private void fallBackToSingleRecordProcessing() {
+    metrics.batchFallback();
+    // all records of the batch up to the current one are processed again one by one
+    batchFallbackPosition = currentEvent.getPosition();
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              return true;
+            },
+            abortCondition);
 
-          // default side effect is responses; can be changed by processor
-          sideEffectProducer = responseWriter;
-          final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
-          if (isNotOnBlacklist) {
-            currentProcessor.processRecord(
-                position,
-                typedRecord,
-                responseWriter,
-                logStreamWriter,
-                this::setSideEffectProducer);
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, throwable);
           }
 
-          zeebeState.markAsProcessed(position);
+          resetOutput(batchStartPosition);
+          logStreamReader.seek(batchStartPosition);
+
+          currentProcessor = null;
+          actor.submit(this::readNextEvent);
         });
   }
 
@@ -365,7 +536,10 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, t) -> {
-          if (t != null) {
+          if (t != null && isProcessingBatch) {
+            LOG.debug(LOG_BATCH_FALLBACK, batchStartPosition, t);
+            fallBackToSingleRecordProcessing();
+          } else if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
             onError(t, this::writeEvent);
           } else {
@@ -394,7 +568,7 @@ public final class ProcessingStateMachine {
                           }
                         });
               }
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+              lastSuccessfulProcessedEventPosition = lastProcessedPositionInBatch;
               metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
               lastWrittenEventPosition = writtenEventPosition;
               return true;
@@ -408,22 +582,69 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, throwable);
             onError(throwable, this::updateState);
           } else {
+            // on error handling, the failed record counts as processed
+            metrics.eventsProcessed(batchSize);
+            metrics.eventsSkipped(skippedRecordsInBatch);
+            metrics.batchProcessed(batchSize);
             executeSideEffects();
           }
         });
   }
 
   private void notifyListener() {
+    final boolean hasRetainedRecords = !batchRecordOffsets.isEmpty();
+    for (int i = 0; i < batchRecordOffsets.size(); i++) {
+      batchRecord.wrap(batchRecords, batchRecordOffsets.getInt(i));
+      batchRecordMetadata.reset();
+      batchRecord.readMetadata(batchRecordMetadata);
+      batchTypedRecord.wrapLazily(
+          batchRecord,
+          batchRecordMetadata,
+          recordValues.getRecordValue(batchRecordMetadata.getValueType()));
+      notifyListener(batchTypedRecord, batchRecord);
+    }
+    batchRecordOffsets.clear();
+    batchRecordsLength = 0;
+
+    if (hasUnnotifiedRecord) {
+      if (hasRetainedRecords) {
+        // the record values are shared, the listener may have read another value into it
+        typedEvent.wrapLazily(
+            currentEvent, metadata, recordValues.getRecordValue(processedValueType));
+      }
+      notifyListener(typedEvent, currentEvent);
+    }
+  }
+
+  private void observeProcessingDuration() {
+    // the records of a batch share its processing duration
+    final long processed = ActorClock.currentTimeMillis();
+    final long durationPerRecord = (processed - processingStartTime) / Math.max(batchSize, 1);
+
+    for (int i = 0; i < processedRecordTypes.length; i++) {
+      for (int j = 0; j < processedRecordTypes[i]; j++) {
+        metrics.processingDuration(RECORD_TYPES[i], processed - durationPerRecord, processed);
+      }
+    }
+  }
+
+  private void notifyListener(final TypedRecord record, final LoggedEvent event) {
     try {
-      onProcessed.accept(typedEvent);
+      onProcessed.accept(record);
     } catch (final Exception e) {
-      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, currentEvent, e);
+      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, event, e);
     }
   }
 
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(sideEffectProducer::flush, abortCondition);
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              // the responses of the records which were processed before in the same batch
+              responseWriter.flushRetainedResponses();
+              return sideEffectProducer.flush();
+            },
+            abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
@@ -433,9 +654,7 @@ public final class ProcessingStateMachine {
           }
 
           notifyListener();
-
-          metrics.processingDuration(
-              metadata.getRecordType(), processingStartTime, ActorClock.currentTimeMillis());
+          observeProcessingDuration();
           // continue with next event
           currentProcessor = null;
           actor.submit(this::readNextEvent);
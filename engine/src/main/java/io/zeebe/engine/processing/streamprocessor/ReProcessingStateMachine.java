@@ -9,7 +9,9 @@ package io.zeebe.engine.processing.streamprocessor;
 
 import io.zeebe.db.DbContext;
 import io.zeebe.db.TransactionOperation;
+import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.ReprocessingStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -20,16 +22,20 @@ import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.impl.record.value.error.ErrorRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.util.retry.EndlessRetryStrategy;
 import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import org.agrona.collections.LongArrayList;
 import org.slf4j.Logger;
 
 /**
@@ -67,6 +73,23 @@ import org.slf4j.Logger;
  * </pre>
  *
  * See https://textik.com/#773271ce7ea2096a
+ *
+ * <p>The log is reprocessed in one pass. The follow-up events of the last processed record are
+ * close to the end of the log, so {@code scanLog()} reads only the end of the log to find the last
+ * source event position. Whether a record failed on processing is known from its error event,
+ * which follows the record, so the error events are collected while the records are reprocessed.
+ *
+ * <p>The state changes of the reprocessed records are collected in one transaction, which is
+ * committed after the configured count of records (see {@link
+ * ProcessingContext#getMaxRecordsInReprocessingBatch()}) or bytes (see {@link
+ * ProcessingContext#getMaxReprocessingBatchBytes()}) is reached, and after the last record is
+ * reprocessed. Before each record a save point is set. If the error event of a reprocessed record
+ * is read, the batch is rolled back to the save point of this record, and the reprocessing
+ * continues at this record, which is blacklisted now. Hence, a full batch is committed only after
+ * a follow-up event of its last record is read; the records which are read in the meantime are
+ * read again after the commit. Since the reprocessing is the only writer of the state, the written
+ * keys are not tracked for conflicts. If the reprocessing fails or is aborted, the changes of the
+ * current batch are discarded and the tracking is enabled again.
  */
 public final class ReProcessingStateMachine {
 
@@ -79,12 +102,23 @@ public final class ReProcessingStateMachine {
   private static final String ERROR_MESSAGE_REPROCESSING_NO_NEXT_EVENT =
       "Expected to find last follow-up event position '%d', but found no next event. Failed to reprocess on processor";
   private static final String LOG_STMT_REPROCESSING_FINISHED =
-      "Processor finished reprocessing at event position {}";
+      "Processor finished reprocessing at event position {}, reprocessed {} records in {} ms";
   private static final String LOG_STMT_FAILED_ON_PROCESSING =
       "Event {} failed on processing last time, will call #onError to update workflow instance blacklist.";
 
   private static final String ERROR_INCONSISTENT_LOG =
       "Expected that position '%d' of current event is higher then position '%d' of last event, but was not. Inconsistent log detected!";
+  private static final String ERROR_MESSAGE_ROLLBACK_FAILED =
+      "Expected to roll back the reprocessing batch to position '%d', but failed";
+  private static final String LOG_STMT_ERROR_EVENT_FOUND =
+      "Found error-prone event {} on reprocessing, will add position {} to the blacklist.";
+  private static final String LOG_STMT_REPROCESSING_FAILED =
+      "Event {} failed on reprocessing, will continue until its error event or a later follow-up event is found.";
+
+  private static final long NO_POSITION = -1L;
+  // the count of records at the end of the log which is scanned first for the last source event,
+  // it is doubled until a source event is found
+  private static final int LOG_TAIL_SCAN_WINDOW = 1_000;
 
   private static final Consumer<Long> NOOP_LONG_CONSUMER = (instanceKey) -> {};
   protected final RecordMetadata metadata = new RecordMetadata();
@@ -107,17 +141,39 @@ public final class ReProcessingStateMachine {
 
   private final BooleanSupplier abortCondition;
   private final Set<Long> failedEventPositions = new HashSet<>();
+  private final StreamProcessorMetrics metrics;
+  private final int maxRecordsInBatch;
+  private final long maxBatchBytes;
+  // the positions of the records in the current batch, with one save point per record
+  private final LongArrayList batchPositions = new LongArrayList();
+
   // current iteration
   private long lastSourceEventPosition;
   private long lastFollowUpEventPosition;
   private long snapshotPosition;
+  private long lastReadPosition;
+  // the highest source position of the follow-up events which were read, except of the rejections
+  // of failed records; the records up to this position didn't fail or their error event was read
+  private long lastConfirmedPosition;
+  // a record which failed on reprocessing, until it is known whether it failed on processing too
+  private long failedPosition = NO_POSITION;
 
   private ActorFuture<Long> recoveryFuture;
   private LoggedEvent currentEvent;
   private TypedRecordProcessor eventProcessor;
   private ZeebeDbTransaction zeebeDbTransaction;
+  private boolean hasSavePoint;
   private boolean detectReprocessingInconsistency;
 
+  // current batch
+  private long batchBytes;
+  // the batch is full, the following records are only read until the batch is confirmed
+  private boolean awaitingConfirmation;
+  private long awaitingConfirmationPosition;
+
+  private long reprocessingStartTime;
+  private long reprocessedRecordCount;
+
   public ReProcessingStateMachine(final ProcessingContext context) {
     actor = context.getActor();
     eventFilter = context.getEventFilter();
@@ -132,6 +188,9 @@ public final class ReProcessingStateMachine {
     updateStateRetryStrategy = new EndlessRetryStrategy(actor);
     processRetryStrategy = new EndlessRetryStrategy(actor);
     detectReprocessingInconsistency = context.isDetectReprocessingInconsistency();
+    maxRecordsInBatch = context.getMaxRecordsInReprocessingBatch();
+    maxBatchBytes = context.getMaxReprocessingBatchBytes();
+    metrics = new StreamProcessorMetrics(context.getLogStream().getPartitionId());
   }
 
   /**
@@ -146,15 +205,19 @@ public final class ReProcessingStateMachine {
 
     this.snapshotPosition = snapshotPosition;
 
-    LOG.trace("Start scanning the log for error events.");
+    LOG.trace("Start scanning the end of the log for the last source event.");
     lastSourceEventPosition = scanLog(snapshotPosition);
-    LOG.trace("Finished scanning the log for error events.");
+    LOG.trace("Finished scanning the end of the log for the last source event.");
+
+    logStreamReader.seekToNextEvent(snapshotPosition);
+    lastReadPosition = snapshotPosition;
+    lastConfirmedPosition = snapshotPosition;
 
     if (lastSourceEventPosition > snapshotPosition) {
       LOG.info(
           "Processor starts reprocessing, until last source event position {}",
           lastSourceEventPosition);
-      logStreamReader.seekToNextEvent(snapshotPosition);
+      reprocessingStartTime = ActorClock.currentTimeMillis();
       reprocessNextEvent();
     } else if (snapshotPosition > 0) {
       recoveryFuture.complete(snapshotPosition);
@@ -164,52 +227,38 @@ public final class ReProcessingStateMachine {
     return recoveryFuture;
   }
 
+  /**
+   * Finds the last source event position and the position of its last follow-up event. The
+   * follow-up events are written in the order of their source events, so the last follow-up event
+   * holds the last source event position. Only the records after it weren't processed yet, hence
+   * the log is scanned backwards in growing windows until a follow-up event is found.
+   */
   private long scanLog(final long snapshotPosition) {
     long lastSourceEventPosition = -1L;
 
-    if (logStreamReader.hasNext()) {
-      lastSourceEventPosition = snapshotPosition;
+    final long firstPosition = Math.max(snapshotPosition + 1, 0);
+    long scanEnd = logStreamReader.seekToEnd() + 1;
+    long windowSize = LOG_TAIL_SCAN_WINDOW;
+
+    while (lastSourceEventPosition < 0 && scanEnd > firstPosition) {
+      final long scanStart = Math.max(scanEnd - windowSize, firstPosition);
+      logStreamReader.seek(scanStart);
 
-      long lastPosition = snapshotPosition;
       while (logStreamReader.hasNext()) {
         final LoggedEvent newEvent = logStreamReader.next();
-
-        final var currentPosition = newEvent.getPosition();
-        if (lastPosition >= currentPosition) {
-          throw new IllegalStateException(
-              String.format(ERROR_INCONSISTENT_LOG, currentPosition, lastPosition));
-        }
-        lastPosition = currentPosition;
-
-        metadata.reset();
-        newEvent.readMetadata(metadata);
-        long errorPosition = -1;
-        if (metadata.getValueType() == ValueType.ERROR) {
-          newEvent.readValue(errorRecord);
-          errorPosition = errorRecord.getErrorEventPosition();
-        }
-
-        if (errorPosition >= 0) {
-          LOG.debug(
-              "Found error-prone event {} on reprocessing, will add position {} to the blacklist.",
-              newEvent,
-              errorPosition);
-          failedEventPositions.add(errorPosition);
+        if (newEvent.getPosition() >= scanEnd) {
+          break;
         }
 
         final long sourceEventPosition = newEvent.getSourceEventPosition();
         if (sourceEventPosition > 0) {
-          if (sourceEventPosition > lastSourceEventPosition) {
-            lastSourceEventPosition = sourceEventPosition;
-          }
-          if (currentPosition > lastFollowUpEventPosition) {
-            lastFollowUpEventPosition = currentPosition;
-          }
+          lastSourceEventPosition = Math.max(lastSourceEventPosition, sourceEventPosition);
+          lastFollowUpEventPosition = newEvent.getPosition();
         }
       }
 
-      // reset position
-      logStreamReader.seek(snapshotPosition + 1);
+      scanEnd = scanStart;
+      windowSize *= 2;
     }
 
     return lastSourceEventPosition;
@@ -222,12 +271,19 @@ public final class ReProcessingStateMachine {
     }
 
     currentEvent = logStreamReader.next();
-    if (currentEvent.getPosition() > lastFollowUpEventPosition) {
+    final long currentPosition = currentEvent.getPosition();
+    if (lastReadPosition >= currentPosition) {
+      throw new IllegalStateException(
+          String.format(ERROR_INCONSISTENT_LOG, currentPosition, lastReadPosition));
+    }
+    lastReadPosition = currentPosition;
+
+    if (currentPosition > lastFollowUpEventPosition) {
       throw new IllegalStateException(
           String.format(
               ERROR_MESSAGE_REPROCESSING_NO_FOLLOW_UP_EVENT,
               lastFollowUpEventPosition,
-              currentEvent.getPosition()));
+              currentPosition));
     }
   }
 
@@ -235,17 +291,141 @@ public final class ReProcessingStateMachine {
     try {
       readNextEvent();
 
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        reprocessEvent(currentEvent);
+      if (!readFollowUpEvent(currentEvent)) {
+        // the reprocessing continues at a record which was read before
+        actor.submit(this::reprocessNextEvent);
+      } else if (awaitingConfirmation) {
+        awaitConfirmation();
+      } else if (isBatchFull()) {
+        if (isBatchConfirmed()) {
+          updateStateUntilDone(this::reprocessCurrentEvent);
+        } else {
+          awaitingConfirmation = true;
+          awaitingConfirmationPosition = currentEvent.getPosition();
+          awaitConfirmation();
+        }
       } else {
-        onRecordReprocessed(currentEvent);
+        reprocessCurrentEvent();
       }
 
     } catch (final RuntimeException e) {
+      discardBatch();
       recoveryFuture.completeExceptionally(e);
     }
   }
 
+  private void reprocessCurrentEvent() {
+    if (eventFilter == null || eventFilter.applies(currentEvent)) {
+      reprocessEvent(currentEvent);
+    } else {
+      onRecordReprocessed(currentEvent);
+    }
+  }
+
+  /**
+   * Collects the failed records and the confirmed position from the given event.
+   *
+   * @return {@code false} if the reprocessing was rolled back to a record before the given event
+   */
+  private boolean readFollowUpEvent(final LoggedEvent event) {
+    metadata.reset();
+    event.readMetadata(metadata);
+
+    if (metadata.getValueType() == ValueType.ERROR) {
+      event.readValue(errorRecord);
+      final long errorPosition = errorRecord.getErrorEventPosition();
+
+      if (errorPosition > snapshotPosition && failedEventPositions.add(errorPosition)) {
+        LOG.debug(LOG_STMT_ERROR_EVENT_FOUND, event, errorPosition);
+        // the failed record is reprocessed again to be blacklisted
+        if (rollbackBatchTo(errorPosition)) {
+          return false;
+        }
+      }
+    }
+
+    final long sourceEventPosition = event.getSourceEventPosition();
+    final boolean isFailureRejection =
+        metadata.getRecordType() == RecordType.COMMAND_REJECTION
+            && metadata.getRejectionType() == RejectionType.PROCESSING_ERROR;
+    if (sourceEventPosition > lastConfirmedPosition && !isFailureRejection) {
+      lastConfirmedPosition = sourceEventPosition;
+    }
+
+    if (failedPosition != NO_POSITION && failedPosition <= lastConfirmedPosition) {
+      // the record didn't fail on processing, so it is reprocessed again
+      return !rollbackBatchTo(failedPosition);
+    }
+    return true;
+  }
+
+  private void awaitConfirmation() {
+    if (isBatchConfirmed()) {
+      // the records after the batch are read again, since they are not reprocessed yet
+      awaitingConfirmation = false;
+      final long nextPosition = awaitingConfirmationPosition;
+      updateStateUntilDone(
+          () -> {
+            seekTo(nextPosition);
+            actor.submit(this::reprocessNextEvent);
+          });
+    } else {
+      actor.submit(this::reprocessNextEvent);
+    }
+  }
+
+  private boolean isBatchFull() {
+    return !batchPositions.isEmpty()
+        && (batchPositions.size() >= maxRecordsInBatch || batchBytes >= maxBatchBytes);
+  }
+
+  private boolean isBatchConfirmed() {
+    return batchPositions.isEmpty()
+        || batchPositions.getLong(batchPositions.size() - 1) <= lastConfirmedPosition;
+  }
+
+  /**
+   * Rolls back the changes of the given record and of all following records of the current batch,
+   * and continues the reprocessing at the given record.
+   *
+   * @return {@code false} if the given record is not part of the current batch
+   */
+  private boolean rollbackBatchTo(final long position) {
+    final int index = batchPositions.indexOf(position);
+    if (index < 0) {
+      return false;
+    }
+
+    try {
+      while (batchPositions.size() > index) {
+        zeebeDbTransaction.rollbackToSavePoint();
+        batchPositions.popLong();
+      }
+    } catch (final Exception e) {
+      throw new IllegalStateException(String.format(ERROR_MESSAGE_ROLLBACK_FAILED, position), e);
+    }
+
+    if (failedPosition >= position) {
+      failedPosition = NO_POSITION;
+    }
+    awaitingConfirmation = false;
+    reprocessingStreamWriter
+        .getRecords()
+        .removeIf(record -> record.getSourceRecordPosition() >= position);
+    seekTo(position);
+    return true;
+  }
+
+  private void seekTo(final long position) {
+    logStreamReader.seek(position);
+    lastReadPosition = position - 1;
+  }
+
+  /** Discards the changes of a batch which is not committed yet, e.g. if the processor is closed. */
+  void close() {
+    discardBatch();
+  }
+
   private void reprocessEvent(final LoggedEvent currentEvent) {
 
     try {
@@ -289,25 +469,65 @@ public final class ReProcessingStateMachine {
     final ActorFuture<Boolean> resultFuture =
         processRetryStrategy.runWithRetry(
             () -> {
-              final boolean onRetry = zeebeDbTransaction != null;
-              if (onRetry) {
-                zeebeDbTransaction.rollback();
+              if (abortCondition.getAsBoolean()) {
+                return false;
+              }
+
+              if (zeebeDbTransaction == null) {
+                zeebeDbTransaction = dbContext.getCurrentTransaction();
+                zeebeDbTransaction.setTrackWrites(false);
+              } else if (hasSavePoint) {
+                // on retry, discard only the changes of the current record
+                zeebeDbTransaction.rollbackToSavePoint();
+              }
+              zeebeDbTransaction.setSavePoint();
+              hasSavePoint = true;
+
+              try {
+                zeebeDbTransaction.run(operationOnProcessing);
+              } catch (final ZeebeDbException e) {
+                throw e;
+              } catch (final Exception e) {
+                if (failedEventPositions.contains(position) || position <= lastConfirmedPosition) {
+                  // the record didn't fail on processing, retry it
+                  throw e;
+                }
+                onReprocessingFailed(position, currentEvent);
               }
-              zeebeDbTransaction = dbContext.getCurrentTransaction();
-              zeebeDbTransaction.run(operationOnProcessing);
               return true;
             },
             abortCondition);
 
     actor.runOnCompletion(
         resultFuture,
-        (v, t) -> {
+        (processed, t) -> {
           // processing should be retried endless until it worked
           assert t == null : "On reprocessing there shouldn't be any exception thrown.";
-          updateStateUntilDone();
+          if (Boolean.TRUE.equals(processed)) {
+            hasSavePoint = false;
+            batchPositions.addLong(position);
+            onRecordProcessed(this.currentEvent);
+          } else {
+            discardBatch();
+          }
         });
   }
 
+  /**
+   * The record may have failed on processing too, which is known once its error event is read.
+   * Until then, the record is skipped.
+   */
+  private void onReprocessingFailed(final long position, final TypedRecord<?> currentEvent)
+      throws Exception {
+    LOG.debug(LOG_STMT_REPROCESSING_FAILED, currentEvent);
+    zeebeDbTransaction.rollbackToSavePoint();
+    zeebeDbTransaction.setSavePoint();
+
+    if (failedPosition == NO_POSITION) {
+      failedPosition = position;
+    }
+  }
+
   private TransactionOperation chooseOperationForEvent(
       final long position, final TypedRecord<?> currentEvent) {
     final TransactionOperation operationOnProcessing;
@@ -332,11 +552,21 @@ public final class ReProcessingStateMachine {
     return operationOnProcessing;
   }
 
-  private void updateStateUntilDone() {
+  private void onRecordProcessed(final LoggedEvent currentEvent) {
+    batchBytes += currentEvent.getMetadataLength() + currentEvent.getValueLength();
+    onRecordReprocessed(currentEvent);
+  }
+
+  private void updateStateUntilDone(final Runnable onCommitted) {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
+              if (abortCondition.getAsBoolean()) {
+                return false;
+              }
+
               zeebeDbTransaction.commit();
+              zeebeDbTransaction.setTrackWrites(true);
               zeebeDbTransaction = null;
               return true;
             },
@@ -344,13 +574,42 @@ public final class ReProcessingStateMachine {
 
     actor.runOnCompletion(
         retryFuture,
-        (bool, throwable) -> {
+        (committed, throwable) -> {
           // update state should be retried endless until it worked
           assert throwable == null : "On reprocessing there shouldn't be any exception thrown.";
-          onRecordReprocessed(currentEvent);
+          if (Boolean.TRUE.equals(committed)) {
+            reprocessedRecordCount += batchPositions.size();
+            metrics.recordsReprocessed(batchPositions.size());
+            batchPositions.clear();
+            batchBytes = 0;
+            onCommitted.run();
+          } else {
+            discardBatch();
+          }
         });
   }
 
+  private void discardBatch() {
+    if (zeebeDbTransaction == null) {
+      return;
+    }
+
+    try {
+      zeebeDbTransaction.rollback();
+    } catch (final Exception e) {
+      LOG.error("Failed to discard the state changes of the reprocessing batch", e);
+    } finally {
+      // the processing tracks the written keys again
+      zeebeDbTransaction.setTrackWrites(true);
+      zeebeDbTransaction = null;
+      hasSavePoint = false;
+      batchPositions.clear();
+      batchBytes = 0;
+      awaitingConfirmation = false;
+      failedPosition = NO_POSITION;
+    }
+  }
+
   private void onRecordReprocessed(final LoggedEvent currentEvent) {
     reprocessingStreamWriter.removeRecord(
         currentEvent.getKey(), currentEvent.getSourceEventPosition());
@@ -358,17 +617,29 @@ public final class ReProcessingStateMachine {
     // do reprocessing until the last source event but read until the last follow-up event to check
     // for inconsistent reprocessing records
     if (currentEvent.getPosition() >= lastFollowUpEventPosition) {
-      LOG.info(LOG_STMT_REPROCESSING_FINISHED, currentEvent.getPosition());
-
-      // reset the position to the first event where the processing should start
-      logStreamReader.seekToNextEvent(lastSourceEventPosition);
-
-      onRecovered(lastSourceEventPosition);
+      final long lastPosition = currentEvent.getPosition();
+      if (zeebeDbTransaction != null) {
+        // commit the remaining records of the last batch before the processing starts
+        updateStateUntilDone(() -> onReprocessingFinished(lastPosition));
+      } else {
+        onReprocessingFinished(lastPosition);
+      }
     } else {
       actor.submit(this::reprocessNextEvent);
     }
   }
 
+  private void onReprocessingFinished(final long lastPosition) {
+    final long duration = ActorClock.currentTimeMillis() - reprocessingStartTime;
+    LOG.info(LOG_STMT_REPROCESSING_FINISHED, lastPosition, reprocessedRecordCount, duration);
+    metrics.reprocessingDuration(duration);
+
+    // reset the position to the first event where the processing should start
+    logStreamReader.seekToNextEvent(lastSourceEventPosition);
+
+    onRecovered(lastSourceEventPosition);
+  }
+
   private void onRecovered(final long lastProcessedPosition) {
     recoveryFuture.complete(lastProcessedPosition);
     failedEventPositions.clear();
@@ -28,6 +28,16 @@ public final class RecordValues {
     eventCache = Collections.unmodifiableMap(cache);
   }
 
+  /**
+   * Returns the reusable value instance for the given value type without reading anything into it,
+   * see {@link TypedEventImpl#wrapLazily}.
+   *
+   * @return the value instance or null if the value type is unknown
+   */
+  public UnifiedRecordValue getRecordValue(final ValueType valueType) {
+    return eventCache.get(valueType);
+  }
+
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
     final UnifiedRecordValue value = eventCache.get(valueType);
     if (value != null) {
@@ -54,6 +54,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
   private ActorCondition onCommitPositionUpdatedCondition;
   private long snapshotPosition = -1L;
   private ProcessingStateMachine processingStateMachine;
+  private ReProcessingStateMachine reProcessingStateMachine;
 
   private volatile Phase phase = Phase.REPROCESSING;
 
@@ -113,8 +114,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
       healthCheckTick();
       openFuture.complete(null);
 
-      final ReProcessingStateMachine reProcessingStateMachine =
-          new ReProcessingStateMachine(processingContext);
+      reProcessingStateMachine = new ReProcessingStateMachine(processingContext);
 
       recoverFuture = reProcessingStateMachine.startRecover(snapshotPosition);
 
@@ -181,6 +181,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
   }
 
   private void tearDown() {
+    if (reProcessingStateMachine != null) {
+      reProcessingStateMachine.close();
+    }
     processingContext.getLogStreamReader().close();
 
     if (onCommitPositionUpdatedCondition != null) {
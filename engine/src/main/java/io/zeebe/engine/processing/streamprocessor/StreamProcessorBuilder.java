@@ -75,6 +75,22 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
+    processingContext.maxCommandsInBatch(maxCommandsInBatch);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxRecordsInReprocessingBatch(
+      final int maxRecordsInReprocessingBatch) {
+    processingContext.maxRecordsInReprocessingBatch(maxRecordsInReprocessingBatch);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxReprocessingBatchBytes(final long maxReprocessingBatchBytes) {
+    processingContext.maxReprocessingBatchBytes(maxReprocessingBatchBytes);
+    return this;
+  }
+
   public TypedRecordProcessorFactory getTypedRecordProcessorFactory() {
     return typedRecordProcessorFactory;
   }
@@ -116,6 +132,18 @@ public final class StreamProcessorBuilder {
     Objects.requireNonNull(
         processingContext.getCommandResponseWriter(), "No command response writer provided.");
     Objects.requireNonNull(zeebeDb, "No database provided.");
+    if (processingContext.getMaxCommandsInBatch() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to process at least one command in a batch, but was %d",
+              processingContext.getMaxCommandsInBatch()));
+    }
+    if (processingContext.getMaxRecordsInReprocessingBatch() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to reprocess at least one record in a batch, but was %d",
+              processingContext.getMaxRecordsInReprocessingBatch()));
+    }
   }
 
   private static class MetadataEventFilter implements EventFilter {
@@ -24,6 +24,7 @@ public final class TypedEventImpl implements TypedRecord {
   private LoggedEvent rawEvent;
   private RecordMetadata metadata;
   private UnifiedRecordValue value;
+  private boolean valueRead;
 
   public TypedEventImpl(final int partitionId) {
     this.partitionId = partitionId;
@@ -34,6 +35,18 @@ public final class TypedEventImpl implements TypedRecord {
     this.rawEvent = rawEvent;
     this.metadata = metadata;
     this.value = value;
+    valueRead = true;
+  }
+
+  /**
+   * Wraps the event without reading its value. The value is read from the raw event into the given
+   * instance when it is accessed the first time, so records which are only looked at by their
+   * metadata are never decoded.
+   */
+  public void wrapLazily(
+      final LoggedEvent rawEvent, final RecordMetadata metadata, final UnifiedRecordValue value) {
+    wrap(rawEvent, metadata, value);
+    valueRead = false;
   }
 
   @Override
@@ -93,6 +106,9 @@ public final class TypedEventImpl implements TypedRecord {
 
   @Override
   public UnifiedRecordValue getValue() {
+    if (!valueRead) {
+      readValue();
+    }
     return value;
   }
 
@@ -111,7 +127,7 @@ public final class TypedEventImpl implements TypedRecord {
   @Override
   @JsonIgnore
   public long getLength() {
-    return (long) metadata.getLength() + value.getLength();
+    return (long) metadata.getLength() + getValue().getLength();
   }
 
   @Override
@@ -130,7 +146,21 @@ public final class TypedEventImpl implements TypedRecord {
         + "metadata="
         + metadata
         + ", value="
-        + StringUtil.limitString(value.toString(), 1024)
+        + StringUtil.limitString(getValue().toString(), 1024)
         + '}';
   }
+
+  private void readValue() {
+    // mark the value as read first, if it can't be decoded the failure is only raised once and
+    // error handling afterwards sees an empty value instead of failing again
+    valueRead = true;
+    value.reset();
+
+    try {
+      rawEvent.readValue(value);
+    } catch (final RuntimeException e) {
+      value.reset();
+      throw e;
+    }
+  }
 }
@@ -57,6 +57,11 @@ public final class NoopTypedStreamWriter implements TypedStreamWriter {
     // no op implementation
   }
 
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return true;
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
     // no op implementation
@@ -84,6 +84,11 @@ public final class ReprocessingStreamWriter implements TypedStreamWriter {
     this.sourceRecordPosition = sourceRecordPosition;
   }
 
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return true;
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
 
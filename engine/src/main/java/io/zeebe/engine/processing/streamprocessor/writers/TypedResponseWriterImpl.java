@@ -14,8 +14,13 @@ import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class TypedResponseWriterImpl implements TypedResponseWriter, SideEffectProducer {
@@ -23,6 +28,16 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
   private final CommandResponseWriter writer;
   private final int partitionId;
   private final UnsafeBuffer stringWrapper = new UnsafeBuffer(0, 0);
+  private final List<RetainedResponse> retainedResponses = new ArrayList<>();
+  private int retainedResponseCount;
+
+  private RecordType recordType;
+  private Intent intent;
+  private long key;
+  private RejectionType rejectionType;
+  private DirectBuffer rejectionReason;
+  private ValueType valueType;
+  private UnpackedObject value;
   private long requestId;
   private int requestStreamId;
   private boolean isResponseStaged;
@@ -110,12 +125,63 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
 
   @Override
   public boolean flush() {
+    flushRetainedResponses();
+
     if (isResponseStaged) {
       writer.tryWriteResponse(requestStreamId, requestId);
     }
     return true;
   }
 
+  /**
+   * Copies the currently staged response, so that it is kept until the next {@link #flush()} or
+   * {@link #flushRetainedResponses()}, even if other responses are staged in the meantime. This is
+   * used to send the responses of multiple commands which are processed in one batch.
+   */
+  public void retainStagedResponse() {
+    if (!isResponseStaged) {
+      return;
+    }
+
+    final RetainedResponse retainedResponse;
+    if (retainedResponseCount < retainedResponses.size()) {
+      retainedResponse = retainedResponses.get(retainedResponseCount);
+    } else {
+      retainedResponse = new RetainedResponse();
+      retainedResponses.add(retainedResponse);
+    }
+    retainedResponseCount += 1;
+
+    retainedResponse.copyFrom(this);
+    isResponseStaged = false;
+  }
+
+  /** Sends all retained responses, but not the currently staged one. */
+  public void flushRetainedResponses() {
+    if (retainedResponseCount == 0) {
+      return;
+    }
+
+    for (int i = 0; i < retainedResponseCount; i++) {
+      final RetainedResponse response = retainedResponses.get(i);
+      stageOnWriter(
+          response.recordType,
+          response.intent,
+          response.key,
+          response.rejectionType,
+          response.rejectionReason,
+          response.valueType,
+          response.valueWriter);
+      writer.tryWriteResponse(response.requestStreamId, response.requestId);
+    }
+    retainedResponseCount = 0;
+
+    if (isResponseStaged) {
+      // the writer was used for the retained responses, so stage the current response again
+      stageOnWriter(recordType, intent, key, rejectionType, rejectionReason, valueType, value);
+    }
+  }
+
   private void stage(
       final RecordType type,
       final Intent intent,
@@ -126,6 +192,28 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
       final long requestId,
       final int requestStreamId,
       final UnpackedObject value) {
+    stageOnWriter(type, intent, key, rejectionType, rejectionReason, valueType, value);
+
+    recordType = type;
+    this.intent = intent;
+    this.key = key;
+    this.rejectionType = rejectionType;
+    this.rejectionReason = rejectionReason;
+    this.valueType = valueType;
+    this.value = value;
+    this.requestId = requestId;
+    this.requestStreamId = requestStreamId;
+    isResponseStaged = true;
+  }
+
+  private void stageOnWriter(
+      final RecordType type,
+      final Intent intent,
+      final long key,
+      final RejectionType rejectionType,
+      final DirectBuffer rejectionReason,
+      final ValueType valueType,
+      final BufferWriter value) {
     writer
         .partitionId(partitionId)
         .key(key)
@@ -135,13 +223,43 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
         .rejectionType(rejectionType)
         .rejectionReason(rejectionReason)
         .valueWriter(value);
-
-    this.requestId = requestId;
-    this.requestStreamId = requestStreamId;
-    isResponseStaged = true;
   }
 
   public void reset() {
     isResponseStaged = false;
+    retainedResponseCount = 0;
+  }
+
+  private static final class RetainedResponse {
+    private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+    private final DirectBufferWriter valueWriter = new DirectBufferWriter();
+    private final ExpandableArrayBuffer rejectionReasonBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer rejectionReason = new UnsafeBuffer(0, 0);
+
+    private RecordType recordType;
+    private Intent intent;
+    private long key;
+    private RejectionType rejectionType;
+    private ValueType valueType;
+    private long requestId;
+    private int requestStreamId;
+
+    private void copyFrom(final TypedResponseWriterImpl staged) {
+      recordType = staged.recordType;
+      intent = staged.intent;
+      key = staged.key;
+      rejectionType = staged.rejectionType;
+      valueType = staged.valueType;
+      requestId = staged.requestId;
+      requestStreamId = staged.requestStreamId;
+
+      final int valueLength = staged.value.getLength();
+      staged.value.write(valueBuffer, 0);
+      valueWriter.wrap(valueBuffer, 0, valueLength);
+
+      final int reasonLength = staged.rejectionReason.capacity();
+      rejectionReasonBuffer.putBytes(0, staged.rejectionReason, 0, reasonLength);
+      rejectionReason.wrap(rejectionReasonBuffer, 0, reasonLength);
+    }
   }
 }
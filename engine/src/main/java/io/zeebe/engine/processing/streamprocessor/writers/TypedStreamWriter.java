@@ -33,4 +33,10 @@ public interface TypedStreamWriter extends TypedCommandWriter {
       long key, Intent intent, UnpackedObject value, Consumer<RecordMetadata> metadata);
 
   void configureSourceContext(long sourceRecordPosition);
+
+  /**
+   * @param eventLength the length of the metadata and value of an additional event
+   * @return <code>true</code> if an event of the given length still fits into the current batch
+   */
+  boolean canWriteEventOfLength(int eventLength);
 }
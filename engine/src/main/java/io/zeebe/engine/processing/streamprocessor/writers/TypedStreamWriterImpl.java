@@ -23,6 +23,11 @@ public final class TypedStreamWriterImpl extends TypedCommandWriterImpl
     super(batchWriter);
   }
 
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return batchWriter.canWriteAdditionalEvent(eventLength);
+  }
+
   @Override
   public void appendRejection(
       final TypedRecord<? extends UnpackedObject> command,
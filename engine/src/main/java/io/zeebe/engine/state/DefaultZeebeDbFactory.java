@@ -11,6 +11,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.Map;
 import java.util.Properties;
 import java.util.function.BiFunction;
 
@@ -43,6 +44,20 @@ public final class DefaultZeebeDbFactory {
     return defaultFactory(ZbColumnFamilies.class, userProvidedColumnFamilyOptions);
   }
 
+  /**
+   * Returns the default zeebe database factory, which caches the given column families.
+   *
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param columnFamilyCacheSizes the maximum count of cached entries per column family name
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final Properties userProvidedColumnFamilyOptions,
+      final Map<String, Integer> columnFamilyCacheSizes) {
+    return ZeebeRocksDbFactory.newFactory(
+        ZbColumnFamilies.class, userProvidedColumnFamilyOptions, columnFamilyCacheSizes);
+  }
+
   /**
    * Returns the default zeebe database factory which is used in the broker.
    *
@@ -58,7 +58,7 @@ public class ZeebeState {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState = new WorkflowState(zeebeDb, dbContext, keyState, partitionId);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
     jobState = new JobState(zeebeDb, dbContext, partitionId);
     messageState = new MessageState(zeebeDb, dbContext);
@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2IntHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the scope hierarchy and the variables which are read by the {@link VariablesState} within
+ * a transaction, such that they are read only once from the database while a command is processed.
+ * The names and values of the variables are copied into a buffer, which is reused after the cache
+ * is cleared. A variable which doesn't exist in a scope is cached as well.
+ *
+ * <p>The cache must be cleared when the transaction is committed or rolled back, and the entries
+ * must be removed when the variables or scopes are changed.
+ */
+final class VariablesCache {
+
+  static final long UNKNOWN_PARENT = -2;
+  static final int MISSING_ENTRY = -1;
+
+  // stop caching new variables if a command reads a lot of data
+  private static final int MAX_CACHED_BYTES = 4 * 1024 * 1024;
+  private static final int NO_VALUE = -1;
+
+  private final Long2LongHashMap parentByScope = new Long2LongHashMap(UNKNOWN_PARENT);
+  private final Long2ObjectHashMap<Object2IntHashMap<DirectBuffer>> entriesByScope =
+      new Long2ObjectHashMap<>();
+  private final List<Object2IntHashMap<DirectBuffer>> unusedScopes = new ArrayList<>();
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final List<UnsafeBuffer> names = new ArrayList<>();
+  private final IntArrayList valueOffsets = new IntArrayList();
+  private final IntArrayList valueLengths = new IntArrayList();
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+  private int entryCount;
+  private int length;
+  private long version = -1;
+
+  /** Clears the cache if the given version differs from the version the cache was filled with. */
+  void ensureVersion(final long transactionVersion) {
+    if (version != transactionVersion) {
+      clear();
+      version = transactionVersion;
+    }
+  }
+
+  /** @return the parent of the scope, or {@link #UNKNOWN_PARENT} if it is not cached */
+  long getParent(final long scopeKey) {
+    return parentByScope.get(scopeKey);
+  }
+
+  void putParent(final long scopeKey, final long parentKey) {
+    parentByScope.put(scopeKey, parentKey);
+  }
+
+  /**
+   * @return the entry of the variable, or {@link #MISSING_ENTRY} if the variable is not cached
+   */
+  int getEntry(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final Object2IntHashMap<DirectBuffer> entries = entriesByScope.get(scopeKey);
+    if (entries == null) {
+      return MISSING_ENTRY;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    return entries.getValue(nameView);
+  }
+
+  /** @return the value of the cached variable, or {@code null} if the variable doesn't exist */
+  DirectBuffer getValue(final int entry) {
+    final int valueOffset = valueOffsets.getInt(entry);
+    if (valueOffset == NO_VALUE) {
+      return null;
+    }
+
+    valueView.wrap(buffer, valueOffset, valueLengths.getInt(entry));
+    return valueView;
+  }
+
+  /**
+   * Adds the variable to the cache.
+   *
+   * @param value the value of the variable, or {@code null} if the variable doesn't exist in the
+   *     scope
+   */
+  void putVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value) {
+    final int valueLength = value != null ? value.capacity() : 0;
+    if (length + nameLength + valueLength > MAX_CACHED_BYTES) {
+      return;
+    }
+
+    final int entry = entryCount;
+    entryCount += 1;
+
+    buffer.putBytes(length, name, nameOffset, nameLength);
+    if (names.size() == entry) {
+      names.add(new UnsafeBuffer(0, 0));
+    }
+    final UnsafeBuffer cachedName = names.get(entry);
+    cachedName.wrap(buffer, length, nameLength);
+    length += nameLength;
+
+    if (value != null) {
+      buffer.putBytes(length, value, 0, valueLength);
+      valueOffsets.addInt(length);
+      length += valueLength;
+    } else {
+      valueOffsets.addInt(NO_VALUE);
+    }
+    valueLengths.addInt(valueLength);
+
+    getOrCreateEntries(scopeKey).put(cachedName, entry);
+  }
+
+  void removeVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final Object2IntHashMap<DirectBuffer> entries = entriesByScope.get(scopeKey);
+    if (entries != null) {
+      nameView.wrap(name, nameOffset, nameLength);
+      entries.removeKey(nameView);
+    }
+  }
+
+  void removeVariables(final long scopeKey) {
+    final Object2IntHashMap<DirectBuffer> entries = entriesByScope.remove(scopeKey);
+    if (entries != null) {
+      entries.clear();
+      unusedScopes.add(entries);
+    }
+  }
+
+  void removeScope(final long scopeKey) {
+    removeVariables(scopeKey);
+    parentByScope.remove(scopeKey);
+  }
+
+  void clear() {
+    parentByScope.clear();
+    for (final Object2IntHashMap<DirectBuffer> entries : entriesByScope.values()) {
+      entries.clear();
+      unusedScopes.add(entries);
+    }
+    entriesByScope.clear();
+    valueOffsets.clear();
+    valueLengths.clear();
+    entryCount = 0;
+    length = 0;
+  }
+
+  private Object2IntHashMap<DirectBuffer> getOrCreateEntries(final long scopeKey) {
+    Object2IntHashMap<DirectBuffer> entries = entriesByScope.get(scopeKey);
+    if (entries == null) {
+      entries =
+          unusedScopes.isEmpty()
+              ? new Object2IntHashMap<>(MISSING_ENTRY)
+              : unusedScopes.remove(unusedScopes.size() - 1);
+      entriesByScope.put(scopeKey, entries);
+    }
+    return entries;
+  }
+}
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.VariableCacheMetrics;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.msgpack.spec.MsgPackReader;
@@ -68,14 +69,22 @@ public class VariablesState {
   private final IndexedDocument indexedDocument = new IndexedDocument();
   private final KeyGenerator keyGenerator;
 
+  // caching the scope hierarchy and variables of the current transaction
+  private final DbContext dbContext;
+  private final VariablesCache cache = new VariablesCache();
+  private final VariableCacheMetrics cacheMetrics;
+
   private VariableListener listener;
   private int variableCount = 0;
 
   public VariablesState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
     this.keyGenerator = keyGenerator;
+    this.dbContext = dbContext;
+    cacheMetrics = new VariableCacheMetrics(partitionId);
 
     childKey = new DbLong();
     childParentColumnFamily =
@@ -188,7 +197,10 @@ public class VariablesState {
 
     } else {
       // not updated
+      return;
     }
+
+    cache.removeVariable(scopeKey, name, nameOffset, nameLength);
   }
 
   private boolean hasVariableLocal(
@@ -201,13 +213,24 @@ public class VariablesState {
   }
 
   public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
-    final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
+    ensureCacheVersion();
+    return getCachedVariableLocal(scopeKey, name, 0, name.capacity());
+  }
 
-    if (variable != null) {
-      return variable.getValue();
-    } else {
-      return null;
+  private DirectBuffer getCachedVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final int entry = cache.getEntry(scopeKey, name, nameOffset, nameLength);
+    if (entry != VariablesCache.MISSING_ENTRY) {
+      cacheMetrics.variableHit();
+      return cache.getValue(entry);
     }
+    cacheMetrics.variableMiss();
+
+    final VariableInstance variable = getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    final DirectBuffer value = variable != null ? variable.getValue() : null;
+    cache.putVariable(scopeKey, name, nameOffset, nameLength, value);
+
+    return value;
   }
 
   private VariableInstance getVariableLocal(
@@ -243,14 +266,15 @@ public class VariablesState {
    */
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    ensureCacheVersion();
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      final DirectBuffer value =
+          getCachedVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
-      if (variable != null) {
-        return variable.getValue();
+      if (value != null) {
+        return value;
       }
 
       currentScopeKey = getParent(currentScopeKey);
@@ -320,10 +344,27 @@ public class VariablesState {
   }
 
   private long getParent(final long childKey) {
+    ensureCacheVersion();
+
+    final long cachedParent = cache.getParent(childKey);
+    if (cachedParent != VariablesCache.UNKNOWN_PARENT) {
+      cacheMetrics.scopeHit();
+      return cachedParent;
+    }
+    cacheMetrics.scopeMiss();
+
     this.childKey.wrapLong(childKey);
 
     final ParentScopeKey parentKey = childParentColumnFamily.get(this.childKey);
-    return parentKey != null ? parentKey.get() : NO_PARENT;
+    final long parent = parentKey != null ? parentKey.get() : NO_PARENT;
+    cache.putParent(childKey, parent);
+
+    return parent;
+  }
+
+  /** Clears the cache if the transaction was committed or rolled back since it was filled. */
+  private void ensureCacheVersion() {
+    cache.ensureVersion(dbContext.getTransactionVersion());
   }
 
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
@@ -454,7 +495,7 @@ public class VariablesState {
 
           return !completionCondition.getAsBoolean();
         });
-    return false;
+    return completionCondition.getAsBoolean();
   }
 
   public void createScope(final long childKey, final long parentKey) {
@@ -462,6 +503,9 @@ public class VariablesState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.put(this.childKey, this.parentKey);
+
+    ensureCacheVersion();
+    cache.putParent(childKey, parentKey);
   }
 
   public void removeScope(final long scopeKey) {
@@ -470,6 +514,9 @@ public class VariablesState {
     removeAllVariables(scopeKey);
 
     childParentColumnFamily.delete(this.scopeKey);
+
+    ensureCacheVersion();
+    cache.removeScope(scopeKey);
   }
 
   public void removeAllVariables(final long scopeKey) {
@@ -478,6 +525,9 @@ public class VariablesState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
         () -> false);
+
+    ensureCacheVersion();
+    cache.removeVariables(scopeKey);
   }
 
   public void setTemporaryVariables(final long scopeKey, final DirectBuffer variables) {
@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.job;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.engine.util.EngineRule;
+import io.zeebe.engine.util.RecordToWrite;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRejection;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.test.util.Strings;
+import io.zeebe.test.util.record.RecordingExporter;
+import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobBatchCommandTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  private String jobType;
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobsInOneStep() {
+    // given
+    final List<Long> jobKeys = activateJobs(2);
+    final JobBatchRecord command = new JobBatchRecord();
+    jobKeys.forEach(
+        jobKey -> {
+          command.jobKeys().add().setValue(jobKey);
+          command.jobs().add().setVariables(asMsgPack("foo", jobKey));
+        });
+
+    // when
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, command));
+
+    // then
+    final Record<JobBatchRecordValue> batchEvent =
+        RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED).getFirst();
+    assertThat(batchEvent.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+    assertThat(rejectionsOf(batchEvent)).isEmpty();
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withSourceRecordPosition(batchEvent.getSourceRecordPosition())
+                .limit(2))
+        .extracting(Record::getKey, r -> r.getValue().getVariables())
+        .containsExactly(
+            tuple(jobKeys.get(0), Map.of("foo", jobKeys.get(0))),
+            tuple(jobKeys.get(1), Map.of("foo", jobKeys.get(1))));
+  }
+
+  @Test
+  public void shouldContinueWorkflowInstancesOfCompletedJobs() {
+    // given
+    final List<Long> jobKeys = activateJobs(2);
+    final JobBatchRecord command = new JobBatchRecord();
+    jobKeys.forEach(
+        jobKey -> {
+          command.jobKeys().add().setValue(jobKey);
+          command.jobs().add();
+        });
+
+    // when
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, command));
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords()
+                .withElementType(BpmnElementType.PROCESS)
+                .withIntent(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .limit(2))
+        .hasSize(2);
+  }
+
+  @Test
+  public void shouldRejectJobsWhichCannotBeCompleted() {
+    // given
+    final long jobKey = activateJobs(1).get(0);
+    final long unknownJobKey = 123L;
+    final JobBatchRecord command = new JobBatchRecord();
+    command.jobKeys().add().setValue(unknownJobKey);
+    command.jobs().add();
+    command.jobKeys().add().setValue(jobKey);
+    command.jobs().add();
+
+    // when
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, command));
+
+    // then
+    final Record<JobBatchRecordValue> batchEvent =
+        RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED).getFirst();
+    assertThat(batchEvent.getValue().getJobKeys()).containsExactly(jobKey);
+    assertThat(rejectionsOf(batchEvent))
+        .extracting(JobBatchRejection::getJobKey, JobBatchRejection::getRejectionType)
+        .containsExactly(tuple(unknownJobKey, RejectionType.NOT_FOUND));
+    assertThat(rejectionsOf(batchEvent).get(0).getRejectionReason())
+        .isEqualTo("Expected to complete job with key '123', but no such job was found");
+  }
+
+  @Test
+  public void shouldFailJobsInOneStep() {
+    // given
+    final List<Long> jobKeys = activateJobs(2);
+    final JobBatchRecord command = new JobBatchRecord();
+    jobKeys.forEach(
+        jobKey -> {
+          command.jobKeys().add().setValue(jobKey);
+          command.jobs().add().setRetries(2).setErrorMessage("failed");
+        });
+
+    // when
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.FAIL, command));
+
+    // then
+    final Record<JobBatchRecordValue> batchEvent =
+        RecordingExporter.jobBatchRecords(JobBatchIntent.FAILED).getFirst();
+    assertThat(batchEvent.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.FAILED)
+                .withSourceRecordPosition(batchEvent.getSourceRecordPosition())
+                .limit(2))
+        .extracting(
+            Record::getKey, r -> r.getValue().getRetries(), r -> r.getValue().getErrorMessage())
+        .containsExactly(tuple(jobKeys.get(0), 2, "failed"), tuple(jobKeys.get(1), 2, "failed"));
+  }
+
+  @Test
+  public void shouldRejectBatchIfJobsDoNotMatchJobKeys() {
+    // given
+    final JobBatchRecord command = new JobBatchRecord();
+    command.jobKeys().add().setValue(123L);
+
+    // when
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, command));
+
+    // then
+    final Record<JobBatchRecordValue> rejection =
+        RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETE)
+            .onlyCommandRejections()
+            .getFirst();
+    assertThat(rejection.getRecordType()).isEqualTo(RecordType.COMMAND_REJECTION);
+    assertThat(rejection.getRejectionType()).isEqualTo(RejectionType.INVALID_ARGUMENT);
+  }
+
+  private List<Long> activateJobs(final int count) {
+    for (int i = 0; i < count; i++) {
+      ENGINE.createJob(jobType, PROCESS_ID);
+    }
+
+    final List<Long> jobKeys = new ArrayList<>();
+    while (jobKeys.size() < count) {
+      jobKeys.addAll(ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys());
+    }
+    return jobKeys;
+  }
+
+  private static List<JobBatchRejection> rejectionsOf(final Record<JobBatchRecordValue> record) {
+    final List<JobBatchRejection> rejections = new ArrayList<>();
+    ((JobBatchRecord) record.getValue())
+        .rejections()
+        .forEach(
+            rejection -> {
+              final JobBatchRejection copy = new JobBatchRejection();
+              copy.setJobKey(rejection.getJobKey())
+                  .setRejectionType(rejection.getRejectionType())
+                  .setRejectionReason(rejection.getRejectionReason());
+              rejections.add(copy);
+            });
+    return rejections;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  private final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+
+  @Test
+  public void shouldReadCommandsInOrder() {
+    // given
+    batch.add(closeMessageSubscription(1, "first"));
+    batch.add(closeMessageSubscription(2, "second"));
+
+    // when
+    final List<CloseMessageSubscriptionCommand> commands = readCommands(batch.toByteArray());
+
+    // then
+    assertThat(commands)
+        .extracting(CloseMessageSubscriptionCommand::getWorkflowInstanceKey)
+        .containsExactly(1L, 2L);
+    assertThat(commands)
+        .extracting(c -> c.getMessageName().capacity())
+        .containsExactly("first".length(), "second".length());
+  }
+
+  @Test
+  public void shouldGrowWithAddedCommands() {
+    // given
+    final CloseMessageSubscriptionCommand command = closeMessageSubscription(1, "x".repeat(1024));
+
+    // when
+    for (int i = 0; i < 64; i++) {
+      batch.add(command);
+    }
+
+    // then
+    assertThat(batch.getLength()).isEqualTo(64 * (Integer.BYTES + command.getLength()));
+    assertThat(readCommands(batch.toByteArray())).hasSize(64);
+  }
+
+  @Test
+  public void shouldProvideCommandsWithoutCopy() {
+    // given
+    batch.add(closeMessageSubscription(1, "first"));
+    batch.add(closeMessageSubscription(2, "second"));
+
+    // when
+    final List<CloseMessageSubscriptionCommand> commands = readCommands(batch.getBuffer());
+
+    // then
+    assertThat(batch.getBuffer().capacity()).isEqualTo(batch.getLength());
+    assertThat(commands)
+        .extracting(CloseMessageSubscriptionCommand::getWorkflowInstanceKey)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // given
+    batch.add(closeMessageSubscription(1, "first"));
+
+    // when
+    batch.reset();
+    batch.add(closeMessageSubscription(2, "second"));
+
+    // then
+    assertThat(readCommands(batch.toByteArray()))
+        .extracting(CloseMessageSubscriptionCommand::getWorkflowInstanceKey)
+        .containsExactly(2L);
+
+    batch.reset();
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(batch.toByteArray()).isEmpty();
+  }
+
+  private List<CloseMessageSubscriptionCommand> readCommands(final byte[] bytes) {
+    return readCommands(new UnsafeBuffer(bytes));
+  }
+
+  private List<CloseMessageSubscriptionCommand> readCommands(final DirectBuffer batch) {
+    final List<CloseMessageSubscriptionCommand> commands = new ArrayList<>();
+    SubscriptionCommandBatch.forEachCommand(
+        batch,
+        (buffer, offset, length) -> {
+          final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+          command.wrap(buffer, offset, length);
+          commands.add(command);
+        });
+    return commands;
+  }
+
+  private CloseMessageSubscriptionCommand closeMessageSubscription(
+      final long workflowInstanceKey, final String messageName) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(1);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(workflowInstanceKey + 1);
+    command.setMessageName(wrapString(messageName));
+    return command;
+  }
+}
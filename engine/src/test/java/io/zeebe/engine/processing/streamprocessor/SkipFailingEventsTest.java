@@ -292,6 +292,58 @@ public final class SkipFailingEventsTest {
     waitUntil(() -> zeebeState.isOnBlacklist(mockTypedRecord));
   }
 
+  @Test
+  public void shouldNotRetryFailedEventsOnReprocessing() throws Exception {
+    // given
+    when(commandResponseWriter.tryWriteResponse(anyInt(), anyLong())).thenReturn(true);
+
+    final long failedPos =
+        streams
+            .newRecord(STREAM_NAME)
+            .event(Records.job(1))
+            .recordType(RecordType.EVENT)
+            .intent(JobIntent.ACTIVATED)
+            .key(keyGenerator.nextKey())
+            .write();
+    streams
+        .newRecord(STREAM_NAME)
+        .event(Records.error(1, failedPos))
+        .recordType(RecordType.EVENT)
+        .sourceRecordPosition(failedPos)
+        .intent(ErrorIntent.CREATED)
+        .key(keyGenerator.nextKey())
+        .write();
+
+    final ErrorProneProcessor errorProneProcessor = new ErrorProneProcessor();
+    final CountDownLatch latch = new CountDownLatch(1);
+    streams.startStreamProcessor(
+        STREAM_NAME,
+        DefaultZeebeDbFactory.defaultFactory(),
+        (processingContext) -> {
+          zeebeState = processingContext.getZeebeState();
+          return TypedRecordProcessors.processors(zeebeState.getKeyGenerator())
+              .withListener(
+                  new StreamProcessorLifecycleAware() {
+                    @Override
+                    public void onRecovered(final ReadonlyProcessingContext ctx) {
+                      latch.countDown();
+                    }
+                  })
+              .onEvent(ValueType.JOB, JobIntent.ACTIVATED, errorProneProcessor);
+        });
+
+    // when
+    latch.await(2000, TimeUnit.MILLISECONDS);
+
+    // then
+    final RecordMetadata metadata = new RecordMetadata();
+    metadata.valueType(ValueType.WORKFLOW_INSTANCE);
+    final MockTypedRecord<WorkflowInstanceRecord> mockTypedRecord =
+        new MockTypedRecord<>(0, metadata, Records.workflowInstance(1));
+    waitUntil(() -> zeebeState.isOnBlacklist(mockTypedRecord));
+    assertThat(errorProneProcessor.getProcessCount()).isEqualTo(1);
+  }
+
   @Test
   public void shouldNotBlacklistInstanceOnCommand() {
     // given
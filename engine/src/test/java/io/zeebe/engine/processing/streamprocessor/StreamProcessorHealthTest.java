@@ -285,6 +285,11 @@ public class StreamProcessorHealthTest {
       wrappedWriter.configureSourceContext(sourceRecordPosition);
     }
 
+    @Override
+    public boolean canWriteEventOfLength(final int eventLength) {
+      return wrappedWriter.canWriteEventOfLength(eventLength);
+    }
+
     @Override
     public void appendNewCommand(final Intent intent, final UnpackedObject value) {
       wrappedWriter.appendNewCommand(intent, value);
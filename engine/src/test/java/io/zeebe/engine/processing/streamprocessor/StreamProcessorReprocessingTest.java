@@ -309,6 +309,41 @@ public final class StreamProcessorReprocessingTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldReprocessRecordsOnceIfFollowUpEventsAreWrittenLater() {
+    // given
+    final long firstEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    final long secondEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, firstEvent);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 2, secondEvent);
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+
+    // when
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE, ELEMENT_ACTIVATING, typedRecordProcessor));
+
+    // then
+    final InOrder inOrder = inOrder(typedRecordProcessor);
+    inOrder
+        .verify(typedRecordProcessor, TIMEOUT.times(1))
+        .processRecord(eq(firstEvent), any(), any(), any(), any());
+    inOrder
+        .verify(typedRecordProcessor, TIMEOUT.times(1))
+        .processRecord(eq(secondEvent), any(), any(), any(), any());
+    inOrder.verify(typedRecordProcessor, TIMEOUT.times(1)).onRecovered(any());
+
+    inOrder.verifyNoMoreInteractions();
+  }
+
   @Test
   public void shouldNotReprocessWithoutSourcePosition() {
     // given
@@ -393,6 +428,71 @@ public final class StreamProcessorReprocessingTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldRetryOnlyFailedRecordOfBatch() {
+    // given
+    streamProcessorRule.maxRecordsInReprocessingBatch(10);
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    final long secondPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    final long thirdPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 3);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 3, thirdPosition);
+
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+
+    // when
+    final List<Long> processedPositions = new ArrayList<>();
+    final List<Long> generatedKeys = new ArrayList<>();
+    final AtomicInteger count = new AtomicInteger(0);
+    final CountDownLatch recoveredLatch = new CountDownLatch(1);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors
+                .onEvent(
+                    ValueType.WORKFLOW_INSTANCE,
+                    ELEMENT_ACTIVATING,
+                    new TypedRecordProcessor<>() {
+                      @Override
+                      public void processRecord(
+                          final long position,
+                          final TypedRecord<UnifiedRecordValue> record,
+                          final TypedResponseWriter responseWriter,
+                          final TypedStreamWriter streamWriter,
+                          final Consumer<SideEffectProducer> sideEffect) {
+                        processedPositions.add(position);
+                        generatedKeys.add(context.getZeebeState().getKeyGenerator().nextKey());
+
+                        if (position == thirdPosition && count.getAndIncrement() == 0) {
+                          throw new RuntimeException("recoverable");
+                        }
+                      }
+                    })
+                .withListener(
+                    new StreamProcessorLifecycleAware() {
+                      @Override
+                      public void onRecovered(final ReadonlyProcessingContext context) {
+                        recoveredLatch.countDown();
+                      }
+                    }));
+
+    // then
+    waitUntil(() -> recoveredLatch.getCount() == 0);
+    assertThat(processedPositions)
+        .containsExactly(firstPosition, secondPosition, thirdPosition, thirdPosition);
+    // the changes of the failed record are rolled back, but not the changes of the records before
+    assertThat(generatedKeys.get(0)).isLessThan(generatedKeys.get(1));
+    assertThat(generatedKeys.get(1)).isLessThan(generatedKeys.get(2));
+    assertThat(generatedKeys.get(3)).isEqualTo(generatedKeys.get(2));
+  }
+
   @Test
   public void shouldIgnoreRecordWhenNoProcessorExistForThisType() {
     // given
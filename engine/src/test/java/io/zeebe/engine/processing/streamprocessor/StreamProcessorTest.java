@@ -25,25 +25,31 @@ import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.Records;
 import io.zeebe.engine.util.StreamProcessorRule;
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
+import io.zeebe.protocol.record.intent.ErrorIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.test.util.TestUtil;
 import io.zeebe.util.exception.RecoverableException;
 import io.zeebe.util.sched.ActorControl;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.assertj.core.api.Assertions;
 import org.junit.Rule;
 import org.junit.Test;
@@ -714,6 +720,202 @@ public final class StreamProcessorTest {
     assertThat(lastWrittenPos).isEqualTo(activatedPosition);
   }
 
+  @Test
+  public void shouldWriteFollowUpEventsOfBatchWithTheirSourcePosition() {
+    // given
+    streamProcessorRule.maxCommandsInBatch(10);
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 1);
+    final long secondPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 2);
+    final long thirdPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 3);
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            (processors, state) ->
+                processors.onEvent(
+                    ValueType.WORKFLOW_INSTANCE,
+                    WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                    new TypedRecordProcessor<>() {
+                      @Override
+                      public void processRecord(
+                          final long position,
+                          final TypedRecord<UnifiedRecordValue> record,
+                          final TypedResponseWriter responseWriter,
+                          final TypedStreamWriter streamWriter,
+                          final Consumer<SideEffectProducer> sideEffect) {
+                        streamWriter.appendFollowUpEvent(
+                            record.getKey(),
+                            WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                            record.getValue());
+                      }
+                    }));
+
+    // then
+    final var activatedEvents =
+        TestUtil.doRepeatedly(
+                () ->
+                    streamProcessorRule
+                        .events()
+                        .onlyWorkflowInstanceRecords()
+                        .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+                        .limit(3)
+                        .collect(Collectors.toList()))
+            .until(events -> events.size() == 3);
+
+    assertThat(activatedEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition, secondPosition, thirdPosition);
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(thirdPosition);
+  }
+
+  @Test
+  public void shouldWriteResponsesOfBatch() {
+    // given
+    streamProcessorRule.maxCommandsInBatch(10);
+    final var command = Records.workflowInstance(1);
+    streamProcessorRule.writeCommand(1, 10, WorkflowInstanceIntent.CANCEL, command);
+    streamProcessorRule.writeCommand(1, 11, WorkflowInstanceIntent.CANCEL, command);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.CANCEL,
+                new TypedRecordProcessor<>() {
+                  @Override
+                  public void processRecord(
+                      final long position,
+                      final TypedRecord<UnifiedRecordValue> record,
+                      final TypedResponseWriter responseWriter,
+                      final TypedStreamWriter streamWriter,
+                      final Consumer<SideEffectProducer> sideEffect) {
+                    responseWriter.writeEventOnCommand(
+                        record.getKey(),
+                        WorkflowInstanceIntent.ELEMENT_TERMINATING,
+                        record.getValue(),
+                        record);
+                  }
+                }));
+
+    // then
+    final CommandResponseWriter commandResponseWriter =
+        streamProcessorRule.getCommandResponseWriter();
+
+    final InOrder inOrder = inOrder(commandResponseWriter);
+    inOrder.verify(commandResponseWriter, TIMEOUT.times(1)).tryWriteResponse(1, 10);
+    inOrder.verify(commandResponseWriter, TIMEOUT.times(1)).tryWriteResponse(1, 11);
+  }
+
+  @Test
+  public void shouldFallBackToSingleRecordProcessingIfRecordOfBatchFails() {
+    // given
+    streamProcessorRule.maxCommandsInBatch(10);
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 1);
+    final long failingPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 2);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                new TypedRecordProcessor<>() {
+                  @Override
+                  public void processRecord(
+                      final long position,
+                      final TypedRecord<UnifiedRecordValue> record,
+                      final TypedResponseWriter responseWriter,
+                      final TypedStreamWriter streamWriter,
+                      final Consumer<SideEffectProducer> sideEffect) {
+                    if (position == failingPosition) {
+                      throw new RuntimeException("expected");
+                    }
+
+                    streamWriter.appendFollowUpEvent(
+                        record.getKey(),
+                        WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                        record.getValue());
+                  }
+                }));
+
+    // then
+    final Record<ErrorRecord> errorEvent =
+        TestUtil.doRepeatedly(
+                () ->
+                    streamProcessorRule
+                        .events()
+                        .onlyErrorRecords()
+                        .withIntent(ErrorIntent.CREATED)
+                        .findFirst())
+            .until(Optional::isPresent)
+            .get();
+    assertThat(errorEvent.getValue().getErrorEventPosition()).isEqualTo(failingPosition);
+
+    assertThat(
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+                .filter(record -> record.getPosition() < errorEvent.getPosition()))
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition);
+  }
+
+  @Test
+  public void shouldNotifyOnProcessedListenerOnceIfBatchFallsBack() {
+    // given
+    streamProcessorRule.maxCommandsInBatch(10);
+    final var command = Records.workflowInstance(1);
+    streamProcessorRule.writeCommand(1, 10, WorkflowInstanceIntent.CANCEL, command);
+    final long failingPosition =
+        streamProcessorRule.writeCommand(1, 11, WorkflowInstanceIntent.CANCEL, command);
+    streamProcessorRule.writeCommand(1, 12, WorkflowInstanceIntent.CANCEL, command);
+
+    final List<Long> notifiedRequests = new CopyOnWriteArrayList<>();
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onCommand(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.CANCEL,
+                new TypedRecordProcessor<>() {
+                  @Override
+                  public void processRecord(
+                      final long position,
+                      final TypedRecord<UnifiedRecordValue> record,
+                      final TypedResponseWriter responseWriter,
+                      final TypedStreamWriter streamWriter,
+                      final Consumer<SideEffectProducer> sideEffect) {
+                    if (position == failingPosition) {
+                      throw new RuntimeException("expected");
+                    }
+
+                    responseWriter.writeEventOnCommand(
+                        record.getKey(),
+                        WorkflowInstanceIntent.ELEMENT_TERMINATING,
+                        record.getValue(),
+                        record);
+                  }
+                }),
+        record -> notifiedRequests.add(record.getRequestId()));
+
+    // then
+    TestUtil.waitUntil(() -> notifiedRequests.contains(12L));
+    assertThat(notifiedRequests).containsExactly(10L, 11L, 12L);
+  }
+
   private Record<WorkflowInstanceRecord> waitForActivated() {
     return TestUtil.doRepeatedly(
             () ->
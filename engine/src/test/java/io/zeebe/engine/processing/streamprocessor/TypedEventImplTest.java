@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.util.buffer.BufferReader;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class TypedEventImplTest {
+
+  private final RecordMetadata metadata =
+      new RecordMetadata()
+          .valueType(ValueType.WORKFLOW_INSTANCE)
+          .intent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+  private final WorkflowInstanceRecord value = new WorkflowInstanceRecord();
+
+  private LoggedEvent loggedEvent;
+  private TypedEventImpl typedEvent;
+
+  @Before
+  public void setUp() {
+    final WorkflowInstanceRecord record =
+        new WorkflowInstanceRecord().setBpmnProcessId("process").setElementId("task");
+    final UnsafeBuffer serialized = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(serialized, 0);
+
+    loggedEvent = mock(LoggedEvent.class);
+    when(loggedEvent.getKey()).thenReturn(123L);
+    doAnswer(
+            invocation -> {
+              final BufferReader reader = invocation.getArgument(0);
+              reader.wrap(serialized, 0, serialized.capacity());
+              return null;
+            })
+        .when(loggedEvent)
+        .readValue(any());
+
+    typedEvent = new TypedEventImpl(1);
+  }
+
+  @Test
+  public void shouldNotReadValueIfOnlyMetadataIsAccessed() {
+    // when
+    typedEvent.wrapLazily(loggedEvent, metadata, value);
+
+    // then
+    assertThat(typedEvent.getKey()).isEqualTo(123L);
+    assertThat(typedEvent.getIntent()).isEqualTo(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    assertThat(typedEvent.getValueType()).isEqualTo(ValueType.WORKFLOW_INSTANCE);
+    verify(loggedEvent, never()).readValue(any());
+  }
+
+  @Test
+  public void shouldReadValueOnFirstAccess() {
+    // given
+    value.setBpmnProcessId("other");
+    typedEvent.wrapLazily(loggedEvent, metadata, value);
+
+    // when
+    final WorkflowInstanceRecord firstAccess = (WorkflowInstanceRecord) typedEvent.getValue();
+    final WorkflowInstanceRecord secondAccess = (WorkflowInstanceRecord) typedEvent.getValue();
+
+    // then
+    assertThat(firstAccess).isSameAs(value).isSameAs(secondAccess);
+    assertThat(value.getBpmnProcessId()).isEqualTo("process");
+    assertThat(value.getElementId()).isEqualTo("task");
+    verify(loggedEvent, times(1)).readValue(any());
+  }
+
+  @Test
+  public void shouldReadValueAgainAfterWrappingNextEvent() {
+    // given
+    typedEvent.wrapLazily(loggedEvent, metadata, value);
+    typedEvent.getValue();
+
+    // when
+    typedEvent.wrapLazily(loggedEvent, metadata, value);
+    typedEvent.getValue();
+
+    // then
+    verify(loggedEvent, times(2)).readValue(any());
+  }
+
+  @Test
+  public void shouldRaiseDecodingFailureOnlyOnce() {
+    // given
+    final LoggedEvent corruptEvent = mock(LoggedEvent.class);
+    doAnswer(
+            invocation -> {
+              throw new RuntimeException("expected");
+            })
+        .when(corruptEvent)
+        .readValue(any());
+    typedEvent.wrapLazily(corruptEvent, metadata, value);
+
+    // when - then
+    assertThatThrownBy(typedEvent::getValue).hasMessage("expected");
+    assertThat(typedEvent.getValue()).isSameAs(value);
+    assertThat(value.getBpmnProcessId()).isEmpty();
+  }
+}
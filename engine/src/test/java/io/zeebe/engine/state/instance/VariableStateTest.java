@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.VariablesState.VariableListener;
@@ -671,6 +672,77 @@ public final class VariableStateTest {
     assertThat(listener.updated.get(0).key).isEqualTo(variableKey);
   }
 
+  @Test
+  public void shouldGetUpdatedVariableWithinTransaction() throws Exception {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), wrapString("foo"));
+
+    final ZeebeDbTransaction transaction = ZEEBE_STATE_RULE.getDbContext().getCurrentTransaction();
+    final List<DirectBuffer> values = new ArrayList<>();
+
+    // when
+    transaction.run(
+        () -> {
+          values.add(cloneBuffer(variablesState.getVariable(child, wrapString("x"))));
+          setVariableLocal(parent, wrapString("x"), wrapString("bar"));
+          values.add(cloneBuffer(variablesState.getVariable(child, wrapString("x"))));
+          setVariableLocal(child, wrapString("x"), wrapString("baz"));
+          values.add(cloneBuffer(variablesState.getVariable(child, wrapString("x"))));
+        });
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(wrapString("foo"), wrapString("bar"), wrapString("baz"));
+    assertThat(variablesState.getVariable(child, wrapString("x"))).isEqualTo(wrapString("baz"));
+  }
+
+  @Test
+  public void shouldNotGetVariableAfterTransactionIsRolledBack() throws Exception {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final ZeebeDbTransaction transaction = ZEEBE_STATE_RULE.getDbContext().getCurrentTransaction();
+
+    transaction.run(
+        () -> {
+          setVariableLocal(parent, wrapString("x"), wrapString("foo"));
+          assertThat(variablesState.getVariable(child, wrapString("x")))
+              .isEqualTo(wrapString("foo"));
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(variablesState.getVariable(child, wrapString("x"))).isNull();
+    assertThat(variablesState.getVariableLocal(parent, wrapString("x"))).isNull();
+  }
+
+  @Test
+  public void shouldNotGetVariableOfRemovedScopeWithinTransaction() throws Exception {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("x"), wrapString("foo"));
+
+    final ZeebeDbTransaction transaction = ZEEBE_STATE_RULE.getDbContext().getCurrentTransaction();
+    final List<DirectBuffer> values = new ArrayList<>();
+
+    // when
+    transaction.run(
+        () -> {
+          values.add(cloneBuffer(variablesState.getVariableLocal(parent, wrapString("x"))));
+          variablesState.removeScope(parent);
+          values.add(variablesState.getVariableLocal(parent, wrapString("x")));
+        });
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(wrapString("foo"), null);
+  }
+
   private byte[] stringToMsgpack(final String value) {
     return MsgPackUtil.encodeMsgPack(b -> b.packString(value)).byteArray();
   }
@@ -88,7 +88,10 @@ public class ListLogStorage implements LogStorage {
       final ByteBuffer blockBuffer,
       final AppendListener listener) {
     try {
-      final var entry = new Entry(lowestPosition, highestPosition, blockBuffer);
+      // the buffer is reused by the appender once the block is written
+      final var copiedBuffer =
+          ByteBuffer.allocate(blockBuffer.remaining()).put(blockBuffer.duplicate()).flip();
+      final var entry = new Entry(lowestPosition, highestPosition, copiedBuffer);
       entries.add(entry);
       final var index = entries.size();
       positionIndexMapping.put(lowestPosition, index);
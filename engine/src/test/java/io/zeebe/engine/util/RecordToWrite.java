@@ -65,6 +65,12 @@ public final class RecordToWrite {
     return this;
   }
 
+  public RecordToWrite jobBatch(final JobBatchIntent intent, final JobBatchRecord value) {
+    recordMetadata.valueType(ValueType.JOB_BATCH).intent(intent);
+    unifiedRecordValue = value;
+    return this;
+  }
+
   public RecordToWrite job(final JobIntent intent, final JobRecordValue value) {
     recordMetadata.valueType(ValueType.JOB).intent(intent);
     unifiedRecordValue = (JobRecord) value;
@@ -156,6 +156,14 @@ public final class StreamProcessorRule implements TestRule {
     return streamProcessingComposite.getStreamProcessor(partitionId);
   }
 
+  public void maxCommandsInBatch(final int maxCommandsInBatch) {
+    streams.maxCommandsInBatch(maxCommandsInBatch);
+  }
+
+  public void maxRecordsInReprocessingBatch(final int maxRecordsInReprocessingBatch) {
+    streams.maxRecordsInReprocessingBatch(maxRecordsInReprocessingBatch);
+  }
+
   public CommandResponseWriter getCommandResponseWriter() {
     return streams.getMockedResponseWriter();
   }
@@ -73,6 +73,8 @@ public final class TestStreams {
   private final Map<String, LogContext> logContextMap = new HashMap<>();
   private final Map<String, ProcessorContext> streamContextMap = new HashMap<>();
   private boolean snapshotWasTaken = false;
+  private int maxCommandsInBatch = 1;
+  private int maxRecordsInReprocessingBatch = 1;
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -96,6 +98,14 @@ public final class TestStreams {
     mockOnProcessedListener = mock(Consumer.class);
   }
 
+  public void maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  public void maxRecordsInReprocessingBatch(final int maxRecordsInReprocessingBatch) {
+    this.maxRecordsInReprocessingBatch = maxRecordsInReprocessingBatch;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -239,6 +249,8 @@ public final class TestStreams {
             .onProcessedListener(mockOnProcessedListener)
             .streamProcessorFactory(factory)
             .detectReprocessingInconsistency(detectReprocessingInconsistency)
+            .maxCommandsInBatch(maxCommandsInBatch)
+            .maxRecordsInReprocessingBatch(maxRecordsInReprocessingBatch)
             .build();
     streamProcessor.openAsync(false).join(15, TimeUnit.SECONDS);
 
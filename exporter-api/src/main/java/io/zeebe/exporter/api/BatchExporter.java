@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api;
+
+import io.zeebe.protocol.record.Record;
+import java.util.List;
+
+/**
+ * An exporter which receives records in batches, to reduce the per record overhead of exporting.
+ * The broker passes batches only if batch exporting is enabled in its configuration; otherwise, or
+ * if it has only a single record to export, it may call {@link #export(Record)} instead.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported, in the order of their
+   * positions. Contains only records which are accepted by the record filter of the exporter. Once
+   * the records are guaranteed to have been exported, implementations should call {@link
+   * io.zeebe.exporter.api.context.Controller#updateLastExportedRecordPosition(long)} with the
+   * position of the last record.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again
+   * with the same records until it terminates without any exception.
+   *
+   * <p>The records and the list are only valid until the method returns, as they are reused for
+   * the next batch. If the implementation needs to keep records, it has to call {@link
+   * Record#toJson()} or {@link Record#clone()}.
+   *
+   * @param records the records to export, never empty
+   */
+  void exportBatch(List<Record<?>> records);
+
+  @Override
+  default void export(final Record<?> record) {
+    exportBatch(List.of(record));
+  }
+}
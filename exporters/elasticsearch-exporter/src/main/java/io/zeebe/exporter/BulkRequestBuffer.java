@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * A reusable buffer holding the serialized body of a single bulk request. Records are written
+ * directly into the backing array, which is handed to the HTTP client without copying it. Buffers
+ * are pooled by the {@link ElasticsearchClient} and reset once their request was acknowledged.
+ */
+final class BulkRequestBuffer extends OutputStream {
+
+  private static final int INITIAL_CAPACITY = 64 * 1024;
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int length;
+  private int recordCount;
+  private long lastPosition = -1;
+  private long serializationNanos;
+  private boolean inFlight;
+  private boolean acknowledged;
+
+  @Override
+  public void write(final int b) {
+    ensureCapacity(length + 1);
+    buffer[length++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int len) {
+    ensureCapacity(length + len);
+    System.arraycopy(bytes, offset, buffer, length, len);
+    length += len;
+  }
+
+  /** Discards everything which was written after the given length. */
+  void truncate(final int length) {
+    this.length = Math.min(this.length, length);
+  }
+
+  void onRecordWritten(final long position, final long elapsedNanos) {
+    recordCount++;
+    lastPosition = position;
+    serializationNanos += elapsedNanos;
+  }
+
+  HttpEntity toEntity() {
+    return new ByteArrayEntity(buffer, 0, length, ContentType.APPLICATION_JSON);
+  }
+
+  boolean isEmpty() {
+    return recordCount == 0;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  int getRecordCount() {
+    return recordCount;
+  }
+
+  long getLastPosition() {
+    return lastPosition;
+  }
+
+  long getSerializationNanos() {
+    return serializationNanos;
+  }
+
+  boolean isInFlight() {
+    return inFlight;
+  }
+
+  void setInFlight(final boolean inFlight) {
+    this.inFlight = inFlight;
+  }
+
+  boolean isAcknowledged() {
+    return acknowledged;
+  }
+
+  void setAcknowledged() {
+    acknowledged = true;
+  }
+
+  void reset() {
+    length = 0;
+    recordCount = 0;
+    lastPosition = -1;
+    serializationNanos = 0;
+    inFlight = false;
+    acknowledged = false;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+    }
+  }
+}
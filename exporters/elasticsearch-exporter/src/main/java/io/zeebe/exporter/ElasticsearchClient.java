@@ -7,6 +7,8 @@
  */
 package io.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.prometheus.client.Histogram;
 import io.zeebe.exporter.dto.BulkItemError;
@@ -20,15 +22,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -38,6 +42,8 @@ import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
@@ -53,27 +59,39 @@ public class ElasticsearchClient {
   public static final String INDEX_DELIMITER = "_";
   public static final String ALIAS_DELIMITER = "-";
   private static final ObjectMapper MAPPER = new ObjectMapper();
+  // the records are serialized by the mapper, directly after the action line of the bulk request,
+  // so no separator must be written between the two root values
+  private static final JsonFactory JSON_FACTORY =
+      new JsonFactory(MAPPER).setRootValueSeparator(null);
 
   protected final RestClient client;
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
   private final DateTimeFormatter formatter;
-  private List<String> bulkRequest;
   private ElasticsearchMetrics metrics;
 
+  // the records are written into the current bulk until it is flushed; in pipelined mode, bulks
+  // are submitted in position order and removed once acknowledged, the lock guards the state
+  // shared with the response callbacks of the http client
+  private final Object pipelineLock = new Object();
+  private final Deque<BulkRequestBuffer> pendingBulks = new ArrayDeque<>();
+  private final Deque<BulkRequestBuffer> freeBulks = new ArrayDeque<>();
+  private int inFlightRequests;
+  private BulkRequestBuffer currentBulk;
+  private long lastIndexedPosition = -1;
+
   public ElasticsearchClient(
       final ElasticsearchExporterConfiguration configuration, final Logger log) {
-    this(configuration, log, new ArrayList<>());
+    this(configuration, log, null);
   }
 
   ElasticsearchClient(
       final ElasticsearchExporterConfiguration configuration,
       final Logger log,
-      final List<String> bulkRequest) {
+      final RestClient restClient) {
     this.configuration = configuration;
     this.log = log;
-    client = createClient();
-    this.bulkRequest = bulkRequest;
+    client = restClient != null ? restClient : createClient();
     formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
   }
 
@@ -87,7 +105,7 @@ public class ElasticsearchClient {
     }
 
     checkRecord(record);
-    bulk(newIndexCommand(record), record);
+    appendToBulk(record);
   }
 
   private void checkRecord(final Record<?> record) {
@@ -112,40 +130,21 @@ public class ElasticsearchClient {
     }
   }
 
-  public void bulk(final Map<String, Object> command, final Record<?> record) {
-    final String serializedCommand;
-
-    try {
-      serializedCommand = MAPPER.writeValueAsString(command);
-    } catch (final IOException e) {
-      throw new ElasticsearchExporterException(
-          "Failed to serialize bulk request command to JSON", e);
-    }
-
-    final String jsonCommand = serializedCommand + "\n" + record.toJson();
-    // don't re-append when retrying same record, to avoid OOM
-    if (bulkRequest.isEmpty() || !bulkRequest.get(bulkRequest.size() - 1).equals(jsonCommand)) {
-      bulkRequest.add(jsonCommand);
-    }
-  }
-
   /**
+   * Sends the current bulk and waits for the response.
+   *
    * @throws ElasticsearchExporterException if not all items of the bulk were flushed successfully
    */
   public void flush() {
-    if (bulkRequest.isEmpty()) {
+    if (currentBulk == null || currentBulk.isEmpty()) {
       return;
     }
 
-    final int bulkSize = bulkRequest.size();
-    metrics.recordBulkSize(bulkSize);
-
-    final var bulkMemorySize = getBulkMemorySize();
-    metrics.recordBulkMemorySize(bulkMemorySize);
+    recordBulkMetrics(currentBulk);
 
     final BulkResponse bulkResponse;
     try {
-      bulkResponse = exportBulk();
+      bulkResponse = exportBulk(currentBulk);
 
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
@@ -156,8 +155,8 @@ public class ElasticsearchClient {
       throw new ElasticsearchExporterException("Failed to flush all items of the bulk");
     }
 
-    // all records where flushed, create new bulk request, otherwise retry next time
-    bulkRequest = new ArrayList<>();
+    // all records where flushed, reuse the bulk, otherwise retry next time
+    currentBulk.reset();
   }
 
   private boolean checkBulkResponse(final BulkResponse bulkResponse) {
@@ -179,10 +178,10 @@ public class ElasticsearchClient {
     return !hasErrors;
   }
 
-  private BulkResponse exportBulk() throws IOException {
+  private BulkResponse exportBulk(final BulkRequestBuffer bulk) throws IOException {
     try (final Histogram.Timer timer = metrics.measureFlushDuration()) {
       final var request = new Request("POST", "/_bulk");
-      request.setJsonEntity(String.join("\n", bulkRequest) + "\n");
+      request.setEntity(bulk.toEntity());
 
       final var response = client.performRequest(request);
 
@@ -191,12 +190,199 @@ public class ElasticsearchClient {
   }
 
   public boolean shouldFlush() {
-    return bulkRequest.size() >= configuration.bulk.size
-        || getBulkMemorySize() >= configuration.bulk.memoryLimit;
+    return currentBulk != null
+        && (currentBulk.getRecordCount() >= configuration.bulk.size
+            || currentBulk.getLength() >= configuration.bulk.memoryLimit);
+  }
+
+  /**
+   * Submits the current bulk asynchronously, after re-submitting previously failed bulks. Once a
+   * bulk is acknowledged, the listener is called with the highest position up to which all
+   * submitted bulks were acknowledged. The listener is called from the http client's thread.
+   *
+   * @return false if the current bulk could not be submitted because the maximum number of
+   *     in-flight requests is reached, true otherwise
+   */
+  public boolean flushAsync(final LongConsumer acknowledgedPositionListener) {
+    synchronized (pipelineLock) {
+      for (final BulkRequestBuffer bulk : pendingBulks) {
+        if (inFlightRequests >= configuration.bulk.maxInFlightRequests) {
+          break;
+        }
+
+        if (!bulk.isInFlight() && !bulk.isAcknowledged()) {
+          sendBulk(bulk, acknowledgedPositionListener);
+        }
+      }
+
+      if (currentBulk == null || currentBulk.isEmpty()) {
+        return true;
+      }
+
+      if (inFlightRequests >= configuration.bulk.maxInFlightRequests) {
+        return false;
+      }
+
+      pendingBulks.add(currentBulk);
+      sendBulk(currentBulk, acknowledgedPositionListener);
+      currentBulk = null;
+      return true;
+    }
   }
 
-  private int getBulkMemorySize() {
-    return bulkRequest.stream().mapToInt(String::length).sum();
+  /**
+   * Waits until all in-flight bulk requests completed or the timeout expired.
+   *
+   * @return true if no bulk request is in flight anymore
+   */
+  public boolean awaitInFlightRequests(final Duration timeout) {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+
+    synchronized (pipelineLock) {
+      long remaining = timeout.toNanos();
+      while (inFlightRequests > 0 && remaining > 0) {
+        try {
+          TimeUnit.NANOSECONDS.timedWait(pipelineLock, remaining);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+        remaining = deadline - System.nanoTime();
+      }
+
+      return inFlightRequests == 0;
+    }
+  }
+
+  private void appendToBulk(final Record<?> record) {
+    // don't re-append when retrying same record
+    if (record.getPosition() <= lastIndexedPosition) {
+      return;
+    }
+
+    if (currentBulk == null) {
+      currentBulk = acquireBulk();
+    }
+
+    final int bulkLength = currentBulk.getLength();
+    final long startTime = System.nanoTime();
+    try (final JsonGenerator generator = JSON_FACTORY.createGenerator(currentBulk)) {
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("index");
+      generator.writeStringField("_index", indexFor(record));
+      generator.writeStringField("_type", typeFor(record));
+      generator.writeStringField("_id", idFor(record));
+      generator.writeStringField("routing", String.valueOf(record.getPartitionId()));
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+      generator.writeObject(record);
+      generator.writeRaw('\n');
+    } catch (final IOException e) {
+      // don't send a partially written record
+      currentBulk.truncate(bulkLength);
+      throw new ElasticsearchExporterException(
+          "Failed to serialize bulk request command to JSON", e);
+    }
+
+    currentBulk.onRecordWritten(record.getPosition(), System.nanoTime() - startTime);
+    lastIndexedPosition = record.getPosition();
+  }
+
+  private BulkRequestBuffer acquireBulk() {
+    synchronized (pipelineLock) {
+      final BulkRequestBuffer bulk = freeBulks.poll();
+      return bulk != null ? bulk : new BulkRequestBuffer();
+    }
+  }
+
+  private void recordBulkMetrics(final BulkRequestBuffer bulk) {
+    metrics.recordBulkSize(bulk.getRecordCount());
+    metrics.recordBulkMemorySize(bulk.getLength());
+    metrics.observeBulkBytes(bulk.getLength());
+    metrics.observeSerializationDuration(bulk.getSerializationNanos());
+  }
+
+  private void sendBulk(
+      final BulkRequestBuffer bulk, final LongConsumer acknowledgedPositionListener) {
+    recordBulkMetrics(bulk);
+
+    final var request = new Request("POST", "/_bulk");
+    request.setEntity(bulk.toEntity());
+
+    bulk.setInFlight(true);
+    inFlightRequests++;
+    metrics.setInFlightRequests(inFlightRequests);
+
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            onBulkResponse(bulk, response, acknowledgedPositionListener);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.observeDuration();
+            log.warn(
+                "Failed to flush bulk of {} record(s), will retry later",
+                bulk.getRecordCount(),
+                exception);
+            onBulkCompleted(bulk, false, acknowledgedPositionListener);
+          }
+        });
+  }
+
+  private void onBulkResponse(
+      final BulkRequestBuffer bulk,
+      final Response response,
+      final LongConsumer acknowledgedPositionListener) {
+    boolean success;
+    try {
+      final var bulkResponse =
+          MAPPER.readValue(response.getEntity().getContent(), BulkResponse.class);
+      success = checkBulkResponse(bulkResponse);
+    } catch (final IOException e) {
+      log.warn("Failed to read bulk response, will retry later", e);
+      success = false;
+    }
+
+    onBulkCompleted(bulk, success, acknowledgedPositionListener);
+  }
+
+  private void onBulkCompleted(
+      final BulkRequestBuffer bulk,
+      final boolean success,
+      final LongConsumer acknowledgedPositionListener) {
+    long acknowledgedPosition = -1;
+
+    synchronized (pipelineLock) {
+      bulk.setInFlight(false);
+      inFlightRequests--;
+      metrics.setInFlightRequests(inFlightRequests);
+
+      if (success) {
+        bulk.setAcknowledged();
+      }
+
+      // only advance to the highest position without gaps, bulks which are still in flight or
+      // failed hold back the position of all bulks submitted after them
+      while (!pendingBulks.isEmpty() && pendingBulks.peekFirst().isAcknowledged()) {
+        final BulkRequestBuffer acknowledged = pendingBulks.removeFirst();
+        acknowledgedPosition = acknowledged.getLastPosition();
+        acknowledged.reset();
+        freeBulks.add(acknowledged);
+      }
+
+      pipelineLock.notifyAll();
+    }
+
+    if (acknowledgedPosition >= 0) {
+      acknowledgedPositionListener.accept(acknowledgedPosition);
+    }
   }
 
   /** @return true if request was acknowledged */
@@ -338,16 +524,4 @@ public class ElasticsearchClient {
       throw new ElasticsearchExporterException("Failed to parse content to map", e);
     }
   }
-
-  private Map<String, Object> newIndexCommand(final Record<?> record) {
-    final Map<String, Object> command = new HashMap<>();
-    final Map<String, Object> contents = new HashMap<>();
-    contents.put("_index", indexFor(record));
-    contents.put("_type", typeFor(record));
-    contents.put("_id", idFor(record));
-    contents.put("routing", String.valueOf(record.getPartitionId()));
-
-    command.put("index", contents);
-    return command;
-  }
 }
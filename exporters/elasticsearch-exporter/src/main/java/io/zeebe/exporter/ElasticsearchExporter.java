@@ -8,7 +8,7 @@
 package io.zeebe.exporter;
 
 import io.zeebe.exporter.ElasticsearchExporterConfiguration.IndexConfiguration;
-import io.zeebe.exporter.api.Exporter;
+import io.zeebe.exporter.api.BatchExporter;
 import io.zeebe.exporter.api.ExporterException;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
@@ -16,15 +16,18 @@ import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import java.time.Duration;
+import java.util.List;
 import org.slf4j.Logger;
 
-public class ElasticsearchExporter implements Exporter {
+public class ElasticsearchExporter implements BatchExporter {
 
   public static final String ZEEBE_RECORD_TEMPLATE_JSON = "/zeebe-record-template.json";
 
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
 
+  private static final Duration IN_FLIGHT_REQUESTS_CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
   private Logger log;
   private Controller controller;
 
@@ -65,6 +68,11 @@ public class ElasticsearchExporter implements Exporter {
       log.warn("Failed to flush records before closing exporter.", e);
     }
 
+    if (configuration.bulk.isPipelined()
+        && !client.awaitInFlightRequests(IN_FLIGHT_REQUESTS_CLOSE_TIMEOUT)) {
+      log.warn("Closing exporter with unacknowledged bulk requests, they will be exported again");
+    }
+
     try {
       client.close();
     } catch (final Exception e) {
@@ -80,6 +88,21 @@ public class ElasticsearchExporter implements Exporter {
       createIndexTemplates();
     }
 
+    index(record);
+  }
+
+  @Override
+  public void exportBatch(final List<Record<?>> records) {
+    if (!indexTemplatesCreated) {
+      createIndexTemplates();
+    }
+
+    for (int i = 0; i < records.size(); i++) {
+      index(records.get(i));
+    }
+  }
+
+  private void index(final Record<?> record) {
     client.index(record);
     lastPosition = record.getPosition();
 
@@ -96,6 +119,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be at least 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -109,7 +139,12 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
+      if (configuration.bulk.isPipelined()) {
+        // if too many requests are in flight, the bulk is flushed with one of the next records
+        client.flushAsync(controller::updateLastExportedRecordPosition);
+      } else {
+        flush();
+      }
     } catch (final Exception e) {
       log.error(
           "Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
@@ -122,6 +157,17 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
+    if (configuration.bulk.isPipelined()) {
+      // the position is updated asynchronously once the bulk requests are acknowledged
+      if (!client.flushAsync(controller::updateLastExportedRecordPosition)) {
+        throw new ElasticsearchExporterException(
+            String.format(
+                "Failed to flush bulk, %d bulk requests are already in flight",
+                configuration.bulk.maxInFlightRequests));
+      }
+      return;
+    }
+
     client.flush();
     controller.updateLastExportedRecordPosition(lastPosition);
   }
@@ -168,6 +168,13 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // bulk requests which may be in flight concurrently; with more than one request the records
+    // are serialized into pooled buffers and flushed asynchronously
+    public int maxInFlightRequests = 1;
+
+    public boolean isPipelined() {
+      return maxInFlightRequests > 1;
+    }
 
     @Override
     public String toString() {
@@ -178,6 +185,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -37,6 +37,32 @@ public class ElasticsearchMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BULK_BYTES =
+      Histogram.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("bulk_bytes")
+          .help("Size of the exported bulk requests in bytes")
+          .buckets(1_024, 16 * 1_024, 128 * 1_024, 1_024 * 1_024, 10 * 1_024 * 1_024)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram SERIALIZATION_DURATION =
+      Histogram.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("serialization_duration_seconds")
+          .help("Time spent serializing the records of a bulk request in seconds")
+          .buckets(.0001, .0005, .001, .005, .01, .05, .1, .5)
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge IN_FLIGHT_REQUESTS =
+      Gauge.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("in_flight_bulk_requests")
+          .help("Number of bulk requests which were sent but not yet answered")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -54,4 +80,16 @@ public class ElasticsearchMetrics {
   public void recordBulkMemorySize(final int bulkMemorySize) {
     BULK_MEMORY_SIZE.labels(partitionIdLabel).set(bulkMemorySize);
   }
+
+  public void observeBulkBytes(final int bulkBytes) {
+    BULK_BYTES.labels(partitionIdLabel).observe(bulkBytes);
+  }
+
+  public void observeSerializationDuration(final long durationNanos) {
+    SERIALIZATION_DURATION.labels(partitionIdLabel).observe(durationNanos / 1_000_000_000.0);
+  }
+
+  public void setInFlightRequests(final int inFlightRequests) {
+    IN_FLIGHT_REQUESTS.labels(partitionIdLabel).set(inFlightRequests);
+  }
 }
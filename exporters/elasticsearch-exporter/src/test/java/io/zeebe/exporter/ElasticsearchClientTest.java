@@ -7,21 +7,28 @@
  */
 package io.zeebe.exporter;
 
+import static io.zeebe.util.buffer.BufferUtil.wrapArray;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.CopiedRecord;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
-import io.zeebe.protocol.record.value.VariableRecordValue;
+import io.zeebe.protocol.record.intent.VariableIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 import java.util.stream.IntStream;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,7 +43,6 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
   private ElasticsearchExporterConfiguration configuration;
   private Logger logSpy;
   private ElasticsearchClient client;
-  private ArrayList<String> bulkRequest;
 
   @Before
   public void init() {
@@ -44,27 +50,17 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
 
     configuration = getDefaultConfiguration();
     logSpy = spy(LoggerFactory.getLogger(ElasticsearchClientTest.class));
-    bulkRequest = new ArrayList<>();
-    client = new ElasticsearchClient(configuration, logSpy, bulkRequest);
+    client = new ElasticsearchClient(configuration, logSpy);
   }
 
   @Test
   public void shouldNotLogWarningWhenIndexingSmallVariableValue() {
-    // given
-    final String variableValue = "x".repeat(configuration.index.ignoreVariablesAbove);
-
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
-    when(recordMock.getPartitionId()).thenReturn(1);
-    when(recordMock.getKey()).thenReturn(RECORD_KEY);
-    when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
-    when(recordMock.toJson()).thenReturn("{}");
-
-    final VariableRecordValue value = mock(VariableRecordValue.class);
-    when(value.getValue()).thenReturn(variableValue);
-    when(recordMock.getValue()).thenReturn(value);
+    // given - the JSON of a string variable is quoted
+    final String variableValue = "x".repeat(configuration.index.ignoreVariablesAbove - 2);
+    final Record<VariableRecord> record = newVariableRecord(1, "varName", variableValue);
 
     // when
-    client.index(recordMock);
+    client.index(record);
 
     // then
     verify(logSpy, never()).warn(anyString(), ArgumentMatchers.<Object[]>any());
@@ -75,25 +71,11 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
     // given
     final String variableName = "varName";
     final String variableValue = "x".repeat(configuration.index.ignoreVariablesAbove + 1);
-    final long scopeKey = 1234L;
-    final long workflowInstanceKey = 5678L;
-
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
-    when(recordMock.getPartitionId()).thenReturn(1);
-    when(recordMock.getKey()).thenReturn(RECORD_KEY);
-    when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
-    when(recordMock.toJson()).thenReturn("{}");
-
-    final VariableRecordValue value = mock(VariableRecordValue.class);
-    when(value.getName()).thenReturn(variableName);
-    when(value.getValue()).thenReturn(variableValue);
-    when(value.getScopeKey()).thenReturn(scopeKey);
-    when(value.getWorkflowInstanceKey()).thenReturn(workflowInstanceKey);
-
-    when(recordMock.getValue()).thenReturn(value);
+    final Record<VariableRecord> record = newVariableRecord(1, variableName, variableValue);
+    final VariableRecord value = record.getValue();
 
     // when
-    client.index(recordMock);
+    client.index(record);
 
     // then
     final ArgumentCaptor<Object[]> argumentCaptor = ArgumentCaptor.forClass(Object[].class);
@@ -106,33 +88,28 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
         .contains(
             RECORD_KEY,
             variableName,
-            variableValue.getBytes().length,
-            scopeKey,
-            workflowInstanceKey);
+            value.getValue().getBytes().length,
+            value.getScopeKey(),
+            value.getWorkflowInstanceKey());
   }
 
   @Test
   public void shouldThrowExceptionIfFailToFlushBulk() {
-    // given
+    // given - records which fail on flush, since their index name is invalid
     final int bulkSize = 10;
+    client =
+        new ElasticsearchClient(configuration, logSpy) {
+          @Override
+          protected String indexFor(final Record<?> record) {
+            return record.getPosition() <= bulkSize ? "INVALID" : super.indexFor(record);
+          }
+        };
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
-    when(recordMock.getPartitionId()).thenReturn(1);
-    when(recordMock.getValueType()).thenReturn(ValueType.WORKFLOW_INSTANCE);
-
-    // bulk contains records that fail on flush
-    IntStream.range(0, bulkSize)
-        .forEach(
-            i -> {
-              when(recordMock.getKey()).thenReturn(RECORD_KEY + i);
-              when(recordMock.toJson()).thenReturn("invalid-json-" + i);
-              client.index(recordMock);
-            });
+    IntStream.rangeClosed(1, bulkSize)
+        .forEach(position -> client.index(newWorkflowInstanceRecord(position)));
 
     // and one valid record
-    when(recordMock.getKey()).thenReturn(RECORD_KEY + bulkSize);
-    when(recordMock.toJson()).thenReturn("{}");
-    client.index(recordMock);
+    client.index(newWorkflowInstanceRecord(bulkSize + 1));
 
     // when/then
     assertThatThrownBy(client::flush)
@@ -141,36 +118,37 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
 
     verify(logSpy)
         .warn(
-            "Failed to flush {} item(s) of bulk request [type: {}, reason: {}]",
-            bulkSize,
-            "mapper_parsing_exception",
-            "failed to parse");
+            eq("Failed to flush {} item(s) of bulk request [type: {}, reason: {}]"),
+            eq(bulkSize),
+            eq("invalid_index_name_exception"),
+            anyString());
   }
 
   @Test
   public void shouldIgnoreRecordIfDuplicateOfLast() {
     // given
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
-    when(recordMock.getPartitionId()).thenReturn(1);
-    when(recordMock.getValueType()).thenReturn(ValueType.WORKFLOW_INSTANCE);
-    when(recordMock.getKey()).thenReturn(RECORD_KEY + 1);
-    when(recordMock.toJson()).thenReturn("{}");
+    configuration.bulk.size = 2;
+    final Record<?> record = newWorkflowInstanceRecord(1);
+    client.index(record);
 
-    client.index(recordMock);
-    assertThat(bulkRequest).hasSize(1);
+    // when
+    client.index(record);
+
+    // then
+    assertThat(client.shouldFlush()).isFalse();
 
     // when
-    client.index(recordMock);
+    client.index(newWorkflowInstanceRecord(2));
 
     // then
-    assertThat(bulkRequest).hasSize(1);
+    assertThat(client.shouldFlush()).isTrue();
   }
 
   @Test
   public void shouldFlushOnMemoryLimit() {
     // given
     final var bulkMemoryLimit = 1024;
-    final var recordSize = 2;
+    final var recordSize = 4;
 
     configuration.bulk.memoryLimit = bulkMemoryLimit;
     configuration.bulk.size = Integer.MAX_VALUE;
@@ -178,30 +156,43 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
 
     final var variableValue1 = "x".repeat(bulkMemoryLimit / recordSize);
     final var variableValue2 = "y".repeat(bulkMemoryLimit / recordSize);
-    final Function<String, String> jsonRecord =
-        (String value) -> String.format("{\"value\":\"%s\"}", value);
-
-    final VariableRecordValue recordValue = mock(VariableRecordValue.class);
-    when(recordValue.getValue()).thenReturn(variableValue1);
-
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
-    when(recordMock.getKey()).thenReturn(1L);
-    when(recordMock.getPartitionId()).thenReturn(1);
-    when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
-    when(recordMock.getValue()).thenReturn(recordValue);
-    when(recordMock.toJson()).thenReturn(jsonRecord.apply(variableValue1));
 
     // when
-    client.index(recordMock);
+    client.index(newVariableRecord(1, "varName", variableValue1));
 
     assertThat(client.shouldFlush()).isFalse();
 
-    when(recordMock.getKey()).thenReturn(2L);
-    when(recordMock.toJson()).thenReturn(jsonRecord.apply(variableValue2));
-
-    client.index(recordMock);
+    client.index(newVariableRecord(2, "varName", variableValue2));
 
     // then
     assertThat(client.shouldFlush()).isTrue();
   }
+
+  private static Record<VariableRecord> newVariableRecord(
+      final long position, final String name, final String value) {
+    final VariableRecord variable =
+        new VariableRecord()
+            .setName(wrapString(name))
+            .setValue(wrapArray(MsgPackConverter.convertToMsgPack("\"" + value + "\"")))
+            .setScopeKey(1234L)
+            .setWorkflowInstanceKey(5678L);
+    final RecordMetadata metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.VARIABLE)
+            .intent(VariableIntent.CREATED);
+
+    return new CopiedRecord<>(variable, metadata, RECORD_KEY, 1, position, -1, position);
+  }
+
+  private static Record<?> newWorkflowInstanceRecord(final long position) {
+    final RecordMetadata metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.WORKFLOW_INSTANCE)
+            .intent(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+
+    return new CopiedRecord<>(
+        new WorkflowInstanceRecord(), metadata, RECORD_KEY + position, 1, position, -1, position);
+  }
 }
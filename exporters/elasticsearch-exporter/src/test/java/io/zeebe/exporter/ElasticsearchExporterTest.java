@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,11 +25,15 @@ import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.test.exporter.ExporterTestHarness;
+import io.zeebe.test.exporter.MockController;
+import io.zeebe.test.exporter.record.MockRecord;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.LongConsumer;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.slf4j.LoggerFactory;
 
@@ -234,6 +239,24 @@ public class ElasticsearchExporterTest {
     assertThat(testHarness.getController().getPosition()).isEqualTo(record.getPosition());
   }
 
+  @Test
+  public void shouldIndexAllRecordsOfBatch() {
+    // given
+    when(esClient.shouldFlush()).thenReturn(false, true);
+    final ElasticsearchExporter exporter = createAndOpenExporter();
+    final List<Record<?>> records =
+        List.of(new MockRecord().setPosition(1), new MockRecord().setPosition(2));
+
+    // when
+    exporter.exportBatch(records);
+
+    // then
+    verify(esClient).index(records.get(0));
+    verify(esClient).index(records.get(1));
+    verify(esClient, times(1)).flush();
+    assertThat(testHarness.getController().getPosition()).isEqualTo(2);
+  }
+
   @Test
   public void shouldFlushOnClose() {
     // given
@@ -313,6 +336,55 @@ public class ElasticsearchExporterTest {
     verify(esClient, times(1)).flush();
   }
 
+  @Test
+  public void shouldUpdatePositionOnceBulkIsAcknowledged() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.shouldFlush()).thenReturn(true);
+    when(esClient.flushAsync(any())).thenReturn(true);
+    createAndOpenExporter();
+
+    // when
+    final Record record = testHarness.export();
+
+    // then
+    final ArgumentCaptor<LongConsumer> listenerCaptor = ArgumentCaptor.forClass(LongConsumer.class);
+    verify(esClient).flushAsync(listenerCaptor.capture());
+    verify(esClient, never()).flush();
+    assertThat(testHarness.getController().getPosition())
+        .isEqualTo(MockController.UNKNOWN_POSITION);
+
+    // and
+    listenerCaptor.getValue().accept(record.getPosition());
+    assertThat(testHarness.getController().getPosition()).isEqualTo(record.getPosition());
+  }
+
+  @Test
+  public void shouldFailExportIfTooManyBulksInFlight() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.shouldFlush()).thenReturn(true);
+    when(esClient.flushAsync(any())).thenReturn(false);
+    createAndOpenExporter();
+
+    // when - then
+    assertThatThrownBy(() -> testHarness.export())
+        .isInstanceOf(ElasticsearchExporterException.class)
+        .hasMessage("Failed to flush bulk, 2 bulk requests are already in flight");
+  }
+
+  @Test
+  public void shouldFailOnInvalidMaxInFlightRequests() {
+    // given
+    config.bulk.maxInFlightRequests = 0;
+
+    createExporterAndTestHarness();
+
+    // then
+    assertThatThrownBy(() -> testHarness.configure("els", config))
+        .isInstanceOf(ExporterException.class);
+  }
+
   @Test
   public void shouldFailOnWrongPrefix() {
     // given
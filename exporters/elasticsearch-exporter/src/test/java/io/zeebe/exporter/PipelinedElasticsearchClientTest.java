@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zeebe.protocol.impl.record.CopiedRecord;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.HttpEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class PipelinedElasticsearchClientTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final List<Request> requests = new ArrayList<>();
+  private final List<ResponseListener> listeners = new ArrayList<>();
+  private final List<Long> acknowledgedPositions = new ArrayList<>();
+
+  private ElasticsearchExporterConfiguration configuration;
+  private ElasticsearchClient client;
+
+  @Before
+  public void setUp() {
+    configuration = new ElasticsearchExporterConfiguration();
+    configuration.bulk.maxInFlightRequests = 2;
+    configuration.bulk.size = 2;
+
+    final RestClient restClient = mock(RestClient.class);
+    doAnswer(
+            invocation -> {
+              requests.add(invocation.getArgument(0));
+              listeners.add(invocation.getArgument(1));
+              return null;
+            })
+        .when(restClient)
+        .performRequestAsync(any(), any());
+
+    client =
+        new ElasticsearchClient(configuration, LoggerFactory.getLogger("test"), restClient);
+  }
+
+  @Test
+  public void shouldSerializeRecordsIntoBulkBody() throws IOException {
+    // given
+    client.index(newRecord(1));
+    client.index(newRecord(2));
+
+    // when
+    client.flushAsync(acknowledgedPositions::add);
+
+    // then
+    assertThat(requests).hasSize(1);
+    final String body = readBody(requests.get(0).getEntity());
+    final String[] lines = body.split("\n");
+    assertThat(lines).hasSize(4);
+    assertThat(lines[0])
+        .contains("\"_id\":\"1-1\"")
+        .contains("\"_type\":\"_doc\"")
+        .contains("\"routing\":\"1\"")
+        .contains("\"_index\":\"" + client.indexFor(newRecord(1)) + "\"");
+    assertThat(MAPPER.readTree(lines[1]).get("position").asLong()).isEqualTo(1);
+    assertThat(MAPPER.readTree(lines[3]).get("position").asLong()).isEqualTo(2);
+    assertThat(body).endsWith("\n");
+  }
+
+  @Test
+  public void shouldIgnoreRecordIfAlreadyIndexed() throws IOException {
+    // given
+    final Record<?> record = newRecord(1);
+    client.index(record);
+
+    // when
+    client.index(record);
+    client.flushAsync(acknowledgedPositions::add);
+
+    // then
+    assertThat(readBody(requests.get(0).getEntity()).split("\n")).hasSize(2);
+  }
+
+  @Test
+  public void shouldFlushOnBulkSize() {
+    // when
+    client.index(newRecord(1));
+    final boolean shouldFlushAfterFirst = client.shouldFlush();
+    client.index(newRecord(2));
+
+    // then
+    assertThat(shouldFlushAfterFirst).isFalse();
+    assertThat(client.shouldFlush()).isTrue();
+  }
+
+  @Test
+  public void shouldOnlyAdvanceToHighestContiguousAcknowledgedPosition() throws IOException {
+    // given
+    sendBulk(1, 2);
+    sendBulk(3, 4);
+
+    // when
+    acknowledge(1);
+
+    // then
+    assertThat(acknowledgedPositions).isEmpty();
+
+    // when
+    acknowledge(0);
+
+    // then
+    assertThat(acknowledgedPositions).containsExactly(4L);
+  }
+
+  @Test
+  public void shouldNotExceedMaxInFlightRequests() throws IOException {
+    // given
+    sendBulk(1, 2);
+    sendBulk(3, 4);
+    client.index(newRecord(5));
+
+    // when
+    final boolean flushedWhileFull = client.flushAsync(acknowledgedPositions::add);
+    acknowledge(0);
+    final boolean flushedAfterAcknowledge = client.flushAsync(acknowledgedPositions::add);
+
+    // then
+    assertThat(flushedWhileFull).isFalse();
+    assertThat(flushedAfterAcknowledge).isTrue();
+    assertThat(requests).hasSize(3);
+    assertThat(acknowledgedPositions).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldResendFailedBulk() throws IOException {
+    // given
+    sendBulk(1, 2);
+    sendBulk(3, 4);
+    listeners.get(0).onFailure(new IOException("expected"));
+    acknowledge(1);
+
+    // when
+    client.flushAsync(acknowledgedPositions::add);
+
+    // then
+    assertThat(requests).hasSize(3);
+    assertThat(readBody(requests.get(2).getEntity()))
+        .isEqualTo(readBody(requests.get(0).getEntity()));
+    assertThat(acknowledgedPositions).isEmpty();
+
+    // when
+    acknowledge(2);
+
+    // then
+    assertThat(acknowledgedPositions).containsExactly(4L);
+  }
+
+  @Test
+  public void shouldAwaitInFlightRequests() throws IOException {
+    // given
+    sendBulk(1, 2);
+
+    // when
+    final boolean completedWhileInFlight = client.awaitInFlightRequests(Duration.ofMillis(10));
+    acknowledge(0);
+
+    // then
+    assertThat(completedWhileInFlight).isFalse();
+    assertThat(client.awaitInFlightRequests(Duration.ofMillis(10))).isTrue();
+  }
+
+  private void sendBulk(final long... positions) {
+    for (final long position : positions) {
+      client.index(newRecord(position));
+    }
+    assertThat(client.flushAsync(acknowledgedPositions::add)).isTrue();
+  }
+
+  private void acknowledge(final int request) throws IOException {
+    final Response response = mock(Response.class);
+    final HttpEntity entity = mock(HttpEntity.class);
+    when(entity.getContent())
+        .thenReturn(
+            new ByteArrayInputStream(
+                "{\"errors\":false,\"items\":[]}".getBytes(StandardCharsets.UTF_8)));
+    when(response.getEntity()).thenReturn(entity);
+
+    listeners.get(request).onSuccess(response);
+  }
+
+  private static String readBody(final HttpEntity entity) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    entity.writeTo(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static Record<?> newRecord(final long position) {
+    final RecordMetadata metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.WORKFLOW_INSTANCE)
+            .intent(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    return new CopiedRecord<>(
+        new WorkflowInstanceRecord(), metadata, position, 1, position, -1, position);
+  }
+}
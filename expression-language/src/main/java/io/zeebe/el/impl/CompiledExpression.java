@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.msgpack.spec.MsgPackReader;
+
+/**
+ * A simple FEEL expression which is evaluated directly on the MessagePack encoded variables,
+ * without the FEEL engine. See {@link SimpleExpressionCompiler} for the supported expressions.
+ */
+interface CompiledExpression {
+
+  /**
+   * Evaluates the expression. If the expression can't be evaluated in the given context, for
+   * example because a variable doesn't exist or has an unexpected type, it must be evaluated by
+   * the FEEL engine instead, which also provides the failure message.
+   *
+   * @param context the context to read the variables from
+   * @param reader a reader which can be used to read the variables
+   * @param result the value to store the result in
+   * @return {@code true} if the expression was evaluated, otherwise {@code false}
+   */
+  boolean evaluate(EvaluationContext context, MsgPackReader reader, SimpleValue result);
+}
@@ -39,6 +39,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final SimpleExpressionEvaluator simpleExpressionEvaluator =
+      new SimpleExpressionEvaluator();
 
   private final FeelEngine feelEngine;
 
@@ -97,7 +99,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     } else {
       final var parsedExpression = parseResult.right().get();
-      return new FeelExpression(parsedExpression);
+      final var compiledExpression =
+          SimpleExpressionCompiler.compile(parsedExpression.expression());
+      return new FeelExpression(parsedExpression, compiledExpression);
     }
   }
 
@@ -106,6 +110,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var compiledExpression = feelExpression.getCompiledExpression();
+    if (compiledExpression != null) {
+      final var result =
+          simpleExpressionEvaluator.evaluate(expression, compiledExpression, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
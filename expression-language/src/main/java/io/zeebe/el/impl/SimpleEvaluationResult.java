@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.el.Expression;
+import io.zeebe.el.ResultType;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+
+/** The result of a {@link CompiledExpression}. */
+final class SimpleEvaluationResult implements EvaluationResult {
+
+  private final Expression expression;
+  private final SimpleValue result;
+  private final Function<SimpleValue, DirectBuffer> messagePackTransformer;
+
+  SimpleEvaluationResult(
+      final Expression expression,
+      final SimpleValue result,
+      final Function<SimpleValue, DirectBuffer> messagePackTransformer) {
+    this.expression = expression;
+    this.result = result;
+    this.messagePackTransformer = messagePackTransformer;
+  }
+
+  @Override
+  public String getExpression() {
+    return expression.getExpression();
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public ResultType getType() {
+    return result.getType();
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    return messagePackTransformer.apply(result);
+  }
+
+  @Override
+  public String getString() {
+    return getType() == ResultType.STRING ? result.getString() : null;
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    return getType() == ResultType.BOOLEAN ? result.getBoolean() : null;
+  }
+
+  @Override
+  public Number getNumber() {
+    // return the same type as the FEEL engine does
+    return getType() == ResultType.NUMBER
+        ? scala.math.BigDecimal$.MODULE$.apply(result.getNumber())
+        : null;
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "SimpleEvaluationResult{"
+        + "expression='"
+        + getExpression()
+        + '\''
+        + ", result="
+        + result
+        + '}';
+  }
+}
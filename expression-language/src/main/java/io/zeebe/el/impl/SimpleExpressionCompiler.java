@@ -0,0 +1,351 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.el.ResultType;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackType;
+import io.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Conjunction;
+import org.camunda.feel.syntaxtree.Disjunction;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+
+/**
+ * Compiles simple FEEL expressions, which don't need the FEEL engine to be evaluated. Most
+ * expressions of a workflow are of this kind, e.g. {@code orderId}, {@code order.amount > 100} or
+ * {@code isVip and total >= 50}. Supported are:
+ *
+ * <ul>
+ *   <li>variables and paths into nested objects
+ *   <li>string, number and boolean literals
+ *   <li>comparisons of numbers, and equality checks of strings and booleans
+ *   <li>conjunctions, disjunctions and negations of booleans
+ * </ul>
+ *
+ * <p>At runtime, the compiled expression only handles the cases in which FEEL returns a regular
+ * value. In any other case, e.g. if a variable doesn't exist or has a different type, the
+ * expression is evaluated by the FEEL engine. Objects and lists are always returned by the FEEL
+ * engine, which transforms them entry by entry.
+ *
+ * <p>The compiled nodes keep the values of their operands in their own fields, so a compiled
+ * expression must not be evaluated by multiple threads at the same time.
+ */
+final class SimpleExpressionCompiler {
+
+  private SimpleExpressionCompiler() {}
+
+  /**
+   * @param expression the parsed FEEL expression
+   * @return the compiled expression, or {@code null} if the expression is not supported
+   */
+  static CompiledExpression compile(final Exp expression) {
+    if (expression instanceof Ref) {
+      return compileRef((Ref) expression);
+
+    } else if (expression instanceof PathExpression) {
+      final var path = (PathExpression) expression;
+      final var compiledPath = compile(path.path());
+      return compiledPath instanceof VariablePath
+          ? ((VariablePath) compiledPath).append(path.key())
+          : null;
+
+    } else if (expression instanceof ConstNumber) {
+      final var literal = new Literal();
+      literal.value.setNumber(((ConstNumber) expression).value().bigDecimal());
+      return literal;
+
+    } else if (expression instanceof ConstString) {
+      final var literal = new Literal();
+      literal.value.setString(((ConstString) expression).value());
+      return literal;
+
+    } else if (expression instanceof ConstBool) {
+      final var literal = new Literal();
+      literal.value.setBoolean(((ConstBool) expression).value());
+      return literal;
+
+    } else if (expression instanceof Equal) {
+      final var comparison = (Equal) expression;
+      return compileComparison(comparison.x(), comparison.y(), null);
+
+    } else if (expression instanceof LessThan) {
+      final var comparison = (LessThan) expression;
+      return compileComparison(comparison.x(), comparison.y(), result -> result < 0);
+
+    } else if (expression instanceof LessOrEqual) {
+      final var comparison = (LessOrEqual) expression;
+      return compileComparison(comparison.x(), comparison.y(), result -> result <= 0);
+
+    } else if (expression instanceof GreaterThan) {
+      final var comparison = (GreaterThan) expression;
+      return compileComparison(comparison.x(), comparison.y(), result -> result > 0);
+
+    } else if (expression instanceof GreaterOrEqual) {
+      final var comparison = (GreaterOrEqual) expression;
+      return compileComparison(comparison.x(), comparison.y(), result -> result >= 0);
+
+    } else if (expression instanceof Not) {
+      final var operand = compile(((Not) expression).x());
+      return operand != null ? new Negation(operand) : null;
+
+    } else if (expression instanceof Conjunction) {
+      final var conjunction = (Conjunction) expression;
+      return compileJunction(conjunction.x(), conjunction.y(), true);
+
+    } else if (expression instanceof Disjunction) {
+      final var disjunction = (Disjunction) expression;
+      return compileJunction(disjunction.x(), disjunction.y(), false);
+    }
+
+    return null;
+  }
+
+  private static CompiledExpression compileRef(final Ref ref) {
+    final String variableName = ref.names().head();
+    final List<DirectBuffer> keys = new ArrayList<>();
+
+    scala.collection.immutable.List<String> names = ref.names().tail();
+    while (!names.isEmpty()) {
+      keys.add(wrapString(names.head()));
+      names = names.tail();
+    }
+
+    return new VariablePath(variableName, keys.toArray(new DirectBuffer[0]));
+  }
+
+  private static CompiledExpression compileComparison(
+      final Exp x, final Exp y, final IntPredicate numberComparison) {
+    final var left = compile(x);
+    final var right = compile(y);
+    return left != null && right != null ? new Comparison(left, right, numberComparison) : null;
+  }
+
+  private static CompiledExpression compileJunction(
+      final Exp x, final Exp y, final boolean isConjunction) {
+    final var left = compile(x);
+    final var right = compile(y);
+    return left != null && right != null ? new Junction(left, right, isConjunction) : null;
+  }
+
+  private static final class Literal implements CompiledExpression {
+
+    private final SimpleValue value = new SimpleValue();
+
+    @Override
+    public boolean evaluate(
+        final EvaluationContext context, final MsgPackReader reader, final SimpleValue result) {
+      result.set(value);
+      return true;
+    }
+  }
+
+  private static final class VariablePath implements CompiledExpression {
+
+    private final String variableName;
+    private final DirectBuffer[] keys;
+
+    private VariablePath(final String variableName, final DirectBuffer[] keys) {
+      this.variableName = variableName;
+      this.keys = keys;
+    }
+
+    private VariablePath append(final String key) {
+      final DirectBuffer[] path = Arrays.copyOf(keys, keys.length + 1);
+      path[keys.length] = wrapString(key);
+      return new VariablePath(variableName, path);
+    }
+
+    @Override
+    public boolean evaluate(
+        final EvaluationContext context, final MsgPackReader reader, final SimpleValue result) {
+      final DirectBuffer variable = context.getVariable(variableName);
+      if (variable == null || variable.capacity() == 0) {
+        return false;
+      }
+
+      reader.wrap(variable, 0, variable.capacity());
+      for (final DirectBuffer key : keys) {
+        if (!seekEntry(reader, key)) {
+          return false;
+        }
+      }
+
+      return readValue(reader, result);
+    }
+
+    private static boolean seekEntry(final MsgPackReader reader, final DirectBuffer key) {
+      final MsgPackToken mapToken = reader.readToken();
+      if (mapToken.getType() != MsgPackType.MAP) {
+        // FEEL projects the path on lists
+        return false;
+      }
+
+      for (int i = 0; i < mapToken.getSize(); i++) {
+        final MsgPackToken keyToken = reader.readToken();
+        if (keyToken.getType() == MsgPackType.STRING
+            && BufferUtil.equals(keyToken.getValueBuffer(), key)) {
+          return true;
+        }
+        reader.skipValue();
+      }
+
+      return false;
+    }
+
+    private static boolean readValue(final MsgPackReader reader, final SimpleValue result) {
+      final MsgPackToken token = reader.readToken();
+
+      switch (token.getType()) {
+        case NIL:
+          result.setNull();
+          return true;
+        case BOOLEAN:
+          result.setBoolean(token.getBooleanValue());
+          return true;
+        case INTEGER:
+          result.setNumber(BigDecimal.valueOf(token.getIntegerValue()));
+          return true;
+        case FLOAT:
+          result.setNumber(BigDecimal.valueOf(token.getFloatValue()));
+          return true;
+        case STRING:
+          result.setString(bufferAsString(token.getValueBuffer()));
+          return true;
+        default:
+          // maps and lists are transformed entry by entry by the FEEL engine, which changes the
+          // encoding of their values (e.g. whole floats become integers) and the order of the
+          // entries, so the variable can't be returned as it is
+          return false;
+      }
+    }
+  }
+
+  private static final class Comparison implements CompiledExpression {
+
+    private final CompiledExpression left;
+    private final CompiledExpression right;
+    // null for an equality check
+    private final IntPredicate numberComparison;
+    private final SimpleValue x = new SimpleValue();
+    private final SimpleValue y = new SimpleValue();
+
+    private Comparison(
+        final CompiledExpression left,
+        final CompiledExpression right,
+        final IntPredicate numberComparison) {
+      this.left = left;
+      this.right = right;
+      this.numberComparison = numberComparison;
+    }
+
+    @Override
+    public boolean evaluate(
+        final EvaluationContext context, final MsgPackReader reader, final SimpleValue result) {
+      if (!left.evaluate(context, reader, x)
+          || !right.evaluate(context, reader, y)
+          || x.getType() != y.getType()) {
+        return false;
+      }
+
+      final ResultType type = x.getType();
+      if (type == ResultType.NUMBER) {
+        final int comparison = x.getNumber().compareTo(y.getNumber());
+        result.setBoolean(
+            numberComparison != null ? numberComparison.test(comparison) : comparison == 0);
+        return true;
+
+      } else if (numberComparison == null && type == ResultType.STRING) {
+        result.setBoolean(x.getString().equals(y.getString()));
+        return true;
+
+      } else if (numberComparison == null && type == ResultType.BOOLEAN) {
+        result.setBoolean(x.getBoolean() == y.getBoolean());
+        return true;
+      }
+
+      return false;
+    }
+  }
+
+  private static final class Negation implements CompiledExpression {
+
+    private final CompiledExpression operand;
+
+    private Negation(final CompiledExpression operand) {
+      this.operand = operand;
+    }
+
+    @Override
+    public boolean evaluate(
+        final EvaluationContext context, final MsgPackReader reader, final SimpleValue result) {
+      if (!operand.evaluate(context, reader, result) || result.getType() != ResultType.BOOLEAN) {
+        return false;
+      }
+
+      result.setBoolean(!result.getBoolean());
+      return true;
+    }
+  }
+
+  private static final class Junction implements CompiledExpression {
+
+    private final CompiledExpression left;
+    private final CompiledExpression right;
+    private final boolean isConjunction;
+    private final SimpleValue x = new SimpleValue();
+
+    private Junction(
+        final CompiledExpression left,
+        final CompiledExpression right,
+        final boolean isConjunction) {
+      this.left = left;
+      this.right = right;
+      this.isConjunction = isConjunction;
+    }
+
+    @Override
+    public boolean evaluate(
+        final EvaluationContext context, final MsgPackReader reader, final SimpleValue result) {
+      if (!left.evaluate(context, reader, x)
+          || x.getType() != ResultType.BOOLEAN
+          || !right.evaluate(context, reader, result)
+          || result.getType() != ResultType.BOOLEAN) {
+        return false;
+      }
+
+      final boolean value =
+          isConjunction
+              ? x.getBoolean() && result.getBoolean()
+              : x.getBoolean() || result.getBoolean();
+      result.setBoolean(value);
+      return true;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.el.Expression;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Evaluates {@link CompiledExpression}s and transforms their results to MessagePack, in the same
+ * way as the FEEL engine results are transformed.
+ */
+final class SimpleExpressionEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer resultView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer stringWrapper = new UnsafeBuffer(0, 0);
+
+  /**
+   * @return the result of the expression, or {@code null} if it must be evaluated by the FEEL
+   *     engine
+   */
+  EvaluationResult evaluate(
+      final Expression expression,
+      final CompiledExpression compiledExpression,
+      final EvaluationContext context) {
+    final SimpleValue result = new SimpleValue();
+    if (!compiledExpression.evaluate(context, reader, result)) {
+      return null;
+    }
+
+    return new SimpleEvaluationResult(expression, result, this::toMessagePack);
+  }
+
+  private DirectBuffer toMessagePack(final SimpleValue value) {
+    writer.wrap(writeBuffer, 0);
+
+    switch (value.getType()) {
+      case BOOLEAN:
+        writer.writeBoolean(value.getBoolean());
+        break;
+      case NUMBER:
+        writeNumber(value.getNumber());
+        break;
+      case STRING:
+        stringWrapper.wrap(value.getString().getBytes(StandardCharsets.UTF_8));
+        writer.writeString(stringWrapper);
+        break;
+      default:
+        writer.writeNil();
+        break;
+    }
+
+    resultView.wrap(writeBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  private void writeNumber(final BigDecimal number) {
+    if (isWhole(number)) {
+      writer.writeInteger(number.longValue());
+    } else {
+      writer.writeFloat(number.doubleValue());
+    }
+  }
+
+  private static boolean isWhole(final BigDecimal number) {
+    return number.signum() == 0 || number.scale() <= 0 || number.stripTrailingZeros().scale() <= 0;
+  }
+}
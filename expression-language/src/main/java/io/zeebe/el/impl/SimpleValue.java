@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.ResultType;
+import java.math.BigDecimal;
+
+/** A value which is read or computed while evaluating a {@link CompiledExpression}. */
+final class SimpleValue {
+
+  private ResultType type;
+  private boolean booleanValue;
+  private BigDecimal numberValue;
+  private String stringValue;
+
+  void setNull() {
+    type = ResultType.NULL;
+  }
+
+  void setBoolean(final boolean value) {
+    type = ResultType.BOOLEAN;
+    booleanValue = value;
+  }
+
+  void setNumber(final BigDecimal value) {
+    type = ResultType.NUMBER;
+    numberValue = value;
+  }
+
+  void setString(final String value) {
+    type = ResultType.STRING;
+    stringValue = value;
+  }
+
+  void set(final SimpleValue other) {
+    type = other.type;
+    booleanValue = other.booleanValue;
+    numberValue = other.numberValue;
+    stringValue = other.stringValue;
+  }
+
+  ResultType getType() {
+    return type;
+  }
+
+  boolean getBoolean() {
+    return booleanValue;
+  }
+
+  BigDecimal getNumber() {
+    return numberValue;
+  }
+
+  String getString() {
+    return stringValue;
+  }
+
+  @Override
+  public String toString() {
+    switch (type) {
+      case BOOLEAN:
+        return String.valueOf(booleanValue);
+      case NUMBER:
+        return numberValue.toString();
+      case STRING:
+        return '"' + stringValue + '"';
+      default:
+        return "null";
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Verifies that simple expressions are compiled, and that the compiled expressions return the same
+ * results as the FEEL engine.
+ */
+@RunWith(Parameterized.class)
+public final class SimpleExpressionTest {
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.of(
+          "orderId", asMsgPack("\"order-123\""),
+          "amount", asMsgPack("150"),
+          "price", asMsgPack("9.99"),
+          "isVip", asMsgPack("true"),
+          "nothing", asMsgPack("null"),
+          "items", asMsgPack("[1, 2, 3]"),
+          "order",
+              asMsgPack(
+                  "{\"id\":\"order-123\",\"total\":99.5,"
+                      + "\"customer\":{\"name\":\"Jane\",\"age\":42}}"),
+          "invoice", asMsgPack("{\"price\":10.0,\"tax\":{\"rate\":19.0,\"amount\":1.9}}"),
+          "address",
+              asMsgPack(
+                  "{\"street\":\"Main St\",\"number\":1,\"zip\":\"12345\","
+                      + "\"city\":\"Berlin\",\"country\":\"DE\"}"));
+  private static final EvaluationContext CONTEXT = VARIABLES::get;
+
+  @Parameter(0)
+  public String expression;
+
+  @Parameter(1)
+  public boolean expectedToCompile;
+
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new ControlledActorClock());
+
+  @Parameters(name = "{0} (compiled: {1})")
+  public static Object[][] parameters() {
+    return new Object[][] {
+      // variables and paths
+      {"orderId", true},
+      {"amount", true},
+      {"price", true},
+      {"nothing", true},
+      {"order", true},
+      {"order.id", true},
+      {"order.customer", true},
+      {"order.customer.name", true},
+      {"invoice", true},
+      {"invoice.tax", true},
+      {"invoice.price", true},
+      {"address", true},
+      // literals
+      {"\"text\"", true},
+      {"42", true},
+      {"2.5", true},
+      {"false", true},
+      // comparisons
+      {"amount > 100", true},
+      {"amount >= 150", true},
+      {"amount < 100", true},
+      {"price <= 10", true},
+      {"amount = 150", true},
+      {"order.customer.age = 42", true},
+      {"order.total > 99", true},
+      {"orderId = \"order-123\"", true},
+      {"orderId != \"order-456\"", true},
+      {"isVip = true", true},
+      // boolean combinations
+      {"isVip and amount > 100", true},
+      {"isVip and amount < 100", true},
+      {"amount < 100 or isVip", true},
+      {"amount < 100 or price > 10", true},
+      // compiled, but evaluated by the FEEL engine
+      {"missing", true},
+      {"order.missing", true},
+      {"items", true},
+      {"items.x", true},
+      {"orderId > 5", true},
+      {"amount = \"150\"", true},
+      {"nothing and isVip", true},
+      // not compiled
+      {"items[1]", false},
+      {"amount + 1", false},
+      {"upper case(orderId)", false},
+      {"missing = null", false},
+      {"some x in items satisfies x > 2", false},
+    };
+  }
+
+  @Test
+  public void shouldReturnSameResultAsFeelEngine() {
+    // given
+    final var compiledExpression = expressionLanguage.parseExpression("=" + expression);
+    final var feelExpression =
+        new FeelExpression(((FeelExpression) compiledExpression).getParsedExpression());
+
+    // when
+    final var result = expressionLanguage.evaluateExpression(compiledExpression, CONTEXT);
+    final var resultBuffer = toBuffer(result);
+    final var expectedResult = expressionLanguage.evaluateExpression(feelExpression, CONTEXT);
+    final var expectedResultBuffer = toBuffer(expectedResult);
+
+    // then
+    assertThat(((FeelExpression) compiledExpression).getCompiledExpression() != null)
+        .describedAs("expression is compiled")
+        .isEqualTo(expectedToCompile);
+
+    assertThat(result.isFailure()).isEqualTo(expectedResult.isFailure());
+    assertThat(result.getFailureMessage()).isEqualTo(expectedResult.getFailureMessage());
+    assertThat(result.getType()).isEqualTo(expectedResult.getType());
+    assertThat(result.getString()).isEqualTo(expectedResult.getString());
+    assertThat(result.getBoolean()).isEqualTo(expectedResult.getBoolean());
+    assertThat(result.getNumber()).isEqualTo(expectedResult.getNumber());
+    assertThat(resultBuffer).isEqualTo(expectedResultBuffer);
+  }
+
+  private static DirectBuffer toBuffer(final EvaluationResult result) {
+    // the buffer is reused by the next evaluation
+    return result.isFailure() ? null : cloneBuffer(result.toBuffer());
+  }
+}
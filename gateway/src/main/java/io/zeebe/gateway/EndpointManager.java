@@ -7,24 +7,35 @@
  */
 package io.zeebe.gateway;
 
+import com.google.rpc.Code;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import io.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.zeebe.gateway.cmd.BrokerRejectionException;
+import io.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.zeebe.gateway.grpc.ServerStreamObserver;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.JobStream;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -33,6 +44,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
@@ -42,16 +56,30 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.util.VersionUtil;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
 
 public final class EndpointManager {
 
@@ -59,6 +87,7 @@ public final class EndpointManager {
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
 
   public EndpointManager(
       final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
@@ -133,6 +162,11 @@ public final class EndpointManager {
     activateJobsHandler.activateJobs(request, responseObserver);
   }
 
+  public StreamObserver<StreamJobsRequest> streamJobs(
+      final ServerStreamObserver<ActivatedJob> responseObserver) {
+    return new JobStream(activateJobsHandler, brokerClient, responseObserver);
+  }
+
   public void cancelWorkflowInstance(
       final CancelWorkflowInstanceRequest request,
       final ServerStreamObserver<CancelWorkflowInstanceResponse> responseObserver) {
@@ -153,6 +187,21 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendJobRequests(
+        request.getJobsList(),
+        CompleteJobRequest::getJobKey,
+        BrokerCompleteJobsRequest::new,
+        RequestMapper::addCompleteJobRequest,
+        JobIntent.COMPLETE,
+        results -> {
+          responseObserver.onNext(CompleteJobsResponse.newBuilder().addAllResults(results).build());
+          responseObserver.onCompleted();
+        });
+  }
+
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
       final ServerStreamObserver<CreateWorkflowInstanceResponse> responseObserver) {
@@ -202,6 +251,21 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void failJobs(
+      final FailJobsRequest request,
+      final ServerStreamObserver<FailJobsResponse> responseObserver) {
+    sendJobRequests(
+        request.getJobsList(),
+        FailJobRequest::getJobKey,
+        BrokerFailJobsRequest::new,
+        RequestMapper::addFailJobRequest,
+        JobIntent.FAIL,
+        results -> {
+          responseObserver.onNext(FailJobsResponse.newBuilder().addAllResults(results).build());
+          responseObserver.onCompleted();
+        });
+  }
+
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
@@ -355,6 +419,90 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends the given job requests as one broker command per partition, where the partition is
+   * encoded in the job key, and collects a result per job in the order of the requests. The broker
+   * handles the jobs of a command in one processing step, but rejects them one by one, e.g. if a
+   * job doesn't exist anymore.
+   */
+  private <GrpcRequestT, BrokerRequestT extends BrokerRequest<JobBatchRecord>>
+      void sendJobRequests(
+          final List<GrpcRequestT> grpcRequests,
+          final ToLongFunction<GrpcRequestT> jobKeyGetter,
+          final IntFunction<BrokerRequestT> brokerRequestFactory,
+          final BiConsumer<BrokerRequestT, GrpcRequestT> jobAppender,
+          final Intent jobIntent,
+          final Consumer<List<JobResult>> resultsConsumer) {
+    final JobResult[] results = new JobResult[grpcRequests.size()];
+    if (results.length == 0) {
+      resultsConsumer.accept(List.of());
+      return;
+    }
+
+    final AtomicInteger pendingResults = new AtomicInteger(results.length);
+    final Runnable onResult =
+        () -> {
+          if (pendingResults.decrementAndGet() == 0) {
+            resultsConsumer.accept(Arrays.asList(results));
+          }
+        };
+
+    final Map<Integer, List<Integer>> requestsByPartition = new LinkedHashMap<>();
+    for (int index = 0; index < results.length; index++) {
+      final long jobKey = jobKeyGetter.applyAsLong(grpcRequests.get(index));
+      requestsByPartition
+          .computeIfAbsent(Protocol.decodePartitionId(jobKey), p -> new ArrayList<>())
+          .add(index);
+    }
+
+    requestsByPartition.forEach(
+        (partitionId, requestIndexes) -> {
+          final BrokerRequestT brokerRequest = brokerRequestFactory.apply(partitionId);
+          final List<Integer> sentIndexes = new ArrayList<>();
+          for (final int index : requestIndexes) {
+            final GrpcRequestT grpcRequest = grpcRequests.get(index);
+            try {
+              jobAppender.accept(brokerRequest, grpcRequest);
+              sentIndexes.add(index);
+            } catch (final Exception e) {
+              results[index] = toJobResult(jobKeyGetter.applyAsLong(grpcRequest), e);
+              onResult.run();
+            }
+          }
+
+          if (sentIndexes.isEmpty()) {
+            return;
+          }
+
+          brokerClient.sendRequestWithRetry(
+              brokerRequest,
+              (key, response) -> {
+                final JobBatchResults batchResults = new JobBatchResults(jobIntent, response);
+                for (final int index : sentIndexes) {
+                  final long jobKey = jobKeyGetter.applyAsLong(grpcRequests.get(index));
+                  results[index] = batchResults.resultOf(jobKey);
+                  onResult.run();
+                }
+              },
+              error -> {
+                for (final int index : sentIndexes) {
+                  final long jobKey = jobKeyGetter.applyAsLong(grpcRequests.get(index));
+                  results[index] = toJobResult(jobKey, error);
+                  onResult.run();
+                }
+              });
+        });
+  }
+
+  private JobResult toJobResult(final long jobKey, final Throwable error) {
+    final com.google.rpc.Status status = errorMapper.mapErrorToStatus(error);
+    return JobResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCode(status.getCode())
+        .setMessage(status.getMessage())
+        .build();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -364,4 +512,43 @@ public final class EndpointManager {
     streamObserver.onNext(grpcResponse);
     streamObserver.onCompleted();
   }
+
+  /** The results of the jobs of a job batch command, which are either handled or rejected. */
+  private final class JobBatchResults {
+
+    private final List<Long> handledJobKeys;
+    private final Map<Long, BrokerRejection> rejections = new HashMap<>();
+
+    private JobBatchResults(final Intent jobIntent, final JobBatchRecord response) {
+      handledJobKeys = response.getJobKeys();
+      response
+          .rejections()
+          .forEach(
+              rejection ->
+                  rejections.put(
+                      rejection.getJobKey(),
+                      new BrokerRejection(
+                          jobIntent,
+                          rejection.getJobKey(),
+                          rejection.getRejectionType(),
+                          rejection.getRejectionReason())));
+    }
+
+    private JobResult resultOf(final long jobKey) {
+      // a job may be contained more than once, only its first occurrence is handled
+      if (handledJobKeys.remove(Long.valueOf(jobKey))) {
+        return JobResult.newBuilder().setJobKey(jobKey).setCode(Code.OK_VALUE).build();
+      }
+
+      final BrokerRejection rejection = rejections.get(jobKey);
+      if (rejection != null) {
+        return toJobResult(jobKey, new BrokerRejectionException(rejection));
+      }
+
+      return toJobResult(
+          jobKey,
+          new IllegalStateException(
+              String.format("Expected a result for job with key '%d', but got none", jobKey)));
+    }
+  }
 }
@@ -12,10 +12,13 @@ import io.zeebe.gateway.grpc.ErrorMappingStreamObserver;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -24,12 +27,15 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -52,6 +58,13 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public StreamObserver<StreamJobsRequest> streamJobs(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    return endpointManager.streamJobs(
+        ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void cancelWorkflowInstance(
       final CancelWorkflowInstanceRequest request,
@@ -68,6 +81,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    endpointManager.completeJobs(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -98,6 +119,12 @@ public class GatewayGrpcService extends GatewayImplBase {
     endpointManager.failJob(request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    endpointManager.failJobs(request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void throwError(
       final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> responseObserver) {
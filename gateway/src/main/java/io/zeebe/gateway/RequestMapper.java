@@ -7,18 +7,23 @@
  */
 package io.zeebe.gateway;
 
+import com.google.protobuf.ByteString;
+import io.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCancelWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerDeployWorkflowRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
+import io.zeebe.gateway.impl.encoding.MsgPackJsonConverter;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -32,13 +37,19 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowRequestObject;
+import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.value.DocumentValue;
-import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class RequestMapper {
 
+  private static final ThreadLocal<MsgPackJsonConverter> CONVERTER =
+      ThreadLocal.withInitial(MsgPackJsonConverter::new);
+  private static final ThreadLocal<MsgPackReader> READER =
+      ThreadLocal.withInitial(MsgPackReader::new);
+
   public static BrokerDeployWorkflowRequest toDeployWorkflowRequest(
       final DeployWorkflowRequest grpcRequest) {
     final BrokerDeployWorkflowRequest brokerRequest = new BrokerDeployWorkflowRequest();
@@ -58,7 +69,7 @@ public final class RequestMapper {
     brokerRequest
         .setMessageId(grpcRequest.getMessageId())
         .setTimeToLive(grpcRequest.getTimeToLive())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(toVariables(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
 
     return brokerRequest;
   }
@@ -81,7 +92,21 @@ public final class RequestMapper {
   public static BrokerCompleteJobRequest toCompleteJobRequest(
       final CompleteJobRequest grpcRequest) {
     return new BrokerCompleteJobRequest(
-        grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
+        grpcRequest.getJobKey(),
+        toVariables(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
+  }
+
+  public static void addCompleteJobRequest(
+      final BrokerCompleteJobsRequest brokerRequest, final CompleteJobRequest grpcRequest) {
+    brokerRequest.addJob(
+        grpcRequest.getJobKey(),
+        toVariables(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
+  }
+
+  public static void addFailJobRequest(
+      final BrokerFailJobsRequest brokerRequest, final FailJobRequest grpcRequest) {
+    brokerRequest.addJob(
+        grpcRequest.getJobKey(), grpcRequest.getRetries(), grpcRequest.getErrorMessage());
   }
 
   public static BrokerCreateWorkflowInstanceRequest toCreateWorkflowInstanceRequest(
@@ -93,7 +118,7 @@ public final class RequestMapper {
         .setBpmnProcessId(grpcRequest.getBpmnProcessId())
         .setKey(grpcRequest.getWorkflowKey())
         .setVersion(grpcRequest.getVersion())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(toVariables(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
 
     return brokerRequest;
   }
@@ -109,7 +134,7 @@ public final class RequestMapper {
         .setBpmnProcessId(request.getBpmnProcessId())
         .setKey(request.getWorkflowKey())
         .setVersion(request.getVersion())
-        .setVariables(ensureJsonSet(request.getVariables()))
+        .setVariables(toVariables(request.getVariables(), request.getMsgPackVariables()))
         .setFetchVariables(grpcRequest.getFetchVariablesList());
 
     return brokerRequest;
@@ -130,7 +155,8 @@ public final class RequestMapper {
     final BrokerSetVariablesRequest brokerRequest = new BrokerSetVariablesRequest();
 
     brokerRequest.setElementInstanceKey(grpcRequest.getElementInstanceKey());
-    brokerRequest.setVariables(ensureJsonSet(grpcRequest.getVariables()));
+    brokerRequest.setVariables(
+        toVariables(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
     brokerRequest.setLocal(grpcRequest.getLocal());
 
     return brokerRequest;
@@ -142,7 +168,8 @@ public final class RequestMapper {
         .setTimeout(grpcRequest.getTimeout())
         .setWorker(grpcRequest.getWorker())
         .setMaxJobsToActivate(grpcRequest.getMaxJobsToActivate())
-        .setVariables(grpcRequest.getFetchVariableList());
+        .setVariables(grpcRequest.getFetchVariableList())
+        .setMsgPackVariables(grpcRequest.getMsgPackVariables());
   }
 
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
@@ -150,11 +177,44 @@ public final class RequestMapper {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
   }
 
+  private static DirectBuffer toVariables(final String json, final ByteString msgPack) {
+    if (!msgPack.isEmpty()) {
+      // the client sent MessagePack already, no conversion needed
+      final DirectBuffer document = new UnsafeBuffer(msgPack.toByteArray());
+      ensureValidMsgPack(document);
+      return document;
+    } else {
+      return ensureJsonSet(json);
+    }
+  }
+
+  private static void ensureValidMsgPack(final DirectBuffer document) {
+    final MsgPackReader reader = READER.get();
+    final int length;
+    try {
+      reader.wrap(document, 0, document.capacity());
+      reader.skipValue();
+      length = reader.getOffset();
+    } catch (final RuntimeException e) {
+      throw new InvalidBrokerRequestArgumentException(
+          "msgPackVariables", "a MessagePack document", "malformed", e);
+    }
+
+    // a truncated value is skipped past the end of the document
+    if (length != document.capacity()) {
+      throw new InvalidBrokerRequestArgumentException(
+          "msgPackVariables",
+          String.format("a single MessagePack value of %d bytes", document.capacity()),
+          String.format("a value of %d bytes", length));
+    }
+  }
+
   private static DirectBuffer ensureJsonSet(final String value) {
-    if (value == null || value.trim().isEmpty()) {
+    if (value == null || value.isBlank()) {
       return DocumentValue.EMPTY_DOCUMENT;
     } else {
-      return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(value));
+      // the broker request keeps the buffer, so copy the document out of the reused buffer
+      return BufferUtil.cloneBuffer(CONVERTER.get().convertToMsgPack(value));
     }
   }
 }
@@ -10,6 +10,8 @@ package io.zeebe.gateway;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.ByteString;
+import io.zeebe.gateway.impl.encoding.MsgPackJsonConverter;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
@@ -24,7 +26,6 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.msgpack.value.LongValue;
-import io.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
@@ -38,6 +39,9 @@ import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final ThreadLocal<MsgPackJsonConverter> CONVERTER =
+      ThreadLocal.withInitial(MsgPackJsonConverter::new);
+
   public static DeployWorkflowResponse toDeployWorkflowResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployWorkflowResponse.Builder responseBuilder =
@@ -98,7 +102,7 @@ public final class ResponseMapper {
         .setBpmnProcessId(bufferAsString(brokerResponse.getBpmnProcessIdBuffer()))
         .setVersion(brokerResponse.getVersion())
         .setWorkflowInstanceKey(brokerResponse.getWorkflowInstanceKey())
-        .setVariables(bufferAsJson(brokerResponse.getVariablesBuffer()))
+        .setVariablesBytes(bufferAsJson(brokerResponse.getVariablesBuffer()))
         .build();
   }
 
@@ -114,6 +118,15 @@ public final class ResponseMapper {
 
   public static ActivateJobsResponse toActivateJobsResponse(
       final long key, final JobBatchRecord brokerResponse) {
+    return toActivateJobsResponse(key, brokerResponse, false);
+  }
+
+  /**
+   * @param msgPackVariables if true, the variables and custom headers are set as MessagePack
+   *     documents instead of being converted to JSON
+   */
+  public static ActivateJobsResponse toActivateJobsResponse(
+      final long key, final JobBatchRecord brokerResponse, final boolean msgPackVariables) {
     final ActivateJobsResponse.Builder responseBuilder = ActivateJobsResponse.newBuilder();
 
     final Iterator<LongValue> jobKeys = brokerResponse.jobKeys().iterator();
@@ -122,7 +135,7 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
+      final ActivatedJob.Builder activatedJob =
           ActivatedJob.newBuilder()
               .setKey(jobKey.getValue())
               .setType(bufferAsString(job.getTypeBuffer()))
@@ -132,12 +145,19 @@ public final class ResponseMapper {
               .setWorkflowDefinitionVersion(job.getWorkflowDefinitionVersion())
               .setWorkflowKey(job.getWorkflowKey())
               .setElementInstanceKey(job.getElementInstanceKey())
-              .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
               .setWorker(bufferAsString(job.getWorkerBuffer()))
               .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
+              .setDeadline(job.getDeadline());
+
+      if (msgPackVariables) {
+        activatedJob
+            .setMsgPackCustomHeaders(bufferAsByteString(job.getCustomHeadersBuffer()))
+            .setMsgPackVariables(bufferAsByteString(job.getVariablesBuffer()));
+      } else {
+        activatedJob
+            .setCustomHeadersBytes(bufferAsJson(job.getCustomHeadersBuffer()))
+            .setVariablesBytes(bufferAsJson(job.getVariablesBuffer()));
+      }
 
       responseBuilder.addJobs(activatedJob);
     }
@@ -150,8 +170,18 @@ public final class ResponseMapper {
     return ResolveIncidentResponse.getDefaultInstance();
   }
 
-  private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+  private static ByteString bufferAsJson(final DirectBuffer msgPack) {
+    // the JSON document is UTF-8 encoded already, so it is copied without creating a string
+    return bufferAsByteString(CONVERTER.get().convertToJson(msgPack));
+  }
+
+  private static ByteString bufferAsByteString(final DirectBuffer buffer) {
+    final byte[] bytes = buffer.byteArray();
+    if (bytes != null) {
+      return ByteString.copyFrom(bytes, buffer.wrapAdjustment(), buffer.capacity());
+    } else {
+      return ByteString.copyFrom(bufferAsArray(buffer));
+    }
   }
 
   @FunctionalInterface
@@ -34,6 +34,11 @@ public final class GrpcErrorMapper {
     return mapError(error, Loggers.GATEWAY_LOGGER);
   }
 
+  /** Maps the given error to a {@link Status}, e.g. to report it as part of a response. */
+  public Status mapErrorToStatus(final Throwable error) {
+    return mapErrorToStatus(error, Loggers.GATEWAY_LOGGER);
+  }
+
   StatusRuntimeException mapError(final Throwable error, final Logger logger) {
     return StatusProto.toStatusRuntimeException(mapErrorToStatus(error, logger));
   }
@@ -10,6 +10,7 @@ package io.zeebe.gateway.impl.broker;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.JobsAvailableNotification;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -82,5 +83,21 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
-  void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+  /**
+   * Subscribes to the notifications which are sent by the partitions when jobs of the given type
+   * become available. Subscribing again to the same job type replaces the previous handler.
+   *
+   * @param jobType the job type to receive notifications for
+   * @param handler handler which is invoked on each notification
+   * @return a future which is completed once notifications are received
+   */
+  CompletableFuture<Void> subscribeJobAvailableNotification(
+      String jobType, Consumer<JobsAvailableNotification> handler);
+
+  /**
+   * Stops receiving notifications for the given job type.
+   *
+   * @param jobType the job type to stop receiving notifications for
+   */
+  void unsubscribeJobAvailableNotification(String jobType);
 }
@@ -18,12 +18,15 @@ import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.configuration.ClusterCfg;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.protocol.impl.JobsAvailableNotification;
 import io.zeebe.transport.impl.AtomixClientTransportAdapter;
 import io.zeebe.util.exception.UncheckedExecutionException;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -41,7 +44,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final boolean ownsActorScheduler;
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final Map<String, CompletableFuture<Subscription>> jobAvailableSubscriptions =
+      new ConcurrentHashMap<>();
 
   public BrokerClientImpl(final GatewayCfg configuration, final AtomixCluster atomixCluster) {
     this(configuration, atomixCluster, null);
@@ -111,9 +115,7 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(topologyManager::close);
     LOG.debug("topology manager closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.keySet().forEach(this::unsubscribeJobAvailableNotification);
 
     if (ownsActorScheduler) {
       try {
@@ -175,18 +177,45 @@ public final class BrokerClientImpl implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
+  public CompletableFuture<Void> subscribeJobAvailableNotification(
+      final String jobType, final Consumer<JobsAvailableNotification> handler) {
+    final CompletableFuture<Subscription> subscription =
         atomixCluster
             .getEventService()
             .subscribe(
-                topic,
+                JobsAvailableNotification.topicOf(jobType),
                 msg -> {
-                  handler.accept((String) msg);
+                  handleJobAvailableNotification((String) msg, handler);
                   return CompletableFuture.completedFuture(null);
-                })
-            .join();
+                });
+
+    final var previousSubscription = jobAvailableSubscriptions.put(jobType, subscription);
+    if (previousSubscription != null) {
+      previousSubscription.thenAccept(Subscription::close);
+    }
+
+    return subscription.thenApply(ignored -> null);
+  }
+
+  @Override
+  public void unsubscribeJobAvailableNotification(final String jobType) {
+    final var subscription = jobAvailableSubscriptions.remove(jobType);
+    if (subscription != null) {
+      subscription.thenAccept(Subscription::close);
+    }
+  }
+
+  private void handleJobAvailableNotification(
+      final String message, final Consumer<JobsAvailableNotification> handler) {
+    final JobsAvailableNotification notification;
+    try {
+      notification = JobsAvailableNotification.decode(message);
+    } catch (final IllegalArgumentException e) {
+      LOG.warn("Ignoring malformed jobs available notification '{}'", message, e);
+      return;
+    }
+
+    handler.accept(notification);
   }
 
   public <T> void sendRequestWithRetry(
@@ -34,7 +34,24 @@ public final class PartitionIdIterator implements Iterator<Integer> {
             .iterator();
   }
 
-  private boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
+  private PartitionIdIterator(final OfInt iterator) {
+    this.iterator = iterator;
+  }
+
+  /**
+   * Creates an iterator which only returns the given partition, if it has a leader.
+   *
+   * @param partitionId the partition to iterate over
+   * @param topologyManager the topology manager to look up the leader
+   * @return the iterator over the single partition
+   */
+  public static PartitionIdIterator ofPartition(
+      final int partitionId, final BrokerTopologyManager topologyManager) {
+    return new PartitionIdIterator(
+        IntStream.of(partitionId).filter(p -> hasLeader(topologyManager, p)).iterator());
+  }
+
+  private static boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
     final var topology = topologyManager.getTopology();
     return topology != null && topology.getLeaderForPartition(p) != BrokerClusterState.NODE_ID_NULL;
   }
@@ -19,6 +19,8 @@ import org.agrona.DirectBuffer;
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
   private final JobBatchRecord requestDto = new JobBatchRecord();
+  // not sent to the broker; whether the gateway responds with MessagePack instead of JSON
+  private boolean msgPackVariables;
 
   public BrokerActivateJobsRequest(final String jobType) {
     super(ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE);
@@ -49,6 +51,15 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  public boolean isMsgPackVariables() {
+    return msgPackVariables;
+  }
+
+  public BrokerActivateJobsRequest setMsgPackVariables(final boolean msgPackVariables) {
+    this.msgPackVariables = msgPackVariables;
+    return this;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
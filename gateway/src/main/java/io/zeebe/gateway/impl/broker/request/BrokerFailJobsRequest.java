@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker.request;
+
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import org.agrona.DirectBuffer;
+
+/** Fails the given jobs of a partition with one command. */
+public final class BrokerFailJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
+
+  private final JobBatchRecord requestDto = new JobBatchRecord();
+
+  public BrokerFailJobsRequest(final int partitionId) {
+    super(ValueType.JOB_BATCH, JobBatchIntent.FAIL);
+    setPartitionId(partitionId);
+  }
+
+  public BrokerFailJobsRequest addJob(
+      final long jobKey, final int retries, final String errorMessage) {
+    requestDto.jobKeys().add().setValue(jobKey);
+    requestDto.jobs().add().setRetries(retries).setErrorMessage(errorMessage);
+    return this;
+  }
+
+  @Override
+  public JobBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected JobBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final JobBatchRecord responseDto = new JobBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
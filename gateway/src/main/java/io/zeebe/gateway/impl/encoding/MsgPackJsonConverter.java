@@ -0,0 +1,475 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import io.zeebe.msgpack.spec.MsgPackCodes;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Converts JSON documents to MessagePack and back by streaming the tokens of the one format into
+ * the other, without building an intermediate object tree or copying the document into temporary
+ * byte arrays and strings.
+ *
+ * <p>The converter reuses its buffers and is not thread-safe. The returned buffers are views on
+ * the internal buffers and are only valid until the next conversion, so callers must copy them if
+ * they keep them.
+ */
+public final class MsgPackJsonConverter {
+
+  private static final JsonFactory JSON_FACTORY =
+      new JsonFactory().configure(Feature.ALLOW_SINGLE_QUOTES, true);
+
+  private static final int INITIAL_CAPACITY = 4 * 1024;
+  // a buffer which grew larger than this is replaced before the next conversion, so that a
+  // single large document doesn't keep the memory
+  private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+  // the largest MessagePack map or array header; it is reserved before the size is known
+  private static final int RESERVED_HEADER_LENGTH = 5;
+  private static final byte[] HEX_DIGITS = {
+    '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer msgPackView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer jsonView = new UnsafeBuffer(0, 0);
+
+  private ExpandableArrayBuffer msgPackBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+  private ExpandableArrayBuffer jsonBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+  private int jsonLength;
+
+  // the open maps and arrays, innermost last
+  private int depth;
+  private int[] containerOffsets = new int[16];
+  private int[] containerSizes = new int[16];
+  private int[] remainingValues = new int[16];
+  private boolean[] containerIsMap = new boolean[16];
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// JSON to MSGPACK //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Converts the first value of the given JSON document to MessagePack.
+   *
+   * @param json the JSON document
+   * @return a view on the MessagePack document, valid until the next conversion
+   */
+  public DirectBuffer convertToMsgPack(final String json) {
+    if (msgPackBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+      msgPackBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+    }
+    writer.wrap(msgPackBuffer, 0);
+    depth = 0;
+
+    try (final JsonParser parser = JSON_FACTORY.createParser(json)) {
+      final JsonToken token = parser.nextToken();
+      if (token == null || (!token.isStructStart() && !token.isScalarValue())) {
+        throw new IllegalArgumentException(
+            "Document does not begin with an object, an array, or a scalar value");
+      }
+
+      writeMsgPack(parser, token);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert JSON to MessagePack", e);
+    }
+
+    msgPackView.wrap(msgPackBuffer, 0, writer.getOffset());
+    return msgPackView;
+  }
+
+  private void writeMsgPack(final JsonParser parser, final JsonToken firstToken)
+      throws IOException {
+    JsonToken token = firstToken;
+
+    do {
+      switch (token) {
+        case START_OBJECT:
+        case START_ARRAY:
+          countValue();
+          openContainer(token == JsonToken.START_OBJECT);
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          closeContainer();
+          break;
+        case FIELD_NAME:
+          writeString(parser);
+          break;
+        case VALUE_STRING:
+          countValue();
+          writeString(parser);
+          break;
+        case VALUE_NUMBER_INT:
+          countValue();
+          if (parser.getNumberType() == NumberType.BIG_INTEGER) {
+            throw new IllegalArgumentException(
+                String.format("Integer '%s' is out of range", parser.getText()));
+          }
+          writer.writeInteger(parser.getLongValue());
+          break;
+        case VALUE_NUMBER_FLOAT:
+          countValue();
+          writer.writeFloat(parser.getDoubleValue());
+          break;
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+          countValue();
+          writer.writeBoolean(token == JsonToken.VALUE_TRUE);
+          break;
+        case VALUE_NULL:
+          countValue();
+          writer.writeNil();
+          break;
+        default:
+          throw new IllegalArgumentException(String.format("Unexpected JSON token '%s'", token));
+      }
+    } while (depth > 0 && (token = parser.nextToken()) != null);
+  }
+
+  private void countValue() {
+    if (depth > 0) {
+      containerSizes[depth - 1] += 1;
+    }
+  }
+
+  private void openContainer(final boolean isMap) {
+    pushContainer(isMap, 0);
+    containerOffsets[depth - 1] = writer.getOffset();
+    // the size is not known yet, so leave space for the largest header
+    writer.wrap(msgPackBuffer, writer.getOffset() + RESERVED_HEADER_LENGTH);
+  }
+
+  private void closeContainer() {
+    depth -= 1;
+    final int headerOffset = containerOffsets[depth];
+    final int size = containerSizes[depth];
+    final int contentOffset = headerOffset + RESERVED_HEADER_LENGTH;
+    final int contentLength = writer.getOffset() - contentOffset;
+
+    writer.wrap(msgPackBuffer, headerOffset);
+    if (containerIsMap[depth]) {
+      writer.writeMapHeader(size);
+    } else {
+      writer.writeArrayHeader(size);
+    }
+
+    // most headers are shorter than the reserved space, move the content behind the header
+    final int headerEnd = writer.getOffset();
+    if (headerEnd < contentOffset && contentLength > 0) {
+      final byte[] bytes = msgPackBuffer.byteArray();
+      System.arraycopy(bytes, contentOffset, bytes, headerEnd, contentLength);
+    }
+    writer.wrap(msgPackBuffer, headerEnd + contentLength);
+  }
+
+  private void writeString(final JsonParser parser) throws IOException {
+    final char[] chars = parser.getTextCharacters();
+    final int offset = parser.getTextOffset();
+    final int end = offset + parser.getTextLength();
+
+    final int length = getUtf8Length(chars, offset, end);
+    writer.writeStringHeader(length);
+
+    int index = writer.getOffset();
+    msgPackBuffer.checkLimit(index + length);
+    final byte[] bytes = msgPackBuffer.byteArray();
+
+    for (int i = offset; i < end; i++) {
+      final char c = chars[i];
+
+      if (c < 0x80) {
+        bytes[index++] = (byte) c;
+      } else if (c < 0x800) {
+        bytes[index++] = (byte) (0xC0 | (c >> 6));
+        bytes[index++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        if (isSurrogatePair(chars, i, end)) {
+          final int codePoint = Character.toCodePoint(c, chars[++i]);
+          bytes[index++] = (byte) (0xF0 | (codePoint >> 18));
+          bytes[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+          bytes[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+          bytes[index++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+          // replace a malformed surrogate like String#getBytes does
+          bytes[index++] = '?';
+        }
+      } else {
+        bytes[index++] = (byte) (0xE0 | (c >> 12));
+        bytes[index++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        bytes[index++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+
+    writer.wrap(msgPackBuffer, index);
+  }
+
+  private static int getUtf8Length(final char[] chars, final int offset, final int end) {
+    int length = 0;
+
+    for (int i = offset; i < end; i++) {
+      final char c = chars[i];
+
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isSurrogate(c)) {
+        if (isSurrogatePair(chars, i, end)) {
+          length += 4;
+          i++;
+        } else {
+          length += 1;
+        }
+      } else {
+        length += 3;
+      }
+    }
+
+    return length;
+  }
+
+  private static boolean isSurrogatePair(final char[] chars, final int index, final int end) {
+    return Character.isHighSurrogate(chars[index])
+        && index + 1 < end
+        && Character.isLowSurrogate(chars[index + 1]);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Converts the given MessagePack document to JSON.
+   *
+   * @param msgPack the MessagePack document
+   * @return a view on the UTF-8 encoded JSON document, valid until the next conversion
+   */
+  public DirectBuffer convertToJson(final DirectBuffer msgPack) {
+    if (jsonBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+      jsonBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+    }
+    jsonLength = 0;
+    depth = 0;
+
+    try {
+      reader.wrap(msgPack, 0, msgPack.capacity());
+      writeJson();
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
+
+    jsonView.wrap(jsonBuffer, 0, jsonLength);
+    return jsonView;
+  }
+
+  private void writeJson() {
+    do {
+      if (depth > 0) {
+        final int container = depth - 1;
+        final int remaining = remainingValues[container];
+
+        if (remaining == 0) {
+          putJsonByte(containerIsMap[container] ? '}' : ']');
+          depth -= 1;
+          continue;
+        }
+
+        if (remaining < containerSizes[container]) {
+          putJsonByte(',');
+        }
+        remainingValues[container] = remaining - 1;
+
+        if (containerIsMap[container]) {
+          writeJsonKey();
+          putJsonByte(':');
+        }
+      }
+
+      writeJsonValue();
+    } while (depth > 0);
+  }
+
+  private void writeJsonKey() {
+    final MsgPackToken token = reader.readToken();
+
+    switch (token.getType()) {
+      case STRING:
+        writeJsonString(token.getValueBuffer());
+        break;
+      case INTEGER:
+        putJsonByte('"');
+        jsonLength += jsonBuffer.putLongAscii(jsonLength, token.getIntegerValue());
+        putJsonByte('"');
+        break;
+      default:
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected a string or an integer as key, but found '%s'", token.getType()));
+    }
+  }
+
+  private void writeJsonValue() {
+    final byte header = reader.getBuffer().getByte(reader.getOffset());
+    final MsgPackToken token = reader.readToken();
+
+    switch (token.getType()) {
+      case NIL:
+        putJsonAscii("null");
+        break;
+      case BOOLEAN:
+        putJsonAscii(token.getBooleanValue() ? "true" : "false");
+        break;
+      case INTEGER:
+        jsonLength += jsonBuffer.putLongAscii(jsonLength, token.getIntegerValue());
+        break;
+      case FLOAT:
+        writeJsonFloat(token.getFloatValue(), header == MsgPackCodes.FLOAT32);
+        break;
+      case STRING:
+        writeJsonString(token.getValueBuffer());
+        break;
+      case BINARY:
+        writeJsonBinary(token.getValueBuffer());
+        break;
+      case MAP:
+        putJsonByte('{');
+        pushContainer(true, token.getSize());
+        break;
+      case ARRAY:
+        putJsonByte('[');
+        pushContainer(false, token.getSize());
+        break;
+      default:
+        throw new IllegalArgumentException(
+            String.format("Unexpected MessagePack type '%s'", token.getType()));
+    }
+  }
+
+  private void writeJsonFloat(final double value, final boolean isFloat32) {
+    final String text = isFloat32 ? Float.toString((float) value) : Double.toString(value);
+
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      // JSON has no literals for these values, write them as strings like Jackson does
+      putJsonByte('"');
+      putJsonAscii(text);
+      putJsonByte('"');
+    } else {
+      putJsonAscii(text);
+    }
+  }
+
+  private void writeJsonString(final DirectBuffer value) {
+    putJsonByte('"');
+
+    // the string is UTF-8 encoded already; copy it and only escape the ASCII characters which
+    // must be escaped, since all bytes of multi-byte characters are larger than 0x7F
+    final int length = value.capacity();
+    int unescapedOffset = 0;
+    for (int i = 0; i < length; i++) {
+      final byte b = value.getByte(i);
+
+      if (b >= 0 && (b < 0x20 || b == '"' || b == '\\')) {
+        putJsonBytes(value, unescapedOffset, i - unescapedOffset);
+        writeEscapedCharacter(b);
+        unescapedOffset = i + 1;
+      }
+    }
+    putJsonBytes(value, unescapedOffset, length - unescapedOffset);
+
+    putJsonByte('"');
+  }
+
+  private void writeEscapedCharacter(final byte b) {
+    putJsonByte('\\');
+
+    switch (b) {
+      case '"':
+      case '\\':
+        putJsonByte(b);
+        break;
+      case '\b':
+        putJsonByte('b');
+        break;
+      case '\f':
+        putJsonByte('f');
+        break;
+      case '\n':
+        putJsonByte('n');
+        break;
+      case '\r':
+        putJsonByte('r');
+        break;
+      case '\t':
+        putJsonByte('t');
+        break;
+      default:
+        putJsonAscii("u00");
+        putJsonByte(HEX_DIGITS[b >> 4]);
+        putJsonByte(HEX_DIGITS[b & 0xF]);
+        break;
+    }
+  }
+
+  private void writeJsonBinary(final DirectBuffer value) {
+    final byte[] bytes = new byte[value.capacity()];
+    value.getBytes(0, bytes);
+
+    putJsonByte('"');
+    final byte[] encoded = Base64.getEncoder().encode(bytes);
+    jsonBuffer.putBytes(jsonLength, encoded);
+    jsonLength += encoded.length;
+    putJsonByte('"');
+  }
+
+  private void putJsonByte(final int b) {
+    jsonBuffer.putByte(jsonLength, (byte) b);
+    jsonLength += 1;
+  }
+
+  private void putJsonBytes(final DirectBuffer source, final int offset, final int length) {
+    if (length > 0) {
+      jsonBuffer.putBytes(jsonLength, source, offset, length);
+      jsonLength += length;
+    }
+  }
+
+  private void putJsonAscii(final String value) {
+    jsonLength += jsonBuffer.putStringWithoutLengthAscii(jsonLength, value);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  private void pushContainer(final boolean isMap, final int size) {
+    if (depth == containerSizes.length) {
+      final int newLength = depth * 2;
+      containerOffsets = Arrays.copyOf(containerOffsets, newLength);
+      containerSizes = Arrays.copyOf(containerSizes, newLength);
+      remainingValues = Arrays.copyOf(remainingValues, newLength);
+      containerIsMap = Arrays.copyOf(containerIsMap, newLength);
+    }
+
+    containerIsMap[depth] = isMap;
+    containerSizes[depth] = size;
+    remainingValues[depth] = size;
+    depth += 1;
+  }
+}
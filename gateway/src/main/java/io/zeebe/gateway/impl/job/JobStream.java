@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.grpc.ServerStreamObserver;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A long-lived stream of jobs to a worker. The first request of the worker declares the job type
+ * and the number of jobs the worker can take (its credits); further requests add credits. As long
+ * as the stream has credits, jobs are activated through the {@link ActivateJobsHandler} and pushed
+ * to the worker. With long polling, an activation waits until jobs of the type are available, so
+ * jobs are pushed as soon as they are created, and an activation which timed out without jobs is
+ * followed by the next one right away.
+ *
+ * <p>Jobs which are activated after the worker closed the stream can't be pushed anymore. Instead
+ * of waiting for their timeout, they are failed with their current retries, so they can be
+ * activated again right away.
+ *
+ * <p>The stream is served by the gateway only; the clients still activate jobs with {@code
+ * ActivateJobs}.
+ */
+public final class JobStream implements StreamObserver<StreamJobsRequest> {
+
+  // delay before activating again when an activation returned no jobs, to avoid a busy loop if
+  // long polling is disabled; with long polling the activation itself waited for jobs
+  private static final long EMPTY_ACTIVATION_BACKOFF_MILLIS = 1_000;
+  private static final String STREAM_CLOSED_MESSAGE =
+      "The job was activated after the job stream of worker '%s' was closed";
+
+  private final ActivateJobsHandler activateJobsHandler;
+  private final ServerStreamObserver<ActivatedJob> worker;
+  private final Executor backoffExecutor;
+  private final Consumer<ActivatedJob> unpushedJobConsumer;
+
+  private ActivateJobsRequest activationRequest;
+  private int credits;
+  private boolean isActivating;
+  private boolean isClosed;
+
+  public JobStream(
+      final ActivateJobsHandler activateJobsHandler,
+      final BrokerClient brokerClient,
+      final ServerStreamObserver<ActivatedJob> worker) {
+    this(
+        activateJobsHandler,
+        worker,
+        backoffExecutorFor(activateJobsHandler),
+        job -> failJob(brokerClient, job));
+  }
+
+  JobStream(
+      final ActivateJobsHandler activateJobsHandler,
+      final ServerStreamObserver<ActivatedJob> worker,
+      final Executor backoffExecutor,
+      final Consumer<ActivatedJob> unpushedJobConsumer) {
+    this.activateJobsHandler = activateJobsHandler;
+    this.worker = worker;
+    this.backoffExecutor = backoffExecutor;
+    this.unpushedJobConsumer = unpushedJobConsumer;
+  }
+
+  private static Executor backoffExecutorFor(final ActivateJobsHandler activateJobsHandler) {
+    if (activateJobsHandler instanceof LongPollingActivateJobsHandler) {
+      return Runnable::run;
+    }
+
+    return CompletableFuture.delayedExecutor(
+        EMPTY_ACTIVATION_BACKOFF_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  private static void failJob(final BrokerClient brokerClient, final ActivatedJob job) {
+    final BrokerFailJobRequest request =
+        new BrokerFailJobRequest(job.getKey(), job.getRetries())
+            .setErrorMessage(String.format(STREAM_CLOSED_MESSAGE, job.getWorker()));
+
+    brokerClient
+        .sendRequestWithRetry(request)
+        .exceptionally(
+            error -> {
+              Loggers.GATEWAY_LOGGER.debug(
+                  "Failed to return job with key {} of a closed job stream, it is activated "
+                      + "again after its timeout",
+                  job.getKey(),
+                  error);
+              return null;
+            });
+  }
+
+  @Override
+  public synchronized void onNext(final StreamJobsRequest request) {
+    if (isClosed) {
+      return;
+    }
+
+    if (activationRequest == null) {
+      activationRequest =
+          ActivateJobsRequest.newBuilder()
+              .setType(request.getType())
+              .setWorker(request.getWorker())
+              .setTimeout(request.getTimeout())
+              .addAllFetchVariable(request.getFetchVariableList())
+              .setMsgPackVariables(request.getMsgPackVariables())
+              .build();
+    }
+
+    if (request.getCredits() > 0) {
+      credits += request.getCredits();
+      activateJobs();
+    }
+  }
+
+  @Override
+  public synchronized void onError(final Throwable error) {
+    // the worker closed the stream; jobs which are pushed already will time out, the jobs of a
+    // pending activation are returned
+    isClosed = true;
+  }
+
+  @Override
+  public synchronized void onCompleted() {
+    if (!isClosed) {
+      isClosed = true;
+      worker.onCompleted();
+    }
+  }
+
+  synchronized int getCredits() {
+    return credits;
+  }
+
+  private synchronized boolean isClosed() {
+    return isClosed || worker.isCancelled();
+  }
+
+  private void activateJobs() {
+    if (isActivating || credits <= 0 || isClosed()) {
+      return;
+    }
+
+    isActivating = true;
+    activateJobsHandler.activateJobs(
+        activationRequest.toBuilder().setMaxJobsToActivate(credits).build(),
+        new ActivationObserver());
+  }
+
+  private synchronized void onJobsActivated(final List<ActivatedJob> jobs) {
+    for (final ActivatedJob job : jobs) {
+      credits -= 1;
+      if (isClosed()) {
+        unpushedJobConsumer.accept(job);
+        continue;
+      }
+
+      try {
+        worker.onNext(job);
+      } catch (final RuntimeException e) {
+        // the worker closed the stream concurrently
+        isClosed = true;
+        unpushedJobConsumer.accept(job);
+      }
+    }
+  }
+
+  private synchronized void onActivationCompleted(final boolean activatedJobs) {
+    isActivating = false;
+    if (activatedJobs) {
+      activateJobs();
+    } else if (!isClosed()) {
+      isActivating = true;
+      backoffExecutor.execute(this::activateJobsAfterBackoff);
+    }
+  }
+
+  private synchronized void activateJobsAfterBackoff() {
+    isActivating = false;
+    activateJobs();
+  }
+
+  private synchronized void onActivationFailed(final Throwable error) {
+    isActivating = false;
+    if (!isClosed()) {
+      isClosed = true;
+      worker.onError(error);
+    }
+  }
+
+  private final class ActivationObserver implements ServerStreamObserver<ActivateJobsResponse> {
+
+    private boolean activatedJobs;
+
+    @Override
+    public boolean isCancelled() {
+      return isClosed();
+    }
+
+    @Override
+    public void onNext(final ActivateJobsResponse response) {
+      activatedJobs |= response.getJobsCount() > 0;
+      onJobsActivated(response.getJobsList());
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      onActivationFailed(error);
+    }
+
+    @Override
+    public void onCompleted() {
+      onActivationCompleted(activatedJobs);
+    }
+  }
+}
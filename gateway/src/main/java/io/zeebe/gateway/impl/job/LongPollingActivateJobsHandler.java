@@ -19,11 +19,13 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.metrics.LongPollingMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.JobsAvailableNotification;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -32,10 +34,20 @@ import org.slf4j.Logger;
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>The handler only subscribes to the jobs available notifications of the job types it has
+ * received requests for. A notification names the partition on which the jobs became available,
+ * so the blocked requests are only sent to that partition.
+ *
+ * <p>A subscription is kept for {@link #SUBSCRIPTION_GRACE_PERIOD} after the last request of its
+ * job type, which avoids subscribing again for workers which poll only now and then. The request
+ * which creates a subscription polls all partitions once the subscription is established, so it
+ * doesn't miss jobs which became available before notifications were received.
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  public static final Duration SUBSCRIPTION_GRACE_PERIOD = Duration.ofMinutes(5);
+
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -46,6 +58,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   // jobType -> state
   private final Map<String, InFlightLongPollingActivateJobsRequestsState> jobTypeState =
       new HashMap<>();
+  // jobType -> last time a request of this type was tracked
+  private final Map<String, Long> subscribedJobTypes = new HashMap<>();
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
@@ -72,7 +86,6 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   @Override
   protected void onActorStarted() {
-    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
@@ -91,7 +104,9 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           final InFlightLongPollingActivateJobsRequestsState state =
               getJobTypeState(request.getType());
 
-          if (state.getFailedAttempts() < failedAttemptThreshold) {
+          if (!subscribedJobTypes.containsKey(request.getType())) {
+            subscribeAndActivateJobs(state, request);
+          } else if (state.getFailedAttempts() < failedAttemptThreshold) {
             activateJobsUnchecked(state, request);
           } else {
             completeOrEnqueueRequest(state, request);
@@ -104,6 +119,32 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
         jobType, type -> new InFlightLongPollingActivateJobsRequestsState(type, metrics));
   }
 
+  private void subscribeAndActivateJobs(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request) {
+    final String jobType = request.getType();
+    subscribedJobTypes.put(jobType, currentTimeMillis());
+    state.resetFailedAttempts();
+
+    brokerClient
+        .subscribeJobAvailableNotification(jobType, this::onNotification)
+        .whenComplete(
+            (nothing, error) ->
+                actor.run(
+                    () -> {
+                      if (error != null) {
+                        LOG.warn(
+                            "Failed to subscribe to jobs available notifications of type {}",
+                            jobType,
+                            error);
+                        subscribedJobTypes.remove(jobType);
+                      }
+
+                      // the state may have been removed while subscribing
+                      activateJobsUnchecked(getJobTypeState(jobType), request);
+                    }));
+  }
+
   private void activateJobsUnchecked(
       final InFlightLongPollingActivateJobsRequestsState state,
       final LongPollingActivateJobsRequest request) {
@@ -124,10 +165,66 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     }
   }
 
-  private void onNotification(final String jobType) {
-    LOG.trace("Received jobs available notification for type {}.", jobType);
+  private void activateJobsOnPartition(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request,
+      final int partitionId) {
+    state.addActiveRequest(request);
+
+    activateJobsHandler.activateJobsOnPartition(
+        partitionId,
+        request.getRequest(),
+        request.getMaxJobsToActivate(),
+        request.getType(),
+        response -> onResponse(request, response),
+        (remainingAmount, containedResourceExhaustedResponse) -> {
+          if (remainingAmount == request.getMaxJobsToActivate()) {
+            metrics.activationWasted(request.getType());
+          }
+          onCompleted(state, request, remainingAmount, containedResourceExhaustedResponse);
+        });
+  }
+
+  private void onNotification(final JobsAvailableNotification notification) {
+    LOG.trace(
+        "Received jobs available notification for type {} from partition {}.",
+        notification.getJobType(),
+        notification.getPartitionId());
+    metrics.notificationReceived(notification.getJobType());
+
+    actor.run(() -> handleNotification(notification));
+  }
+
+  private void handleNotification(final JobsAvailableNotification notification) {
+    final String jobType = notification.getJobType();
+    final InFlightLongPollingActivateJobsRequestsState state = jobTypeState.get(jobType);
+    if (state == null) {
+      // no requests of this type are waiting; the subscription is kept for the grace period
+      return;
+    }
+
+    state.resetFailedAttempts();
+
+    // unblock only as many requests as jobs became available; the others are unblocked when one of
+    // these requests succeeds, or by the next notification
+    int availableJobs = notification.getCount();
+    while (availableJobs > 0) {
+      final LongPollingActivateJobsRequest request = state.getNextPendingRequest();
+      if (request == null) {
+        break;
+      }
+
+      LOG.trace(
+          "Unblocking ActivateJobsRequest {} on partition {}",
+          request.getRequest(),
+          notification.getPartitionId());
+      activateJobsOnPartition(state, request, notification.getPartitionId());
+      availableJobs -= request.getMaxJobsToActivate();
+    }
 
-    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
+    if (state.getPendingRequests().isEmpty() && !state.hasActiveRequests()) {
+      jobTypeState.remove(jobType);
+    }
   }
 
   private void onCompleted(
@@ -246,6 +343,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   }
 
   private void probe() {
+    removeUnusedSubscriptions();
+
     final long now = currentTimeMillis();
     jobTypeState.forEach(
         (type, state) -> {
@@ -263,6 +362,25 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
         });
   }
 
+  private void removeUnusedSubscriptions() {
+    final long now = currentTimeMillis();
+    final Iterator<Map.Entry<String, Long>> subscriptions =
+        subscribedJobTypes.entrySet().iterator();
+    while (subscriptions.hasNext()) {
+      final Map.Entry<String, Long> subscription = subscriptions.next();
+      final String jobType = subscription.getKey();
+      final InFlightLongPollingActivateJobsRequestsState state = jobTypeState.get(jobType);
+      if (state != null
+          && (state.hasActiveRequests() || !state.getPendingRequests().isEmpty())) {
+        subscription.setValue(now);
+      } else if (subscription.getValue() <= now - SUBSCRIPTION_GRACE_PERIOD.toMillis()) {
+        brokerClient.unsubscribeJobAvailableNotification(jobType);
+        subscriptions.remove();
+        jobTypeState.remove(jobType);
+      }
+    }
+  }
+
   public static Builder newBuilder() {
     return new Builder();
   }
@@ -76,6 +76,26 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         onCompleted);
   }
 
+  /**
+   * Activates jobs on the given partition only, for example because it notified that jobs became
+   * available there.
+   */
+  public void activateJobsOnPartition(
+      final int partitionId,
+      final BrokerActivateJobsRequest request,
+      final int maxJobsToActivate,
+      final String type,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    activateJobs(
+        request,
+        PartitionIdIterator.ofPartition(partitionId, topologyManager),
+        maxJobsToActivate,
+        type,
+        onResponse,
+        onCompleted);
+  }
+
   private void activateJobs(
       final BrokerActivateJobsRequest request,
       final PartitionIdIterator partitionIdIterator,
@@ -120,7 +140,9 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                 if (error == null) {
                   final ActivateJobsResponse grpcResponse =
                       ResponseMapper.toActivateJobsResponse(
-                          response.getKey(), response.getResponse());
+                          response.getKey(),
+                          response.getResponse(),
+                          request.isMsgPackVariables());
                   final int jobsCount = grpcResponse.getJobsCount();
                   if (jobsCount > 0) {
                     onResponse.accept(grpcResponse);
@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public final class LongPollingMetrics {
@@ -18,7 +19,31 @@ public final class LongPollingMetrics {
           .labelNames("type")
           .register();
 
+  private static final Counter NOTIFICATIONS_RECEIVED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_notifications_received_total")
+          .help("Number of jobs available notifications received from the brokers")
+          .labelNames("type")
+          .register();
+
+  private static final Counter WASTED_ACTIVATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_wasted_activations_total")
+          .help("Number of activations triggered by a notification which activated no jobs")
+          .labelNames("type")
+          .register();
+
   public void setBlockedRequestsCount(final String type, final int count) {
     REQUESTS_QUEUED_CURRENT.labels(type).set(count);
   }
+
+  public void notificationReceived(final String type) {
+    NOTIFICATIONS_RECEIVED.labels(type).inc();
+  }
+
+  public void activationWasted(final String type) {
+    WASTED_ACTIVATIONS.labels(type).inc();
+  }
 }
@@ -109,6 +109,37 @@ public final class ActivateJobsTest extends GatewayTest {
         .containsExactlyInAnyOrderElementsOf(fetchVariables);
   }
 
+  @Test
+  public void shouldReturnVariablesAsMsgPack() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String jobType = "testJob";
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(jobType)
+            .setMaxJobsToActivate(1)
+            .setMsgPackVariables(true)
+            .build();
+
+    stub.addAvailableJobs(jobType, 1);
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+
+    final ActivatedJob job = responses.next().getJobs(0);
+    assertThat(job.getCustomHeaders()).isEmpty();
+    assertThat(job.getVariables()).isEmpty();
+    assertThat(job.getMsgPackCustomHeaders().toByteArray())
+        .isEqualTo(BufferUtil.bufferAsArray(ActivateJobsStub.CUSTOM_HEADERS_MSGPACK));
+    assertThat(job.getMsgPackVariables().toByteArray())
+        .isEqualTo(BufferUtil.bufferAsArray(ActivateJobsStub.VARIABLES_MSGPACK));
+  }
+
   @Test
   public void shouldActivateJobsRoundRobin() {
     // given
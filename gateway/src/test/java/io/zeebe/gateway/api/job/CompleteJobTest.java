@@ -8,7 +8,11 @@
 package io.zeebe.gateway.api.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.protobuf.ByteString;
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
 import io.zeebe.gateway.api.util.GatewayTest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -18,6 +22,8 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.test.util.JsonUtil;
 import io.zeebe.test.util.MsgPackUtil;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
 import java.util.Collections;
 import org.junit.Test;
 
@@ -70,4 +76,77 @@ public final class CompleteJobTest extends GatewayTest {
     final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
     MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), "{}");
   }
+
+  @Test
+  public void shouldPassMsgPackVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final byte[] variables = BufferUtil.bufferAsArray(MsgPackUtil.asMsgPack("key", "value"));
+
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setVariables("{\"ignored\": true}")
+            .setMsgPackVariables(ByteString.copyFrom(variables))
+            .build();
+
+    // when
+    final CompleteJobResponse response = client.completeJob(request);
+
+    // then
+    assertThat(response).isNotNull();
+
+    final BrokerCompleteJobRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    assertThat(BufferUtil.bufferAsArray(brokerRequestValue.getVariablesBuffer()))
+        .isEqualTo(variables);
+  }
+
+  @Test
+  public void shouldRejectTruncatedMsgPackVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final byte[] variables = BufferUtil.bufferAsArray(MsgPackUtil.asMsgPack("key", "value"));
+    final byte[] truncated = Arrays.copyOf(variables, variables.length - 1);
+
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setMsgPackVariables(ByteString.copyFrom(truncated))
+            .build();
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJob(request))
+        .isInstanceOfSatisfying(
+            StatusRuntimeException.class,
+            e -> assertThat(e.getStatus().getCode()).isEqualTo(Code.INVALID_ARGUMENT));
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectMsgPackVariablesWithTrailingBytes() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final byte[] variables = BufferUtil.bufferAsArray(MsgPackUtil.asMsgPack("key", "value"));
+    final byte[] trailing = Arrays.copyOf(variables, variables.length + 1);
+
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setMsgPackVariables(ByteString.copyFrom(trailing))
+            .build();
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJob(request))
+        .isInstanceOfSatisfying(
+            StatusRuntimeException.class,
+            e -> assertThat(e.getStatus().getCode()).isEqualTo(Code.INVALID_ARGUMENT));
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
 }
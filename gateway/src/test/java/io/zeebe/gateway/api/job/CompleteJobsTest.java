@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.rpc.Code;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.test.util.MsgPackUtil;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long FIRST_KEY = Protocol.encodePartitionId(2, 1);
+  private static final long SECOND_KEY = Protocol.encodePartitionId(1, 2);
+  private static final long THIRD_KEY = Protocol.encodePartitionId(2, 3);
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    brokerClient.registerHandler(BrokerCompleteJobsRequest.class, completeJobs());
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(FIRST_KEY).setVariables("{\"a\":1}"))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(SECOND_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_KEY))
+            .build();
+
+    // when
+    client.completeJobs(request);
+
+    // then
+    final List<BrokerCompleteJobsRequest> brokerRequests =
+        brokerRequests(BrokerCompleteJobsRequest.class);
+    assertThat(brokerRequests)
+        .extracting(
+            BrokerCompleteJobsRequest::getPartitionId, r -> r.getRequestWriter().getJobKeys())
+        .containsExactly(
+            tuple(2, List.of(FIRST_KEY, THIRD_KEY)), tuple(1, List.of(SECOND_KEY)));
+
+    final JobRecord firstJob = brokerRequests.get(0).getRequestWriter().jobs().iterator().next();
+    MsgPackUtil.assertEquality(firstJob.getVariablesBuffer(), "{'a':1}");
+  }
+
+  @Test
+  public void shouldReturnResultPerJob() {
+    // given
+    brokerClient.registerHandler(BrokerCompleteJobsRequest.class, completeJobs(SECOND_KEY));
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(FIRST_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(SECOND_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_KEY))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getJobKey, JobResult::getCode)
+        .containsExactly(
+            tuple(FIRST_KEY, Code.OK_VALUE),
+            tuple(SECOND_KEY, Code.NOT_FOUND_VALUE),
+            tuple(THIRD_KEY, Code.OK_VALUE));
+    assertThat(response.getResults(1).getMessage()).contains("not found");
+  }
+
+  @Test
+  public void shouldReturnRejectionOfRequestForAllJobsOfPartition() {
+    // given
+    final RequestHandler<BrokerCompleteJobsRequest, BrokerResponse<JobBatchRecord>> handler =
+        request -> {
+          if (request.getPartitionId() == 2) {
+            return new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    JobBatchIntent.COMPLETE, -1, RejectionType.INVALID_ARGUMENT, "invalid"));
+          }
+          return completeJobs().handle(request);
+        };
+    brokerClient.registerHandler(BrokerCompleteJobsRequest.class, handler);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(FIRST_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(SECOND_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_KEY))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getJobKey, JobResult::getCode)
+        .containsExactly(
+            tuple(FIRST_KEY, Code.INVALID_ARGUMENT_VALUE),
+            tuple(SECOND_KEY, Code.OK_VALUE),
+            tuple(THIRD_KEY, Code.INVALID_ARGUMENT_VALUE));
+  }
+
+  @Test
+  public void shouldNotSendJobWithInvalidVariables() {
+    // given
+    brokerClient.registerHandler(BrokerCompleteJobsRequest.class, completeJobs());
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(FIRST_KEY).setVariables("{"))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_KEY))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getJobKey)
+        .containsExactly(FIRST_KEY, THIRD_KEY);
+    assertThat(response.getResults(0).getCode()).isNotEqualTo(Code.OK_VALUE);
+    assertThat(response.getResults(1).getCode()).isEqualTo(Code.OK_VALUE);
+
+    assertThat(brokerRequests(BrokerCompleteJobsRequest.class))
+        .extracting(r -> r.getRequestWriter().getJobKeys())
+        .containsExactly(List.of(THIRD_KEY));
+  }
+
+  @Test
+  public void shouldFailJobsWithOneRequestPerPartition() {
+    // given
+    final RequestHandler<BrokerFailJobsRequest, BrokerResponse<JobBatchRecord>> handler =
+        request -> handleJobs(request.getRequestWriter(), request.getPartitionId());
+    brokerClient.registerHandler(BrokerFailJobsRequest.class, handler);
+
+    final FailJobsRequest request =
+        FailJobsRequest.newBuilder()
+            .addJobs(
+                FailJobRequest.newBuilder()
+                    .setJobKey(FIRST_KEY)
+                    .setRetries(2)
+                    .setErrorMessage("failed"))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(SECOND_KEY))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(THIRD_KEY))
+            .build();
+
+    // when
+    final FailJobsResponse response = client.failJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getJobKey, JobResult::getCode)
+        .containsExactly(
+            tuple(FIRST_KEY, Code.OK_VALUE),
+            tuple(SECOND_KEY, Code.OK_VALUE),
+            tuple(THIRD_KEY, Code.OK_VALUE));
+
+    final List<BrokerFailJobsRequest> brokerRequests = brokerRequests(BrokerFailJobsRequest.class);
+    assertThat(brokerRequests)
+        .extracting(BrokerFailJobsRequest::getPartitionId, r -> r.getRequestWriter().getJobKeys())
+        .containsExactly(
+            tuple(2, List.of(FIRST_KEY, THIRD_KEY)), tuple(1, List.of(SECOND_KEY)));
+
+    final JobRecord firstJob = brokerRequests.get(0).getRequestWriter().jobs().iterator().next();
+    assertThat(firstJob.getRetries()).isEqualTo(2);
+    assertThat(firstJob.getErrorMessage()).isEqualTo("failed");
+  }
+
+  @Test
+  public void shouldReturnEmptyResultsForNoJobs() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private <T> List<T> brokerRequests(final Class<T> requestType) {
+    return brokerClient.getBrokerRequests().stream()
+        .map(requestType::cast)
+        .collect(Collectors.toList());
+  }
+
+  private static RequestHandler<BrokerCompleteJobsRequest, BrokerResponse<JobBatchRecord>>
+      completeJobs(final Long... notFoundJobKeys) {
+    return request ->
+        handleJobs(request.getRequestWriter(), request.getPartitionId(), notFoundJobKeys);
+  }
+
+  private static BrokerResponse<JobBatchRecord> handleJobs(
+      final JobBatchRecord command, final int partitionId, final Long... notFoundJobKeys) {
+    final List<Long> rejectedJobKeys = List.of(notFoundJobKeys);
+    final JobBatchRecord event = new JobBatchRecord();
+    for (final long jobKey : command.getJobKeys()) {
+      if (rejectedJobKeys.contains(jobKey)) {
+        event
+            .rejections()
+            .add()
+            .setJobKey(jobKey)
+            .setRejectionType(RejectionType.NOT_FOUND)
+            .setRejectionReason("not found");
+      } else {
+        event.jobKeys().add().setValue(jobKey);
+      }
+    }
+
+    return new BrokerResponse<>(event, partitionId, -1);
+  }
+}
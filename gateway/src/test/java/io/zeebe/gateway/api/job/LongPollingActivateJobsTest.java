@@ -38,6 +38,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -148,8 +149,8 @@ public final class LongPollingActivateJobsTest {
 
     // then
 
-    // the job available notification triggers all three requests again
-    final int invTriggeredByNotification = amount * partitionsCount;
+    // the job available notification triggers one request on the notified partition
+    final int invTriggeredByNotification = 1;
     // the one request which has a result, re-triggers the remaining requests
     final int invTriggeredBySuccessfulRequest = (amount - 1) * partitionsCount;
     verify(
@@ -159,6 +160,115 @@ public final class LongPollingActivateJobsTest {
         .handle(any());
   }
 
+  @Test
+  public void shouldUnblockRequestsOnNotifiedPartitionOnly() {
+    // given
+    final List<Integer> polledPartitions = new CopyOnWriteArrayList<>();
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>)
+            request -> {
+              polledPartitions.add(request.getPartitionId());
+              return stub.handle(request);
+            });
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+    polledPartitions.clear();
+
+    // when
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE, 3, 1);
+
+    // then
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+    assertThat(polledPartitions).containsExactly(3);
+  }
+
+  @Test
+  public void shouldUnblockOnlyAsManyRequestsAsJobsAvailable() {
+    // given
+    final int amount = 3;
+    activateJobsAndWaitUntilBlocked(amount);
+    final int firstRound = amount * partitionsCount;
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE, 1, 1);
+
+    // then
+    verify(stub, timeout(2000).times(firstRound + 1)).handle(any());
+
+    // when - each request activates up to two jobs
+    brokerClient.notifyJobsAvailable(TYPE, 1, 4);
+
+    // then
+    verify(stub, timeout(2000).times(firstRound + 3)).handle(any());
+  }
+
+  @Test
+  public void shouldSubscribeToNotificationsOfRequestedJobTypesOnly() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+
+    // when
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // then
+    assertThat(brokerClient.isSubscribedToJobsAvailable(TYPE)).isTrue();
+    assertThat(brokerClient.isSubscribedToJobsAvailable("other-type")).isFalse();
+  }
+
+  @Test
+  public void shouldKeepSubscriptionWithinGracePeriod() throws Exception {
+    // given
+    stub.addAvailableJobs(TYPE, 1);
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+
+    // when
+    actorClock.addTime(Duration.ofMillis(PROBE_TIMEOUT));
+    Thread.sleep(100); // Give some time for the periodic probe to execute
+
+    // then
+    assertThat(brokerClient.isSubscribedToJobsAvailable(TYPE)).isTrue();
+  }
+
+  @Test
+  public void shouldRemoveSubscriptionAfterGracePeriod() {
+    // given
+    stub.addAvailableJobs(TYPE, 1);
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+
+    // when
+    actorClock.addTime(LongPollingActivateJobsHandler.SUBSCRIPTION_GRACE_PERIOD);
+
+    // then
+    waitUntil(() -> !brokerClient.isSubscribedToJobsAvailable(TYPE));
+  }
+
+  @Test
+  public void shouldPollAllPartitionsWhenSubscribingAgain() {
+    // given
+    activateJobsAndWaitUntilBlocked(FAILED_RESPONSE_THRESHOLD);
+    actorClock.addTime(Duration.ofMillis(LONG_POLLING_TIMEOUT));
+    actorClock.addTime(LongPollingActivateJobsHandler.SUBSCRIPTION_GRACE_PERIOD);
+    waitUntil(() -> !brokerClient.isSubscribedToJobsAvailable(TYPE));
+    Mockito.clearInvocations(stub);
+
+    // when
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // then
+    assertThat(brokerClient.isSubscribedToJobsAvailable(TYPE)).isTrue();
+    verify(stub, times(partitionsCount)).handle(any());
+  }
+
   @Test
   public void shouldCompleteAfterRequestTimeout() {
     // given
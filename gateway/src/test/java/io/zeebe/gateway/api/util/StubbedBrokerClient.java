@@ -19,18 +19,21 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.JobsAvailableNotification;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final Map<String, Consumer<JobsAvailableNotification>> jobsAvailableHandlers =
+      new ConcurrentHashMap<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
@@ -105,9 +108,15 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+  public CompletableFuture<Void> subscribeJobAvailableNotification(
+      final String jobType, final Consumer<JobsAvailableNotification> handler) {
+    jobsAvailableHandlers.put(jobType, handler);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public void unsubscribeJobAvailableNotification(final String jobType) {
+    jobsAvailableHandlers.remove(jobType);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -117,7 +126,22 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    notifyJobsAvailable(type, Protocol.START_PARTITION_ID, 1);
+  }
+
+  public void notifyJobsAvailable(final String type, final int partitionId, final int count) {
+    final var handler = jobsAvailableHandlers.get(type);
+    if (handler != null) {
+      handler.accept(new JobsAvailableNotification(type, partitionId, count));
+    }
+  }
+
+  public boolean isSubscribedToJobsAvailable(final String type) {
+    return jobsAvailableHandlers.containsKey(type);
+  }
+
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.encoding;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.test.util.JsonUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class MsgPackJsonConverterTest {
+
+  // more elements than fit into an array16 header
+  private static final String LARGE_ARRAY = Arrays.toString(new int[70_000]).replace(" ", "");
+
+  @Parameter public String json;
+
+  private final MsgPackJsonConverter converter = new MsgPackJsonConverter();
+
+  @Parameters(name = "{0}")
+  public static Collection<Object[]> documents() {
+    return Arrays.asList(
+        new Object[][] {
+          {"{}"},
+          {"[]"},
+          {"{\"a\":1,\"b\":\"foo\",\"c\":true,\"d\":false,\"e\":null}"},
+          {"{\"a\":{\"b\":{\"c\":[1,[2,3],{}]}},\"d\":[]}"},
+          {"{\"int\":-12345678901,\"float\":1.5,\"double\":0.1,\"negative\":-3.25E-10}"},
+          {"{\"escaped\":\"quote \\\" backslash \\\\ newline \\n tab \\t control \\u0001\"}"},
+          {"{\"unicode\":\"äöü € 😀\",\"€\":\"key\"}"},
+          {"{'single':'quotes'}"},
+          {"\"foo\""},
+          {"12"},
+          {"{\"many\":" + LARGE_ARRAY + "}"},
+          {"{\"a\":1,\"b\":2,\"c\":3,\"d\":4,\"e\":5,\"f\":6,\"g\":7,\"h\":8,\"i\":9,\"j\":10,"
+              + "\"k\":11,\"l\":12,\"m\":13,\"n\":14,\"o\":15,\"p\":16,\"q\":17}"}
+        });
+  }
+
+  @Test
+  public void shouldConvertJsonToMsgPack() {
+    // when
+    final DirectBuffer msgPack = converter.convertToMsgPack(json);
+
+    // then
+    final String expectedJson =
+        MsgPackConverter.convertToJson(MsgPackConverter.convertToMsgPack(json));
+    JsonUtil.assertEquality(MsgPackConverter.convertToJson(msgPack), expectedJson);
+  }
+
+  @Test
+  public void shouldConvertMsgPackToJson() {
+    // given
+    final DirectBuffer msgPack = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(json));
+
+    // when
+    final DirectBuffer jsonBuffer = converter.convertToJson(msgPack);
+
+    // then
+    final String expectedJson = MsgPackConverter.convertToJson(msgPack);
+    assertThat(new String(bufferAsArray(jsonBuffer), StandardCharsets.UTF_8))
+        .isEqualTo(expectedJson);
+  }
+
+  @Test
+  public void shouldConvertJsonToMsgPackAndBack() {
+    // when
+    final DirectBuffer msgPack = new UnsafeBuffer(bufferAsArray(converter.convertToMsgPack(json)));
+    final DirectBuffer jsonBuffer = converter.convertToJson(msgPack);
+
+    // then
+    final String expectedJson =
+        MsgPackConverter.convertToJson(MsgPackConverter.convertToMsgPack(json));
+    JsonUtil.assertEquality(
+        new String(bufferAsArray(jsonBuffer), StandardCharsets.UTF_8), expectedJson);
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.grpc.ServerStreamObserver;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class JobStreamTest {
+
+  private final List<ActivateJobsRequest> activations = new ArrayList<>();
+  private final List<ServerStreamObserver<ActivateJobsResponse>> activationObservers =
+      new ArrayList<>();
+  private final List<Runnable> backoffs = new ArrayList<>();
+  private final List<ActivatedJob> unpushedJobs = new ArrayList<>();
+  private final RecordingWorker worker = new RecordingWorker();
+
+  private JobStream jobStream;
+
+  @Before
+  public void setUp() {
+    jobStream =
+        new JobStream(
+            (request, observer) -> {
+              activations.add(request);
+              activationObservers.add(observer);
+            },
+            worker,
+            backoffs::add,
+            unpushedJobs::add);
+  }
+
+  @Test
+  public void shouldActivateJobsWithInitialCredits() {
+    // when
+    jobStream.onNext(
+        StreamJobsRequest.newBuilder()
+            .setType("type")
+            .setWorker("worker")
+            .setTimeout(1_000)
+            .addFetchVariable("foo")
+            .setCredits(5)
+            .build());
+
+    // then
+    assertThat(activations).hasSize(1);
+    final ActivateJobsRequest activation = activations.get(0);
+    assertThat(activation.getType()).isEqualTo("type");
+    assertThat(activation.getWorker()).isEqualTo("worker");
+    assertThat(activation.getTimeout()).isEqualTo(1_000);
+    assertThat(activation.getFetchVariableList()).containsExactly("foo");
+    assertThat(activation.getMaxJobsToActivate()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldPushActivatedJobsAndUseCredits() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(5).build());
+
+    // when
+    completeActivation(0, 1, 2);
+
+    // then
+    assertThat(worker.jobs).extracting(ActivatedJob::getKey).containsExactly(1L, 2L);
+    assertThat(jobStream.getCredits()).isEqualTo(3);
+    assertThat(activations).hasSize(2);
+    assertThat(activations.get(1).getMaxJobsToActivate()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldNotActivateJobsWithoutCredits() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(2).build());
+
+    // when
+    completeActivation(0, 1, 2);
+
+    // then
+    assertThat(jobStream.getCredits()).isZero();
+    assertThat(activations).hasSize(1);
+  }
+
+  @Test
+  public void shouldActivateJobsWhenCreditsAreAdded() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(1).build());
+    completeActivation(0, 1);
+
+    // when
+    jobStream.onNext(StreamJobsRequest.newBuilder().setCredits(4).build());
+
+    // then
+    assertThat(activations).hasSize(2);
+    assertThat(activations.get(1).getType()).isEqualTo("type");
+    assertThat(activations.get(1).getMaxJobsToActivate()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldNotActivateConcurrently() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(1).build());
+
+    // when
+    jobStream.onNext(StreamJobsRequest.newBuilder().setCredits(4).build());
+
+    // then
+    assertThat(activations).hasSize(1);
+    assertThat(jobStream.getCredits()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldBackOffAfterEmptyActivation() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(1).build());
+
+    // when
+    completeActivation(0);
+
+    // then
+    assertThat(activations).hasSize(1);
+    assertThat(backoffs).hasSize(1);
+
+    // when
+    backoffs.get(0).run();
+
+    // then
+    assertThat(activations).hasSize(2);
+  }
+
+  @Test
+  public void shouldCloseStreamOnActivationError() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(1).build());
+    final RuntimeException error = new RuntimeException("expected");
+
+    // when
+    activationObservers.get(0).onError(error);
+    jobStream.onNext(StreamJobsRequest.newBuilder().setCredits(1).build());
+
+    // then
+    assertThat(worker.error).isEqualTo(error);
+    assertThat(activations).hasSize(1);
+  }
+
+  @Test
+  public void shouldCancelActivationWhenWorkerClosesStream() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(1).build());
+
+    // when
+    jobStream.onCompleted();
+
+    // then
+    assertThat(activationObservers.get(0).isCancelled()).isTrue();
+    assertThat(worker.completed).isTrue();
+  }
+
+  @Test
+  public void shouldReturnJobsActivatedAfterStreamClosed() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(2).build());
+    jobStream.onError(new RuntimeException("closed by worker"));
+
+    // when
+    completeActivation(0, 1, 2);
+
+    // then
+    assertThat(worker.jobs).isEmpty();
+    assertThat(unpushedJobs).extracting(ActivatedJob::getKey).containsExactly(1L, 2L);
+    assertThat(activations).hasSize(1);
+  }
+
+  @Test
+  public void shouldReturnJobsWhichCanNotBePushed() {
+    // given
+    jobStream.onNext(StreamJobsRequest.newBuilder().setType("type").setCredits(3).build());
+    worker.failOnJob = 2L;
+
+    // when
+    completeActivation(0, 1, 2, 3);
+
+    // then
+    assertThat(worker.jobs).extracting(ActivatedJob::getKey).containsExactly(1L);
+    assertThat(unpushedJobs).extracting(ActivatedJob::getKey).containsExactly(2L, 3L);
+    assertThat(activations).hasSize(1);
+  }
+
+  private void completeActivation(final int index, final long... jobKeys) {
+    final ServerStreamObserver<ActivateJobsResponse> observer = activationObservers.get(index);
+    if (jobKeys.length > 0) {
+      observer.onNext(
+          ActivateJobsResponse.newBuilder()
+              .addAllJobs(
+                  LongStream.of(jobKeys)
+                      .mapToObj(key -> ActivatedJob.newBuilder().setKey(key).build())
+                      .collect(Collectors.toList()))
+              .build());
+    }
+    observer.onCompleted();
+  }
+
+  private static final class RecordingWorker implements ServerStreamObserver<ActivatedJob> {
+
+    private final List<ActivatedJob> jobs = new ArrayList<>();
+    private long failOnJob = -1L;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void onNext(final ActivatedJob job) {
+      if (job.getKey() == failOnJob) {
+        throw new IllegalStateException("call already closed");
+      }
+      jobs.add(job);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onCompleted() {
+      completed = true;
+    }
+  }
+}
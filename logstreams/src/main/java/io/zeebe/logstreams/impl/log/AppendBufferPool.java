@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import java.nio.ByteBuffer;
+import org.agrona.BitUtil;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+/**
+ * Pools the buffers into which the {@link LogStorageAppender} copies the blocks of the dispatcher.
+ * A buffer is handed to the log storage together with its block and released once the storage
+ * reported the block as written, at which point the storage holds its own copy of the bytes.
+ *
+ * <p>Buffers are acquired by the appender actor and released by the storage's thread. Buffers
+ * bigger than {@link #MAX_POOLED_CAPACITY} are not kept to bound the memory held by the pool.
+ */
+final class AppendBufferPool {
+
+  static final int MAX_POOLED_BUFFERS = 64;
+  static final int MAX_POOLED_CAPACITY = 128 * 1024;
+  private static final int MIN_CAPACITY = 4 * 1024;
+
+  private final ManyToOneConcurrentArrayQueue<ByteBuffer> buffers =
+      new ManyToOneConcurrentArrayQueue<>(MAX_POOLED_BUFFERS);
+  private final AppenderMetrics metrics;
+
+  AppendBufferPool(final AppenderMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /** @return a buffer with position 0 and limit {@code length} */
+  ByteBuffer acquire(final int length) {
+    ByteBuffer buffer = buffers.poll();
+
+    if (buffer == null || buffer.capacity() < length) {
+      // a pooled buffer which is too small is dropped, its replacement will be pooled instead
+      final int capacity = Math.max(MIN_CAPACITY, BitUtil.findNextPositivePowerOfTwo(length));
+      buffer = ByteBuffer.allocate(capacity > MAX_POOLED_CAPACITY ? length : capacity);
+      metrics.allocatedBuffer(buffer.capacity());
+    } else {
+      metrics.reusedBuffer();
+    }
+
+    buffer.clear().limit(length);
+    return buffer;
+  }
+
+  void release(final ByteBuffer buffer) {
+    if (buffer.capacity() <= MAX_POOLED_CAPACITY) {
+      buffers.offer(buffer);
+    }
+  }
+}
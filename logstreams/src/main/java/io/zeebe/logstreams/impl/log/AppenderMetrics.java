@@ -7,6 +7,7 @@
  */
 package io.zeebe.logstreams.impl.log;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
@@ -43,6 +44,28 @@ public class AppenderMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter ALLOCATED_BUFFER_BYTES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("log_appender_allocated_buffer_bytes")
+          .help("Bytes allocated for new append buffers because no pooled buffer was available")
+          .labelNames("partition")
+          .register();
+  private static final Counter REUSED_BUFFERS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("log_appender_reused_buffers")
+          .help("Number of appended blocks which were copied into a pooled buffer")
+          .labelNames("partition")
+          .register();
+  private static final Counter ALLOCATED_LISTENERS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("log_appender_allocated_listeners")
+          .help("Number of append listeners created because no pooled listener was available")
+          .labelNames("partition")
+          .register();
+
   private final String partitionLabel;
 
   public AppenderMetrics(final String partitionLabel) {
@@ -64,4 +87,16 @@ public class AppenderMetrics {
   public void commitLatency(final long startTime, final long currentTime) {
     COMMIT_LATENCY.labels(partitionLabel).observe((currentTime - startTime) / 1000f);
   }
+
+  public void allocatedBuffer(final int capacity) {
+    ALLOCATED_BUFFER_BYTES.labels(partitionLabel).inc(capacity);
+  }
+
+  public void reusedBuffer() {
+    REUSED_BUFFERS.labels(partitionLabel).inc();
+  }
+
+  public void allocatedListener() {
+    ALLOCATED_LISTENERS.labels(partitionLabel).inc();
+  }
 }
@@ -9,45 +9,63 @@ package io.zeebe.logstreams.impl.log;
 
 import io.atomix.raft.RaftException.NoLeader;
 import io.zeebe.logstreams.spi.LogStorage.AppendListener;
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
+/**
+ * Listens to the append of a single block. Listeners are recycled by the appender once the block
+ * was committed or failed to be written, and release the block's buffer back to the appender's pool
+ * as soon as the storage wrote it.
+ */
 public final class Listener implements AppendListener {
   private final LogStorageAppender appender;
-  private final long highestPosition;
-  private final long startTime;
+  private long highestPosition;
+  private long startTime;
+  private ByteBuffer blockBuffer;
 
   public Listener(
       final LogStorageAppender appender, final long highestPosition, final long startTime) {
     this.appender = appender;
+    init(highestPosition, startTime, null);
+  }
+
+  Listener init(final long highestPosition, final long startTime, final ByteBuffer blockBuffer) {
     this.highestPosition = highestPosition;
     this.startTime = startTime;
+    this.blockBuffer = blockBuffer;
+    return this;
   }
 
   @Override
   public void onWrite(final long address) {
+    releaseBlockBuffer();
     appender.notifyWritePosition(highestPosition, startTime);
   }
 
   @Override
   public void onWriteError(final Throwable error) {
+    releaseBlockBuffer();
+
     if (error instanceof NoSuchElementException || error instanceof NoLeader) {
       // Not a failure. It is probably during transition to follower.
       LogStorageAppender.LOG.debug(
           "Failed to append block with last event position {}. This can happen during a leader change.",
           highestPosition,
           error);
-      return;
+    } else {
+      LogStorageAppender.LOG.error(
+          "Failed to append block with last event position {}.", highestPosition, error);
+      appender.runOnFailure(error);
     }
 
-    LogStorageAppender.LOG.error(
-        "Failed to append block with last event position {}.", highestPosition, error);
-    appender.runOnFailure(error);
+    appender.recycle(this);
   }
 
   @Override
   public void onCommit(final long address) {
     releaseBackPressure();
     appender.notifyCommitPosition(highestPosition, startTime);
+    appender.recycle(this);
   }
 
   @Override
@@ -56,6 +74,14 @@ public final class Listener implements AppendListener {
         "Failed to commit block with last event position {}.", highestPosition, error);
     releaseBackPressure();
     appender.runOnFailure(error);
+    appender.recycle(this);
+  }
+
+  private void releaseBlockBuffer() {
+    if (blockBuffer != null) {
+      appender.releaseBuffer(blockBuffer);
+      blockBuffer = null;
+    }
   }
 
   private void releaseBackPressure() {
@@ -22,7 +22,6 @@ import io.zeebe.logstreams.impl.backpressure.BackpressureConstants;
 import io.zeebe.logstreams.impl.backpressure.NoopAppendLimiter;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.util.Environment;
-import io.zeebe.util.collection.Tuple;
 import io.zeebe.util.health.FailureListener;
 import io.zeebe.util.health.HealthMonitorable;
 import io.zeebe.util.health.HealthStatus;
@@ -33,7 +32,8 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.LongConsumer;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.slf4j.Logger;
 
 /** Consume the write buffer and append the blocks to the distributedlog. */
@@ -42,6 +42,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
   private static final Map<String, AlgorithmCfg> ALGORITHM_CFG =
       Map.of("vegas", new AppenderVegasCfg(), "gradient2", new AppenderGradient2Cfg());
+  private static final int MAX_POOLED_LISTENERS = 1024;
 
   private final String name;
   private final Subscription writeBufferSubscription;
@@ -51,7 +52,13 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   private final AppendBackpressureMetrics appendBackpressureMetrics;
   private final Environment env;
   private final LoggedEventImpl positionReader = new LoggedEventImpl();
+  private final BlockPeek blockPeek = new BlockPeek();
   private final AppenderMetrics appenderMetrics;
+  private final AppendBufferPool bufferPool;
+  private final ManyToOneConcurrentArrayQueue<Listener> listenerPool =
+      new ManyToOneConcurrentArrayQueue<>(MAX_POOLED_LISTENERS);
+  private long lowestPosition;
+  private long highestPosition;
   private FailureListener failureListener;
   private final ActorFuture<Void> closeFuture;
   private final LongConsumer commitPositionListener;
@@ -64,6 +71,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
       final int maxBlockSize,
       final LongConsumer commitPositionListener) {
     appenderMetrics = new AppenderMetrics(Integer.toString(partitionId));
+    bufferPool = new AppendBufferPool(appenderMetrics);
     this.commitPositionListener = commitPositionListener;
     env = new Environment();
     this.name = name;
@@ -109,16 +117,20 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   private void appendBlock(final BlockPeek blockPeek) {
-    final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
-    final int bytes = rawBuffer.remaining();
-    final ByteBuffer copiedBuffer = ByteBuffer.allocate(bytes).put(rawBuffer).flip();
-    final Tuple<Long, Long> positions = readLowestHighestPosition(copiedBuffer);
+    readLowestHighestPosition(blockPeek.getBuffer());
 
     // Commit position is the position of the last event.
     appendBackpressureMetrics.newEntryToAppend();
-    if (appendEntryLimiter.tryAcquire(positions.getRight())) {
-      final var listener = new Listener(this, positions.getRight(), ActorClock.currentTimeMillis());
-      logStorage.append(positions.getLeft(), positions.getRight(), copiedBuffer, listener);
+    if (appendEntryLimiter.tryAcquire(highestPosition)) {
+      // the block is copied once into a pooled buffer, which the listener releases as soon as the
+      // storage has written it
+      final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
+      final ByteBuffer copiedBuffer = bufferPool.acquire(rawBuffer.remaining());
+      copiedBuffer.put(rawBuffer).flip();
+
+      final Listener listener =
+          newListener(highestPosition, ActorClock.currentTimeMillis(), copiedBuffer);
+      logStorage.append(lowestPosition, highestPosition, copiedBuffer, listener);
 
       blockPeek.markCompleted();
     } else {
@@ -131,6 +143,17 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     }
   }
 
+  private Listener newListener(
+      final long highestPosition, final long startTime, final ByteBuffer blockBuffer) {
+    Listener listener = listenerPool.poll();
+    if (listener == null) {
+      listener = new Listener(this, highestPosition, startTime);
+      appenderMetrics.allocatedListener();
+    }
+
+    return listener.init(highestPosition, startTime, blockBuffer);
+  }
+
   @Override
   public String getName() {
     return name;
@@ -166,7 +189,6 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   private void onWriteBufferAvailable() {
-    final BlockPeek blockPeek = new BlockPeek();
     if (writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true) > 0) {
       appendBlock(blockPeek);
     } else {
@@ -174,20 +196,18 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     }
   }
 
-  private Tuple<Long, Long> readLowestHighestPosition(final ByteBuffer buffer) {
-    final var view = new UnsafeBuffer(buffer);
-    final var positions = new Tuple<>(Long.MAX_VALUE, Long.MIN_VALUE);
+  private void readLowestHighestPosition(final DirectBuffer block) {
+    lowestPosition = Long.MAX_VALUE;
+    highestPosition = Long.MIN_VALUE;
     var offset = 0;
 
     do {
-      positionReader.wrap(view, offset);
+      positionReader.wrap(block, offset);
       final long pos = positionReader.getPosition();
-      positions.setLeft(Math.min(positions.getLeft(), pos));
-      positions.setRight(Math.max(positions.getRight(), pos));
+      lowestPosition = Math.min(lowestPosition, pos);
+      highestPosition = Math.max(highestPosition, pos);
       offset += positionReader.getLength();
-    } while (offset < view.capacity());
-
-    return positions;
+    } while (offset < block.capacity());
   }
 
   @Override
@@ -212,6 +232,15 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     actor.run(() -> onFailure(error));
   }
 
+  void releaseBuffer(final ByteBuffer buffer) {
+    bufferPool.release(buffer);
+  }
+
+  void recycle(final Listener listener) {
+    listener.init(-1, -1, null);
+    listenerPool.offer(listener);
+  }
+
   void releaseBackPressure(final long highestPosition) {
     actor.run(() -> appendEntryLimiter.onCommit(highestPosition));
   }
@@ -8,6 +8,7 @@
 package io.zeebe.logstreams.impl.log;
 
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimedBatchLength;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.HEADER_BLOCK_LENGTH;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.headerLength;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.metadataOffset;
@@ -85,6 +86,13 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    final int count = eventCount + 1;
+    final int batchLength = eventLength + length + (count * HEADER_BLOCK_LENGTH);
+    return claimedBatchLength(count, batchLength) < logWriteBuffer.getMaxFragmentLength();
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -168,6 +176,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
+    eventBuffer.putLong(eventBufferOffset, sourceEventPosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -236,6 +247,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
+      final long sourceEventPosition = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
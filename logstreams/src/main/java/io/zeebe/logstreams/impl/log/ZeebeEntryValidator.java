@@ -10,12 +10,14 @@ package io.zeebe.logstreams.impl.log;
 import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.raft.zeebe.ValidationResult;
 import io.atomix.raft.zeebe.ZeebeEntry;
+import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class ZeebeEntryValidator implements EntryValidator {
   @Override
   public ValidationResult validateEntry(final ZeebeEntry lastEntry, final ZeebeEntry entry) {
-    final UnsafeBuffer reader = new UnsafeBuffer(entry.data());
+    final ByteBuffer data = entry.data();
+    final UnsafeBuffer reader = new UnsafeBuffer(data, data.position(), data.remaining());
     long lastPosition = lastEntry != null ? lastEntry.highestPosition() : -1;
     int offset = 0;
 
@@ -17,7 +17,11 @@ import org.agrona.DirectBuffer;
  * <p>Note that the log entry data is buffered until {@link #tryWrite()} is called.
  */
 public interface LogStreamBatchWriter extends LogStreamWriter {
-  /** Set the source event for all log entries. */
+  /**
+   * Set the source event for the log entries. The source event is applied to all log entries which
+   * are added after this call, until it is changed again or the batch is reset. This allows to
+   * write the follow-up entries of different source events in one batch.
+   */
   LogStreamBatchWriter sourceRecordPosition(long position);
 
   /** Returns the builder to add a new log entry to the batch. */
@@ -25,6 +29,14 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * Checks if an additional log entry of the given length would still fit into this batch.
+   *
+   * @param length the length of the additional entry's metadata and value
+   * @return <code>true</code> if the batch including the additional entry can be written
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
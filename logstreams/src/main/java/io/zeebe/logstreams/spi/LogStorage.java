@@ -53,6 +53,10 @@ public interface LogStorage {
    * <p>The caller of this method must guarantee that the provided block contains unfragmented log
    * entries.
    *
+   * <p>The block buffer is only valid until {@link AppendListener#onWrite(long)} or {@link
+   * AppendListener#onWriteError(Throwable)} was called, afterwards the caller may reuse it.
+   * Implementations which keep the block must copy it.
+   *
    * @param lowestPosition the lowest record position of all records in the block buffer
    * @param highestPosition the highest record position of all records in the block buffer
    * @param blockBuffer the buffer containing a block of log entries to be written into storage
@@ -9,20 +9,30 @@ package io.zeebe.logstreams.storage.atomix;
 
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
-import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
+import io.atomix.storage.journal.index.RestorableJournalIndex;
+import io.atomix.storage.journal.index.SortedLongIndex;
 import io.atomix.storage.journal.index.SparseJournalIndex;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-
-public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Maps the lowest position of the indexed Zeebe entries to their index. Since the positions
+ * increase with the index, both directions are served by a single sorted index of index to
+ * position.
+ *
+ * <p>The lowest positions are persisted as values of the indexed entries, such that the mapping is
+ * restored together with the sparse index.
+ *
+ * <p>The index is written by the journal and read by the log storage readers, which can run on a
+ * different thread. The writers hold the write lock, while the lookups only read optimistically:
+ * they retry if the index was modified in the meantime, and never block the journal.
+ */
+public final class ZeebeIndexAdapter implements RestorableJournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
-      new ConcurrentSkipListMap<>();
+  private final SortedLongIndex indexPositionMapping = new SortedLongIndex();
   private final SparseJournalIndex sparseJournalIndex;
   private final int density;
+  private final StampedLock lock = new StampedLock();
 
   private ZeebeIndexAdapter(final int density) {
     this.density = density;
@@ -36,65 +46,135 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
   @Override
   public void index(final Indexed indexedEntry, final int position) {
     final var index = indexedEntry.index();
-    if (index % density == 0) {
+    if (index % density != 0) {
+      // nothing is indexed, see SparseJournalIndex
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
       if (indexedEntry.type() == ZeebeEntry.class) {
         final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
-        final var lowestPosition = zeebeEntry.lowestPosition();
-
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
+        indexPositionMapping.put(index, zeebeEntry.lowestPosition());
       }
-    }
 
-    sparseJournalIndex.index(indexedEntry, position);
+      sparseJournalIndex.index(indexedEntry, position);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
   public Position lookup(final long index) {
-    return sparseJournalIndex.lookup(index);
+    while (true) {
+      final long stamp = lock.tryOptimisticRead();
+      if (stamp == 0) {
+        Thread.onSpinWait();
+        continue;
+      }
+
+      try {
+        final Position position = sparseJournalIndex.lookup(index);
+        if (lock.validate(stamp)) {
+          return position;
+        }
+      } catch (final RuntimeException e) {
+        // the index may be inconsistent while it is modified, then the lookup is retried
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
   }
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
+    final long stamp = lock.writeLock();
+    try {
+      final int higherSlot = indexPositionMapping.higher(index);
+      if (higherSlot != SortedLongIndex.MISSING_SLOT) {
+        indexPositionMapping.truncate(higherSlot);
+      }
 
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
+      sparseJournalIndex.truncate(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
-
-    sparseJournalIndex.truncate(index);
   }
 
   @Override
   public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
+    final long stamp = lock.writeLock();
+    try {
+      final int lowerSlot = indexPositionMapping.lower(index);
+      if (lowerSlot != SortedLongIndex.MISSING_SLOT) {
+        indexPositionMapping.compact(lowerSlot);
+      }
 
-    if (lowerEntry != null) {
+      sparseJournalIndex.compact(index);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
 
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
+  @Override
+  public long lookupPosition(final long position) {
+    while (true) {
+      final long stamp = lock.tryOptimisticRead();
+      if (stamp == 0) {
+        Thread.onSpinWait();
+        continue;
+      }
 
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
+      try {
+        final int slot = indexPositionMapping.floorByValue(position);
+        final long index =
+            slot != SortedLongIndex.MISSING_SLOT ? indexPositionMapping.keyAt(slot) : -1L;
+        if (lock.validate(stamp)) {
+          return index;
+        }
+      } catch (final RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
     }
+  }
 
-    sparseJournalIndex.compact(index);
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    // the consumer must see each entry only once, so the index is read under the lock
+    final long stamp = lock.readLock();
+    try {
+      sparseJournalIndex.forEach(
+          fromIndex,
+          toIndex,
+          (index, position, value) ->
+              consumer.accept(index, position, lookupLowestPosition(index)));
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
-  public long lookupPosition(final long position) {
-    long index = -1L;
+  public void restore(final long index, final int position, final long value) {
+    final long stamp = lock.writeLock();
+    try {
+      if (value != NO_VALUE) {
+        indexPositionMapping.put(index, value);
+      }
 
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
+      sparseJournalIndex.restore(index, position, NO_VALUE);
+    } finally {
+      lock.unlockWrite(stamp);
     }
+  }
 
-    return index;
+  private long lookupLowestPosition(final long index) {
+    final int slot = indexPositionMapping.floor(index);
+    if (slot != SortedLongIndex.MISSING_SLOT && indexPositionMapping.keyAt(slot) == index) {
+      return indexPositionMapping.valueAt(slot);
+    }
+    return NO_VALUE;
   }
 }
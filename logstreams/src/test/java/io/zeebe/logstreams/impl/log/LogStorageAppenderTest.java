@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
@@ -44,6 +45,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 
 public final class LogStorageAppenderTest {
 
@@ -200,6 +202,41 @@ public final class LogStorageAppenderTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldReuseBufferOnceBlockIsWritten() throws InterruptedException {
+    // given
+    final var values = List.of(new Value(1), new Value(2));
+    final var firstCommitted = new CountDownLatch(1);
+    final var secondCommitted = new CountDownLatch(2);
+    logStorageRule.setPositionListener(
+        i -> {
+          firstCommitted.countDown();
+          secondCommitted.countDown();
+        });
+    schedulerRule.submitActor(appender).join();
+
+    // when
+    final var firstPosition = writer.valueWriter(values.get(0)).tryWrite();
+    assertThat(firstCommitted.await(5, TimeUnit.SECONDS)).isTrue();
+    final var secondPosition = writer.valueWriter(values.get(1)).tryWrite();
+    assertThat(secondCommitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    final ArgumentCaptor<ByteBuffer> buffers = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(logStorage, timeout(1000).times(2))
+        .append(anyLong(), anyLong(), buffers.capture(), any(AppendListener.class));
+    assertThat(buffers.getAllValues().get(1)).isSameAs(buffers.getAllValues().get(0));
+
+    // and both blocks were written correctly
+    final Value expected = new Value();
+    assertThat(reader.seek(firstPosition)).isTrue();
+    reader.next().readValue(expected);
+    assertThat(expected).isEqualTo(values.get(0));
+    assertThat(reader.seek(secondPosition)).isTrue();
+    reader.next().readValue(expected);
+    assertThat(expected).isEqualTo(values.get(1));
+  }
+
   private static final class Value implements BufferWriter, BufferReader {
     private int value;
 
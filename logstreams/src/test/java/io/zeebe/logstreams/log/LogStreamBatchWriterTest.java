@@ -328,6 +328,41 @@ public final class LogStreamBatchWriterTest {
     assertThat(events.get(1).getSourceEventPosition()).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldWriteEventsWithDifferentSourceEvents() {
+    // when
+    final long position =
+        write(
+            w ->
+                w.sourceRecordPosition(123L)
+                    .event()
+                    .key(1)
+                    .value(EVENT_VALUE_1)
+                    .done()
+                    .sourceRecordPosition(456L)
+                    .event()
+                    .key(2)
+                    .value(EVENT_VALUE_2)
+                    .done());
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(position);
+
+    assertThat(events.get(0).getSourceEventPosition()).isEqualTo(123L);
+    assertThat(events.get(1).getSourceEventPosition()).isEqualTo(456L);
+  }
+
+  @Test
+  public void shouldCheckIfAdditionalEventFitsIntoBatch() {
+    // given
+    final int maxFragmentLength = writer.getMaxFragmentLength();
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+
+    // then
+    assertThat(writer.canWriteAdditionalEvent(EVENT_VALUE_2.capacity())).isTrue();
+    assertThat(writer.canWriteAdditionalEvent(maxFragmentLength)).isFalse();
+  }
+
   @Test
   public void shouldWriteEventWithoutSourceEvent() {
     // when
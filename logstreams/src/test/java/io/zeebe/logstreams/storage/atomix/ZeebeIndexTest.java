@@ -12,7 +12,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.atomix.raft.storage.log.entry.InitializeEntry;
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.index.Position;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
 
 public class ZeebeIndexTest {
@@ -220,6 +223,79 @@ public class ZeebeIndexTest {
     assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
   }
 
+  @Test
+  public void shouldRestorePersistedEntries() {
+    // given
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+    zeebeIndexAdapter.index(
+        new Indexed<>(10, new InitializeEntry(0, System.currentTimeMillis()), 10, -1), 20);
+    zeebeIndexAdapter.index(asZeebeEntry(15, 40), 30);
+    final ZeebeIndexAdapter restoredIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+
+    // when
+    zeebeIndexAdapter.forEach(1, 15, restoredIndexAdapter::restore);
+
+    // then
+    assertThat(restoredIndexAdapter.lookupPosition(25)).isEqualTo(5);
+    assertThat(restoredIndexAdapter.lookupPosition(40)).isEqualTo(15);
+    assertThat(restoredIndexAdapter.lookup(12).index()).isEqualTo(10);
+    assertThat(restoredIndexAdapter.lookup(12).position()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldLookupWhileIndexIsModifiedConcurrently() throws Exception {
+    // given - every index is added, with the lowest position ten times the index
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(1);
+    final AtomicBoolean isWriting = new AtomicBoolean(true);
+    final AtomicReference<String> failure = new AtomicReference<>();
+
+    final Thread reader =
+        new Thread(
+            () -> {
+              long position = 0;
+              while (isWriting.get() && failure.get() == null) {
+                position = (position + 7) % 100_000;
+
+                final long index = zeebeIndexAdapter.lookupPosition(position);
+                if (index > position / 10) {
+                  failure.set("Expected index of position " + position + " but got " + index);
+                }
+
+                final Position entry = zeebeIndexAdapter.lookup(position / 10);
+                if (entry != null && entry.position() != entry.index() * 2) {
+                  failure.set("Expected position of index " + entry.index() + " but got " + entry);
+                }
+              }
+            });
+    reader.start();
+
+    // when
+    try {
+      for (long index = 1; index <= 10_000; index++) {
+        zeebeIndexAdapter.index(asZeebeEntry(index, index * 10), (int) index * 2);
+
+        if (index % 100 == 0) {
+          zeebeIndexAdapter.truncate(index - 10);
+          for (long truncated = index - 9; truncated <= index; truncated++) {
+            zeebeIndexAdapter.index(asZeebeEntry(truncated, truncated * 10), (int) truncated * 2);
+          }
+        }
+
+        if (index % 1_000 == 0) {
+          zeebeIndexAdapter.compact(index - 500);
+        }
+      }
+    } finally {
+      isWriting.set(false);
+      reader.join();
+    }
+
+    // then
+    assertThat(failure.get()).isNull();
+    assertThat(zeebeIndexAdapter.lookupPosition(100_000)).isEqualTo(10_000);
+  }
+
   private static Indexed asZeebeEntry(final long index, final long lowestPos) {
     return new Indexed(
         index,
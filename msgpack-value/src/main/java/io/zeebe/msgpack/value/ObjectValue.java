@@ -14,6 +14,7 @@ import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
@@ -22,8 +23,14 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing index over the keys of the declared properties, built lazily on first read;
+  // a slot holds the property index + 1, or 0 if it is empty
+  private int[] propertyIndexSlots;
+  private int[] declaredKeyHashes;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndexSlots = null;
     return this;
   }
 
@@ -86,24 +93,34 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    final int declaredSize = declaredProperties.size();
+    int expectedIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
+      // fast path: the properties are usually written in the order they are declared
+      if (expectedIndex < declaredSize) {
+        final BaseProperty<? extends BaseValue> expectedProperty =
+            declaredProperties.get(expectedIndex);
 
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
+        if (expectedProperty.getKey().equals(decodedKey)) {
+          prop = expectedProperty;
+          expectedIndex++;
         }
       }
 
       if (prop == null) {
-        prop = newUndeclaredProperty(decodedKey);
+        final int index = indexOfDeclaredProperty(decodedKey);
+
+        if (index >= 0) {
+          prop = declaredProperties.get(index);
+          expectedIndex = index + 1;
+        } else {
+          prop = newUndeclaredProperty(decodedKey);
+        }
       }
 
       try {
@@ -123,6 +140,56 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int indexOfDeclaredProperty(final StringValue key) {
+    if (propertyIndexSlots == null) {
+      buildPropertyIndex();
+    }
+
+    final int hash = hashKey(key.getValue(), key.getLength());
+    final int mask = propertyIndexSlots.length - 1;
+
+    for (int slot = hash & mask; propertyIndexSlots[slot] != 0; slot = (slot + 1) & mask) {
+      final int index = propertyIndexSlots[slot] - 1;
+
+      if (declaredKeyHashes[index] == hash && declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private void buildPropertyIndex() {
+    final int size = declaredProperties.size();
+    // keep the load factor at or below 0.5 so that probe sequences stay short
+    final int[] slots = new int[Integer.highestOneBit(Math.max(size, 1)) << 2];
+    final int[] hashes = new int[size];
+    final int mask = slots.length - 1;
+
+    for (int index = 0; index < size; index++) {
+      final StringValue key = declaredProperties.get(index).getKey();
+      final int hash = hashKey(key.getValue(), key.getLength());
+      hashes[index] = hash;
+
+      int slot = hash & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = index + 1;
+    }
+
+    declaredKeyHashes = hashes;
+    propertyIndexSlots = slots;
+  }
+
+  private static int hashKey(final DirectBuffer buffer, final int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + buffer.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
@@ -143,6 +143,58 @@ public final class ObjectMappingTest {
     assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
   }
 
+  @Test
+  public void shouldDeserializePOJOInDeclarationOrderWithUndeclaredPropertiesInBetween() {
+    // given
+    final POJO pojo = new POJO();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(9);
+
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.FOO.toString()));
+
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(88888L);
+
+              w.writeString(wrapString("undeclaredProp"));
+              w.writeInteger(1L);
+
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+
+              w.writeString(wrapString("stringProp"));
+              w.writeString(BUF1);
+
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(MSGPACK_BUF1);
+
+              w.writeString(wrapString("stringPro"));
+              w.writeInteger(2L);
+
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BUF2);
+
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(MSGPACK_BUF3);
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.FOO);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+    assertThat(pojo.getLength()).isEqualTo(buffer.capacity());
+  }
+
   @Test
   public void shouldNotDeserializePOJOWithWrongValueType() {
     // given
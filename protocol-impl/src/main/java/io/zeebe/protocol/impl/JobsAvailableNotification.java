@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl;
+
+import java.util.Objects;
+
+/**
+ * Notification which is sent by a partition when jobs of a type become available again. Each job
+ * type has its own topic, such that only gateways which wait for jobs of that type receive it.
+ */
+public final class JobsAvailableNotification {
+
+  /**
+   * Topic which gateways of previous versions subscribe to. The message on this topic is only the
+   * job type.
+   */
+  public static final String LEGACY_TOPIC = "jobsAvailable";
+
+  private static final String TOPIC_PREFIX = "jobsAvailable-";
+  private static final char SEPARATOR = ':';
+
+  private final String jobType;
+  private final int partitionId;
+  private final int count;
+
+  public JobsAvailableNotification(final String jobType, final int partitionId, final int count) {
+    this.jobType = jobType;
+    this.partitionId = partitionId;
+    this.count = count;
+  }
+
+  /**
+   * @param jobType the job type
+   * @return the topic on which notifications for the given job type are published
+   */
+  public static String topicOf(final String jobType) {
+    return TOPIC_PREFIX + jobType;
+  }
+
+  /**
+   * @param message an encoded notification, as created by {@link #encode()}
+   * @return the decoded notification
+   * @throws IllegalArgumentException if the message is not a valid notification
+   */
+  public static JobsAvailableNotification decode(final String message) {
+    final int partitionIdEnd = message.indexOf(SEPARATOR);
+    final int countEnd = message.indexOf(SEPARATOR, partitionIdEnd + 1);
+    if (partitionIdEnd < 0 || countEnd < 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected a jobs available notification, but got '%s'", message));
+    }
+
+    final int partitionId = Integer.parseInt(message.substring(0, partitionIdEnd));
+    final int count = Integer.parseInt(message.substring(partitionIdEnd + 1, countEnd));
+    final String jobType = message.substring(countEnd + 1);
+    return new JobsAvailableNotification(jobType, partitionId, count);
+  }
+
+  /** @return the notification as message, with the job type last as it may contain separators */
+  public String encode() {
+    return String.valueOf(partitionId) + SEPARATOR + count + SEPARATOR + jobType;
+  }
+
+  public String getJobType() {
+    return jobType;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  /** @return the approximate number of times jobs became available since the last notification */
+  public int getCount() {
+    return count;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(jobType, partitionId, count);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobsAvailableNotification that = (JobsAvailableNotification) o;
+    return partitionId == that.partitionId
+        && count == that.count
+        && Objects.equals(jobType, that.jobType);
+  }
+
+  @Override
+  public String toString() {
+    return "JobsAvailableNotification{"
+        + "jobType='"
+        + jobType
+        + '\''
+        + ", partitionId="
+        + partitionId
+        + ", count="
+        + count
+        + '}';
+  }
+}
@@ -39,6 +39,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>("variables", new StringValue());
   private final BooleanProperty truncatedProp = new BooleanProperty("truncated", false);
+  private final ArrayProperty<JobBatchRejection> rejectionsProp =
+      new ArrayProperty<>("rejections", new JobBatchRejection());
 
   public JobBatchRecord() {
     declareProperty(typeProp)
@@ -48,7 +50,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobKeysProp)
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
-        .declareProperty(truncatedProp);
+        .declareProperty(truncatedProp)
+        .declareProperty(rejectionsProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -73,6 +76,11 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return variablesProp;
   }
 
+  /** @return the jobs of a complete or fail command which were rejected */
+  public ValueArray<JobBatchRejection> rejections() {
+    return rejectionsProp;
+  }
+
   public boolean getTruncated() {
     return truncatedProp.getValue();
   }
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.record.value.job;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.EnumProperty;
+import io.zeebe.msgpack.property.LongProperty;
+import io.zeebe.msgpack.property.StringProperty;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.util.buffer.BufferUtil;
+
+/** The rejection of a single job of a job batch command, e.g. if the job doesn't exist. */
+public final class JobBatchRejection extends UnpackedObject {
+
+  private final LongProperty jobKeyProp = new LongProperty("jobKey");
+  private final EnumProperty<RejectionType> rejectionTypeProp =
+      new EnumProperty<>("rejectionType", RejectionType.class);
+  private final StringProperty rejectionReasonProp = new StringProperty("rejectionReason", "");
+
+  public JobBatchRejection() {
+    declareProperty(jobKeyProp)
+        .declareProperty(rejectionTypeProp)
+        .declareProperty(rejectionReasonProp);
+  }
+
+  public long getJobKey() {
+    return jobKeyProp.getValue();
+  }
+
+  public JobBatchRejection setJobKey(final long jobKey) {
+    jobKeyProp.setValue(jobKey);
+    return this;
+  }
+
+  public RejectionType getRejectionType() {
+    return rejectionTypeProp.getValue();
+  }
+
+  public JobBatchRejection setRejectionType(final RejectionType rejectionType) {
+    rejectionTypeProp.setValue(rejectionType);
+    return this;
+  }
+
+  public String getRejectionReason() {
+    return BufferUtil.bufferAsString(rejectionReasonProp.getValue());
+  }
+
+  public JobBatchRejection setRejectionReason(final String rejectionReason) {
+    rejectionReasonProp.setValue(rejectionReason);
+    return this;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+public final class JobsAvailableNotificationTest {
+
+  @Test
+  public void shouldEncodeAndDecode() {
+    // given
+    final var notification = new JobsAvailableNotification("type", 3, 5);
+
+    // when
+    final var decoded = JobsAvailableNotification.decode(notification.encode());
+
+    // then
+    assertThat(decoded).isEqualTo(notification);
+    assertThat(decoded.getJobType()).isEqualTo("type");
+    assertThat(decoded.getPartitionId()).isEqualTo(3);
+    assertThat(decoded.getCount()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldDecodeJobTypeWithSeparator() {
+    // given
+    final var notification = new JobsAvailableNotification("ns:type:v1", 1, 1);
+
+    // when
+    final var decoded = JobsAvailableNotification.decode(notification.encode());
+
+    // then
+    assertThat(decoded.getJobType()).isEqualTo("ns:type:v1");
+  }
+
+  @Test
+  public void shouldUseTopicPerJobType() {
+    assertThat(JobsAvailableNotification.topicOf("foo"))
+        .isNotEqualTo(JobsAvailableNotification.topicOf("bar"));
+  }
+
+  @Test
+  public void shouldRejectInvalidMessage() {
+    assertThatThrownBy(() -> JobsAvailableNotification.decode("type"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -106,10 +106,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return SUCCESS;
     }
 
+    final boolean isReference = SnapshotChunkUtil.isReference(snapshotChunk);
     final long expectedChecksum = snapshotChunk.getChecksum();
     final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
 
-    if (expectedChecksum != actualChecksum) {
+    if (!isReference && expectedChecksum != actualChecksum) {
       LOGGER.warn(
           "Expected to have checksum {} for snapshot chunk {} ({}), but calculated {}",
           expectedChecksum,
@@ -128,10 +129,20 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return FAILED;
     }
 
+    if (isReference) {
+      LOGGER.debug("Reuse snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      return linkReusedSnapshotChunk(snapshotChunk, snapshotFile);
+    }
+
     LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
   }
 
+  @Override
+  public ByteBuffer getReusableChunks() {
+    return SnapshotChunkManifest.encode(snapshotStore.getPoolEntryNames());
+  }
+
   private boolean isSnapshotChecksumInvalid(final long currentSnapshotChecksum) {
     if (expectedSnapshotChecksum == Long.MIN_VALUE) {
       expectedSnapshotChecksum = currentSnapshotChecksum;
@@ -173,10 +184,27 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private boolean writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
     Files.write(snapshotFile, snapshotChunk.getContent(), CREATE_NEW, StandardOpenOption.WRITE);
+    snapshotStore.getSnapshotMetrics().incrementTransferredBytes(snapshotChunk.getContent().length);
     LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
     return SUCCESS;
   }
 
+  private boolean linkReusedSnapshotChunk(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
+    if (!snapshotStore.linkPooledFile(
+        snapshotChunk.getChunkName(), snapshotChunk.getChecksum(), snapshotFile)) {
+      LOGGER.warn(
+          "Expected to reuse snapshot chunk {} ({}) from the local pool, but it is not pooled",
+          snapshotChunk.getChunkName(),
+          snapshotChunk.getSnapshotId());
+      return FAILED;
+    }
+
+    snapshotStore.getSnapshotMetrics().incrementReusedBytes(Files.size(snapshotFile));
+    LOGGER.trace("Linked reused snapshot chunk to file {}", snapshotFile);
+    return SUCCESS;
+  }
+
   @Override
   public void abort() {
     try {
@@ -13,9 +13,13 @@ import io.zeebe.snapshots.raft.SnapshotChunkReader;
 import io.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,10 +30,20 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Path directory;
   private final FileBasedSnapshotMetadata metadata;
+  // checksums of the files which are shared with other snapshots via the pool, by file name
+  private final Map<String, Long> pooledChecksums;
 
   FileBasedSnapshot(final Path directory, final FileBasedSnapshotMetadata metadata) {
+    this(directory, metadata, Map.of());
+  }
+
+  FileBasedSnapshot(
+      final Path directory,
+      final FileBasedSnapshotMetadata metadata,
+      final Map<String, Long> pooledChecksums) {
     this.directory = directory;
     this.metadata = metadata;
+    this.pooledChecksums = pooledChecksums;
   }
 
   public FileBasedSnapshotMetadata getMetadata() {
@@ -63,7 +77,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(directory, pooledChecksums);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -97,6 +111,18 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return metadata.getSnapshotIdAsString();
   }
 
+  @Override
+  public ByteBuffer getChunkManifest() {
+    return SnapshotChunkManifest.encode(getPoolEntryNames());
+  }
+
+  Set<String> getPoolEntryNames() {
+    final Set<String> entryNames = new HashSet<>();
+    pooledChecksums.forEach(
+        (fileName, checksum) -> entryNames.add(SnapshotFilePool.entryName(fileName, checksum)));
+    return entryNames;
+  }
+
   @Override
   public void close() {
     // nothing to be done
@@ -18,8 +18,10 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 import org.agrona.AsciiSequenceView;
@@ -35,6 +37,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
 
   private final Path directory;
+  private final Map<String, Long> pooledChecksums;
   private final NavigableSet<CharSequence> chunks;
   private final CharSequenceView chunkIdView;
 
@@ -42,9 +45,21 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private Set<String> reusableEntries = Set.of();
 
   FileBasedSnapshotChunkReader(final Path directory) throws IOException {
+    this(directory, Map.of());
+  }
+
+  /**
+   * @param directory the snapshot directory
+   * @param pooledChecksums the checksums of the pooled snapshot files, by file name, which may be
+   *     sent as reference chunks if the receiver has them as well
+   */
+  FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> pooledChecksums)
+      throws IOException {
     this.directory = directory;
+    this.pooledChecksums = pooledChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
@@ -85,6 +100,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return encodeChunkId(chunksView.first());
   }
 
+  @Override
+  public void reuseChunks(final ByteBuffer chunkManifest) {
+    reusableEntries = SnapshotChunkManifest.decode(chunkManifest);
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -103,7 +123,16 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    final var fileName = chunkName.toString();
+    final Long checksum = pooledChecksums.get(fileName);
+    if (checksum != null
+        && checksum != SnapshotChunkUtil.EMPTY_CHECKSUM
+        && reusableEntries.contains(SnapshotFilePool.entryName(fileName, checksum))) {
+      return SnapshotChunkUtil.createReferenceChunk(
+          fileName, snapshotID, totalCount, checksum, snapshotChecksum);
+    }
+
+    final var path = directory.resolve(fileName);
 
     try {
       return SnapshotChunkUtil.createSnapshotChunkFromFile(
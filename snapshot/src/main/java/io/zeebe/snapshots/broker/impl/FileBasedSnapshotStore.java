@@ -25,7 +25,9 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -49,6 +51,8 @@ public final class FileBasedSnapshotStore
   private final Set<PersistedSnapshotListener> listeners;
 
   private final SnapshotMetrics snapshotMetrics;
+  // immutable snapshot files shared by consecutive snapshots
+  private final SnapshotFilePool filePool;
 
   private final AtomicReference<FileBasedSnapshot> currentPersistedSnapshotRef;
   // used to write concurrently received snapshots in different pending directories
@@ -64,6 +68,9 @@ public final class FileBasedSnapshotStore
     receivingSnapshotStartCount = new AtomicLong();
 
     listeners = new CopyOnWriteArraySet<>();
+    filePool =
+        new SnapshotFilePool(
+            snapshotsDirectory.resolveSibling(FileBasedSnapshotStoreFactory.POOL_DIRECTORY));
 
     // load previous snapshots
     currentPersistedSnapshotRef = new AtomicReference<>(loadLatestSnapshot(snapshotsDirectory));
@@ -98,9 +105,51 @@ public final class FileBasedSnapshotStore
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    if (latestPersistedSnapshot != null) {
+      latestPersistedSnapshot =
+          new FileBasedSnapshot(
+              latestPersistedSnapshot.getDirectory(),
+              latestPersistedSnapshot.getMetadata(),
+              poolSnapshotFiles(latestPersistedSnapshot.getDirectory()));
+      filePool.retainOnly(latestPersistedSnapshot.getPoolEntryNames());
+    }
     return latestPersistedSnapshot;
   }
 
+  /**
+   * Adds the poolable files of the given snapshot to the pool, such that they are shared with other
+   * snapshots and can be reused by receivers.
+   *
+   * @return the checksums of all pooled files of the snapshot, by file name
+   */
+  private Map<String, Long> poolSnapshotFiles(final Path snapshotDirectory) {
+    final Map<String, Long> pooledChecksums = new HashMap<>();
+    final Set<String> previousEntryNames = filePool.getEntryNames();
+    var incrementalSize = 0L;
+
+    try (final var files =
+        Files.newDirectoryStream(snapshotDirectory, SnapshotFilePool::isPoolable)) {
+      for (final var file : files) {
+        final String fileName = file.getFileName().toString();
+        try {
+          final long checksum = filePool.add(file);
+          pooledChecksums.put(fileName, checksum);
+          if (!previousEntryNames.contains(SnapshotFilePool.entryName(fileName, checksum))) {
+            incrementalSize += Files.size(file);
+          }
+        } catch (final IOException e) {
+          LOGGER.warn("Failed to pool snapshot file {}, it will not be reused", file, e);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to pool files of snapshot {}", snapshotDirectory, e);
+    }
+
+    snapshotMetrics.observeSnapshotIncrementalSize(incrementalSize);
+    return pooledChecksums;
+  }
+
   private FileBasedSnapshot collectSnapshot(final Path path) {
     final var optionalMeta = FileBasedSnapshotMetadata.ofPath(path);
     if (optionalMeta.isPresent()) {
@@ -167,6 +216,8 @@ public final class FileBasedSnapshotStore
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    filePool.retainOnly(Set.of());
   }
 
   @Override
@@ -311,7 +362,8 @@ public final class FileBasedSnapshotStore
       throw new UncheckedIOException(e);
     }
 
-    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata);
+    final var newPersistedSnapshot =
+        new FileBasedSnapshot(destination, metadata, poolSnapshotFiles(destination));
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -335,6 +387,7 @@ public final class FileBasedSnapshotStore
       LOGGER.debug("Deleting snapshot {}", currentPersistedSnapshot);
       currentPersistedSnapshot.delete();
     }
+    filePool.retainOnly(newPersistedSnapshot.getPoolEntryNames());
     purgePendingSnapshots(newPersistedSnapshot.getMetadata());
 
     listeners.forEach(listener -> listener.onNewSnapshot(newPersistedSnapshot));
@@ -369,6 +422,20 @@ public final class FileBasedSnapshotStore
     return snapshotsDirectory.resolve(metadata.getSnapshotIdAsString());
   }
 
+  /**
+   * Links the pooled file with the given name and checksum into the given target path.
+   *
+   * @return true if the file was linked, false if it is not in the pool
+   */
+  boolean linkPooledFile(final String fileName, final long checksum, final Path target)
+      throws IOException {
+    return filePool.link(fileName, checksum, target);
+  }
+
+  Set<String> getPoolEntryNames() {
+    return filePool.getEntryNames();
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
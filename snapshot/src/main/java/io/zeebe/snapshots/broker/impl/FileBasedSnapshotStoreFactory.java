@@ -31,6 +31,7 @@ public final class FileBasedSnapshotStoreFactory
     implements SnapshotStoreSupplier, ReceivableSnapshotStoreFactory {
   public static final String SNAPSHOTS_DIRECTORY = "snapshots";
   public static final String PENDING_DIRECTORY = "pending";
+  public static final String POOL_DIRECTORY = "pool";
 
   private final Map<String, FileBasedSnapshotStore> partitionSnapshotStores = new HashMap();
 
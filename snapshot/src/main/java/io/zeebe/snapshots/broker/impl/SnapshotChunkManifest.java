@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.snapshots.broker.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Encodes a set of pool entry names, see {@link SnapshotFilePool#entryName(String, long)}, which is
+ * exchanged between sender and receiver of a snapshot to describe the chunks that do not need to be
+ * transferred again.
+ *
+ * <p>The layout is the number of entries, followed by each entry as its length and its ASCII bytes.
+ */
+final class SnapshotChunkManifest {
+
+  private SnapshotChunkManifest() {}
+
+  static ByteBuffer encode(final Collection<String> entryNames) {
+    int length = Integer.BYTES;
+    for (final String entryName : entryNames) {
+      length += Integer.BYTES + entryName.length();
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    buffer.putInt(entryNames.size());
+    for (final String entryName : entryNames) {
+      final byte[] bytes = entryName.getBytes(StandardCharsets.US_ASCII);
+      buffer.putInt(bytes.length).put(bytes);
+    }
+
+    return buffer.flip();
+  }
+
+  static Set<String> decode(final ByteBuffer manifest) {
+    final ByteBuffer buffer = manifest.duplicate();
+    final int count = buffer.getInt();
+    final Set<String> entryNames = new HashSet<>(count);
+    for (int i = 0; i < count; i++) {
+      final byte[] bytes = new byte[buffer.getInt()];
+      buffer.get(bytes);
+      entryNames.add(new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    return entryNames;
+  }
+}
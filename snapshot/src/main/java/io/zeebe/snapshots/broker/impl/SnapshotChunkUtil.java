@@ -15,6 +15,9 @@ import java.util.zip.CRC32;
 
 final class SnapshotChunkUtil {
 
+  /** the checksum of an empty chunk, which a reference chunk never has */
+  static final long EMPTY_CHECKSUM = createChecksum(new byte[0]);
+
   private SnapshotChunkUtil() {}
 
   static long createChecksum(final byte[] content) {
@@ -36,6 +39,29 @@ final class SnapshotChunkUtil {
         snapshotId, totalCount, snapshotChunkFile.getName(), checksum, content, snapshotChecksum);
   }
 
+  /**
+   * Creates a chunk which only references a file the receiver already has in its {@link
+   * SnapshotFilePool}, identified by the chunk name and checksum, instead of carrying its content.
+   */
+  static SnapshotChunk createReferenceChunk(
+      final String chunkName,
+      final String snapshotId,
+      final int totalCount,
+      final long checksum,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, chunkName, checksum, new byte[0], snapshotChecksum);
+  }
+
+  /**
+   * A reference chunk has no content, but the checksum of the referenced file. As only files with a
+   * checksum different from {@link #EMPTY_CHECKSUM} are ever referenced, it can't be confused with
+   * an empty file.
+   */
+  static boolean isReference(final SnapshotChunk chunk) {
+    return chunk.getContent().length == 0 && chunk.getChecksum() != EMPTY_CHECKSUM;
+  }
+
   private static final class SnapshotChunkImpl implements SnapshotChunk {
     private final String snapshotId;
     private final int totalCount;
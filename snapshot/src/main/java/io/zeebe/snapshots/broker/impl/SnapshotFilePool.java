@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.snapshots.broker.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A content addressed pool of immutable snapshot files, shared by consecutive snapshots via hard
+ * links. RocksDB never modifies an SST file once it was written, so an SST file which is part of
+ * two snapshots is stored only once on disk, and a receiver which already has a file in its pool
+ * does not need it to be transferred again.
+ *
+ * <p>Entries are addressed by the file name and its checksum, as file names alone are only unique
+ * within the database which created them: after a fail over, the new leader may well produce a
+ * different file with a name the followers already know.
+ *
+ * <p>The pool only keeps the files referenced by the latest snapshot, see {@link #retainOnly(Set)}.
+ */
+final class SnapshotFilePool {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotFilePool.class);
+  private static final String POOLED_FILE_EXTENSION = ".sst";
+  private static final char CHECKSUM_SEPARATOR = '.';
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final Path directory;
+  // file name -> checksums of the pooled versions of that file
+  private final Map<String, Set<Long>> entries = new HashMap<>();
+
+  SnapshotFilePool(final Path directory) {
+    this.directory = directory;
+    IoUtil.ensureDirectoryExists(directory.toFile(), "Snapshot file pool directory");
+    loadEntries();
+  }
+
+  static boolean isPoolable(final Path file) {
+    return file.getFileName().toString().endsWith(POOLED_FILE_EXTENSION);
+  }
+
+  static String entryName(final String fileName, final long checksum) {
+    return fileName + CHECKSUM_SEPARATOR + Long.toHexString(checksum);
+  }
+
+  static long computeChecksum(final Path file) throws IOException {
+    final CRC32 crc32 = new CRC32();
+    final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    try (final InputStream input = Files.newInputStream(file)) {
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        crc32.update(buffer, 0, read);
+      }
+    }
+    return crc32.getValue();
+  }
+
+  /**
+   * Adds the given snapshot file to the pool. If an equal file is already pooled, the snapshot file
+   * is replaced by a link to it, otherwise the file becomes a new pool entry.
+   *
+   * @param file the snapshot file to pool
+   * @return the checksum of the file
+   * @throws IOException if the file could not be read or linked
+   */
+  synchronized long add(final Path file) throws IOException {
+    final String fileName = file.getFileName().toString();
+    final var checksums = entries.computeIfAbsent(fileName, name -> new HashSet<>());
+
+    // the RocksDB checkpoint hard links the files of the runtime database, so a file which did not
+    // change since the last snapshot is usually the very same file we already pooled
+    for (final long checksum : checksums) {
+      if (isSameFile(resolve(fileName, checksum), file)) {
+        return checksum;
+      }
+    }
+
+    final long checksum = computeChecksum(file);
+    final Path entry = resolve(fileName, checksum);
+    try {
+      Files.createLink(entry, file);
+    } catch (final FileAlreadyExistsException e) {
+      replaceWithLink(file, entry);
+    }
+
+    checksums.add(checksum);
+    return checksum;
+  }
+
+  /**
+   * Links the pooled file with the given name and checksum to the target path.
+   *
+   * @return true if the file was linked, false if there is no such file in the pool
+   */
+  synchronized boolean link(final String fileName, final long checksum, final Path target)
+      throws IOException {
+    final var checksums = entries.get(fileName);
+    if (checksums == null || !checksums.contains(checksum)) {
+      return false;
+    }
+
+    try {
+      Files.createLink(target, resolve(fileName, checksum));
+      return true;
+    } catch (final NoSuchFileException e) {
+      LOGGER.debug("Expected to link pooled file {}, but it was already removed", fileName, e);
+      checksums.remove(checksum);
+      return false;
+    }
+  }
+
+  /** @return the names of all entries of the pool, see {@link #entryName(String, long)} */
+  synchronized Set<String> getEntryNames() {
+    final Set<String> names = new HashSet<>();
+    entries.forEach(
+        (fileName, checksums) ->
+            checksums.forEach(checksum -> names.add(entryName(fileName, checksum))));
+    return names;
+  }
+
+  /**
+   * Removes all entries from the pool which are not part of the given set. Snapshots which still
+   * link to a removed entry are not affected, as the file is only deleted with its last link.
+   *
+   * @param retainedEntryNames the entry names which should be kept in the pool
+   */
+  synchronized void retainOnly(final Set<String> retainedEntryNames) {
+    for (final var iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+      final var fileEntries = iterator.next();
+      final String fileName = fileEntries.getKey();
+      fileEntries
+          .getValue()
+          .removeIf(checksum -> tryRemove(fileName, checksum, retainedEntryNames));
+
+      if (fileEntries.getValue().isEmpty()) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private boolean tryRemove(
+      final String fileName, final long checksum, final Set<String> retainedEntryNames) {
+    if (retainedEntryNames.contains(entryName(fileName, checksum))) {
+      return false;
+    }
+
+    try {
+      Files.deleteIfExists(resolve(fileName, checksum));
+      return true;
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to remove pooled snapshot file {}", fileName, e);
+      return false;
+    }
+  }
+
+  private boolean isSameFile(final Path entry, final Path file) throws IOException {
+    try {
+      return Files.isSameFile(entry, file);
+    } catch (final NoSuchFileException e) {
+      return false;
+    }
+  }
+
+  private void replaceWithLink(final Path file, final Path entry) throws IOException {
+    final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    Files.deleteIfExists(tmp);
+    Files.createLink(tmp, entry);
+    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private Path resolve(final String fileName, final long checksum) {
+    return directory.resolve(entryName(fileName, checksum));
+  }
+
+  private void loadEntries() {
+    try (final var files = Files.newDirectoryStream(directory)) {
+      for (final var file : files) {
+        final String name = file.getFileName().toString();
+        final int separator = name.lastIndexOf(CHECKSUM_SEPARATOR);
+        try {
+          final long checksum = Long.parseUnsignedLong(name.substring(separator + 1), 16);
+          entries
+              .computeIfAbsent(name.substring(0, separator), fileName -> new HashSet<>())
+              .add(checksum);
+        } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+          LOGGER.warn(
+              "Expected pooled snapshot file name to end with a checksum, but was {}", file);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to load snapshot file pool {}, starting with an empty pool", directory, e);
+    }
+  }
+}
@@ -37,6 +37,27 @@ public final class SnapshotMetrics {
           .name("snapshot_chunks_count")
           .help("Number of chunks in the last snapshot")
           .register();
+  private static final Gauge SNAPSHOT_INCREMENTAL_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_incremental_size_bytes")
+          .help("Size of the files of the last snapshot which were not shared with a previous one")
+          .register();
+  private static final Counter SNAPSHOT_TRANSFERRED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_transferred_bytes")
+          .help("Total size of the received snapshot chunks which were transferred with content")
+          .register();
+  private static final Counter SNAPSHOT_REUSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_reused_bytes")
+          .help("Total size of the received snapshot chunks which were reused from the local pool")
+          .register();
   private static final Histogram SNAPSHOT_DURATION =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -75,6 +96,18 @@ public final class SnapshotMetrics {
     SNAPSHOT_FILE_SIZE.labels(partitionId).observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeSnapshotIncrementalSize(final long sizeInBytes) {
+    SNAPSHOT_INCREMENTAL_SIZE.labels(partitionId).set(sizeInBytes);
+  }
+
+  void incrementTransferredBytes(final long bytes) {
+    SNAPSHOT_TRANSFERRED_BYTES.labels(partitionId).inc(bytes);
+  }
+
+  void incrementReusedBytes(final long bytes) {
+    SNAPSHOT_REUSED_BYTES.labels(partitionId).inc(bytes);
+  }
+
   Timer startTimer() {
     return SNAPSHOT_DURATION.labels(partitionId).startTimer();
   }
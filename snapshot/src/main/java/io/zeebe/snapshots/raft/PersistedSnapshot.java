@@ -9,6 +9,7 @@ package io.zeebe.snapshots.raft;
 
 import io.atomix.utils.time.WallClockTimestamp;
 import io.zeebe.util.CloseableSilently;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
@@ -75,4 +76,14 @@ public interface PersistedSnapshot extends CloseableSilently {
 
   /** @return the identifier of the snapshot */
   String getId();
+
+  /**
+   * Returns a manifest of the chunks of this snapshot which can be reused by a later snapshot, see
+   * {@link SnapshotChunkReader#reuseChunks(ByteBuffer)}.
+   *
+   * @return the manifest of reusable chunks, or null if chunks can not be reused
+   */
+  default ByteBuffer getChunkManifest() {
+    return null;
+  }
 }
@@ -54,4 +54,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @return returns true if everything succeeds, false otherwise
    */
   boolean apply(SnapshotChunk chunk) throws IOException;
+
+  /**
+   * Returns a manifest of the chunks which the receiver already has locally, and which therefore do
+   * not need to be transferred, see {@link SnapshotChunkReader#reuseChunks(ByteBuffer)}.
+   *
+   * @return the manifest of reusable chunks, or null if chunks can not be reused
+   */
+  default ByteBuffer getReusableChunks() {
+    return null;
+  }
 }
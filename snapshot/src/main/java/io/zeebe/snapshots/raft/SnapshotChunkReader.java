@@ -32,4 +32,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Marks the chunks described by the given manifest as already present at the receiver. Such
+   * chunks are still returned by {@link #next()}, but only as a reference without content, which
+   * the receiver resolves locally. Implementations which do not support this may ignore it.
+   *
+   * @param chunkManifest the chunks known to the receiver, as returned by {@link
+   *     ReceivedSnapshot#getReusableChunks()} or {@link PersistedSnapshot#getChunkManifest()}
+   */
+  default void reuseChunks(final ByteBuffer chunkManifest) {}
 }
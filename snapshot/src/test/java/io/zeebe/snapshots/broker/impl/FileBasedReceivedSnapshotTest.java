@@ -21,6 +21,7 @@ import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import io.zeebe.snapshots.raft.ReceivedSnapshot;
+import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
@@ -28,6 +29,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -587,6 +589,57 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldOnlyTransferChunksMissingAtReceiver() throws Exception {
+    // given
+    final var firstSnapshot =
+        takeSnapshot(1L, 0L, List.of("1.sst", "2.sst", "CURRENT"), List.of("a", "b", "c1"));
+    receiveSnapshot(firstSnapshot).persist();
+    final var secondSnapshot =
+        takeSnapshot(2L, 0L, List.of("1.sst", "3.sst", "CURRENT"), List.of("a", "c", "c2"));
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+
+    // when
+    final List<SnapshotChunk> chunks = new ArrayList<>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.reuseChunks(receivedSnapshot.getReusableChunks());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        chunks.add(chunk);
+        assertThat(receivedSnapshot.apply(chunk)).isTrue();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(chunks)
+        .filteredOn(chunk -> chunk.getContent().length == 0)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("1.sst");
+    assertThat(persistedSnapshot.getPath().resolve("1.sst")).hasContent("a");
+    assertThat(persistedSnapshot.getPath().resolve("3.sst")).hasContent("c");
+    assertThat(persistedSnapshot.getPath().resolve("CURRENT")).hasContent("c2");
+  }
+
+  @Test
+  public void shouldNotApplyReferenceToChunkWhichIsNotPooled() throws Exception {
+    // given
+    final var persistedSnapshot = takeSnapshot(1L, 0L, List.of("1.sst"), List.of("a"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      // the sender wrongly assumes the receiver has all chunks
+      snapshotChunkReader.reuseChunks(persistedSnapshot.getChunkManifest());
+
+      // when
+      final var success = receivedSnapshot.apply(snapshotChunkReader.next());
+
+      // then
+      assertThat(success).isFalse();
+    }
+  }
+
   private ReceivedSnapshot takeAndReceiveSnapshot(final long index, final long term)
       throws IOException {
     final PersistedSnapshot persistedSnapshot = takeSnapshot(index, term);
@@ -601,6 +654,17 @@ public class FileBasedReceivedSnapshotTest {
     return transientSnapshot.persist();
   }
 
+  private PersistedSnapshot takeSnapshot(
+      final long index,
+      final long term,
+      final List<String> fileNames,
+      final List<String> fileContents) {
+    final var transientSnapshot =
+        senderSnapshotStore.newTransientSnapshot(index, term, index, 0).orElseThrow();
+    transientSnapshot.take(path -> takeSnapshot(path, fileNames, fileContents));
+    return transientSnapshot.persist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot)
       throws IOException {
     final var receivedSnapshot =
@@ -12,6 +12,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 import io.atomix.utils.time.WallClockTimestamp;
+import io.zeebe.snapshots.broker.ConstructableSnapshotStore;
+import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
@@ -133,6 +135,75 @@ public class FileBasedSnapshotStoreTest {
         .containsExactly(snapshotStore.getLatestSnapshot().get().getId());
   }
 
+  @Test
+  public void shouldShareUnchangedSstFilesBetweenSnapshots() throws IOException {
+    // given
+    final var store = factory.getConstructableSnapshotStore(partitionName);
+    final var firstSnapshot =
+        takeSnapshot(store, 1L, List.of("1.sst", "2.sst", "CURRENT"), List.of("a", "b", "c1"));
+
+    // when
+    final var secondSnapshot =
+        takeSnapshot(store, 2L, List.of("1.sst", "3.sst", "CURRENT"), List.of("a", "c", "c2"));
+
+    // then
+    final var poolDir = root.toPath().resolve(FileBasedSnapshotStoreFactory.POOL_DIRECTORY);
+    assertThat(poolDir.toFile().list())
+        .containsExactlyInAnyOrder(
+            SnapshotFilePool.entryName("1.sst", SnapshotChunkUtil.createChecksum("a".getBytes())),
+            SnapshotFilePool.entryName("3.sst", SnapshotChunkUtil.createChecksum("c".getBytes())));
+    assertThat(firstSnapshot.getPath()).doesNotExist();
+    assertThat(
+            Files.isSameFile(
+                secondSnapshot.getPath().resolve("1.sst"),
+                poolDir.resolve(
+                    SnapshotFilePool.entryName(
+                        "1.sst", SnapshotChunkUtil.createChecksum("a".getBytes())))))
+        .isTrue();
+    assertThat(secondSnapshot.getPath().resolve("1.sst")).hasContent("a");
+  }
+
+  @Test
+  public void shouldRestorePoolOnLoadingExistingSnapshot() throws IOException {
+    // given
+    final var snapshot =
+        takeSnapshot(
+            factory.getConstructableSnapshotStore(partitionName),
+            1L,
+            List.of("1.sst", "CURRENT"),
+            List.of("a", "c1"));
+
+    // when
+    final var snapshotStore =
+        new FileBasedSnapshotStoreFactory()
+            .createReceivableSnapshotStore(root.toPath(), partitionName);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot().orElseThrow().getChunkManifest())
+        .isEqualTo(snapshot.getChunkManifest());
+  }
+
+  private PersistedSnapshot takeSnapshot(
+      final ConstructableSnapshotStore store,
+      final long index,
+      final List<String> fileNames,
+      final List<String> fileContents) {
+    final var transientSnapshot = store.newTransientSnapshot(index, 0, index, 0).orElseThrow();
+    transientSnapshot.take(
+        path -> {
+          try {
+            FileUtil.ensureDirectoryExists(path);
+            for (int i = 0; i < fileNames.size(); i++) {
+              Files.writeString(path.resolve(fileNames.get(i)), fileContents.get(i));
+            }
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          return true;
+        });
+    return transientSnapshot.persist();
+  }
+
   private boolean createSnapshotDir(final Path path) {
     try {
       FileUtil.ensureDirectoryExists(path);
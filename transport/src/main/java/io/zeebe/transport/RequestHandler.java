@@ -29,4 +29,11 @@ public interface RequestHandler {
       DirectBuffer buffer,
       int offset,
       int length);
+
+  /**
+   * Called after the requests which were queued at the time of the last {@link #onRequest} call
+   * were handled. Handlers which buffer the incoming requests can use this to process them
+   * together.
+   */
+  default void onRequestsHandled() {}
 }
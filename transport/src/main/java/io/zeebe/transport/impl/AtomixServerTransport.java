@@ -13,6 +13,8 @@ import io.zeebe.transport.ServerResponse;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
@@ -30,6 +32,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
   private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
       partitionsRequestMap;
+  private final List<RequestHandler> handlersToNotify = new ArrayList<>();
   private final AtomicLong requestCount;
   private final DirectBuffer reusableRequestBuffer;
   private final MessagingService messagingService;
@@ -118,6 +121,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
             }
             // we only add the request to the map after successful handling
             requestMap.put(requestId, completableFuture);
+            notifyRequestsHandled(requestHandler);
           } catch (final Exception exception) {
             LOG.error(
                 "Unexpected exception on handling request for partition {}.",
@@ -130,6 +134,29 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     return completableFuture;
   }
 
+  private void notifyRequestsHandled(final RequestHandler requestHandler) {
+    if (handlersToNotify.contains(requestHandler)) {
+      return;
+    }
+
+    if (handlersToNotify.isEmpty()) {
+      // submitted to the end of the queue, such that all requests which are already queued are
+      // handled before
+      actor.submit(
+          () -> {
+            for (int i = 0; i < handlersToNotify.size(); i++) {
+              try {
+                handlersToNotify.get(i).onRequestsHandled();
+              } catch (final Exception exception) {
+                LOG.error("Unexpected exception after handling requests.", exception);
+              }
+            }
+            handlersToNotify.clear();
+          });
+    }
+    handlersToNotify.add(requestHandler);
+  }
+
   @Override
   public void sendResponse(final ServerResponse response) {
     final var requestId = response.getRequestId();
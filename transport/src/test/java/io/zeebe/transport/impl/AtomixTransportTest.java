@@ -174,6 +174,32 @@ public class AtomixTransportTest {
     assertThat(incomingRequestFuture.join()).isEqualTo("messageABC".getBytes());
   }
 
+  @Test
+  public void shouldNotifyHandlerAfterHandlingRequests() {
+    // given
+    final var handledRequests = new CompletableFuture<Void>();
+    serverTransport
+        .subscribe(
+            0,
+            new DirectlyResponder() {
+              @Override
+              public void onRequestsHandled() {
+                handledRequests.complete(null);
+              }
+            })
+        .join();
+
+    // when
+    final var requestFuture =
+        clientTransport.sendRequestWithRetry(
+            nodeAddressSupplier, new Request("messageABC"), REQUEST_TIMEOUT);
+
+    // then
+    requestFuture.join();
+    handledRequests.join();
+    assertThat(handledRequests).isCompleted();
+  }
+
   @Test
   public void shouldRetryOnInvalidResponse() throws Exception {
     // given
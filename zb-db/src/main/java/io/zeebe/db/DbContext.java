@@ -102,4 +102,13 @@ public interface DbContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Returns the version of the transaction, which changes whenever the transaction is committed or
+   * rolled back, including a rollback to a save point. Values which are read from the database can
+   * be cached as long as the version doesn't change, if no one else writes them.
+   *
+   * @return the current version of the transaction
+   */
+  long getTransactionVersion();
 }
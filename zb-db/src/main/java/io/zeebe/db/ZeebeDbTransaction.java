@@ -38,4 +38,33 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction. A later call of {@link #rollbackToSavePoint()}
+   * discards only the changes which are made after this point.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point, discards all changes which are made after
+   * {@link #setSavePoint()} was called. The changes before the save point are kept in the
+   * transaction.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavePoint() throws Exception;
+
+  /**
+   * Enables or disables the tracking of written keys. The tracked keys are used to detect conflicts
+   * with other writers on commit. If the caller is the only writer of the database, then the
+   * tracking can be disabled to reduce the overhead of large transactions.
+   *
+   * @param trackWrites <code>true</code> if the written keys should be checked for conflicts on
+   *     commit
+   */
+  void setTrackWrites(boolean trackWrites);
 }
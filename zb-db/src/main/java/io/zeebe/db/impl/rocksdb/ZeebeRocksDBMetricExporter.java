@@ -9,6 +9,7 @@ package io.zeebe.db.impl.rocksdb;
 
 import io.prometheus.client.Gauge;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +76,20 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final String CACHE_METRICS_HELP =
+      "Statistics of the state cache in front of RocksDB per column family and partition";
+  private static final String CACHE_METRICS_PREFIX = "rocksdb";
+  private static final RocksDBMetric[] CACHE_METRICS = {
+    new RocksDBMetric(
+        ZeebeTransactionDb.CACHE_HITS_PROPERTY, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+    new RocksDBMetric(
+        ZeebeTransactionDb.CACHE_MISSES_PROPERTY, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+    new RocksDBMetric(
+        ZeebeTransactionDb.CACHE_EVICTIONS_PROPERTY, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+    new RocksDBMetric(
+        ZeebeTransactionDb.CACHE_SIZE_PROPERTY, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+  };
+
   private final String partition;
   private final ZeebeDb<ColumnFamilyType> database;
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
@@ -96,6 +111,7 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
       exportMetrics(columnFamilyName, LIVE_METRICS);
       exportMetrics(columnFamilyName, SST_METRICS);
       exportMetrics(columnFamilyName, WRITE_METRICS);
+      exportMetrics(columnFamilyName, CACHE_METRICS);
     }
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
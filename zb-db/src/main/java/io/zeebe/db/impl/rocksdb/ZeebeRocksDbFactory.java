@@ -12,7 +12,10 @@ import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -31,26 +34,75 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
 
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
   private final Properties userProvidedColumnFamilyOptions;
+  private final Map<ColumnFamilyType, Integer> columnFamilyCacheSizes;
 
   private ZeebeRocksDbFactory(
       final Class<ColumnFamilyType> columnFamilyTypeClass,
-      final Properties userProvidedColumnFamilyOptions) {
+      final Properties userProvidedColumnFamilyOptions,
+      final Map<String, Integer> columnFamilyCacheSizes) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
     this.userProvidedColumnFamilyOptions = Objects.requireNonNull(userProvidedColumnFamilyOptions);
+    this.columnFamilyCacheSizes =
+        resolveColumnFamilyCacheSizes(
+            columnFamilyTypeClass, Objects.requireNonNull(columnFamilyCacheSizes));
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
     final var columnFamilyOptions = new Properties();
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, columnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, columnFamilyOptions, Collections.emptyMap());
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass,
           final Properties userProvidedColumnFamilyOptions) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, userProvidedColumnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, userProvidedColumnFamilyOptions, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a factory for databases with a write-through cache in front of the given column
+   * families. The cache avoids reading hot keys from RocksDB again and again.
+   *
+   * @param columnFamilyCacheSizes the maximum count of cached entries per column family, the keys
+   *     are the names of the column families (case-insensitive, dots are treated as underscores)
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Properties userProvidedColumnFamilyOptions,
+          final Map<String, Integer> columnFamilyCacheSizes) {
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, userProvidedColumnFamilyOptions, columnFamilyCacheSizes);
+  }
+
+  private static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      Map<ColumnFamilyType, Integer> resolveColumnFamilyCacheSizes(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Map<String, Integer> columnFamilyCacheSizes) {
+    final Map<ColumnFamilyType, Integer> cacheSizes = new EnumMap<>(columnFamilyTypeClass);
+    columnFamilyCacheSizes.forEach(
+        (name, cacheSize) -> {
+          final String normalizedName = name.replace('.', '_');
+          final ColumnFamilyType columnFamily =
+              Arrays.stream(columnFamilyTypeClass.getEnumConstants())
+                  .filter(c -> c.name().equalsIgnoreCase(normalizedName))
+                  .findFirst()
+                  .orElseThrow(
+                      () ->
+                          new IllegalArgumentException(
+                              String.format(
+                                  "Expected to configure the cache of an existing column family, but no column family with name '%s' exists",
+                                  name)));
+
+          if (cacheSize != null && cacheSize > 0) {
+            cacheSizes.put(columnFamily, cacheSize);
+          }
+        });
+    return cacheSizes;
   }
 
   @Override
@@ -89,7 +141,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               dbDirectory.getAbsolutePath(),
               columnFamilyDescriptors,
               closeables,
-              columnFamilyTypeClass);
+              columnFamilyTypeClass,
+              columnFamilyCacheSizes);
 
     } catch (final RocksDBException e) {
       throw new RuntimeException("Unexpected error occurred trying to open the database", e);
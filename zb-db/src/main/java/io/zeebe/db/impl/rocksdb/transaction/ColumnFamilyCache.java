@@ -0,0 +1,224 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2IntHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the committed key-value pairs of one column family, to avoid the JNI call into RocksDB for
+ * keys which are read often. The keys and values are stored in off-heap buffers, which are reused
+ * for new entries. If the cache is full, then an entry is evicted by the CLOCK algorithm.
+ *
+ * <p>The cache contains only committed state. The uncommitted writes of a transaction are kept in
+ * the {@link PendingWrites} of the transaction and published to the cache on commit.
+ *
+ * <p>The cache can be accessed by different transactions, which can run on different threads.
+ * Therefore, all methods are synchronized.
+ */
+final class ColumnFamilyCache implements AutoCloseable {
+
+  private static final int MISSING_SLOT = -1;
+  private static final int MIN_BUFFER_CAPACITY = 64;
+
+  private final int capacity;
+  private final Object2IntHashMap<DirectBuffer> slotByKey;
+  private final UnsafeBuffer[] keys;
+  private final UnsafeBuffer[] values;
+  private final int[] valueLengths;
+  private final boolean[] referenced;
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+
+  private int size;
+  private int clockHand;
+  private long version;
+
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  ColumnFamilyCache(final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          String.format("Expected cache capacity to be at least 1, but was %d", capacity));
+    }
+
+    this.capacity = capacity;
+    slotByKey = new Object2IntHashMap<>(capacity * 2, 0.65f, MISSING_SLOT);
+    keys = new UnsafeBuffer[capacity];
+    values = new UnsafeBuffer[capacity];
+    valueLengths = new int[capacity];
+    referenced = new boolean[capacity];
+  }
+
+  /**
+   * @return a copy of the cached value of the given key, or <code>null</code> if the key is not
+   *     cached
+   */
+  synchronized byte[] get(final byte[] key, final int keyLength) {
+    keyView.wrap(key, 0, keyLength);
+    final int slot = slotByKey.getValue(keyView);
+    if (slot == MISSING_SLOT) {
+      misses += 1;
+      return null;
+    }
+
+    hits += 1;
+    referenced[slot] = true;
+
+    final byte[] value = new byte[valueLengths[slot]];
+    values[slot].getBytes(0, value);
+    return value;
+  }
+
+  /**
+   * The version is incremented on every change of the cache. It is used to detect whether a value
+   * which was read from the database is still up-to-date when it should be added to the cache.
+   *
+   * @return the current version of the cache
+   */
+  synchronized long getVersion() {
+    return version;
+  }
+
+  /**
+   * Adds the given key-value pair to the cache, if the cache was not changed since the given
+   * version. Otherwise, the value may be outdated already and is not added.
+   */
+  synchronized void putIfUnchanged(
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength,
+      final long expectedVersion) {
+    if (version == expectedVersion) {
+      put(key, keyLength, value, valueLength);
+    }
+  }
+
+  synchronized void put(
+      final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    version += 1;
+
+    keyView.wrap(key, 0, keyLength);
+    int slot = slotByKey.getValue(keyView);
+    if (slot == MISSING_SLOT) {
+      slot = nextFreeSlot();
+      keys[slot] = copyInto(keys[slot], key, keyLength);
+      slotByKey.put(keys[slot], slot);
+    }
+
+    values[slot] = copyInto(values[slot], value, valueLength);
+    valueLengths[slot] = valueLength;
+    referenced[slot] = true;
+  }
+
+  synchronized void remove(final byte[] key, final int keyLength) {
+    version += 1;
+
+    keyView.wrap(key, 0, keyLength);
+    final int slot = slotByKey.removeKey(keyView);
+    if (slot != MISSING_SLOT) {
+      // move the last entry into the free slot, such that the first entries are always used
+      size -= 1;
+      moveSlot(size, slot);
+    }
+  }
+
+  synchronized long getHits() {
+    return hits;
+  }
+
+  synchronized long getMisses() {
+    return misses;
+  }
+
+  synchronized long getEvictions() {
+    return evictions;
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  @Override
+  public synchronized void close() {
+    slotByKey.clear();
+    for (int i = 0; i < capacity; i++) {
+      free(keys[i]);
+      free(values[i]);
+      keys[i] = null;
+      values[i] = null;
+    }
+    size = 0;
+  }
+
+  private int nextFreeSlot() {
+    if (size < capacity) {
+      return size++;
+    }
+
+    // CLOCK: evict the first entry which was not referenced since the hand passed it last time
+    while (referenced[clockHand]) {
+      referenced[clockHand] = false;
+      clockHand = (clockHand + 1) % capacity;
+    }
+
+    final int slot = clockHand;
+    clockHand = (clockHand + 1) % capacity;
+
+    slotByKey.removeKey(keys[slot]);
+    evictions += 1;
+    return slot;
+  }
+
+  private void moveSlot(final int from, final int to) {
+    if (from == to) {
+      return;
+    }
+
+    // swap the buffers to keep the allocated memory of both slots
+    final UnsafeBuffer freeKey = keys[to];
+    final UnsafeBuffer freeValue = values[to];
+
+    keys[to] = keys[from];
+    values[to] = values[from];
+    valueLengths[to] = valueLengths[from];
+    referenced[to] = referenced[from];
+    slotByKey.put(keys[to], to);
+
+    keys[from] = freeKey;
+    values[from] = freeValue;
+  }
+
+  private static UnsafeBuffer copyInto(
+      final UnsafeBuffer buffer, final byte[] source, final int length) {
+    UnsafeBuffer target = buffer;
+    if (target == null || target.byteBuffer().capacity() < length) {
+      free(target);
+      final int capacity =
+          BitUtil.findNextPositivePowerOfTwo(Math.max(length, MIN_BUFFER_CAPACITY));
+      target = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+    }
+
+    // the buffer is used as key in the index, which compares the capacity of the buffers
+    target.wrap(target.byteBuffer(), 0, length);
+    target.putBytes(0, source, 0, length);
+    return target;
+  }
+
+  private static void free(final UnsafeBuffer buffer) {
+    if (buffer != null) {
+      BufferUtil.free(buffer.byteBuffer());
+    }
+  }
+}
@@ -157,6 +157,11 @@ public final class DefaultDbContext implements DbContext {
     return transaction;
   }
 
+  @Override
+  public long getTransactionVersion() {
+    return transaction.getVersion();
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
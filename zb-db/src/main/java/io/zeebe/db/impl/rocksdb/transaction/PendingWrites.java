@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The uncommitted writes of a transaction to cached column families. Reads of the transaction have
+ * to see these writes, but other transactions not. On commit the writes are published to the {@link
+ * ColumnFamilyCache}, on rollback they are discarded.
+ *
+ * <p>The writes are kept in order, which allows to roll back to a save point. The entries are
+ * reused after the transaction is finished.
+ */
+final class PendingWrites {
+
+  private final List<PendingWrite> writes = new ArrayList<>();
+  private final Object2ObjectHashMap<PendingWrite, PendingWrite> latestWrites =
+      new Object2ObjectHashMap<>();
+  private final IntArrayList savePoints = new IntArrayList();
+  private final PendingWrite lookup = new PendingWrite();
+
+  private int writeCount;
+
+  void put(
+      final ColumnFamilyCache cache,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    final PendingWrite write = nextWrite();
+    write.wrap(cache, key, keyLength);
+    write.setValue(value, valueLength);
+    latestWrites.put(write, write);
+  }
+
+  void delete(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    final PendingWrite write = nextWrite();
+    write.wrap(cache, key, keyLength);
+    write.setDeleted();
+    latestWrites.put(write, write);
+  }
+
+  /** @return the latest write of the given key in this transaction, or <code>null</code> */
+  PendingWrite get(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    if (writeCount == 0) {
+      return null;
+    }
+
+    lookup.wrapView(cache, key, keyLength);
+    return latestWrites.get(lookup);
+  }
+
+  void setSavePoint() {
+    savePoints.addInt(writeCount);
+  }
+
+  void rollbackToSavePoint() {
+    if (savePoints.isEmpty()) {
+      // the transaction has no save point, it fails in the database already
+      return;
+    }
+
+    writeCount = savePoints.popInt();
+
+    latestWrites.clear();
+    for (int i = 0; i < writeCount; i++) {
+      final PendingWrite write = writes.get(i);
+      latestWrites.put(write, write);
+    }
+  }
+
+  /** Publishes the writes to the caches, in the order in which they were made. */
+  void publish() {
+    for (int i = 0; i < writeCount; i++) {
+      writes.get(i).publish();
+    }
+    clear();
+  }
+
+  void clear() {
+    writeCount = 0;
+    latestWrites.clear();
+    savePoints.clear();
+  }
+
+  private PendingWrite nextWrite() {
+    if (writeCount == writes.size()) {
+      writes.add(new PendingWrite());
+    }
+    return writes.get(writeCount++);
+  }
+
+  static final class PendingWrite {
+    private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+    private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+
+    private ColumnFamilyCache cache;
+    private int valueLength;
+    private boolean isDeleted;
+
+    private void wrap(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+      this.cache = cache;
+      keyBuffer.putBytes(0, key, 0, keyLength);
+      keyView.wrap(keyBuffer, 0, keyLength);
+    }
+
+    private void wrapView(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+      this.cache = cache;
+      keyView.wrap(key, 0, keyLength);
+    }
+
+    private void setValue(final byte[] value, final int valueLength) {
+      valueBuffer.putBytes(0, value, 0, valueLength);
+      this.valueLength = valueLength;
+      isDeleted = false;
+    }
+
+    private void setDeleted() {
+      valueLength = 0;
+      isDeleted = true;
+    }
+
+    /** @return a copy of the written value, or <code>null</code> if the key was deleted */
+    byte[] copyValue() {
+      if (isDeleted) {
+        return null;
+      }
+
+      final byte[] value = new byte[valueLength];
+      valueBuffer.getBytes(0, value);
+      return value;
+    }
+
+    private void publish() {
+      if (isDeleted) {
+        cache.remove(keyBuffer.byteArray(), keyView.capacity());
+      } else {
+        cache.put(keyBuffer.byteArray(), keyView.capacity(), valueBuffer.byteArray(), valueLength);
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(cache) + keyView.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PendingWrite)) {
+        return false;
+      }
+      final PendingWrite that = (PendingWrite) o;
+      return cache == that.cache && keyView.equals(that.keyView);
+    }
+  }
+}
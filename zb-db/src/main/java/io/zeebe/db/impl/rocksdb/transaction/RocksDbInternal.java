@@ -37,6 +37,8 @@ public final class RocksDbInternal {
   static Method putWithHandle;
   static Method getWithHandle;
   static Method removeWithHandle;
+  static Method putUntrackedWithHandle;
+  static Method removeUntrackedWithHandle;
 
   static Method seekMethod;
 
@@ -56,6 +58,8 @@ public final class RocksDbInternal {
     putWithHandle();
     getWithHandle();
     removeWithHandle();
+    putUntrackedWithHandle();
+    removeUntrackedWithHandle();
 
     seekWithHandle();
   }
@@ -103,6 +107,33 @@ public final class RocksDbInternal {
     removeWithHandle.setAccessible(true);
   }
 
+  //    private native void putUntracked(final long handle, final byte[] key,
+  //      final int keyLength, final byte[] value, final int valueLength,
+  //      final long columnFamilyHandle)
+
+  private static void putUntrackedWithHandle() throws NoSuchMethodException {
+    putUntrackedWithHandle =
+        Transaction.class.getDeclaredMethod(
+            "putUntracked",
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    putUntrackedWithHandle.setAccessible(true);
+  }
+
+  //    private native void deleteUntracked(final long handle, final byte[] key,
+  //      final int keyLength, final long columnFamilyHandle)
+
+  private static void removeUntrackedWithHandle() throws NoSuchMethodException {
+    removeUntrackedWithHandle =
+        Transaction.class.getDeclaredMethod(
+            "deleteUntracked", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    removeUntrackedWithHandle.setAccessible(true);
+  }
+
   private static void seekWithHandle() throws NoSuchMethodException {
     seekMethod =
         RocksIterator.class.getDeclaredMethod("seek0", long.class, byte[].class, int.class);
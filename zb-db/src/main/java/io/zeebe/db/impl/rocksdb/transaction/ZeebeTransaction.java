@@ -22,7 +22,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final Transaction transaction;
   private final long nativeHandle;
+  private final PendingWrites pendingWrites = new PendingWrites();
   private boolean inCurrentTransaction;
+  private boolean trackWrites = true;
+  // incremented on every commit and rollback
+  private long version;
 
   public ZeebeTransaction(final Transaction transaction) {
     this.transaction = transaction;
@@ -40,8 +44,13 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
-    RocksDbInternal.putWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    if (trackWrites) {
+      RocksDbInternal.putWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    } else {
+      RocksDbInternal.putUntrackedWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    }
   }
 
   public byte[] get(
@@ -57,8 +66,31 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
-    RocksDbInternal.removeWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    if (trackWrites) {
+      RocksDbInternal.removeWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } else {
+      RocksDbInternal.removeUntrackedWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle);
+    }
+  }
+
+  void putPendingWrite(
+      final ColumnFamilyCache cache,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    pendingWrites.put(cache, key, keyLength, value, valueLength);
+  }
+
+  void putPendingDelete(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    pendingWrites.delete(cache, key, keyLength);
+  }
+
+  PendingWrites.PendingWrite getPendingWrite(
+      final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    return pendingWrites.get(cache, key, keyLength);
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
@@ -73,6 +105,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return inCurrentTransaction;
   }
 
+  long getVersion() {
+    return version;
+  }
+
   @Override
   public void run(final TransactionOperation operations) throws Exception {
     try {
@@ -112,13 +148,53 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+      pendingWrites.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      version += 1;
+      transaction.rollbackToSavePoint();
+      pendingWrites.rollbackToSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void setTrackWrites(final boolean trackWrites) {
+    this.trackWrites = trackWrites;
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    version += 1;
     transaction.commit();
+    pendingWrites.publish();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    version += 1;
+    pendingWrites.clear();
     transaction.rollback();
   }
 
@@ -17,11 +17,13 @@ import io.zeebe.db.KeyValuePairVisitor;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.impl.rocksdb.Loggers;
+import io.zeebe.db.impl.rocksdb.transaction.PendingWrites.PendingWrite;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -44,13 +46,22 @@ import org.slf4j.Logger;
 public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>>
     implements ZeebeDb<ColumnFamilyNames> {
 
+  // names of the properties which expose the statistics of a column family cache
+  public static final String CACHE_HITS_PROPERTY = "zeebe.cache-hits";
+  public static final String CACHE_MISSES_PROPERTY = "zeebe.cache-misses";
+  public static final String CACHE_EVICTIONS_PROPERTY = "zeebe.cache-evictions";
+  public static final String CACHE_SIZE_PROPERTY = "zeebe.cache-size";
+
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final String CACHE_PROPERTY_PREFIX = "zeebe.cache-";
+
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final EnumMap<ColumnFamilyNames, Long> columnFamilyMap;
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
+  private final Long2ObjectHashMap<ColumnFamilyCache> cacheByHandle;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
@@ -59,10 +70,12 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final OptimisticTransactionDB optimisticTransactionDB,
       final EnumMap<ColumnFamilyNames, Long> columnFamilyMap,
       final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap,
+      final Long2ObjectHashMap<ColumnFamilyCache> cacheByHandle,
       final List<AutoCloseable> closables) {
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.columnFamilyMap = columnFamilyMap;
     this.handelToEnumMap = handelToEnumMap;
+    this.cacheByHandle = cacheByHandle;
     this.closables = closables;
 
     prefixReadOptions = new ReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
@@ -81,6 +94,30 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final List<AutoCloseable> closables,
           final Class<ColumnFamilyNames> columnFamilyTypeClass)
           throws RocksDBException {
+    return openTransactionalDb(
+        options,
+        path,
+        columnFamilyDescriptors,
+        closables,
+        columnFamilyTypeClass,
+        new EnumMap<>(columnFamilyTypeClass));
+  }
+
+  /**
+   * Opens the database with a cache in front of the given column families.
+   *
+   * @param cacheSizes the maximum count of cached entries per column family; column families
+   *     without an entry are not cached
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
+          final DBOptions options,
+          final String path,
+          final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
+          final List<AutoCloseable> closables,
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final Map<ColumnFamilyNames, Integer> cacheSizes)
+          throws RocksDBException {
     final EnumMap<ColumnFamilyNames, Long> columnFamilyMap = new EnumMap<>(columnFamilyTypeClass);
 
     final List<ColumnFamilyHandle> handles = new ArrayList<>();
@@ -97,8 +134,16 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       handleToEnumMap.put(getNativeHandle(handles.get(i)), handles.get(i));
     }
 
+    final Long2ObjectHashMap<ColumnFamilyCache> cacheByHandle = new Long2ObjectHashMap<>();
+    cacheSizes.forEach(
+        (columnFamily, cacheSize) -> {
+          final ColumnFamilyCache cache = new ColumnFamilyCache(cacheSize);
+          closables.add(cache);
+          cacheByHandle.put(columnFamilyMap.get(columnFamily).longValue(), cache);
+        });
+
     return new ZeebeTransactionDb<>(
-        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables);
+        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, cacheByHandle, closables);
   }
 
   private static long getNativeHandle(final RocksObject object) {
@@ -165,6 +210,16 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
               key.getLength(),
               context.getValueBufferArray(),
               value.getLength());
+
+          final ColumnFamilyCache cache = cacheByHandle.get(columnFamilyHandle);
+          if (cache != null) {
+            transaction.putPendingWrite(
+                cache,
+                context.getKeyBufferArray(),
+                key.getLength(),
+                context.getValueBufferArray(),
+                value.getLength());
+          }
         });
   }
 
@@ -183,24 +238,63 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   private DirectBuffer getValue(
       final long columnFamilyHandle, final DbContext context, final int keyLength) {
+    final ColumnFamilyCache cache = cacheByHandle.get(columnFamilyHandle);
     ensureInOpenTransaction(
         context,
         transaction -> {
-          final byte[] value =
-              transaction.get(
-                  columnFamilyHandle,
-                  getNativeHandle(defaultReadOptions),
-                  context.getKeyBufferArray(),
-                  keyLength);
+          final byte[] value;
+          if (cache == null) {
+            value =
+                transaction.get(
+                    columnFamilyHandle,
+                    getNativeHandle(defaultReadOptions),
+                    context.getKeyBufferArray(),
+                    keyLength);
+          } else {
+            value = getCachedValue(cache, columnFamilyHandle, context, transaction, keyLength);
+          }
           context.wrapValueView(value);
         });
     return context.getValueView();
   }
 
+  private byte[] getCachedValue(
+      final ColumnFamilyCache cache,
+      final long columnFamilyHandle,
+      final DbContext context,
+      final ZeebeTransaction transaction,
+      final int keyLength)
+      throws Exception {
+    final byte[] key = context.getKeyBufferArray();
+
+    // the uncommitted writes of the transaction are not in the cache yet
+    final PendingWrite pendingWrite = transaction.getPendingWrite(cache, key, keyLength);
+    if (pendingWrite != null) {
+      return pendingWrite.copyValue();
+    }
+
+    final byte[] cachedValue = cache.get(key, keyLength);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    final long cacheVersion = cache.getVersion();
+    final byte[] value =
+        transaction.get(columnFamilyHandle, getNativeHandle(defaultReadOptions), key, keyLength);
+    if (value != null) {
+      cache.putIfUnchanged(key, keyLength, value, value.length, cacheVersion);
+    }
+    return value;
+  }
+
   @Override
   public Optional<String> getProperty(
       final ColumnFamilyNames columnFamilyName, final String propertyName) {
 
+    if (propertyName.startsWith(CACHE_PROPERTY_PREFIX)) {
+      return getCacheProperty(columnFamilyName, propertyName);
+    }
+
     final var handle = handelToEnumMap.get(columnFamilyMap.get(columnFamilyName));
 
     String propertyValue = null;
@@ -212,6 +306,33 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return Optional.ofNullable(propertyValue);
   }
 
+  private Optional<String> getCacheProperty(
+      final ColumnFamilyNames columnFamilyName, final String propertyName) {
+    final ColumnFamilyCache cache = cacheByHandle.get(columnFamilyMap.get(columnFamilyName));
+    if (cache == null) {
+      return Optional.empty();
+    }
+
+    final long value;
+    switch (propertyName) {
+      case CACHE_HITS_PROPERTY:
+        value = cache.getHits();
+        break;
+      case CACHE_MISSES_PROPERTY:
+        value = cache.getMisses();
+        break;
+      case CACHE_EVICTIONS_PROPERTY:
+        value = cache.getEvictions();
+        break;
+      case CACHE_SIZE_PROPERTY:
+        value = cache.size();
+        break;
+      default:
+        return Optional.empty();
+    }
+    return Optional.of(String.valueOf(value));
+  }
+
   ////////////////////////////////////////////////////////////////////
   //////////////////////////// ITERATION /////////////////////////////
   ////////////////////////////////////////////////////////////////////
@@ -233,8 +354,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
     ensureInOpenTransaction(
         context,
-        transaction ->
-            transaction.delete(columnFamilyHandle, context.getKeyBufferArray(), key.getLength()));
+        transaction -> {
+          transaction.delete(columnFamilyHandle, context.getKeyBufferArray(), key.getLength());
+
+          final ColumnFamilyCache cache = cacheByHandle.get(columnFamilyHandle);
+          if (cache != null) {
+            transaction.putPendingDelete(cache, context.getKeyBufferArray(), key.getLength());
+          }
+        });
   }
 
   ////////////////////////////////////////////////////////////////////
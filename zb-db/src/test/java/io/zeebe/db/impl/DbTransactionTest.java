@@ -455,6 +455,89 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.put(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackToPreviousSavePoints() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    threeKey.wrapLong(Short.MAX_VALUE);
+    threeValue.wrapLong(Integer.MAX_VALUE);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.put(twoKey, twoValue));
+    transaction.setSavePoint();
+    transaction.run(() -> threeColumnFamily.put(threeKey, threeValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThat(threeColumnFamily.exists(threeKey)).isFalse();
+  }
+
+  @Test
+  public void shouldWriteAndDeleteWithoutTrackingWrites() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    dbContext.runInTransaction(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.setTrackWrites(false);
+
+    // when
+    transaction.run(
+        () -> {
+          oneColumnFamily.delete(oneKey);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    assertThat(twoColumnFamily.get(twoKey).getValue()).isEqualTo(192313);
+
+    transaction.commit();
+    transaction.setTrackWrites(true);
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    assertThat(twoColumnFamily.exists(twoKey)).isTrue();
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
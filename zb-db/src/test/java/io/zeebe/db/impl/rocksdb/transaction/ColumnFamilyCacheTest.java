@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Test;
+
+public final class ColumnFamilyCacheTest {
+
+  private final ColumnFamilyCache cache = new ColumnFamilyCache(2);
+
+  @After
+  public void tearDown() {
+    cache.close();
+  }
+
+  @Test
+  public void shouldReturnCachedValue() {
+    // given
+    put("foo", "bar");
+
+    // when
+    final byte[] value = get("foo");
+
+    // then
+    assertThat(value).isEqualTo(bytes("bar"));
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isZero();
+  }
+
+  @Test
+  public void shouldCountMiss() {
+    // when
+    final byte[] value = get("foo");
+
+    // then
+    assertThat(value).isNull();
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldOverwriteValue() {
+    // given
+    put("foo", "a much longer value than the minimal buffer capacity of the cache entries");
+
+    // when
+    put("foo", "bar");
+
+    // then
+    assertThat(get("foo")).isEqualTo(bytes("bar"));
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRemoveValue() {
+    // given
+    put("foo", "bar");
+    put("baz", "qux");
+
+    // when
+    cache.remove(bytes("foo"), 3);
+
+    // then
+    assertThat(get("foo")).isNull();
+    assertThat(get("baz")).isEqualTo(bytes("qux"));
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictEntryWhichWasNotReferenced() {
+    // given
+    put("a", "1");
+    put("b", "2");
+    put("c", "3");
+    get("c");
+
+    // when
+    put("d", "4");
+
+    // then
+    assertThat(cache.getEvictions()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(get("c")).isEqualTo(bytes("3"));
+    assertThat(get("d")).isEqualTo(bytes("4"));
+  }
+
+  @Test
+  public void shouldNotPutIfCacheChanged() {
+    // given
+    final long version = cache.getVersion();
+    put("foo", "new");
+
+    // when
+    cache.putIfUnchanged(bytes("foo"), 3, bytes("old"), 3, version);
+
+    // then
+    assertThat(get("foo")).isEqualTo(bytes("new"));
+  }
+
+  private void put(final String key, final String value) {
+    final byte[] keyBytes = bytes(key);
+    final byte[] valueBytes = bytes(value);
+    cache.put(keyBytes, keyBytes.length, valueBytes, valueBytes.length);
+  }
+
+  private byte[] get(final String key) {
+    final byte[] keyBytes = bytes(key);
+    return cache.get(keyBytes, keyBytes.length);
+  }
+
+  private static byte[] bytes(final String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
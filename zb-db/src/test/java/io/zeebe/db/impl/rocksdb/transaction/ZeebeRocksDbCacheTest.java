@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ZeebeRocksDbCacheTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private DbContext dbContext;
+  private DbContext otherDbContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private ColumnFamily<DbLong, DbLong> otherColumnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb =
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class, new Properties(), Map.of("default", 10))
+            .createDb(temporaryFolder.newFolder());
+    dbContext = zeebeDb.createContext();
+    otherDbContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, dbContext, key, value);
+    otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherDbContext, new DbLong(), new DbLong());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    put(1, 10);
+
+    // when
+    final long ownValue = get(columnFamily, 1);
+    final long otherValue = get(otherColumnFamily, 1);
+
+    // then
+    assertThat(ownValue).isEqualTo(10);
+    assertThat(otherValue).isEqualTo(-1);
+    transaction.rollback();
+  }
+
+  @Test
+  public void shouldReadOwnUncommittedDelete() throws Exception {
+    // given
+    putInTransaction(1, 10);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    key.wrapLong(1);
+    columnFamily.delete(key);
+
+    // when
+    final long ownValue = get(columnFamily, 1);
+    final long otherValue = get(otherColumnFamily, 1);
+
+    // then
+    assertThat(ownValue).isEqualTo(-1);
+    assertThat(otherValue).isEqualTo(10);
+    transaction.commit();
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldPublishWritesOnCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    put(1, 10);
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+    assertThat(getCacheProperty(ZeebeTransactionDb.CACHE_HITS_PROPERTY)).isEqualTo(1);
+    assertThat(getCacheProperty(ZeebeTransactionDb.CACHE_SIZE_PROPERTY)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    putInTransaction(1, 10);
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    put(1, 20);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(10);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldDiscardWritesAfterSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    put(1, 10);
+    transaction.setSavePoint();
+    put(1, 20);
+    put(2, 30);
+
+    // when
+    transaction.rollbackToSavePoint();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(10);
+    assertThat(get(columnFamily, 2)).isEqualTo(-1);
+
+    transaction.commit();
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+    assertThat(get(otherColumnFamily, 2)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldServeCommittedValueFromCache() {
+    // given
+    putInTransaction(1, 10);
+    final long missesBefore = getCacheProperty(ZeebeTransactionDb.CACHE_MISSES_PROPERTY);
+
+    // when
+    get(otherColumnFamily, 1);
+    get(otherColumnFamily, 1);
+
+    // then
+    assertThat(getCacheProperty(ZeebeTransactionDb.CACHE_HITS_PROPERTY)).isEqualTo(2);
+    assertThat(getCacheProperty(ZeebeTransactionDb.CACHE_MISSES_PROPERTY)).isEqualTo(missesBefore);
+  }
+
+  private void put(final long keyValue, final long valueValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(valueValue);
+    columnFamily.put(key, value);
+  }
+
+  private void putInTransaction(final long keyValue, final long valueValue) {
+    dbContext.runInTransaction(() -> put(keyValue, valueValue));
+  }
+
+  private long get(final ColumnFamily<DbLong, DbLong> columnFamily, final long keyValue) {
+    final DbLong lookupKey = new DbLong();
+    lookupKey.wrapLong(keyValue);
+    final DbLong result = columnFamily.get(lookupKey);
+    return result == null ? -1 : result.getValue();
+  }
+
+  private long getCacheProperty(final String property) {
+    return zeebeDb
+        .getProperty(DefaultColumnFamily.DEFAULT, property)
+        .map(Long::parseLong)
+        .orElseThrow();
+  }
+}